@@ -24,16 +24,17 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.AreaDefinition;
 import net.runelite.cache.definitions.loaders.AreaLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -50,6 +51,19 @@ public class AreaManager
 
 	public void load() throws IOException
 	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
+	{
+		AreaLoader loader = new AreaLoader();
+
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.AREA.getId());
@@ -57,12 +71,9 @@ public class AreaManager
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile file : files.getFiles())
-		{
-			AreaLoader loader = new AreaLoader();
-			AreaDefinition area = loader.load(file.getContents(), file.getFileId());
-			areas.put(area.id, area);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			file -> loader.load(file.getContents(), file.getFileId()),
+			(file, area) -> areas.put(area.id, area));
 	}
 
 	public Collection<AreaDefinition> getAreas()
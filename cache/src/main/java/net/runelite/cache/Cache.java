@@ -24,8 +24,11 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import net.runelite.cache.fs.Store;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -46,6 +49,9 @@ public class Cache
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
 
+		options.addOption(null, "ndjson", false, "dump items, npcs or objects to a single newline delimited JSON file in the directory, instead of a file per definition");
+		options.addOption(null, "threads", true, "number of threads to load and dump with");
+
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
 		try
@@ -60,8 +66,38 @@ public class Cache
 		}
 
 		String cache = cmd.getOptionValue("cache");
+		boolean ndjson = cmd.hasOption("ndjson");
+		int threads = 1;
+		if (cmd.hasOption("threads"))
+		{
+			try
+			{
+				threads = Integer.parseInt(cmd.getOptionValue("threads"));
+			}
+			catch (NumberFormatException ex)
+			{
+				System.err.println("Invalid thread count: " + cmd.getOptionValue("threads"));
+				System.exit(-1);
+				return;
+			}
+		}
 
-		Store store = loadStore(cache);
+		ExecutorService executor = threads > 1
+			? Executors.newFixedThreadPool(threads)
+			: MoreExecutors.newDirectExecutorService();
+		try
+		{
+			run(cmd, cache, ndjson, executor);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	private static void run(CommandLine cmd, String cache, boolean ndjson, ExecutorService executor) throws IOException
+	{
+		Store store = loadStore(cache, executor);
 
 		if (cmd.hasOption("items"))
 		{
@@ -74,7 +110,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping items to " + itemdir);
-			dumpItems(store, new File(itemdir));
+			dumpItems(store, new File(itemdir), ndjson, executor);
 		}
 		else if (cmd.hasOption("npcs"))
 		{
@@ -87,7 +123,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping npcs to " + npcdir);
-			dumpNpcs(store, new File(npcdir));
+			dumpNpcs(store, new File(npcdir), ndjson, executor);
 		}
 		else if (cmd.hasOption("objects"))
 		{
@@ -100,7 +136,7 @@ public class Cache
 			}
 
 			System.out.println("Dumping objects to " + objectdir);
-			dumpObjects(store, new File(objectdir));
+			dumpObjects(store, new File(objectdir), ndjson, executor);
 		}
 		else if (cmd.hasOption("sprites"))
 		{
@@ -121,34 +157,58 @@ public class Cache
 		}
 	}
 
-	private static Store loadStore(String cache) throws IOException
+	private static Store loadStore(String cache, ExecutorService executor) throws IOException
 	{
 		Store store = new Store(new File(cache));
-		store.load();
+		store.load(executor);
 		return store;
 	}
 
-	private static void dumpItems(Store store, File itemdir) throws IOException
+	private static void dumpItems(Store store, File itemdir, boolean ndjson, ExecutorService executor) throws IOException
 	{
 		ItemManager dumper = new ItemManager(store);
-		dumper.load();
-		dumper.export(itemdir);
+		dumper.load(executor);
+		if (ndjson)
+		{
+			itemdir.mkdirs();
+			dumper.exportNdjson(new File(itemdir, "items.ndjson"), executor);
+		}
+		else
+		{
+			dumper.export(itemdir);
+		}
 		dumper.java(itemdir);
 	}
 
-	private static void dumpNpcs(Store store, File npcdir) throws IOException
+	private static void dumpNpcs(Store store, File npcdir, boolean ndjson, ExecutorService executor) throws IOException
 	{
 		NpcManager dumper = new NpcManager(store);
-		dumper.load();
-		dumper.dump(npcdir);
+		dumper.load(executor);
+		if (ndjson)
+		{
+			npcdir.mkdirs();
+			dumper.exportNdjson(new File(npcdir, "npcs.ndjson"), executor);
+		}
+		else
+		{
+			dumper.dump(npcdir);
+		}
 		dumper.java(npcdir);
 	}
 
-	private static void dumpObjects(Store store, File objectdir) throws IOException
+	private static void dumpObjects(Store store, File objectdir, boolean ndjson, ExecutorService executor) throws IOException
 	{
 		ObjectManager dumper = new ObjectManager(store);
-		dumper.load();
-		dumper.dump(objectdir);
+		dumper.load(executor);
+		if (ndjson)
+		{
+			objectdir.mkdirs();
+			dumper.exportNdjson(new File(objectdir, "objects.ndjson"), executor);
+		}
+		else
+		{
+			dumper.dump(objectdir);
+		}
 		dumper.java(objectdir);
 	}
 
@@ -24,14 +24,15 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.DBTableIndex;
 import net.runelite.cache.definitions.loaders.DBTableIndexLoader;
-import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
@@ -49,6 +50,18 @@ public class DBTableIndexManager
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Load the table indexes, reading, decompressing and decoding each archive
+	 * in parallel on the given executor
+	 *
+	 * @param executor executor to load archives on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		DBTableIndexLoader loader = new DBTableIndexLoader();
 
@@ -59,18 +72,21 @@ public class DBTableIndexManager
 			return;
 		}
 
-		for (Archive archive : index.getArchives())
-		{
-			byte[] archiveData = storage.loadArchive(archive);
-			ArchiveFiles files = archive.getFiles(archiveData);
-
-			for (FSFile f : files.getFiles())
+		ParallelLoader.loadArchives(executor, storage, index.getArchives(),
+			(archive, archiveData) ->
 			{
-				// file 0 = master index, all others are fileId - 1 = columnId
-				DBTableIndex row = loader.load(archive.getArchiveId(), f.getFileId() - 1, f.getContents());
-				indexes.put(archive.getArchiveId() << 16 | f.getFileId(), row);
-			}
-		}
+				ArchiveFiles files = archive.getFiles(archiveData);
+
+				Map<Integer, DBTableIndex> rows = new HashMap<>();
+				for (FSFile f : files.getFiles())
+				{
+					// file 0 = master index, all others are fileId - 1 = columnId
+					DBTableIndex row = loader.load(archive.getArchiveId(), f.getFileId() - 1, f.getContents());
+					rows.put(archive.getArchiveId() << 16 | f.getFileId(), row);
+				}
+				return rows;
+			},
+			(archive, rows) -> indexes.putAll(rows));
 	}
 
 	public Collection<DBTableIndex> getIndexes()
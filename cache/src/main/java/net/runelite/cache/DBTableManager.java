@@ -24,16 +24,17 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.DBTableDefinition;
 import net.runelite.cache.definitions.loaders.DBTableLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -49,6 +50,17 @@ public class DBTableManager
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		DBTableLoader loader = new DBTableLoader();
 
@@ -65,11 +77,9 @@ public class DBTableManager
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			DBTableDefinition table = loader.load(f.getFileId(), f.getContents());
-			tables.put(f.getFileId(), table);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			f -> loader.load(f.getFileId(), f.getContents()),
+			(f, table) -> tables.put(f.getFileId(), table));
 	}
 
 	public Collection<DBTableDefinition> getTables()
@@ -0,0 +1,818 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.runelite.cache.fs.Archive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A binary snapshot of decoded definitions, so that managers can skip reading, decompressing
+ * and decoding archives which have not changed since they were last loaded. A snapshot is
+ * keyed by a SHA-256 digest of the ids, crcs and revisions of the archives it was decoded from,
+ * and by the fields of the definition class, and is ignored if either differs.
+ * <p>
+ * Definitions are written field by field with reflection. Fields may be primitives, strings,
+ * enums, arrays, maps, other definition-like classes, or Objects holding boxed primitives
+ * and strings.
+ */
+final class DefinitionSnapshot<T>
+{
+	private static final Logger logger = LoggerFactory.getLogger(DefinitionSnapshot.class);
+
+	private static final int MAGIC = 0x524c4453; // RLDS
+	private static final int VERSION = 2;
+
+	private static final Map<Class<?>, ClassCodec> codecs = new ConcurrentHashMap<>();
+
+	private final File file;
+	private final Class<T> type;
+	private final byte[] key;
+
+	private DefinitionSnapshot(File file, Class<T> type, byte[] key)
+	{
+		this.file = file;
+		this.type = type;
+		this.key = key;
+	}
+
+	/**
+	 * @param directory snapshot directory, or null to not use a snapshot
+	 * @param name snapshot file name
+	 * @param type definition type
+	 * @param archives archives the definitions are decoded from
+	 */
+	static <T> DefinitionSnapshot<T> of(File directory, String name, Class<T> type, Collection<Archive> archives)
+	{
+		if (directory == null)
+		{
+			return new DefinitionSnapshot<>(null, type, null);
+		}
+
+		Hasher hasher = Hashing.sha256().newHasher();
+		hasher.putInt(archives.size());
+		for (Archive archive : archives)
+		{
+			hasher.putInt(archive.getArchiveId());
+			hasher.putInt(archive.getCrc());
+			hasher.putInt(archive.getRevision());
+		}
+		return new DefinitionSnapshot<>(new File(directory, name + ".snapshot"), type, hasher.hash().asBytes());
+	}
+
+	static <T> DefinitionSnapshot<T> of(File directory, String name, Class<T> type, Archive archive)
+	{
+		return of(directory, name, type, Collections.singletonList(archive));
+	}
+
+	/**
+	 * @return the definitions by id, or null if there is no snapshot, or it is out of date
+	 */
+	Map<Integer, T> read()
+	{
+		if (file == null || !file.exists())
+		{
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16)))
+		{
+			ClassCodec codec = codec(type);
+			if (in.readInt() != MAGIC || in.readInt() != VERSION
+				|| in.readLong() != codec.schema || !Arrays.equals(readKey(in), key))
+			{
+				logger.debug("Definition snapshot {} is out of date", file);
+				return null;
+			}
+
+			int count = in.readInt();
+			Map<Integer, T> definitions = new HashMap<>(count * 2);
+			for (int i = 0; i < count; ++i)
+			{
+				int id = in.readInt();
+				definitions.put(id, type.cast(codec.read(in)));
+			}
+
+			logger.debug("Read {} definitions from snapshot {}", count, file);
+			return definitions;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			logger.warn("Unable to read definition snapshot {}", file, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Save the definitions, replacing any previous snapshot. Failing to save is logged, and
+	 * otherwise ignored.
+	 */
+	void write(Map<Integer, T> definitions)
+	{
+		if (file == null)
+		{
+			return;
+		}
+
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try
+		{
+			ClassCodec codec = codec(type);
+			file.getParentFile().mkdirs();
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp), 1 << 16)))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeLong(codec.schema);
+				out.writeShort(key.length);
+				out.write(key);
+				out.writeInt(definitions.size());
+				for (Map.Entry<Integer, T> entry : definitions.entrySet())
+				{
+					out.writeInt(entry.getKey());
+					codec.write(out, entry.getValue());
+				}
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			logger.warn("Unable to write definition snapshot {}", file, ex);
+			tmp.delete();
+		}
+	}
+
+	private static byte[] readKey(DataInputStream in) throws IOException
+	{
+		byte[] key = new byte[in.readUnsignedShort()];
+		in.readFully(key);
+		return key;
+	}
+
+	private interface Codec
+	{
+		void write(DataOutputStream out, Object value) throws IOException;
+
+		Object read(DataInputStream in) throws IOException;
+	}
+
+	private static ClassCodec codec(Class<?> type)
+	{
+		ClassCodec codec = codecs.get(type);
+		if (codec == null)
+		{
+			codec = new ClassCodec(type, new HashSet<>());
+			ClassCodec existing = codecs.putIfAbsent(type, codec);
+			if (existing != null)
+			{
+				codec = existing;
+			}
+		}
+		return codec;
+	}
+
+	private static Codec codec(Class<?> type, Set<Class<?>> visiting)
+	{
+		if (type == String.class)
+		{
+			return STRING;
+		}
+		if (type == int[].class)
+		{
+			return INT_ARRAY;
+		}
+		if (type == short[].class)
+		{
+			return SHORT_ARRAY;
+		}
+		if (type == byte[].class)
+		{
+			return BYTE_ARRAY;
+		}
+		if (type.isArray())
+		{
+			return new ArrayCodec(type.getComponentType(), visiting);
+		}
+		if (type.isEnum())
+		{
+			return new EnumCodec(type);
+		}
+		if (type == Map.class || type == HashMap.class)
+		{
+			return MAP;
+		}
+		if (type == Object.class || type == Integer.class || type == Long.class
+			|| type == Short.class || type == Byte.class || type == Boolean.class)
+		{
+			return VALUE;
+		}
+		if (type.isPrimitive() || type.isInterface() || Collection.class.isAssignableFrom(type)
+			|| type.getName().startsWith("java."))
+		{
+			throw new IllegalArgumentException("unsupported definition field type " + type.getName());
+		}
+
+		ClassCodec codec = codecs.get(type);
+		if (codec != null)
+		{
+			return codec;
+		}
+		if (!visiting.add(type))
+		{
+			throw new IllegalArgumentException("recursive definition type " + type.getName());
+		}
+		codec = new ClassCodec(type, visiting);
+		visiting.remove(type);
+		codecs.putIfAbsent(type, codec);
+		return codec;
+	}
+
+	/**
+	 * Writes an object field by field, with a leading null flag
+	 */
+	private static final class ClassCodec implements Codec
+	{
+		private final Constructor<?> constructor;
+		private final Object[] arguments;
+		private final Field[] fields;
+		private final Codec[] fieldCodecs;
+		private final long schema;
+
+		ClassCodec(Class<?> type, Set<Class<?>> visiting)
+		{
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> c = type; c != Object.class; c = c.getSuperclass())
+			{
+				List<Field> declared = new ArrayList<>();
+				for (Field field : c.getDeclaredFields())
+				{
+					if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0 && !field.isSynthetic())
+					{
+						declared.add(field);
+					}
+				}
+				declared.sort(Comparator.comparing(Field::getName));
+				fields.addAll(0, declared);
+			}
+
+			this.fields = fields.toArray(new Field[0]);
+			this.fieldCodecs = new Codec[this.fields.length];
+
+			StringBuilder sb = new StringBuilder(type.getName());
+			for (int i = 0; i < this.fields.length; ++i)
+			{
+				Field field = this.fields[i];
+				field.setAccessible(true);
+				if (!field.getType().isPrimitive())
+				{
+					fieldCodecs[i] = codec(field.getType(), visiting);
+				}
+
+				sb.append(';').append(field.getName()).append(':').append(field.getGenericType().getTypeName());
+				if (fieldCodecs[i] instanceof ClassCodec)
+				{
+					sb.append('{').append(((ClassCodec) fieldCodecs[i]).schema).append('}');
+				}
+				else if (fieldCodecs[i] instanceof ArrayCodec)
+				{
+					sb.append('{').append(((ArrayCodec) fieldCodecs[i]).schema()).append('}');
+				}
+			}
+			this.schema = hash(sb);
+
+			Constructor<?> ctor;
+			Object[] args;
+			try
+			{
+				ctor = type.getDeclaredConstructor();
+				args = new Object[0];
+			}
+			catch (NoSuchMethodException ex)
+			{
+				try
+				{
+					// definitions taking their id, which is then set from the snapshot
+					ctor = type.getDeclaredConstructor(int.class);
+					args = new Object[]{0};
+				}
+				catch (NoSuchMethodException ex2)
+				{
+					throw new IllegalArgumentException("no constructor to create " + type.getName() + " with", ex2);
+				}
+			}
+			ctor.setAccessible(true);
+			this.constructor = ctor;
+			this.arguments = args;
+		}
+
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			out.writeBoolean(value != null);
+			if (value == null)
+			{
+				return;
+			}
+
+			try
+			{
+				for (int i = 0; i < fields.length; ++i)
+				{
+					Field field = fields[i];
+					Class<?> type = field.getType();
+					if (type == int.class)
+					{
+						out.writeInt(field.getInt(value));
+					}
+					else if (type == boolean.class)
+					{
+						out.writeBoolean(field.getBoolean(value));
+					}
+					else if (type == short.class)
+					{
+						out.writeShort(field.getShort(value));
+					}
+					else if (type == byte.class)
+					{
+						out.writeByte(field.getByte(value));
+					}
+					else if (type == long.class)
+					{
+						out.writeLong(field.getLong(value));
+					}
+					else if (type == char.class)
+					{
+						out.writeChar(field.getChar(value));
+					}
+					else if (type == float.class)
+					{
+						out.writeFloat(field.getFloat(value));
+					}
+					else if (type == double.class)
+					{
+						out.writeDouble(field.getDouble(value));
+					}
+					else
+					{
+						fieldCodecs[i].write(out, field.get(value));
+					}
+				}
+			}
+			catch (IllegalAccessException ex)
+			{
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			if (!in.readBoolean())
+			{
+				return null;
+			}
+
+			try
+			{
+				Object value = constructor.newInstance(arguments);
+				for (int i = 0; i < fields.length; ++i)
+				{
+					Field field = fields[i];
+					Class<?> type = field.getType();
+					if (type == int.class)
+					{
+						field.setInt(value, in.readInt());
+					}
+					else if (type == boolean.class)
+					{
+						field.setBoolean(value, in.readBoolean());
+					}
+					else if (type == short.class)
+					{
+						field.setShort(value, in.readShort());
+					}
+					else if (type == byte.class)
+					{
+						field.setByte(value, in.readByte());
+					}
+					else if (type == long.class)
+					{
+						field.setLong(value, in.readLong());
+					}
+					else if (type == char.class)
+					{
+						field.setChar(value, in.readChar());
+					}
+					else if (type == float.class)
+					{
+						field.setFloat(value, in.readFloat());
+					}
+					else if (type == double.class)
+					{
+						field.setDouble(value, in.readDouble());
+					}
+					else
+					{
+						field.set(value, fieldCodecs[i].read(in));
+					}
+				}
+				return value;
+			}
+			catch (ReflectiveOperationException ex)
+			{
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+
+	private static final class ArrayCodec implements Codec
+	{
+		private final Class<?> componentType;
+		private final Codec componentCodec;
+
+		ArrayCodec(Class<?> componentType, Set<Class<?>> visiting)
+		{
+			this.componentType = componentType;
+			this.componentCodec = componentType.isPrimitive() ? null : codec(componentType, visiting);
+		}
+
+		String schema()
+		{
+			if (componentCodec instanceof ClassCodec)
+			{
+				return Long.toString(((ClassCodec) componentCodec).schema);
+			}
+			if (componentCodec instanceof ArrayCodec)
+			{
+				return ((ArrayCodec) componentCodec).schema();
+			}
+			return componentType.getName();
+		}
+
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			if (value == null)
+			{
+				out.writeInt(-1);
+				return;
+			}
+
+			int length = Array.getLength(value);
+			out.writeInt(length);
+			for (int i = 0; i < length; ++i)
+			{
+				if (componentCodec != null)
+				{
+					componentCodec.write(out, Array.get(value, i));
+				}
+				else
+				{
+					VALUE.write(out, Array.get(value, i));
+				}
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			int length = in.readInt();
+			if (length == -1)
+			{
+				return null;
+			}
+
+			Object value = Array.newInstance(componentType, length);
+			for (int i = 0; i < length; ++i)
+			{
+				Array.set(value, i, (componentCodec != null ? componentCodec : VALUE).read(in));
+			}
+			return value;
+		}
+	}
+
+	private static final class EnumCodec implements Codec
+	{
+		private final Object[] constants;
+
+		EnumCodec(Class<?> type)
+		{
+			this.constants = type.getEnumConstants();
+		}
+
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			out.writeShort(value == null ? -1 : ((Enum<?>) value).ordinal());
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			int ordinal = in.readShort();
+			return ordinal == -1 ? null : constants[ordinal];
+		}
+	}
+
+	private static final Codec STRING = new Codec()
+	{
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			if (value == null)
+			{
+				out.writeInt(-1);
+				return;
+			}
+
+			byte[] b = ((String) value).getBytes(StandardCharsets.UTF_8);
+			out.writeInt(b.length);
+			out.write(b);
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			int length = in.readInt();
+			if (length == -1)
+			{
+				return null;
+			}
+
+			byte[] b = new byte[length];
+			in.readFully(b);
+			return new String(b, StandardCharsets.UTF_8);
+		}
+	};
+
+	private static final Codec INT_ARRAY = new Codec()
+	{
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			int[] a = (int[]) value;
+			out.writeInt(a == null ? -1 : a.length);
+			if (a != null)
+			{
+				for (int i : a)
+				{
+					out.writeInt(i);
+				}
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			int length = in.readInt();
+			if (length == -1)
+			{
+				return null;
+			}
+
+			int[] a = new int[length];
+			for (int i = 0; i < length; ++i)
+			{
+				a[i] = in.readInt();
+			}
+			return a;
+		}
+	};
+
+	private static final Codec SHORT_ARRAY = new Codec()
+	{
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			short[] a = (short[]) value;
+			out.writeInt(a == null ? -1 : a.length);
+			if (a != null)
+			{
+				for (short s : a)
+				{
+					out.writeShort(s);
+				}
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			int length = in.readInt();
+			if (length == -1)
+			{
+				return null;
+			}
+
+			short[] a = new short[length];
+			for (int i = 0; i < length; ++i)
+			{
+				a[i] = in.readShort();
+			}
+			return a;
+		}
+	};
+
+	private static final Codec BYTE_ARRAY = new Codec()
+	{
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			byte[] a = (byte[]) value;
+			out.writeInt(a == null ? -1 : a.length);
+			if (a != null)
+			{
+				out.write(a);
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			int length = in.readInt();
+			if (length == -1)
+			{
+				return null;
+			}
+
+			byte[] a = new byte[length];
+			in.readFully(a);
+			return a;
+		}
+	};
+
+	/**
+	 * Boxed primitives and strings, with a leading type tag
+	 */
+	private static final Codec VALUE = new Codec()
+	{
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			if (value == null)
+			{
+				out.writeByte(0);
+			}
+			else if (value instanceof Integer)
+			{
+				out.writeByte(1);
+				out.writeInt((Integer) value);
+			}
+			else if (value instanceof String)
+			{
+				out.writeByte(2);
+				STRING.write(out, value);
+			}
+			else if (value instanceof Long)
+			{
+				out.writeByte(3);
+				out.writeLong((Long) value);
+			}
+			else if (value instanceof Boolean)
+			{
+				out.writeByte(4);
+				out.writeBoolean((Boolean) value);
+			}
+			else if (value instanceof Short)
+			{
+				out.writeByte(5);
+				out.writeShort((Short) value);
+			}
+			else if (value instanceof Byte)
+			{
+				out.writeByte(6);
+				out.writeByte((Byte) value);
+			}
+			else
+			{
+				throw new IllegalArgumentException("unsupported definition value " + value.getClass().getName());
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			int tag = in.readUnsignedByte();
+			switch (tag)
+			{
+				case 0:
+					return null;
+				case 1:
+					return in.readInt();
+				case 2:
+					return STRING.read(in);
+				case 3:
+					return in.readLong();
+				case 4:
+					return in.readBoolean();
+				case 5:
+					return in.readShort();
+				case 6:
+					return in.readByte();
+				default:
+					throw new IOException("unknown value tag " + tag);
+			}
+		}
+	};
+
+	private static final Codec MAP = new Codec()
+	{
+		@Override
+		public void write(DataOutputStream out, Object value) throws IOException
+		{
+			if (value == null)
+			{
+				out.writeInt(-1);
+				return;
+			}
+
+			Map<?, ?> map = (Map<?, ?>) value;
+			out.writeInt(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet())
+			{
+				VALUE.write(out, entry.getKey());
+				VALUE.write(out, entry.getValue());
+			}
+		}
+
+		@Override
+		public Object read(DataInputStream in) throws IOException
+		{
+			int size = in.readInt();
+			if (size == -1)
+			{
+				return null;
+			}
+
+			Map<Object, Object> map = new HashMap<>(size * 2);
+			for (int i = 0; i < size; ++i)
+			{
+				Object key = VALUE.read(in);
+				map.put(key, VALUE.read(in));
+			}
+			return map;
+		}
+	};
+
+	private static long hash(CharSequence s)
+	{
+		// 64 bit FNV-1a
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < s.length(); ++i)
+		{
+			h ^= s.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		return h;
+	}
+}
@@ -24,9 +24,13 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.InterfaceDefinition;
 import net.runelite.cache.definitions.exporters.InterfaceExporter;
 import net.runelite.cache.definitions.loaders.InterfaceLoader;
@@ -43,6 +47,7 @@ public class InterfaceManager
 	private final Store store;
 	private InterfaceDefinition[][] interfaces;
 	private final Namer namer = new Namer();
+	private File snapshotDirectory;
 
 	public InterfaceManager(Store store)
 	{
@@ -50,6 +55,30 @@ public class InterfaceManager
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Set the directory to keep a snapshot of the decoded interfaces in. When the interface
+	 * archives are unchanged since the snapshot was saved, the interfaces are read from the
+	 * snapshot instead of being decoded again.
+	 *
+	 * @param snapshotDirectory snapshot directory, or null to not use a snapshot
+	 */
+	public void setSnapshotDirectory(File snapshotDirectory)
+	{
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Load the interfaces, reading, decompressing and decoding each archive
+	 * in parallel on the given executor
+	 *
+	 * @param executor executor to load archives on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		InterfaceLoader loader = new InterfaceLoader();
 
@@ -59,28 +88,56 @@ public class InterfaceManager
 		int max = index.getArchives().stream().mapToInt(a -> a.getArchiveId()).max().getAsInt();
 		interfaces = new InterfaceDefinition[max + 1][];
 
-		for (Archive archive : index.getArchives())
+		DefinitionSnapshot<InterfaceDefinition> snapshot = DefinitionSnapshot.of(snapshotDirectory, "interfaces", InterfaceDefinition.class, index.getArchives());
+		Map<Integer, InterfaceDefinition> snapshotted = snapshot.read();
+		if (snapshotted != null)
 		{
-			int archiveId = archive.getArchiveId();
-			byte[] archiveData = storage.loadArchive(archive);
-			ArchiveFiles files = archive.getFiles(archiveData);
-
-			InterfaceDefinition[] ifaces = interfaces[archiveId];
-			if (ifaces == null)
+			for (Archive archive : index.getArchives())
 			{
-				ifaces = interfaces[archiveId] = new InterfaceDefinition[archive.getFileData().length];
+				interfaces[archive.getArchiveId()] = new InterfaceDefinition[archive.getFileData().length];
 			}
+			for (Map.Entry<Integer, InterfaceDefinition> entry : snapshotted.entrySet())
+			{
+				int widgetId = entry.getKey();
+				interfaces[widgetId >>> 16][widgetId & 0xFFFF] = entry.getValue();
+			}
+			return;
+		}
 
-			for (FSFile file : files.getFiles())
+		ParallelLoader.loadArchives(executor, storage, index.getArchives(),
+			(archive, archiveData) ->
 			{
-				int fileId = file.getFileId();
+				int archiveId = archive.getArchiveId();
+				ArchiveFiles files = archive.getFiles(archiveData);
 
-				int widgetId = (archiveId << 16) + fileId;
+				InterfaceDefinition[] ifaces = new InterfaceDefinition[archive.getFileData().length];
 
-				InterfaceDefinition iface = loader.load(widgetId, file.getContents());
-				ifaces[fileId] = iface;
+				for (FSFile file : files.getFiles())
+				{
+					int fileId = file.getFileId();
+
+					int widgetId = (archiveId << 16) + fileId;
+
+					InterfaceDefinition iface = loader.load(widgetId, file.getContents());
+					ifaces[fileId] = iface;
+				}
+
+				return ifaces;
+			},
+			(archive, ifaces) -> interfaces[archive.getArchiveId()] = ifaces);
+
+		Map<Integer, InterfaceDefinition> ifaces = new HashMap<>();
+		for (int group = 0; group < interfaces.length; ++group)
+		{
+			for (int file = 0; interfaces[group] != null && file < interfaces[group].length; ++file)
+			{
+				if (interfaces[group][file] != null)
+				{
+					ifaces.put((group << 16) + file, interfaces[group][file]);
+				}
 			}
 		}
+		snapshot.write(ifaces);
 	}
 
 	public int getNumInterfaceGroups()
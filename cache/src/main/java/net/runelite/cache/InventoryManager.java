@@ -24,15 +24,16 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.InventoryDefinition;
 import net.runelite.cache.definitions.loaders.InventoryLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -48,6 +49,17 @@ public class InventoryManager
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		InventoryLoader loader = new InventoryLoader();
 
@@ -58,11 +70,9 @@ public class InventoryManager
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile file : files.getFiles())
-		{
-			InventoryDefinition inv = loader.load(file.getFileId(), file.getContents());
-			inventories.add(inv);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			file -> loader.load(file.getFileId(), file.getContents()),
+			(file, inv) -> inventories.add(inv));
 	}
 
 	public List<InventoryDefinition> getInventories()
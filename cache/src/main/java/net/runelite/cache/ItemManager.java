@@ -24,19 +24,22 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -46,6 +49,7 @@ public class ItemManager implements ItemProvider
 {
 	private final Store store;
 	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private File snapshotDirectory;
 
 	public ItemManager(Store store)
 	{
@@ -53,6 +57,29 @@ public class ItemManager implements ItemProvider
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Set the directory to keep a snapshot of the decoded definitions in. When the archive
+	 * is unchanged since the snapshot was saved, the definitions are read from the snapshot
+	 * instead of being decoded again.
+	 *
+	 * @param snapshotDirectory snapshot directory, or null to not use a snapshot
+	 */
+	public void setSnapshotDirectory(File snapshotDirectory)
+	{
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		ItemLoader loader = new ItemLoader();
 
@@ -60,14 +87,22 @@ public class ItemManager implements ItemProvider
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.ITEM.getId());
 
+		DefinitionSnapshot<ItemDefinition> snapshot = DefinitionSnapshot.of(snapshotDirectory, "items", ItemDefinition.class, archive);
+		Map<Integer, ItemDefinition> snapshotted = snapshot.read();
+		if (snapshotted != null)
+		{
+			items.putAll(snapshotted);
+			return;
+		}
+
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			ItemDefinition def = loader.load(f.getFileId(), f.getContents());
-			items.put(f.getFileId(), def);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			f -> loader.load(f.getFileId(), f.getContents()),
+			(f, def) -> items.put(f.getFileId(), def));
+
+		snapshot.write(items);
 	}
 
 	public void link()
@@ -117,6 +152,30 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	/**
+	 * Export every definition to a single newline delimited JSON file, ordered by id
+	 *
+	 * @param file file to write to
+	 * @throws IOException
+	 */
+	public void exportNdjson(File file) throws IOException
+	{
+		exportNdjson(file, MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Export every definition to a single newline delimited JSON file, ordered by id,
+	 * serializing the definitions in parallel on the given executor
+	 *
+	 * @param file file to write to
+	 * @param executor executor to serialize definitions on
+	 * @throws IOException
+	 */
+	public void exportNdjson(File file, ExecutorService executor) throws IOException
+	{
+		NdjsonWriter.write(new ArrayList<>(new TreeMap<>(items).values()), file, executor);
+	}
+
 	public void java(File java) throws IOException
 	{
 		java.mkdirs();
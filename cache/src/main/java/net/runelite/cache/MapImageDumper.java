@@ -24,18 +24,27 @@
  */
 package net.runelite.cache;
 
+import com.google.common.base.Throwables;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Point;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javax.imageio.ImageIO;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -62,6 +71,7 @@ import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.BigBufferedImage;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.PngWriter;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -75,6 +85,7 @@ import org.apache.commons.cli.ParseException;
 public class MapImageDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
+	private static final int BAND_REGIONS = 4; // height of the bands drawn in parallel, in regions
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
 
 	private static int[] colorPalette = JagexColor.createPalette(JagexColor.BRIGHTNESS_MIN);
@@ -125,6 +136,13 @@ public class MapImageDumper
 	@Setter
 	private boolean lowMemory = true;
 
+	/**
+	 * Number of threads to draw with. The map is drawn serially if this is 1, and is the same either way.
+	 */
+	@Getter
+	@Setter
+	private int parallelism = 1;
+
 	public MapImageDumper(Store store, KeyProvider keyProvider)
 	{
 		this(store, new RegionLoader(store, keyProvider));
@@ -145,6 +163,9 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("parallelism").hasArg().desc("number of threads to draw with").build());
+		options.addOption(Option.builder().longOpt("tiles").hasArg().desc("also write tiles, one of regions or levels").build());
+		options.addOption(Option.builder().longOpt("tilesize").hasArg().desc("size of level tiles, in pixels").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -162,6 +183,27 @@ public class MapImageDumper
 		final String cacheDirectory = cmd.getOptionValue("cachedir");
 		final String xteaJSONPath = cmd.getOptionValue("xteapath");
 		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final String tiles = cmd.getOptionValue("tiles");
+		final int parallelism;
+		final int tileSize;
+		try
+		{
+			parallelism = Integer.parseInt(cmd.getOptionValue("parallelism", "1"));
+			tileSize = Integer.parseInt(cmd.getOptionValue("tilesize", "256"));
+		}
+		catch (NumberFormatException ex)
+		{
+			System.err.println("Error parsing command line options: " + ex.getMessage());
+			System.exit(-1);
+			return;
+		}
+
+		if (parallelism < 1 || tileSize < 1)
+		{
+			System.err.println("parallelism and tilesize must be at least 1");
+			System.exit(-1);
+			return;
+		}
 
 		XteaKeyManager xteaKeyManager = new XteaKeyManager();
 		try (FileInputStream fin = new FileInputStream(xteaJSONPath))
@@ -178,16 +220,33 @@ public class MapImageDumper
 			store.load();
 
 			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
+			dumper.setParallelism(parallelism);
 			dumper.load();
 
 			for (int i = 0; i < Region.Z; ++i)
 			{
+				if ("regions".equals(tiles))
+				{
+					File regionDir = new File(outDir, "regions-" + i);
+					dumper.dumpRegions(i, regionDir);
+					log.info("Wrote regions to {}", regionDir);
+				}
+
 				BufferedImage image = dumper.drawMap(i);
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
 
-				ImageIO.write(image, "png", imageFile);
+				PngWriter.write(image, imageFile);
 				log.info("Wrote image {}", imageFile);
+
+				if ("levels".equals(tiles))
+				{
+					File tileDir = new File(outDir, "tiles-" + i);
+					dumper.dumpTiles(image, tileDir, tileSize);
+					log.info("Wrote tiles to {}", tileDir);
+				}
+
+				BigBufferedImage.dispose(image);
 			}
 		}
 	}
@@ -250,14 +309,268 @@ public class MapImageDumper
 			image = new BufferedImage(pixelsX, pixelsY, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
 		}
 
-		drawMap(image, z);
-		drawObjects(image, z);
-		drawMapIcons(image, z);
+		MapRaster raster = new MapRaster(image);
+		if (parallelism > 1)
+		{
+			drawParallel(raster, z);
+		}
+		else
+		{
+			drawMap(raster, z);
+			drawObjects(raster, z);
+			drawMapIcons(raster, z);
+		}
 
 		return image;
 	}
 
-	private void drawNeighborObjects(BufferedImage image, int rx, int ry, int dx, int dy, int z)
+	private void drawParallel(MapRaster raster, int z)
+	{
+		// the image is split into horizontal bands, and each band draws every region which can touch it
+		// in the same order as a serial draw, clipped to the band. So every pixel is written by one thread,
+		// in the same order, and the image is identical to one drawn serially.
+		int bandHeight = BAND_REGIONS * Region.Y * MAP_SCALE;
+		List<MapRaster> bands = new ArrayList<>();
+		for (int y = 0; y < raster.getHeight(); y += bandHeight)
+		{
+			bands.add(raster.clip(y, Math.min(y + bandHeight, raster.getHeight())));
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			forEach(pool, bands, band -> drawBand(band, z));
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	private void drawBand(MapRaster band, int z)
+	{
+		// the map of a region is only drawn within it, but objects and icons can be drawn up to a region past its edge
+		List<Region> regions = new ArrayList<>();
+		List<Region> nearby = new ArrayList<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			int top = getDrawBaseY(region) * MAP_SCALE;
+			int bottom = top + Region.Y * MAP_SCALE;
+			if (top < band.getMaxY() && bottom > band.getMinY())
+			{
+				regions.add(region);
+			}
+			if (top - Region.Y * MAP_SCALE < band.getMaxY() && bottom + Region.Y * MAP_SCALE > band.getMinY())
+			{
+				nearby.add(region);
+			}
+		}
+
+		for (Region region : regions)
+		{
+			drawMap(band, getDrawBaseX(region), getDrawBaseY(region), z, region);
+		}
+		for (Region region : nearby)
+		{
+			drawObjects(band, getDrawBaseX(region), getDrawBaseY(region), region, z);
+		}
+		for (Region region : nearby)
+		{
+			drawMapIcons(band, getDrawBaseX(region), getDrawBaseY(region), region, z);
+		}
+	}
+
+	private static <T> void forEach(ForkJoinPool pool, Collection<T> items, Consumer<T> consumer)
+	{
+		List<Callable<Void>> tasks = new ArrayList<>(items.size());
+		for (T item : items)
+		{
+			tasks.add(() ->
+			{
+				consumer.accept(item);
+				return null;
+			});
+		}
+
+		for (Future<Void> future : pool.invokeAll(tasks))
+		{
+			try
+			{
+				future.get();
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(ex);
+			}
+			catch (ExecutionException ex)
+			{
+				Throwables.throwIfUnchecked(ex.getCause());
+				throw new RuntimeException(ex.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Draws every region into its own image, written to {@code outDir/<region id>.png}
+	 */
+	public void dumpRegions(int z, File outDir) throws IOException
+	{
+		outDir.mkdirs();
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			forEach(pool, regionLoader.getRegions(), region ->
+			{
+				BufferedImage image = drawRegion(region, z);
+				write(image, new File(outDir, region.getRegionID() + ".png"));
+			});
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Splits an image into square tiles, written to {@code outDir/<level>/<x>_<y>.png}. Level 0 is
+	 * the full size image, and each level after is half the size of the one before, down to the
+	 * first level which fits in a single tile.
+	 */
+	public void dumpTiles(BufferedImage image, File outDir, int tileSize) throws IOException
+	{
+		if (tileSize <= 0)
+		{
+			throw new IllegalArgumentException("tile size must be positive: " + tileSize);
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			BufferedImage level = image;
+			for (int zoom = 0; ; ++zoom)
+			{
+				final BufferedImage src = level;
+				final File dir = new File(outDir, Integer.toString(zoom));
+				dir.mkdirs();
+
+				List<Point> tiles = new ArrayList<>();
+				for (int ty = 0; ty * tileSize < src.getHeight(); ++ty)
+				{
+					for (int tx = 0; tx * tileSize < src.getWidth(); ++tx)
+					{
+						tiles.add(new Point(tx, ty));
+					}
+				}
+
+				forEach(pool, tiles, tile ->
+				{
+					int x = tile.x * tileSize;
+					int y = tile.y * tileSize;
+					BufferedImage sub = src.getSubimage(x, y, Math.min(tileSize, src.getWidth() - x), Math.min(tileSize, src.getHeight() - y));
+					write(sub, new File(dir, tile.x + "_" + tile.y + ".png"));
+				});
+
+				if (src.getWidth() <= tileSize && src.getHeight() <= tileSize)
+				{
+					break;
+				}
+
+				level = halve(pool, src);
+				if (src != image)
+				{
+					BigBufferedImage.dispose(src);
+				}
+			}
+
+			if (level != image)
+			{
+				BigBufferedImage.dispose(level);
+			}
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	private BufferedImage halve(ForkJoinPool pool, BufferedImage src)
+	{
+		final int width = src.getWidth();
+		final int height = src.getHeight();
+		final int halfWidth = (width + 1) / 2;
+		final int halfHeight = (height + 1) / 2;
+		final BufferedImage dst = lowMemory
+			? BigBufferedImage.create(halfWidth, halfHeight, src.getType() == BufferedImage.TYPE_INT_ARGB ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB)
+			: new BufferedImage(halfWidth, halfHeight, src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		List<Integer> rows = new ArrayList<>(halfHeight);
+		for (int y = 0; y < halfHeight; ++y)
+		{
+			rows.add(y);
+		}
+
+		forEach(pool, rows, y ->
+		{
+			int[] top = src.getRGB(0, y * 2, width, 1, null, 0, width);
+			int[] bottom = y * 2 + 1 < height ? src.getRGB(0, y * 2 + 1, width, 1, null, 0, width) : top;
+			int[] out = new int[halfWidth];
+			for (int x = 0; x < halfWidth; ++x)
+			{
+				int x2 = Math.min(x * 2 + 1, width - 1);
+				out[x] = average(top[x * 2], top[x2], bottom[x * 2], bottom[x2]);
+			}
+			dst.setRGB(0, y, halfWidth, 1, out, 0, halfWidth);
+		});
+		return dst;
+	}
+
+	private static int average(int c1, int c2, int c3, int c4)
+	{
+		int rgb = 0;
+		for (int shift = 0; shift < 32; shift += 8)
+		{
+			int sum = ((c1 >>> shift) & 0xFF) + ((c2 >>> shift) & 0xFF) + ((c3 >>> shift) & 0xFF) + ((c4 >>> shift) & 0xFF);
+			rgb |= ((sum + 2) >> 2) << shift;
+		}
+		return rgb;
+	}
+
+	private static void write(BufferedImage image, File file)
+	{
+		try
+		{
+			PngWriter.write(image, file);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private int getDrawBaseX(Region region)
+	{
+		// to pixel X
+		return region.getBaseX() - regionLoader.getLowestX().getBaseX();
+	}
+
+	private int getDrawBaseY(Region region)
+	{
+		// to pixel Y. top most y is 0, but the top most
+		// region has the greatest y, so invert
+		return regionLoader.getHighestY().getBaseY() - region.getBaseY();
+	}
+
+	private void drawNeighborObjects(MapRaster image, int rx, int ry, int dx, int dy, int z)
 	{
 		Region neighbor = regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
 		if (neighbor == null)
@@ -274,24 +587,25 @@ public class MapImageDumper
 		int pixelsY = Region.Y * MAP_SCALE;
 
 		BufferedImage image = new BufferedImage(pixelsX, pixelsY, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+		MapRaster raster = new MapRaster(image);
 
-		drawMap(image, 0, 0, z, region);
+		drawMap(raster, 0, 0, z, region);
 
-		drawNeighborObjects(image, region.getRegionX(), region.getRegionY(), -1, -1, z);
-		drawNeighborObjects(image, region.getRegionX(), region.getRegionY(), -1, 0, z);
-		drawNeighborObjects(image, region.getRegionX(), region.getRegionY(), -1, 1, z);
-		drawNeighborObjects(image, region.getRegionX(), region.getRegionY(), 0, -1, z);
-		drawObjects(image, 0, 0, region, z);
-		drawNeighborObjects(image, region.getRegionX(), region.getRegionY(), 0, 1, z);
-		drawNeighborObjects(image, region.getRegionX(), region.getRegionY(), 1, -1, z);
-		drawNeighborObjects(image, region.getRegionX(), region.getRegionY(), 1, 0, z);
-		drawNeighborObjects(image, region.getRegionX(), region.getRegionY(), 1, 1, z);
-		drawMapIcons(image, 0, 0, region, z);
+		drawNeighborObjects(raster, region.getRegionX(), region.getRegionY(), -1, -1, z);
+		drawNeighborObjects(raster, region.getRegionX(), region.getRegionY(), -1, 0, z);
+		drawNeighborObjects(raster, region.getRegionX(), region.getRegionY(), -1, 1, z);
+		drawNeighborObjects(raster, region.getRegionX(), region.getRegionY(), 0, -1, z);
+		drawObjects(raster, 0, 0, region, z);
+		drawNeighborObjects(raster, region.getRegionX(), region.getRegionY(), 0, 1, z);
+		drawNeighborObjects(raster, region.getRegionX(), region.getRegionY(), 1, -1, z);
+		drawNeighborObjects(raster, region.getRegionX(), region.getRegionY(), 1, 0, z);
+		drawNeighborObjects(raster, region.getRegionX(), region.getRegionY(), 1, 1, z);
+		drawMapIcons(raster, 0, 0, region, z);
 
 		return image;
 	}
 
-	private void drawMap(BufferedImage image, int drawBaseX, int drawBaseY, int z, Region region)
+	private void drawMap(MapRaster image, int drawBaseX, int drawBaseY, int z, Region region)
 	{
 		if (!renderMap)
 		{
@@ -333,25 +647,15 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMap(BufferedImage image, int z)
+	private void drawMap(MapRaster image, int z)
 	{
 		for (Region region : regionLoader.getRegions())
 		{
-			int baseX = region.getBaseX();
-			int baseY = region.getBaseY();
-
-			// to pixel X
-			int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
-
-			// to pixel Y. top most y is 0, but the top most
-			// region has the greatest y, so invert
-			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
-
-			drawMap(image, drawBaseX, drawBaseY, z, region);
+			drawMap(image, getDrawBaseX(region), getDrawBaseY(region), z, region);
 		}
 	}
 
-	private void drawTile(BufferedImage to, int[][][] planes, Region region, int drawBaseX, int drawBaseY, int z, int x, int y)
+	private void drawTile(MapRaster to, int[][][] planes, Region region, int drawBaseX, int drawBaseY, int z, int x, int y)
 	{
 		int[][] pixels = planes[z];
 
@@ -638,7 +942,7 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawObjects(BufferedImage image, int drawBaseX, int drawBaseY, Region region, int z)
+	private void drawObjects(MapRaster image, int drawBaseX, int drawBaseY, Region region, int z)
 	{
 		if (!renderObjects)
 		{
@@ -857,25 +1161,15 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawObjects(BufferedImage image, int z)
+	private void drawObjects(MapRaster image, int z)
 	{
 		for (Region region : regionLoader.getRegions())
 		{
-			int baseX = region.getBaseX();
-			int baseY = region.getBaseY();
-
-			// to pixel X
-			int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
-
-			// to pixel Y. top most y is 0, but the top most
-			// region has the greatest y, so invert
-			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
-
-			drawObjects(image, drawBaseX, drawBaseY, region, z);
+			drawObjects(image, getDrawBaseX(region), getDrawBaseY(region), region, z);
 		}
 	}
 
-	private void drawMapIcons(BufferedImage image, int drawBaseX, int drawBaseY, Region region, int z)
+	private void drawMapIcons(MapRaster image, int drawBaseX, int drawBaseY, Region region, int z)
 	{
 		int baseX = region.getBaseX();
 		int baseY = region.getBaseY();
@@ -900,22 +1194,12 @@ public class MapImageDumper
 		graphics.dispose();
 	}
 
-	private void drawMapIcons(BufferedImage image, int z)
+	private void drawMapIcons(MapRaster image, int z)
 	{
 		// map icons
 		for (Region region : regionLoader.getRegions())
 		{
-			int baseX = region.getBaseX();
-			int baseY = region.getBaseY();
-
-			// to pixel X
-			int drawBaseX = baseX - regionLoader.getLowestX().getBaseX();
-
-			// to pixel Y. top most y is 0, but the top most
-			// region has the greatest y, so invert
-			int drawBaseY = regionLoader.getHighestY().getBaseY() - baseY;
-
-			drawMapIcons(image, drawBaseX, drawBaseY, region, z);
+			drawMapIcons(image, getDrawBaseX(region), getDrawBaseY(region), region, z);
 		}
 	}
 
@@ -1021,7 +1305,7 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMapIcons(BufferedImage img, Region region, int z, int drawBaseX, int drawBaseY)
+	private void drawMapIcons(MapRaster img, Region region, int z, int drawBaseX, int drawBaseY)
 	{
 		if (!renderIcons)
 		{
@@ -1133,7 +1417,7 @@ public class MapImageDumper
 		mapDecorations = loader.load(a.getArchiveId(), contents);
 	}
 
-	private void blitMapDecoration(BufferedImage dst, int x, int y, ObjectDefinition object)
+	private void blitMapDecoration(MapRaster dst, int x, int y, ObjectDefinition object)
 	{
 		SpriteDefinition sprite = mapDecorations[object.getMapSceneID()];
 		int ox = (object.getSizeX() * MAP_SCALE - sprite.getWidth()) / 2;
@@ -1141,7 +1425,7 @@ public class MapImageDumper
 		blitIcon(dst, x + ox, y + oy, sprite);
 	}
 
-	private void blitIcon(BufferedImage dst, int x, int y, SpriteDefinition sprite)
+	private void blitIcon(MapRaster dst, int x, int y, SpriteDefinition sprite)
 	{
 		x += sprite.getOffsetX();
 		y += sprite.getOffsetY();
@@ -1164,4 +1448,106 @@ public class MapImageDumper
 			}
 		}
 	}
+
+	/**
+	 * The image being drawn to. Pixels of int backed images are written straight into their raster,
+	 * which unlike {@link BufferedImage#setRGB(int, int, int)} does not go through the color model.
+	 */
+	private static class MapRaster
+	{
+		private final BufferedImage image;
+		private final int[] pixels;
+		private final int width;
+		private final int height;
+		private final int mask;
+		private final int minY;
+		private final int maxY;
+
+		MapRaster(BufferedImage image)
+		{
+			this.image = image;
+			this.width = image.getWidth();
+			this.height = image.getHeight();
+			this.minY = 0;
+			this.maxY = height;
+			if ((image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB)
+				&& image.getRaster().getParent() == null)
+			{
+				this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+				this.mask = image.getType() == BufferedImage.TYPE_INT_RGB ? 0xFFFFFF : 0xFFFFFFFF;
+			}
+			else
+			{
+				this.pixels = null;
+				this.mask = 0;
+			}
+		}
+
+		private MapRaster(MapRaster raster, int minY, int maxY)
+		{
+			this.image = raster.image;
+			this.pixels = raster.pixels;
+			this.width = raster.width;
+			this.height = raster.height;
+			this.mask = raster.mask;
+			this.minY = minY;
+			this.maxY = maxY;
+		}
+
+		/**
+		 * @return a raster of the same image which only draws rows {@code minY} to {@code maxY}, exclusive
+		 */
+		MapRaster clip(int minY, int maxY)
+		{
+			return new MapRaster(this, minY, maxY);
+		}
+
+		int getWidth()
+		{
+			return width;
+		}
+
+		int getHeight()
+		{
+			return height;
+		}
+
+		int getMinY()
+		{
+			return minY;
+		}
+
+		int getMaxY()
+		{
+			return maxY;
+		}
+
+		void setRGB(int x, int y, int rgb)
+		{
+			if (x < 0 || y < 0 || x >= width || y >= height)
+			{
+				throw new ArrayIndexOutOfBoundsException("Coordinate out of bounds!");
+			}
+			if (y < minY || y >= maxY)
+			{
+				return;
+			}
+
+			if (pixels != null)
+			{
+				pixels[y * width + x] = rgb & mask;
+			}
+			else
+			{
+				image.setRGB(x, y, rgb);
+			}
+		}
+
+		Graphics2D createGraphics()
+		{
+			Graphics2D graphics = image.createGraphics();
+			graphics.clipRect(0, minY, width, maxY - minY);
+			return graphics;
+		}
+	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.gson.Gson;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Writes definitions to a single newline delimited JSON file, one compact JSON object per
+ * line. Chunks of definitions are serialized in parallel on the executor and written in order.
+ */
+final class NdjsonWriter
+{
+	private static final int DEFINITIONS_PER_CHUNK = 512;
+
+	private static final Gson gson = new Gson();
+
+	private NdjsonWriter()
+	{
+	}
+
+	/**
+	 * @param definitions definitions to write, in order
+	 * @param file file to write to
+	 * @param executor executor to serialize on
+	 * @throws IOException
+	 */
+	static void write(List<?> definitions, File file, ExecutorService executor) throws IOException
+	{
+		// bound the serialized chunks waiting to be written
+		int maxInFlight = Runtime.getRuntime().availableProcessors() * 2;
+		Deque<Future<byte[]>> inFlight = new ArrayDeque<>();
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), 1 << 16))
+		{
+			for (int start = 0; start < definitions.size(); start += DEFINITIONS_PER_CHUNK)
+			{
+				List<?> chunk = definitions.subList(start, Math.min(start + DEFINITIONS_PER_CHUNK, definitions.size()));
+				inFlight.add(executor.submit(() -> serialize(chunk)));
+
+				if (inFlight.size() >= maxInFlight)
+				{
+					out.write(ParallelLoader.await(inFlight.poll()));
+				}
+			}
+
+			while (!inFlight.isEmpty())
+			{
+				out.write(ParallelLoader.await(inFlight.poll()));
+			}
+		}
+		finally
+		{
+			for (Future<byte[]> future : inFlight)
+			{
+				future.cancel(false);
+			}
+		}
+	}
+
+	private static byte[] serialize(List<?> definitions)
+	{
+		StringBuilder sb = new StringBuilder(definitions.size() * 256);
+		for (Object def : definitions)
+		{
+			gson.toJson(def, sb);
+			sb.append('\n');
+		}
+		return sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -24,18 +24,21 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -45,6 +48,7 @@ public class NpcManager
 {
 	private final Store store;
 	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private File snapshotDirectory;
 
 	public NpcManager(Store store)
 	{
@@ -52,6 +56,29 @@ public class NpcManager
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Set the directory to keep a snapshot of the decoded definitions in. When the archive
+	 * is unchanged since the snapshot was saved, the definitions are read from the snapshot
+	 * instead of being decoded again.
+	 *
+	 * @param snapshotDirectory snapshot directory, or null to not use a snapshot
+	 */
+	public void setSnapshotDirectory(File snapshotDirectory)
+	{
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		NpcLoader loader = new NpcLoader();
 
@@ -59,16 +86,24 @@ public class NpcManager
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.NPC.getId());
 
+		DefinitionSnapshot<NpcDefinition> snapshot = DefinitionSnapshot.of(snapshotDirectory, "npcs", NpcDefinition.class, archive);
+		Map<Integer, NpcDefinition> snapshotted = snapshot.read();
+		if (snapshotted != null)
+		{
+			npcs.putAll(snapshotted);
+			return;
+		}
+
 		loader.setRev210HeadIcons(archive.getRevision() >= NpcLoader.REV_210_NPC_ARCHIVE_REV);
 
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			NpcDefinition npc = loader.load(f.getFileId(), f.getContents());
-			npcs.put(f.getFileId(), npc);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			f -> loader.load(f.getFileId(), f.getContents()),
+			(f, npc) -> npcs.put(f.getFileId(), npc));
+
+		snapshot.write(npcs);
 	}
 
 	public Collection<NpcDefinition> getNpcs()
@@ -94,6 +129,30 @@ public class NpcManager
 		}
 	}
 
+	/**
+	 * Export every definition to a single newline delimited JSON file, ordered by id
+	 *
+	 * @param file file to write to
+	 * @throws IOException
+	 */
+	public void exportNdjson(File file) throws IOException
+	{
+		exportNdjson(file, MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Export every definition to a single newline delimited JSON file, ordered by id,
+	 * serializing the definitions in parallel on the given executor
+	 *
+	 * @param file file to write to
+	 * @param executor executor to serialize definitions on
+	 * @throws IOException
+	 */
+	public void exportNdjson(File file, ExecutorService executor) throws IOException
+	{
+		NdjsonWriter.write(new ArrayList<>(new TreeMap<>(npcs).values()), file, executor);
+	}
+
 	public void java(File java) throws IOException
 	{
 		java.mkdirs();
@@ -24,18 +24,21 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -45,6 +48,7 @@ public class ObjectManager
 {
 	private final Store store;
 	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private File snapshotDirectory;
 
 	public ObjectManager(Store store)
 	{
@@ -52,6 +56,29 @@ public class ObjectManager
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Set the directory to keep a snapshot of the decoded definitions in. When the archive
+	 * is unchanged since the snapshot was saved, the definitions are read from the snapshot
+	 * instead of being decoded again.
+	 *
+	 * @param snapshotDirectory snapshot directory, or null to not use a snapshot
+	 */
+	public void setSnapshotDirectory(File snapshotDirectory)
+	{
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		ObjectLoader loader = new ObjectLoader();
 
@@ -59,14 +86,22 @@ public class ObjectManager
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
 
+		DefinitionSnapshot<ObjectDefinition> snapshot = DefinitionSnapshot.of(snapshotDirectory, "objects", ObjectDefinition.class, archive);
+		Map<Integer, ObjectDefinition> snapshotted = snapshot.read();
+		if (snapshotted != null)
+		{
+			objects.putAll(snapshotted);
+			return;
+		}
+
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			ObjectDefinition def = loader.load(f.getFileId(), f.getContents());
-			objects.put(f.getFileId(), def);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			f -> loader.load(f.getFileId(), f.getContents()),
+			(f, def) -> objects.put(f.getFileId(), def));
+
+		snapshot.write(objects);
 	}
 
 	public Collection<ObjectDefinition> getObjects()
@@ -92,6 +127,30 @@ public class ObjectManager
 		}
 	}
 
+	/**
+	 * Export every definition to a single newline delimited JSON file, ordered by id
+	 *
+	 * @param file file to write to
+	 * @throws IOException
+	 */
+	public void exportNdjson(File file) throws IOException
+	{
+		exportNdjson(file, MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Export every definition to a single newline delimited JSON file, ordered by id,
+	 * serializing the definitions in parallel on the given executor
+	 *
+	 * @param file file to write to
+	 * @param executor executor to serialize definitions on
+	 * @throws IOException
+	 */
+	public void exportNdjson(File file, ExecutorService executor) throws IOException
+	{
+		NdjsonWriter.write(new ArrayList<>(new TreeMap<>(objects).values()), file, executor);
+	}
+
 	public void java(File java) throws IOException
 	{
 		java.mkdirs();
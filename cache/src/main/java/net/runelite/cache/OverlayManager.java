@@ -24,17 +24,18 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.OverlayDefinition;
 import net.runelite.cache.definitions.loaders.OverlayLoader;
 import net.runelite.cache.definitions.providers.OverlayProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -51,6 +52,19 @@ public class OverlayManager implements OverlayProvider
 
 	public void load() throws IOException
 	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
+	{
+		OverlayLoader loader = new OverlayLoader();
+
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.OVERLAY.getId());
@@ -58,13 +72,9 @@ public class OverlayManager implements OverlayProvider
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile file : files.getFiles())
-		{
-			OverlayLoader loader = new OverlayLoader();
-			OverlayDefinition overlay = loader.load(file.getFileId(), file.getContents());
-
-			overlays.put(overlay.getId(), overlay);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			file -> loader.load(file.getFileId(), file.getContents()),
+			(file, overlay) -> overlays.put(overlay.getId(), overlay));
 	}
 
 	public Collection<OverlayDefinition> getOverlays()
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Storage;
+
+/**
+ * Shared implementation of the managers' {@code load(ExecutorService)}. Definition
+ * parsing (and, for managers spanning many archives, reading and decompression)
+ * is run on the executor, and the results are handed back to the calling thread
+ * in order, so the managers' collections are never touched concurrently.
+ */
+final class ParallelLoader
+{
+	private static final int FILES_PER_TASK = 256;
+
+	@FunctionalInterface
+	interface ArchiveLoader<T>
+	{
+		/**
+		 * @param archive archive being loaded
+		 * @param archiveData compressed archive data as read from storage
+		 * @return the loaded archive
+		 * @throws IOException
+		 */
+		T load(Archive archive, byte[] archiveData) throws IOException;
+	}
+
+	private ParallelLoader()
+	{
+	}
+
+	/**
+	 * Parse the files of an archive in chunks on the executor
+	 *
+	 * @param executor executor to parse on
+	 * @param files files of the archive
+	 * @param loader file loader, must be thread safe
+	 * @param consumer called on the calling thread with each file and its definition, in file order
+	 * @param <T> definition type
+	 * @throws IOException
+	 */
+	static <T> void loadFiles(ExecutorService executor, ArchiveFiles files, Function<FSFile, T> loader, BiConsumer<FSFile, T> consumer) throws IOException
+	{
+		List<FSFile> fileList = files.getFiles();
+		List<Future<List<T>>> futures = new ArrayList<>();
+
+		for (int start = 0; start < fileList.size(); start += FILES_PER_TASK)
+		{
+			List<FSFile> chunk = fileList.subList(start, Math.min(start + FILES_PER_TASK, fileList.size()));
+			futures.add(executor.submit(() ->
+			{
+				List<T> defs = new ArrayList<>(chunk.size());
+				for (FSFile file : chunk)
+				{
+					defs.add(loader.apply(file));
+				}
+				return defs;
+			}));
+		}
+
+		int idx = 0;
+		for (Future<List<T>> future : futures)
+		{
+			for (T def : await(future))
+			{
+				consumer.accept(fileList.get(idx++), def);
+			}
+		}
+	}
+
+	/**
+	 * Read, decompress and parse each archive on the executor
+	 *
+	 * @param executor executor to load on
+	 * @param storage storage to read archives from
+	 * @param archives archives to load
+	 * @param loader archive loader, must be thread safe
+	 * @param consumer called on the calling thread with each archive and its result, in archive order
+	 * @param <T> result type
+	 * @throws IOException
+	 */
+	static <T> void loadArchives(ExecutorService executor, Storage storage, Collection<Archive> archives, ArchiveLoader<T> loader, BiConsumer<Archive, T> consumer) throws IOException
+	{
+		List<Future<T>> futures = new ArrayList<>(archives.size());
+		for (Archive archive : archives)
+		{
+			futures.add(executor.submit(() -> loader.load(archive, storage.loadArchive(archive))));
+		}
+
+		int idx = 0;
+		for (Archive archive : archives)
+		{
+			consumer.accept(archive, await(futures.get(idx++)));
+		}
+	}
+
+	static <T> T await(Future<T> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+}
@@ -26,16 +26,17 @@ package net.runelite.cache;
 
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
 import net.runelite.cache.definitions.providers.SpriteProvider;
-import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -51,22 +52,37 @@ public class SpriteManager implements SpriteProvider
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Load the sprites, reading, decompressing and decoding each archive
+	 * in parallel on the given executor
+	 *
+	 * @param executor executor to load archives on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 
-		for (Archive a : index.getArchives())
-		{
-			byte[] contents = a.decompress(storage.loadArchive(a));
-
-			SpriteLoader loader = new SpriteLoader();
-			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
+		ParallelLoader.loadArchives(executor, storage, index.getArchives(),
+			(a, archiveData) ->
+			{
+				byte[] contents = a.decompress(archiveData);
 
-			for (SpriteDefinition sprite : defs)
+				SpriteLoader loader = new SpriteLoader();
+				return loader.load(a.getArchiveId(), contents);
+			},
+			(a, defs) ->
 			{
-				sprites.put(sprite.getId(), sprite);
-			}
-		}
+				for (SpriteDefinition sprite : defs)
+				{
+					sprites.put(sprite.getId(), sprite);
+				}
+			});
 	}
 
 	public Collection<SpriteDefinition> getSprites()
@@ -24,16 +24,18 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.File;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.StructDefinition;
 import net.runelite.cache.definitions.loaders.StructLoader;
 import net.runelite.cache.definitions.providers.StructProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -42,6 +44,7 @@ public class StructManager implements StructProvider
 {
 	private final Store store;
 	private final Map<Integer, StructDefinition> structs = new HashMap<>();
+	private File snapshotDirectory;
 
 	public StructManager(Store store)
 	{
@@ -49,6 +52,29 @@ public class StructManager implements StructProvider
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Set the directory to keep a snapshot of the decoded definitions in. When the archive
+	 * is unchanged since the snapshot was saved, the definitions are read from the snapshot
+	 * instead of being decoded again.
+	 *
+	 * @param snapshotDirectory snapshot directory, or null to not use a snapshot
+	 */
+	public void setSnapshotDirectory(File snapshotDirectory)
+	{
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		StructLoader loader = new StructLoader();
 
@@ -56,14 +82,22 @@ public class StructManager implements StructProvider
 		Index index = store.getIndex(IndexType.CONFIGS);
 		Archive archive = index.getArchive(ConfigType.STRUCT.getId());
 
+		DefinitionSnapshot<StructDefinition> snapshot = DefinitionSnapshot.of(snapshotDirectory, "structs", StructDefinition.class, archive);
+		Map<Integer, StructDefinition> snapshotted = snapshot.read();
+		if (snapshotted != null)
+		{
+			structs.putAll(snapshotted);
+			return;
+		}
+
 		byte[] archiveData = storage.loadArchive(archive);
 		ArchiveFiles files = archive.getFiles(archiveData);
 
-		for (FSFile f : files.getFiles())
-		{
-			StructDefinition def = loader.load(f.getFileId(), f.getContents());
-			structs.put(f.getFileId(), def);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			f -> loader.load(f.getFileId(), f.getContents()),
+			(f, def) -> structs.put(f.getFileId(), def));
+
+		snapshot.write(structs);
 	}
 
 	public Map<Integer, StructDefinition> getStructs()
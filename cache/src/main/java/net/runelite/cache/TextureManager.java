@@ -24,15 +24,16 @@
  */
 package net.runelite.cache;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.definitions.TextureDefinition;
 import net.runelite.cache.definitions.loaders.TextureLoader;
 import net.runelite.cache.definitions.providers.TextureProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
-import net.runelite.cache.fs.FSFile;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
@@ -48,6 +49,17 @@ public class TextureManager implements TextureProvider
 	}
 
 	public void load() throws IOException
+	{
+		load(MoreExecutors.newDirectExecutorService());
+	}
+
+	/**
+	 * Load the definitions, parsing them in parallel on the given executor
+	 *
+	 * @param executor executor to parse definitions on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
 	{
 		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.TEXTURES);
@@ -58,11 +70,9 @@ public class TextureManager implements TextureProvider
 
 		TextureLoader loader = new TextureLoader();
 
-		for (FSFile file : files.getFiles())
-		{
-			TextureDefinition texture = loader.load(file.getFileId(), file.getContents());
-			textures.add(texture);
-		}
+		ParallelLoader.loadFiles(executor, files,
+			file -> loader.load(file.getFileId(), file.getContents()),
+			(file, texture) -> textures.add(texture));
 	}
 
 	public List<TextureDefinition> getTextures()
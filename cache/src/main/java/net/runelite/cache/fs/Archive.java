@@ -168,7 +168,12 @@ public class Archive
 
 	public void setNameHash(int nameHash)
 	{
+		int oldNameHash = this.nameHash;
 		this.nameHash = nameHash;
+		if (index != null)
+		{
+			index.updateNameHash(this, oldNameHash);
+		}
 	}
 
 	public int getCrc()
@@ -27,8 +27,10 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -41,6 +43,13 @@ public class Container
 {
 	private static final Logger logger = LoggerFactory.getLogger(Container.class);
 
+	/**
+	 * Upper bound on the decompressed size of a container, to reject corrupt lengths before allocating
+	 */
+	private static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[4096]);
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -96,86 +105,104 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		if (keys == null)
+		{
+			return decompress(ByteBuffer.wrap(b), null);
+		}
+
+		// decryption is done in place, so decrypt a scratch copy to leave the caller's data intact
+		return decompress(scratch(b, 0, b.length), keys);
+	}
+
+	/**
+	 * Decompress a container starting at the buffer's position, advancing the position past it.
+	 * Encrypted data is decrypted in place, and compressed data is inflated directly from the
+	 * buffer, so the only allocation is the decompressed data. Buffers which are not backed by
+	 * an accessible array are first copied into a per-thread scratch buffer.
+	 *
+	 * @param b container data, which is modified if keys are given
+	 * @param keys xtea keys, or null
+	 * @return container
+	 * @throws IOException
+	 */
+	public static Container decompress(ByteBuffer b, int[] keys) throws IOException
+	{
+		if (!b.hasArray())
+		{
+			ByteBuffer copy = scratch(b);
+			Container container = decompress(copy, keys);
+			b.position(b.position() + copy.position());
+			return container;
+		}
+
+		byte[] array = b.array();
+		int start = b.arrayOffset() + b.position();
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+		int compression = b.get() & 0xFF;
+		int compressedLength = b.getInt();
 		if (compressedLength < 0 || compressedLength > 1000000)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
-
-		byte[] data;
-		int revision = -1;
+		int encryptedLength;
 		switch (compression)
 		{
 			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				data = decryptedData;
-
+				encryptedLength = compressedLength;
 				break;
-			}
 			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
+			case CompressionType.GZ:
+				encryptedLength = compressedLength + 4; // + decompressed length
+				break;
+			default:
+				throw new RuntimeException("Unknown decompression type");
+		}
 
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
+		if (b.remaining() < encryptedLength)
+		{
+			throw new BufferUnderflowException();
+		}
+
+		Crc32 crc32 = new Crc32();
+		crc32.update(array, start, 5 + encryptedLength); // compression + length + data
 
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+		int offset = start + 5;
+		if (keys != null)
+		{
+			Xtea xtea = new Xtea(keys);
+			xtea.decrypt(array, offset, encryptedLength);
+		}
+		b.position(b.position() + encryptedLength);
 
-				stream = new InputStream(decryptedData);
+		int revision = -1;
+		if (b.remaining() >= 2)
+		{
+			revision = b.getShort() & 0xFFFF;
+		}
 
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
+		byte[] data;
+		if (compression == CompressionType.NONE)
+		{
+			data = Arrays.copyOfRange(array, offset, offset + compressedLength);
+		}
+		else
+		{
+			int decompressedLength = Ints.fromBytes(array[offset], array[offset + 1], array[offset + 2], array[offset + 3]);
+			if (decompressedLength < 0 || decompressedLength > MAX_DECOMPRESSED_LENGTH)
+			{
+				throw new IOException("Invalid decompressed length " + decompressedLength);
+			}
 
-				break;
+			data = new byte[decompressedLength];
+			if (compression == CompressionType.BZ2)
+			{
+				BZip2.decompress(array, offset + 4, compressedLength, data);
 			}
-			case CompressionType.GZ:
+			else
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
-				break;
+				GZip.decompress(array, offset + 4, compressedLength, data);
 			}
-			default:
-				throw new RuntimeException("Unknown decompression type");
 		}
 
 		Container container = new Container(compression, revision);
@@ -184,15 +211,30 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static ByteBuffer scratch(ByteBuffer src)
 	{
-		if (keys == null)
+		int len = src.remaining();
+		ByteBuffer buf = scratch(len);
+		src.duplicate().get(buf.array(), 0, len);
+		return buf;
+	}
+
+	private static ByteBuffer scratch(byte[] src, int off, int len)
+	{
+		ByteBuffer buf = scratch(len);
+		System.arraycopy(src, off, buf.array(), 0, len);
+		return buf;
+	}
+
+	private static ByteBuffer scratch(int len)
+	{
+		byte[] buf = SCRATCH.get();
+		if (buf.length < len)
 		{
-			return data;
+			buf = new byte[Math.max(len, buf.length * 2)];
+			SCRATCH.set(buf);
 		}
-
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+		return ByteBuffer.wrap(buf, 0, len);
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
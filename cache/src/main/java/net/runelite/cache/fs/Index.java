@@ -25,7 +25,9 @@
 package net.runelite.cache.fs;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import net.runelite.cache.index.ArchiveData;
 import net.runelite.cache.index.FileData;
@@ -47,6 +49,8 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	private final Map<Integer, Archive> archivesById = new HashMap<>();
+	private final Map<Integer, Archive> archivesByName = new HashMap<>(); // name hash -> first archive with that name hash, excluding unnamed archives
 
 	public Index(int id)
 	{
@@ -154,37 +158,91 @@ public class Index
 	{
 		Archive archive = new Archive(this, id);
 		this.archives.add(archive);
+		archivesById.putIfAbsent(id, archive);
+		// new archives are unnamed until their name hash is set
 		return archive;
 	}
 
 	public Archive getArchive(int id)
 	{
-		for (Archive a : archives)
+		return archivesById.get(id);
+	}
+
+	public boolean removeArchive(Archive archive)
+	{
+		if (!archives.remove(archive))
+		{
+			return false;
+		}
+
+		if (archivesById.remove(archive.getArchiveId(), archive))
 		{
-			if (a.getArchiveId() == id)
+			// fall back to another archive with the same id, if there is one
+			for (Archive a : archives)
 			{
-				return a;
+				if (a.getArchiveId() == archive.getArchiveId())
+				{
+					archivesById.put(a.getArchiveId(), a);
+					break;
+				}
 			}
 		}
-		return null;
-	}
 
-	public boolean removeArchive(Archive archive)
-	{
-		return archives.remove(archive);
+		removeName(archive, archive.getNameHash());
+		return true;
 	}
 
 	public Archive findArchiveByName(String name)
 	{
 		int hash = Djb2.hash(name);
+		if (hash == 0)
+		{
+			// unnamed archives aren't indexed by name
+			for (Archive a : archives)
+			{
+				if (a.getNameHash() == 0)
+				{
+					return a;
+				}
+			}
+			return null;
+		}
+		return archivesByName.get(hash);
+	}
+
+	/**
+	 * Called by {@link Archive#setNameHash(int)} to keep the name lookup in sync
+	 */
+	void updateNameHash(Archive archive, int oldNameHash)
+	{
+		if (archivesById.get(archive.getArchiveId()) != archive)
+		{
+			// not a member of this index
+			return;
+		}
+
+		removeName(archive, oldNameHash);
+		if (archive.getNameHash() != 0)
+		{
+			archivesByName.putIfAbsent(archive.getNameHash(), archive);
+		}
+	}
+
+	private void removeName(Archive archive, int nameHash)
+	{
+		if (nameHash == 0 || !archivesByName.remove(nameHash, archive))
+		{
+			return;
+		}
+
 		for (Archive a : archives)
 		{
-			if (a.getNameHash() == hash)
+			if (a != archive && a.getNameHash() == nameHash)
 			{
-				return a;
+				archivesByName.put(nameHash, a);
+				break;
 			}
 		}
-		return null;
 	}
 
 	public IndexData toIndexData()
@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 
 public interface Storage extends AutoCloseable
 {
@@ -35,6 +36,19 @@ public interface Storage extends AutoCloseable
 
 	void load(Store store) throws IOException;
 
+	/**
+	 * Load the store, using the executor for any work which can be done in parallel.
+	 * Storages which can't load in parallel load on the calling thread.
+	 *
+	 * @param store store to load
+	 * @param executor executor to load on
+	 * @throws IOException
+	 */
+	default void load(Store store, ExecutorService executor) throws IOException
+	{
+		load(store);
+	}
+
 	void save(Store store) throws IOException;
 
 	byte[] load(int index, int archive) throws IOException;
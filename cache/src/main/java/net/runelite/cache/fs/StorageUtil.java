@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+
+public final class StorageUtil
+{
+	/**
+	 * Copy every index and archive of a loaded store into another, and save it. This converts
+	 * a cache between storages, eg. from a {@link net.runelite.cache.fs.jagex.DiskStorage} or
+	 * {@link net.runelite.cache.fs.flat.FlatStorage} into a
+	 * {@link net.runelite.cache.fs.pack.PackStorage}, and back.
+	 *
+	 * @param from store to copy from
+	 * @param to store to copy into, any indexes it already has are replaced
+	 * @throws IOException
+	 */
+	public static void copy(Store from, Store to) throws IOException
+	{
+		Storage storage = to.getStorage();
+		for (Index index : from.getIndexes())
+		{
+			Index existing = to.findIndex(index.getId());
+			if (existing != null)
+			{
+				to.removeIndex(existing);
+			}
+
+			Index copy = to.addIndex(index.getId());
+			copy.setProtocol(index.getProtocol());
+			copy.setRevision(index.getRevision());
+			copy.setCompression(index.getCompression());
+			copy.setCrc(index.getCrc());
+			copy.setNamed(index.isNamed());
+
+			for (Archive archive : index.getArchives())
+			{
+				Archive a = copy.addArchive(archive.getArchiveId());
+				a.setNameHash(archive.getNameHash());
+				a.setRevision(archive.getRevision());
+				a.setCrc(archive.getCrc());
+				a.setCompression(archive.getCompression());
+				a.setFileData(archive.getFileData());
+
+				byte[] data = from.getStorage().loadArchive(archive);
+				if (data != null)
+				{
+					storage.saveArchive(a, data);
+				}
+			}
+		}
+
+		to.save();
+	}
+}
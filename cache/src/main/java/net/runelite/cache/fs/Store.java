@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
 import org.slf4j.Logger;
@@ -120,6 +121,17 @@ public final class Store implements Closeable
 		storage.load(this);
 	}
 
+	/**
+	 * Load the store, reading and decoding the indexes in parallel on the executor
+	 *
+	 * @param executor executor to load on
+	 * @throws IOException
+	 */
+	public void load(ExecutorService executor) throws IOException
+	{
+		storage.load(this, executor);
+	}
+
 	public void save() throws IOException
 	{
 		storage.save(this);
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing map from an (index, archive) key to either the contents of the archive,
+ * or the offset and length of its encoded contents within the index's flatcache file.
+ */
+class ArchiveTable
+{
+	private static final long EMPTY = Long.MIN_VALUE;
+
+	private long[] keys;
+	private long[] offsets;
+	private int[] lengths;
+	private byte[][] contents;
+	private int size;
+
+	ArchiveTable()
+	{
+		allocate(64);
+	}
+
+	static long key(int index, int archive)
+	{
+		return (long) index << 32 | (archive & 0xFFFFFFFFL);
+	}
+
+	static int index(long key)
+	{
+		return (int) (key >>> 32);
+	}
+
+	static int archive(long key)
+	{
+		return (int) key;
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	int capacity()
+	{
+		return keys.length;
+	}
+
+	/**
+	 * @return the slot of the key, or -1 if it is not in the table
+	 */
+	int find(long key)
+	{
+		int mask = keys.length - 1;
+		for (int i = hash(key) & mask; ; i = (i + 1) & mask)
+		{
+			long k = keys[i];
+			if (k == key)
+			{
+				return i;
+			}
+			if (k == EMPTY)
+			{
+				return -1;
+			}
+		}
+	}
+
+	long keyAt(int slot)
+	{
+		return keys[slot];
+	}
+
+	boolean isUsed(int slot)
+	{
+		return keys[slot] != EMPTY;
+	}
+
+	byte[] contentsAt(int slot)
+	{
+		return contents[slot];
+	}
+
+	long offsetAt(int slot)
+	{
+		return offsets[slot];
+	}
+
+	int lengthAt(int slot)
+	{
+		return lengths[slot];
+	}
+
+	void putContents(long key, byte[] data)
+	{
+		int slot = insert(key);
+		contents[slot] = data;
+		offsets[slot] = -1L;
+		lengths[slot] = 0;
+	}
+
+	void putOffset(long key, long offset, int length)
+	{
+		int slot = insert(key);
+		contents[slot] = null;
+		offsets[slot] = offset;
+		lengths[slot] = length;
+	}
+
+	private int insert(long key)
+	{
+		if ((size + 1) * 4 > keys.length * 3)
+		{
+			grow();
+		}
+
+		int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		while (keys[i] != EMPTY && keys[i] != key)
+		{
+			i = (i + 1) & mask;
+		}
+
+		if (keys[i] == EMPTY)
+		{
+			keys[i] = key;
+			++size;
+		}
+		return i;
+	}
+
+	private void grow()
+	{
+		long[] oldKeys = keys;
+		long[] oldOffsets = offsets;
+		int[] oldLengths = lengths;
+		byte[][] oldContents = contents;
+
+		allocate(oldKeys.length * 2);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; ++i)
+		{
+			if (oldKeys[i] != EMPTY)
+			{
+				int slot = insert(oldKeys[i]);
+				offsets[slot] = oldOffsets[i];
+				lengths[slot] = oldLengths[i];
+				contents[slot] = oldContents[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		offsets = new long[capacity];
+		lengths = new int[capacity];
+		contents = new byte[capacity][];
+	}
+
+	private static int hash(long key)
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
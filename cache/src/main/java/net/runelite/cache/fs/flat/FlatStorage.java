@@ -24,20 +24,26 @@
  */
 package net.runelite.cache.fs.flat;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import net.runelite.cache.fs.Archive;
@@ -49,22 +55,50 @@ import net.runelite.cache.index.FileData;
 /**
  * A Storage that stores the cache as a series of flat files, designed
  * to be git revisioned.
+ * <p>
+ * A lazy FlatStorage only records where each archive's contents are while loading, and reads
+ * and decodes them when the archive is loaded, keeping the most recently decoded archives in
+ * a cache of bounded size.
  */
 public class FlatStorage implements Storage
 {
 	protected static final String EXTENSION = ".flatcache";
 
 	private final File directory;
-	private final Map<Long, byte[]> data = new HashMap<>();
+	private final boolean lazy;
+	private final long maxCachedBytes;
+	private final ArchiveTable data = new ArchiveTable();
+	private final Map<Long, byte[]> cache = new LinkedHashMap<>(16, .75f, true);
+	private final Map<Integer, FileChannel> channels = new HashMap<>();
+	private long cachedBytes;
 
 	public FlatStorage(File directory) throws IOException
+	{
+		this(directory, false, 0);
+	}
+
+	/**
+	 * @param directory directory holding the flatcache files
+	 * @param lazy whether to read archive contents only when they are loaded
+	 * @param maxCachedBytes the most bytes of lazily read archives to keep in memory
+	 */
+	public FlatStorage(File directory, boolean lazy, long maxCachedBytes) throws IOException
 	{
 		this.directory = directory;
+		this.lazy = lazy;
+		this.maxCachedBytes = maxCachedBytes;
 	}
 
 	protected FlatStorage()
+	{
+		this(false, 0);
+	}
+
+	protected FlatStorage(boolean lazy, long maxCachedBytes)
 	{
 		this.directory = null;
+		this.lazy = lazy;
+		this.maxCachedBytes = maxCachedBytes;
 	}
 
 	protected InputStream openReader(String filename) throws IOException
@@ -82,6 +116,69 @@ public class FlatStorage implements Storage
 		return directory.list((dir, name) -> name.endsWith(EXTENSION));
 	}
 
+	/**
+	 * Reads a range of bytes from a flatcache file, for lazily loaded archives
+	 */
+	protected byte[] readRange(String filename, long offset, int length) throws IOException
+	{
+		byte[] b = new byte[length];
+		if (directory == null)
+		{
+			try (InputStream in = openReader(filename))
+			{
+				for (long skipped = 0; skipped < offset; )
+				{
+					long n = in.skip(offset - skipped);
+					if (n <= 0)
+					{
+						throw new EOFException();
+					}
+					skipped += n;
+				}
+				readFully(in, b);
+			}
+			return b;
+		}
+
+		FileChannel channel = getChannel(filename);
+		ByteBuffer buffer = ByteBuffer.wrap(b);
+		while (buffer.hasRemaining())
+		{
+			if (channel.read(buffer, offset + buffer.position()) < 0)
+			{
+				throw new EOFException();
+			}
+		}
+		return b;
+	}
+
+	private FileChannel getChannel(String filename) throws IOException
+	{
+		int id = Integer.parseInt(filename.substring(0, filename.length() - EXTENSION.length()));
+		synchronized (channels)
+		{
+			FileChannel channel = channels.get(id);
+			if (channel == null)
+			{
+				channel = FileChannel.open(new File(directory, filename).toPath(), StandardOpenOption.READ);
+				channels.put(id, channel);
+			}
+			return channel;
+		}
+	}
+
+	private void closeChannel(int index) throws IOException
+	{
+		synchronized (channels)
+		{
+			FileChannel channel = channels.remove(index);
+			if (channel != null)
+			{
+				channel.close();
+			}
+		}
+	}
+
 	@Override
 	public void init(Store store) throws IOException
 	{
@@ -96,6 +193,14 @@ public class FlatStorage implements Storage
 	@Override
 	public void close() throws IOException
 	{
+		synchronized (channels)
+		{
+			for (FileChannel channel : channels.values())
+			{
+				channel.close();
+			}
+			channels.clear();
+		}
 	}
 
 	@Override
@@ -104,20 +209,45 @@ public class FlatStorage implements Storage
 		for (Index idx : store.getIndexes())
 		{
 			String file = idx.getId() + EXTENSION;
-			try (BufferedReader br = new BufferedReader(new InputStreamReader(openReader(file), StandardCharsets.UTF_8)))
+			try (LineReader br = new LineReader(openReader(file)))
 			{
 				int lineNo = 0;
 				Archive archive = null;
 				List<FileData> fileData = null;
-				for (String line = br.readLine(); line != null; line = br.readLine())
+				for (;;)
 				{
 					lineNo++;
 
 					try
 					{
-						int lidx = line.indexOf('=');
-						String key = line.substring(0, lidx);
-						String value = line.substring(lidx + 1);
+						String key = br.readKey();
+						if (key == null)
+						{
+							break;
+						}
+
+						if ("contents".equals(key) && archive != null)
+						{
+							if (fileData != null)
+							{
+								archive.setFileData(fileData.toArray(new FileData[0]));
+								fileData = null;
+							}
+
+							long k = ArchiveTable.key(idx.getId(), archive.getArchiveId());
+							if (lazy)
+							{
+								long offset = br.getPosition();
+								data.putOffset(k, offset, br.skipLine());
+							}
+							else
+							{
+								data.putContents(k, Base64.getDecoder().decode(br.readLineBytes()));
+							}
+							continue;
+						}
+
+						String value = br.readLine();
 
 						if ("file".equals(key))
 						{
@@ -182,9 +312,6 @@ public class FlatStorage implements Storage
 								case "compression":
 									archive.setCompression(Integer.parseInt(value));
 									continue;
-								case "contents":
-									data.put((long) idx.getId() << 32 | archive.getArchiveId(), Base64.getDecoder().decode(value));
-									continue;
 							}
 						}
 						throw new IOException("unknown key: \"" + key + "\"");
@@ -210,6 +337,12 @@ public class FlatStorage implements Storage
 		store.getIndexes().sort(Comparator.comparingInt(Index::getId));
 		for (Index idx : store.getIndexes())
 		{
+			if (lazy)
+			{
+				// the file being written may be the one the contents are lazily read from
+				readAll(idx.getId());
+			}
+
 			String file = idx.getId() + EXTENSION;
 			try (PrintStream br = new PrintStream(openWriter(file), false, StandardCharsets.UTF_8.name()))
 			{
@@ -245,15 +378,234 @@ public class FlatStorage implements Storage
 		}
 	}
 
+	/**
+	 * Reads every lazily loaded archive of an index into memory
+	 */
+	private void readAll(int index) throws IOException
+	{
+		for (int slot = 0; slot < data.capacity(); ++slot)
+		{
+			if (data.isUsed(slot) && ArchiveTable.index(data.keyAt(slot)) == index && data.contentsAt(slot) == null)
+			{
+				long key = data.keyAt(slot);
+				data.putContents(key, load(index, ArchiveTable.archive(key)));
+			}
+		}
+
+		synchronized (cache)
+		{
+			cache.keySet().removeIf(key -> ArchiveTable.index(key) == index);
+			cachedBytes = 0;
+			for (byte[] b : cache.values())
+			{
+				cachedBytes += b.length;
+			}
+		}
+
+		if (directory != null)
+		{
+			closeChannel(index);
+		}
+	}
+
 	@Override
-	public byte[] load(int index, int archive)
+	public byte[] load(int index, int archive) throws IOException
 	{
-		return data.get((long) index << 32 | archive);
+		long key = ArchiveTable.key(index, archive);
+		int slot = data.find(key);
+		if (slot == -1)
+		{
+			return null;
+		}
+
+		byte[] contents = data.contentsAt(slot);
+		if (contents != null || data.offsetAt(slot) == -1L)
+		{
+			return contents;
+		}
+
+		synchronized (cache)
+		{
+			contents = cache.get(key);
+		}
+		if (contents != null)
+		{
+			return contents;
+		}
+
+		byte[] encoded = readRange(index + EXTENSION, data.offsetAt(slot), data.lengthAt(slot));
+		contents = Base64.getDecoder().decode(encoded);
+
+		if (contents.length <= maxCachedBytes)
+		{
+			synchronized (cache)
+			{
+				if (cache.put(key, contents) == null)
+				{
+					cachedBytes += contents.length;
+				}
+
+				for (Iterator<byte[]> it = cache.values().iterator(); cachedBytes > maxCachedBytes && it.hasNext(); )
+				{
+					cachedBytes -= it.next().length;
+					it.remove();
+				}
+			}
+		}
+		return contents;
 	}
 
 	@Override
 	public void store(int index, int archive, byte[] bytes)
 	{
-		data.put((long) index << 32 | archive, bytes);
+		data.putContents(ArchiveTable.key(index, archive), bytes);
+	}
+
+	private static void readFully(InputStream in, byte[] b) throws IOException
+	{
+		for (int off = 0; off < b.length; )
+		{
+			int n = in.read(b, off, b.length - off);
+			if (n < 0)
+			{
+				throw new EOFException();
+			}
+			off += n;
+		}
+	}
+
+	/**
+	 * Reads the key=value lines of a flatcache file, tracking the byte offset into the file
+	 * so that long values can be skipped and read later.
+	 */
+	private static class LineReader implements AutoCloseable
+	{
+		private final InputStream in;
+		private final byte[] buffer = new byte[64 * 1024];
+		private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+		private long bufferOffset;
+		private int pos;
+		private int limit;
+
+		LineReader(InputStream in)
+		{
+			this.in = in;
+		}
+
+		long getPosition()
+		{
+			return bufferOffset + pos;
+		}
+
+		private int read() throws IOException
+		{
+			if (pos == limit)
+			{
+				bufferOffset += limit;
+				pos = 0;
+				limit = Math.max(0, in.read(buffer));
+				if (limit == 0)
+				{
+					return -1;
+				}
+			}
+			return buffer[pos++] & 0xFF;
+		}
+
+		/**
+		 * Reads up to and including the next {@code =}
+		 *
+		 * @return the key, or null at the end of the file
+		 */
+		String readKey() throws IOException
+		{
+			line.reset();
+			for (int b = read(); ; b = read())
+			{
+				if (b == -1)
+				{
+					if (line.size() == 0)
+					{
+						return null;
+					}
+					throw new IOException("unexpected end of file");
+				}
+				if (b == '\n')
+				{
+					throw new IOException("line has no key");
+				}
+				if (b == '=')
+				{
+					return line.toString(StandardCharsets.UTF_8.name());
+				}
+				line.write(b);
+			}
+		}
+
+		String readLine() throws IOException
+		{
+			return new String(readLineBytes(), StandardCharsets.UTF_8);
+		}
+
+		byte[] readLineBytes() throws IOException
+		{
+			line.reset();
+			for (int b = read(); b != -1 && b != '\n'; b = read())
+			{
+				line.write(b);
+			}
+
+			byte[] b = line.toByteArray();
+			if (b.length > 0 && b[b.length - 1] == '\r')
+			{
+				return Arrays.copyOf(b, b.length - 1);
+			}
+			return b;
+		}
+
+		/**
+		 * Skips the rest of the line
+		 *
+		 * @return the length of the skipped value, without the line terminator
+		 */
+		int skipLine() throws IOException
+		{
+			int length = 0;
+			int last = -1;
+			for (;;)
+			{
+				// scan the buffer directly, contents lines are long
+				int i = pos;
+				while (i < limit && buffer[i] != '\n')
+				{
+					++i;
+				}
+				length += i - pos;
+				if (i > pos)
+				{
+					last = buffer[i - 1];
+				}
+				pos = i;
+
+				if (pos < limit)
+				{
+					++pos;
+					break;
+				}
+				if (read() == -1)
+				{
+					break;
+				}
+				// read() consumed a byte of the next buffer
+				--pos;
+			}
+			return last == '\r' ? length - 1 : length;
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			in.close();
+		}
 	}
 }
@@ -30,6 +30,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,23 +39,70 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	/**
+	 * how far the file may grow past the mapping before it is remapped
+	 */
+	private static final int REMAP_CHUNK = 8 * 1024 * 1024;
 
 	private final RandomAccessFile dat;
+	private final boolean mapped;
+	/**
+	 * read-only mapping of the whole file, or null if reads go through {@link #dat}
+	 */
+	private volatile ByteBuffer map;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.mapped = false;
+	}
+
+	/**
+	 * @param file data file
+	 * @param mapped whether to memory map the file for reading. Mapped reads
+	 * do not lock and may be issued from many threads at once; writes
+	 * always go through the file, which is remapped once it has grown by
+	 * {@link #REMAP_CHUNK}. Archives written since the last remap are read
+	 * through the file.
+	 * @throws IOException
+	 */
+	public DataFile(File file, boolean mapped) throws IOException
+	{
+		this.dat = new RandomAccessFile(file, "rw");
+		this.mapped = mapped;
+		remap();
 	}
 
 	@Override
 	public void close() throws IOException
 	{
+		map = null;
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
 		dat.setLength(0L);
+		remap();
+	}
+
+	private void remap() throws IOException
+	{
+		if (!mapped)
+		{
+			return;
+		}
+
+		FileChannel channel = dat.getChannel();
+		long size = channel.size();
+		if (size > Integer.MAX_VALUE)
+		{
+			logger.warn("data file is too large to map ({} bytes), falling back to file reads", size);
+			map = null;
+			return;
+		}
+
+		map = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
 	}
 
 	/**
@@ -66,11 +114,28 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		ByteBuffer map = this.map;
+		// sectors are only ever appended, so an archive starting within the mapping lies entirely within it
+		if (map != null && (long) sector * SECTOR_SIZE < map.capacity())
+		{
+			// duplicate so the position can be moved without affecting other readers
+			return read(map.duplicate(), indexId, archiveId, sector, size);
+		}
+
+		synchronized (this)
+		{
+			return read(null, indexId, archiveId, sector, size);
+		}
+	}
+
+	private byte[] read(ByteBuffer map, int indexId, int archiveId, int sector, int size) throws IOException
 	{
-		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
+		long length = map != null ? map.capacity() : dat.length();
+		if (sector <= 0L || length / SECTOR_SIZE < (long) sector)
 		{
-			logger.warn("bad read, dat length {}, requested sector {}", dat.length(), sector);
+			logger.warn("bad read, dat length {}, requested sector {}", length, sector);
 			return null;
 		}
 
@@ -87,8 +152,6 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			dat.seek(SECTOR_SIZE * sector);
-
 			int dataBlockSize = size - readBytesCount;
 			byte headerSize;
 			int currentIndex;
@@ -102,7 +165,7 @@ public class DataFile implements Closeable
 					dataBlockSize = SECTOR_SIZE - headerSize;
 				}
 
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
+				int i = readSector(map, sector, readBuffer, headerSize + dataBlockSize);
 				if (i != headerSize + dataBlockSize)
 				{
 					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
@@ -127,7 +190,7 @@ public class DataFile implements Closeable
 					dataBlockSize = SECTOR_SIZE - headerSize;
 				}
 
-				int i = dat.read(readBuffer, 0, headerSize + dataBlockSize);
+				int i = readSector(map, sector, readBuffer, headerSize + dataBlockSize);
 				if (i != headerSize + dataBlockSize)
 				{
 					logger.warn("short read");
@@ -153,7 +216,7 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			if (nextSector < 0 || dat.length() / SECTOR_SIZE < (long) nextSector)
+			if (nextSector < 0 || length / SECTOR_SIZE < (long) nextSector)
 			{
 				logger.warn("Invalid next sector");
 				return null;
@@ -169,6 +232,27 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
+	private int readSector(ByteBuffer map, int sector, byte[] buffer, int len) throws IOException
+	{
+		long position = (long) SECTOR_SIZE * sector;
+
+		if (map == null)
+		{
+			dat.seek(position);
+			return dat.read(buffer, 0, len);
+		}
+
+		int remaining = (int) Math.min(len, map.capacity() - position);
+		if (remaining <= 0)
+		{
+			return -1;
+		}
+
+		map.position((int) position);
+		map.get(buffer, 0, remaining);
+		return remaining;
+	}
+
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
 		int sector;
@@ -245,6 +329,12 @@ public class DataFile implements Closeable
 			sector = nextSector;
 		}
 
+		ByteBuffer map = this.map;
+		if (map != null && dat.length() - map.capacity() >= REMAP_CHUNK)
+		{
+			remap();
+		}
+
 		DataFileWriteResult res = new DataFileWriteResult();
 		res.sector = startSector;
 		res.compressedLength = compressedData.length;
@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,23 +45,54 @@ public class IndexFile implements Closeable
 	private final File file;
 	private final RandomAccessFile idx;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
+	private final boolean mapped;
+	private volatile ByteBuffer map;
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
 	{
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.mapped = false;
+	}
+
+	/**
+	 * @param indexFileId index id
+	 * @param file index file
+	 * @param mapped whether to memory map the file for lock-free reads
+	 * @throws IOException
+	 */
+	public IndexFile(int indexFileId, File file, boolean mapped) throws IOException
+	{
+		this.indexFileId = indexFileId;
+		this.file = file;
+		this.idx = new RandomAccessFile(file, "rw");
+		this.mapped = mapped;
+		remap();
 	}
 
 	@Override
 	public void close() throws IOException
 	{
+		map = null;
 		idx.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
 		idx.setLength(0L);
+		remap();
+	}
+
+	private void remap() throws IOException
+	{
+		if (!mapped)
+		{
+			return;
+		}
+
+		FileChannel channel = idx.getChannel();
+		map = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
 	}
 
 	@Override
@@ -107,9 +140,35 @@ public class IndexFile implements Closeable
 		buffer[5] = (byte) entry.getSector();
 
 		idx.write(buffer);
+
+		if (map != null && map.capacity() < idx.length())
+		{
+			remap();
+		}
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
+	{
+		ByteBuffer map = this.map;
+		if (map == null)
+		{
+			return readFile(id);
+		}
+
+		int position = id * INDEX_ENTRY_LEN;
+		if (position < 0 || position + INDEX_ENTRY_LEN > map.capacity())
+		{
+			logger.debug("short read for id {} on index {}", id, indexFileId);
+			return null;
+		}
+
+		int length = ((map.get(position) & 0xFF) << 16) | ((map.get(position + 1) & 0xFF) << 8) | (map.get(position + 2) & 0xFF);
+		int sector = ((map.get(position + 3) & 0xFF) << 16) | ((map.get(position + 4) & 0xFF) << 8) | (map.get(position + 5) & 0xFF);
+
+		return toEntry(id, sector, length);
+	}
+
+	private synchronized IndexEntry readFile(int id) throws IOException
 	{
 		idx.seek(id * INDEX_ENTRY_LEN);
 		int i = idx.read(buffer);
@@ -122,6 +181,11 @@ public class IndexFile implements Closeable
 		int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
 		int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
 
+		return toEntry(id, sector, length);
+	}
+
+	private IndexEntry toEntry(int id, int sector, int length)
+	{
 		if (length <= 0 || sector <= 0)
 		{
 			logger.debug("invalid length or sector {}/{}", length, sector);
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.ArchiveData;
+import net.runelite.cache.index.IndexData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Storage that keeps every archive in a single append-only pack file, located by a sorted
+ * table of (index, archive) to (offset, length, crc) entries which is read into memory and
+ * binary searched. Index metadata is stored as archives of index 255, as in a Jagex cache.
+ * <p>
+ * Archives stored since the last save are appended to the pack immediately, but are only
+ * added to the table when the store is saved. {@link #load(int, int)} may be called from
+ * many threads at once.
+ */
+public class PackStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(PackStorage.class);
+
+	private static final String PACK_FILE = "main_file_cache.pack";
+	private static final String TABLE_FILE = "main_file_cache.pack.idx";
+
+	private static final int TABLE_MAGIC = 0x524c504b; // RLPK
+	private static final int TABLE_VERSION = 1;
+	private static final int HEADER_LEN = 12;
+	private static final int ENTRY_LEN = 24;
+
+	private final File folder;
+	private final FileChannel pack;
+	private final Map<Long, Entry> pending = new ConcurrentHashMap<>();
+	private volatile ByteBuffer table;
+	private long packLength;
+
+	public PackStorage(File folder) throws IOException
+	{
+		this.folder = folder;
+		this.pack = FileChannel.open(new File(folder, PACK_FILE).toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.packLength = pack.size();
+		readTable();
+	}
+
+	private static final class Entry
+	{
+		final long offset;
+		final int length;
+		final int crc;
+
+		Entry(long offset, int length, int crc)
+		{
+			this.offset = offset;
+			this.length = length;
+			this.crc = crc;
+		}
+	}
+
+	private static long key(int index, int archive)
+	{
+		return (long) index << 32 | (archive & 0xFFFFFFFFL);
+	}
+
+	private void readTable() throws IOException
+	{
+		File file = new File(folder, TABLE_FILE);
+		if (!file.exists())
+		{
+			table = null;
+			return;
+		}
+
+		ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+		if (buf.remaining() < HEADER_LEN || buf.getInt(0) != TABLE_MAGIC)
+		{
+			throw new IOException("invalid pack table " + file);
+		}
+		if (buf.getInt(4) != TABLE_VERSION)
+		{
+			throw new IOException("unsupported pack table version " + buf.getInt(4));
+		}
+
+		int size = buf.getInt(8);
+		if (size < 0 || (long) size * ENTRY_LEN != buf.remaining() - HEADER_LEN)
+		{
+			throw new IOException("pack table " + file + " is truncated");
+		}
+
+		table = buf;
+	}
+
+	/**
+	 * @return the position of the key in the table, or -(insertion point) - 1 if it is not in the table
+	 */
+	private static int search(ByteBuffer table, int size, long key)
+	{
+		int lo = 0;
+		int hi = size - 1;
+		while (lo <= hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			long k = table.getLong(HEADER_LEN + mid * ENTRY_LEN);
+			if (k < key)
+			{
+				lo = mid + 1;
+			}
+			else if (k > key)
+			{
+				hi = mid - 1;
+			}
+			else
+			{
+				return mid;
+			}
+		}
+		return -(lo + 1);
+	}
+
+	private static int size(ByteBuffer table)
+	{
+		return table == null ? 0 : (table.capacity() - HEADER_LEN) / ENTRY_LEN;
+	}
+
+	private static Entry entryAt(ByteBuffer table, int pos)
+	{
+		int off = HEADER_LEN + pos * ENTRY_LEN;
+		return new Entry(table.getLong(off + 8), table.getInt(off + 16), table.getInt(off + 20));
+	}
+
+	private Entry find(int index, int archive)
+	{
+		long key = key(index, archive);
+		Entry entry = pending.get(key);
+		if (entry != null)
+		{
+			return entry;
+		}
+
+		ByteBuffer table = this.table;
+		int pos = search(table, size(table), key);
+		return pos < 0 ? null : entryAt(table, pos);
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		TreeSet<Integer> indexes = new TreeSet<>();
+		ByteBuffer table = this.table;
+		if (table != null)
+		{
+			// index 255 sorts last, so walk the table backwards
+			for (int pos = size(table) - 1; pos >= 0; --pos)
+			{
+				long key = table.getLong(HEADER_LEN + pos * ENTRY_LEN);
+				if ((int) (key >>> 32) != 255)
+				{
+					break;
+				}
+				indexes.add((int) key);
+			}
+		}
+		for (long key : pending.keySet())
+		{
+			if ((int) (key >>> 32) == 255)
+			{
+				indexes.add((int) key);
+			}
+		}
+
+		for (int id : indexes)
+		{
+			store.addIndex(id);
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		table = null;
+		pack.close();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index index : store.getIndexes())
+		{
+			loadIndex(index);
+		}
+	}
+
+	@Override
+	public void load(Store store, ExecutorService executor) throws IOException
+	{
+		List<Future<?>> futures = new ArrayList<>();
+		for (Index index : store.getIndexes())
+		{
+			futures.add(executor.submit(() ->
+			{
+				loadIndex(index);
+				return null;
+			}));
+		}
+
+		try
+		{
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			throw new IOException("error loading index", cause);
+		}
+	}
+
+	private void loadIndex(Index index) throws IOException
+	{
+		logger.trace("Loading index {}", index.getId());
+
+		byte[] indexData = load(255, index.getId());
+		if (indexData == null)
+		{
+			return;
+		}
+
+		Container res = Container.decompress(indexData, null);
+
+		IndexData id = new IndexData();
+		id.load(res.data);
+
+		index.setProtocol(id.getProtocol());
+		index.setRevision(id.getRevision());
+		index.setNamed(id.isNamed());
+
+		for (ArchiveData ad : id.getArchives())
+		{
+			Archive archive = index.addArchive(ad.getId());
+			archive.setNameHash(ad.getNameHash());
+			archive.setCrc(ad.getCrc());
+			archive.setRevision(ad.getRevision());
+			archive.setFileData(ad.getFiles());
+		}
+
+		index.setCrc(res.crc);
+		index.setCompression(res.compression);
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		logger.debug("Saving store");
+
+		for (Index index : store.getIndexes())
+		{
+			IndexData indexData = index.toIndexData();
+			byte[] data = indexData.writeIndexData();
+
+			Container container = new Container(index.getCompression(), -1); // index data revision is always -1
+			container.compress(data, null);
+
+			store(255, index.getId(), container.data);
+			index.setCrc(container.crc);
+		}
+
+		writeTable();
+	}
+
+	/**
+	 * Merge the archives stored since the last save into the table, and replace the table file
+	 */
+	private synchronized void writeTable() throws IOException
+	{
+		if (pending.isEmpty() && table != null)
+		{
+			return;
+		}
+
+		// the table must never point past the data on disk
+		pack.force(false);
+
+		TreeMap<Long, Entry> entries = new TreeMap<>(pending);
+		ByteBuffer table = this.table;
+		for (int pos = 0, size = size(table); pos < size; ++pos)
+		{
+			entries.putIfAbsent(table.getLong(HEADER_LEN + pos * ENTRY_LEN), entryAt(table, pos));
+		}
+
+		ByteBuffer buf = ByteBuffer.allocate(HEADER_LEN + entries.size() * ENTRY_LEN);
+		buf.putInt(TABLE_MAGIC);
+		buf.putInt(TABLE_VERSION);
+		buf.putInt(entries.size());
+		for (Map.Entry<Long, Entry> e : entries.entrySet())
+		{
+			Entry entry = e.getValue();
+			buf.putLong(e.getKey());
+			buf.putLong(entry.offset);
+			buf.putInt(entry.length);
+			buf.putInt(entry.crc);
+		}
+		buf.flip();
+
+		File file = new File(folder, TABLE_FILE);
+		File tmp = new File(folder, TABLE_FILE + ".tmp");
+		try (FileChannel channel = FileChannel.open(tmp.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			while (buf.hasRemaining())
+			{
+				channel.write(buf);
+			}
+			channel.force(false);
+		}
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		readTable();
+		pending.clear();
+		logger.debug("Wrote pack table with {} archives", entries.size());
+	}
+
+	@Override
+	public byte[] load(int index, int archive) throws IOException
+	{
+		Entry entry = find(index, archive);
+		if (entry == null)
+		{
+			logger.debug("can't read archive {} from index {}", archive, index);
+			return null;
+		}
+
+		byte[] data = new byte[entry.length];
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		while (buf.hasRemaining())
+		{
+			if (pack.read(buf, entry.offset + buf.position()) < 0)
+			{
+				throw new IOException("archive " + index + "/" + archive + " is past the end of the pack");
+			}
+		}
+
+		CRC32 crc32 = new CRC32();
+		crc32.update(data);
+		if ((int) crc32.getValue() != entry.crc)
+		{
+			throw new IOException("crc mismatch for archive " + index + "/" + archive);
+		}
+		return data;
+	}
+
+	@Override
+	public synchronized void store(int index, int archive, byte[] data) throws IOException
+	{
+		long offset = packLength;
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		while (buf.hasRemaining())
+		{
+			pack.write(buf, offset + buf.position());
+		}
+		packLength += data.length;
+
+		CRC32 crc32 = new CRC32();
+		crc32.update(data);
+		pending.put(key(index, archive), new Entry(offset, data.length, (int) crc32.getValue()));
+
+		logger.trace("Saved archive {}/{} at offset {}, length {}", index, archive, offset, data.length);
+	}
+}
@@ -59,12 +59,22 @@ class Graphics3D extends Rasterizer2D
 	int Rasterizer3D_clipMidY2;
 	int[] rasterClipY = new int[1024];
 	public int[] colorPalette;
+	private Model.Buffers modelBuffers;
 
 	public Graphics3D(RSTextureProvider textureProvider)
 	{
 		this.textureProvider = textureProvider;
 	}
 
+	Model.Buffers getModelBuffers()
+	{
+		if (modelBuffers == null)
+		{
+			modelBuffers = new Model.Buffers();
+		}
+		return modelBuffers;
+	}
+
 	public final void setRasterClipping()
 	{
 		setRasterClipping(draw_region_x, drawingAreaTop, drawingAreaRight, drawingAreaBottom);
@@ -38,21 +38,63 @@ import net.runelite.cache.models.VertexNormal;
 
 public class ItemSpriteFactory
 {
+	/**
+	 * What sprites are rendered with. Rendering a sprite may render the sprites of the items
+	 * it is noted, bought or a placeholder for first, all with the same rasterizer.
+	 */
+	interface Renderer
+	{
+		ItemProvider getItemProvider();
+
+		/**
+		 * @return the lit model of the item, with its bounds calculated, or null if it has none
+		 */
+		Model getModel(ItemDefinition item) throws IOException;
+
+		Graphics3D getGraphics();
+	}
+
 	public static BufferedImage createSprite(ItemProvider itemProvider, ModelProvider modelProvider,
 		SpriteProvider spriteProvider, TextureProvider textureProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
-			itemId, quantity, border, shadowColor, noted);
+		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+
+		Graphics3D graphics = new Graphics3D(rsTextureProvider);
+		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
+
+		Renderer renderer = new Renderer()
+		{
+			@Override
+			public ItemProvider getItemProvider()
+			{
+				return itemProvider;
+			}
+
+			@Override
+			public Model getModel(ItemDefinition item) throws IOException
+			{
+				return ItemSpriteFactory.getModel(modelProvider, item);
+			}
+
+			@Override
+			public Graphics3D getGraphics()
+			{
+				return graphics;
+			}
+		};
+
+		SpritePixels spritePixels = createSpritePixels(renderer, itemId, quantity, border, shadowColor, noted);
 		return spritePixels == null ? null : spritePixels.toBufferedImage();
 	}
 
-	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
+	static SpritePixels createSpritePixels(Renderer renderer,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
+		ItemProvider itemProvider = renderer.getItemProvider();
 		ItemDefinition item = itemProvider.provide(itemId);
 
 		if (quantity > 1 && item.countObj != null)
@@ -73,7 +115,7 @@ public class ItemSpriteFactory
 			}
 		}
 
-		Model itemModel = getModel(modelProvider, item);
+		Model itemModel = renderer.getModel(item);
 		if (itemModel == null)
 		{
 			return null;
@@ -82,7 +124,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(renderer,
 				item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
@@ -91,7 +133,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(renderer,
 				item.boughtId, quantity, border, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -100,7 +142,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(renderer,
 				item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -108,12 +150,8 @@ public class ItemSpriteFactory
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
-
 		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
+		Graphics3D graphics = renderer.getGraphics();
 		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
 		graphics.reset();
 		graphics.setRasterClipping();
@@ -180,7 +218,7 @@ public class ItemSpriteFactory
 		return spritePixels;
 	}
 
-	private static Model getModel(ModelProvider modelProvider, ItemDefinition item) throws IOException
+	static Model getModel(ModelProvider modelProvider, ItemDefinition item) throws IOException
 	{
 		Model itemModel;
 		ModelDefinition inventoryModel = modelProvider.provide(item.inventoryModel);
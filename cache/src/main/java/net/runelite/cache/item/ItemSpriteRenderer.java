@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.models.JagexColor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Renders the sprites of many items, sharing the color palette, textures and lit models
+ * between them. Each thread renders with its own rasterizer, so sprites may be rendered from
+ * many threads at once.
+ */
+public class ItemSpriteRenderer
+{
+	private static final Logger logger = LoggerFactory.getLogger(ItemSpriteRenderer.class);
+
+	public static final int SPRITE_WIDTH = 36;
+	public static final int SPRITE_HEIGHT = 32;
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider textureProvider;
+	private final int[] colorPalette;
+	private final Map<String, Model> models = new ConcurrentHashMap<>();
+	private final ThreadLocal<Graphics3D> graphics;
+	private final ItemSpriteFactory.Renderer renderer;
+
+	public ItemSpriteRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.textureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		this.textureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+		this.colorPalette = JagexColor.createPalette(JagexColor.BRIGHTNESS_MAX);
+		this.graphics = ThreadLocal.withInitial(() ->
+		{
+			Graphics3D g = new Graphics3D(this.textureProvider);
+			g.colorPalette = colorPalette;
+			return g;
+		});
+		this.renderer = new ItemSpriteFactory.Renderer()
+		{
+			@Override
+			public ItemProvider getItemProvider()
+			{
+				return itemProvider;
+			}
+
+			@Override
+			public Model getModel(ItemDefinition item) throws IOException
+			{
+				return ItemSpriteRenderer.this.getModel(item);
+			}
+
+			@Override
+			public Graphics3D getGraphics()
+			{
+				return graphics.get();
+			}
+		};
+	}
+
+	/**
+	 * Render the sprite of an item, like {@link ItemSpriteFactory#createSprite}
+	 *
+	 * @return the sprite, or null if the item has no model
+	 * @throws IOException
+	 */
+	public BufferedImage createSprite(int itemId, int quantity, int border, int shadowColor, boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = ItemSpriteFactory.createSpritePixels(renderer, itemId, quantity, border, shadowColor, noted);
+		return spritePixels == null ? null : spritePixels.toBufferedImage();
+	}
+
+	/**
+	 * Render items in parallel, writing each sprite to {@code <id>.png} in the directory. Items
+	 * without a sprite, or which fail to render, are logged and skipped.
+	 *
+	 * @param itemIds items to render
+	 * @param quantity quantity to render the items with
+	 * @param border border type
+	 * @param shadowColor shadow color, or 0 for none
+	 * @param outDir directory to write to
+	 * @param executor executor to render on
+	 * @return the number of sprites written
+	 * @throws IOException
+	 */
+	public int writeSprites(List<Integer> itemIds, int quantity, int border, int shadowColor, File outDir, ExecutorService executor) throws IOException
+	{
+		outDir.mkdirs();
+
+		List<Future<Boolean>> futures = new ArrayList<>(itemIds.size());
+		for (int itemId : itemIds)
+		{
+			futures.add(executor.submit(() ->
+			{
+				BufferedImage sprite = render(itemId, quantity, border, shadowColor);
+				if (sprite == null)
+				{
+					return false;
+				}
+
+				ImageIO.write(sprite, "png", new File(outDir, itemId + ".png"));
+				return true;
+			}));
+		}
+
+		int count = 0;
+		for (Future<Boolean> future : futures)
+		{
+			if (await(future))
+			{
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Render items in parallel into a sprite atlas, in rows of {@code columns} sprites in the
+	 * order given. The sprite of {@code itemIds.get(i)} is at column {@code i % columns}, row
+	 * {@code i / columns}. Items without a sprite, or which fail to render, leave their cell empty.
+	 *
+	 * @param itemIds items to render
+	 * @param columns sprites per row
+	 * @param quantity quantity to render the items with
+	 * @param border border type
+	 * @param shadowColor shadow color, or 0 for none
+	 * @param executor executor to render on
+	 * @return the atlas
+	 * @throws IOException
+	 */
+	public BufferedImage createAtlas(List<Integer> itemIds, int columns, int quantity, int border, int shadowColor, ExecutorService executor) throws IOException
+	{
+		int rows = (itemIds.size() + columns - 1) / columns;
+		BufferedImage atlas = new BufferedImage(columns * SPRITE_WIDTH, Math.max(1, rows) * SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		int[] atlasPixels = ((DataBufferInt) atlas.getRaster().getDataBuffer()).getData();
+		int stride = atlas.getWidth();
+
+		List<Future<?>> futures = new ArrayList<>(itemIds.size());
+		for (int i = 0; i < itemIds.size(); ++i)
+		{
+			int itemId = itemIds.get(i);
+			int offset = (i / columns) * SPRITE_HEIGHT * stride + (i % columns) * SPRITE_WIDTH;
+			futures.add(executor.submit(() ->
+			{
+				SpritePixels spritePixels = renderPixels(itemId, quantity, border, shadowColor);
+				if (spritePixels != null)
+				{
+					// each sprite is written to its own cell of the atlas
+					int[] pixels = spritePixels.pixels;
+					for (int y = 0, src = 0; y < SPRITE_HEIGHT; ++y)
+					{
+						for (int x = 0, dst = offset + y * stride; x < SPRITE_WIDTH; ++x, ++src, ++dst)
+						{
+							int pixel = pixels[src];
+							atlasPixels[dst] = pixel != 0 ? pixel | 0xff000000 : 0;
+						}
+					}
+				}
+				return null;
+			}));
+		}
+
+		for (Future<?> future : futures)
+		{
+			await(future);
+		}
+		return atlas;
+	}
+
+	private BufferedImage render(int itemId, int quantity, int border, int shadowColor)
+	{
+		SpritePixels spritePixels = renderPixels(itemId, quantity, border, shadowColor);
+		return spritePixels == null ? null : spritePixels.toBufferedImage();
+	}
+
+	private SpritePixels renderPixels(int itemId, int quantity, int border, int shadowColor)
+	{
+		try
+		{
+			return ItemSpriteFactory.createSpritePixels(renderer, itemId, quantity, border, shadowColor, false);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			logger.warn("error rendering item {}", itemId, ex);
+			return null;
+		}
+	}
+
+	private Model getModel(ItemDefinition item) throws IOException
+	{
+		String key = modelKey(item);
+		Model model = models.get(key);
+		if (model != null)
+		{
+			return model;
+		}
+
+		model = ItemSpriteFactory.getModel(modelProvider, item);
+		if (model == null)
+		{
+			return null;
+		}
+
+		// calculate the bounds before the model is shared between threads
+		model.calculateBoundsCylinder();
+		Model existing = models.putIfAbsent(key, model);
+		return existing != null ? existing : model;
+	}
+
+	/**
+	 * @return a key of everything the lit model of an item depends on
+	 */
+	private static String modelKey(ItemDefinition item)
+	{
+		return item.inventoryModel
+			+ ":" + item.resizeX + "," + item.resizeY + "," + item.resizeZ
+			+ ":" + item.ambient + "," + item.contrast
+			+ ":" + Arrays.toString(item.colorFind) + Arrays.toString(item.colorReplace)
+			+ ":" + Arrays.toString(item.textureFind) + Arrays.toString(item.textureReplace);
+	}
+
+	private static <T> T await(Future<T> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+}
@@ -26,20 +26,6 @@ package net.runelite.cache.item;
 
 class Model extends Renderable
 {
-	boolean[] faceClipped = new boolean[6500];
-	int[] modelViewportYs = new int[6500];
-	int[] modelViewportXs = new int[6500];
-	int[] modelViewportZs = new int[6500];
-	int[] modelLocalX = new int[6500];
-	int[] modelLocalY = new int[6500];
-	int[] modelLocalZ = new int[6500];
-	int[] distanceFaceCount = new int[6000];
-	int[][] facesByDistance = new int[6000][512];
-	int[] numOfPriority = new int[12];
-	int[][] orderedFaces = new int[12][2000];
-	int[] eq10 = new int[2000];
-	int[] eq11 = new int[2000];
-	int[] lt10 = new int[12];
 	static int[] Model_sine;
 	static int[] Model_cosine;
 	int verticesCount;
@@ -125,7 +111,8 @@ class Model extends Renderable
 
 	public final void projectAndDraw(Graphics3D graphics, int yzRotation, int xzRotation, int xyRotation, int orientation, int xOffset, int yOffset, int zOffset)
 	{
-		distanceFaceCount[0] = -1;
+		Buffers b = graphics.getModelBuffers();
+		b.distanceFaceCount[0] = -1;
 		// (re?)Calculate magnitude as necessary
 		if (this.boundsType != 2 && this.boundsType != 1)
 		{
@@ -194,14 +181,14 @@ class Model extends Renderable
 			z += zOffset;
 			int tmp = y * cosX - z * sinX >> 16;
 			z = y * sinX + z * cosX >> 16;
-			modelViewportZs[i] = z - zRelatedVariable;
-			modelViewportYs[i] = x * graphics.Rasterizer3D_zoom / z + graphics.centerX;
-			modelViewportXs[i] = tmp * graphics.Rasterizer3D_zoom / z + graphics.centerY;
+			b.modelViewportZs[i] = z - zRelatedVariable;
+			b.modelViewportYs[i] = x * graphics.Rasterizer3D_zoom / z + graphics.centerX;
+			b.modelViewportXs[i] = tmp * graphics.Rasterizer3D_zoom / z + graphics.centerY;
 			if (faceTextures != null)
 			{
-				modelLocalX[i] = x;
-				modelLocalY[i] = tmp;
-				modelLocalZ[i] = z;
+				b.modelLocalX[i] = x;
+				b.modelLocalY[i] = tmp;
+				b.modelLocalZ[i] = z;
 			}
 		}
 
@@ -210,11 +197,12 @@ class Model extends Renderable
 
 	private void draw(Graphics3D graphics)
 	{
+		Buffers b = graphics.getModelBuffers();
 		if (this.diameter < 6000)
 		{
 			for (int var5 = 0; var5 < this.diameter; ++var5)
 			{
-				distanceFaceCount[var5] = 0;
+				b.distanceFaceCount[var5] = 0;
 			}
 
 			int var7;
@@ -236,23 +224,23 @@ class Model extends Renderable
 					var7 = this.indices1[var26];
 					var27 = this.indices2[var26];
 					var9 = this.indices3[var26];
-					var10 = modelViewportYs[var7];
-					var11 = modelViewportYs[var27];
-					var12 = modelViewportYs[var9];
+					var10 = b.modelViewportYs[var7];
+					var11 = b.modelViewportYs[var27];
+					var12 = b.modelViewportYs[var9];
 
-					if ((var10 - var11) * (modelViewportXs[var9] - modelViewportXs[var27]) - (var12 - var11) * (modelViewportXs[var7] - modelViewportXs[var27]) > 0)
+					if ((var10 - var11) * (b.modelViewportXs[var9] - b.modelViewportXs[var27]) - (var12 - var11) * (b.modelViewportXs[var7] - b.modelViewportXs[var27]) > 0)
 					{
 						if (var10 >= 0 && var11 >= 0 && var12 >= 0 && var10 <= graphics.rasterClipX && var11 <= graphics.rasterClipX && var12 <= graphics.rasterClipX)
 						{
-							faceClipped[var26] = false;
+							b.faceClipped[var26] = false;
 						}
 						else
 						{
-							faceClipped[var26] = true;
+							b.faceClipped[var26] = true;
 						}
 
-						var13 = (modelViewportZs[var7] + modelViewportZs[var27] + modelViewportZs[var9]) / 3 + this.radius;
-						facesByDistance[var13][distanceFaceCount[var13]++] = var26;
+						var13 = (b.modelViewportZs[var7] + b.modelViewportZs[var27] + b.modelViewportZs[var9]) / 3 + this.radius;
+						b.facesByDistance[var13][b.distanceFaceCount[var13]++] = var26;
 					}
 				}
 			}
@@ -262,10 +250,10 @@ class Model extends Renderable
 			{
 				for (var26 = this.diameter - 1; var26 >= 0; --var26)
 				{
-					var7 = distanceFaceCount[var26];
+					var7 = b.distanceFaceCount[var26];
 					if (var7 > 0)
 					{
-						var8 = facesByDistance[var26];
+						var8 = b.facesByDistance[var26];
 
 						for (var9 = 0; var9 < var7; ++var9)
 						{
@@ -279,67 +267,67 @@ class Model extends Renderable
 			{
 				for (var26 = 0; var26 < 12; ++var26)
 				{
-					numOfPriority[var26] = 0;
-					lt10[var26] = 0;
+					b.numOfPriority[var26] = 0;
+					b.lt10[var26] = 0;
 				}
 
 				for (var26 = this.diameter - 1; var26 >= 0; --var26)
 				{
-					var7 = distanceFaceCount[var26];
+					var7 = b.distanceFaceCount[var26];
 					if (var7 > 0)
 					{
-						var8 = facesByDistance[var26];
+						var8 = b.facesByDistance[var26];
 
 						for (var9 = 0; var9 < var7; ++var9)
 						{
 							var10 = var8[var9];
 							byte var31 = this.facePriorities[var10];
-							var12 = numOfPriority[var31]++;
-							orderedFaces[var31][var12] = var10;
+							var12 = b.numOfPriority[var31]++;
+							b.orderedFaces[var31][var12] = var10;
 							if (var31 < 10)
 							{
-								lt10[var31] += var26;
+								b.lt10[var31] += var26;
 							}
 							else if (var31 == 10)
 							{
-								eq10[var12] = var26;
+								b.eq10[var12] = var26;
 							}
 							else
 							{
-								eq11[var12] = var26;
+								b.eq11[var12] = var26;
 							}
 						}
 					}
 				}
 
 				var26 = 0;
-				if (numOfPriority[1] > 0 || numOfPriority[2] > 0)
+				if (b.numOfPriority[1] > 0 || b.numOfPriority[2] > 0)
 				{
-					var26 = (lt10[1] + lt10[2]) / (numOfPriority[1] + numOfPriority[2]);
+					var26 = (b.lt10[1] + b.lt10[2]) / (b.numOfPriority[1] + b.numOfPriority[2]);
 				}
 
 				var7 = 0;
-				if (numOfPriority[3] > 0 || numOfPriority[4] > 0)
+				if (b.numOfPriority[3] > 0 || b.numOfPriority[4] > 0)
 				{
-					var7 = (lt10[3] + lt10[4]) / (numOfPriority[3] + numOfPriority[4]);
+					var7 = (b.lt10[3] + b.lt10[4]) / (b.numOfPriority[3] + b.numOfPriority[4]);
 				}
 
 				var27 = 0;
-				if (numOfPriority[6] > 0 || numOfPriority[8] > 0)
+				if (b.numOfPriority[6] > 0 || b.numOfPriority[8] > 0)
 				{
-					var27 = (lt10[8] + lt10[6]) / (numOfPriority[8] + numOfPriority[6]);
+					var27 = (b.lt10[8] + b.lt10[6]) / (b.numOfPriority[8] + b.numOfPriority[6]);
 				}
 
 				var10 = 0;
-				var11 = numOfPriority[10];
-				int[] var28 = orderedFaces[10];
-				int[] var29 = eq10;
+				var11 = b.numOfPriority[10];
+				int[] var28 = b.orderedFaces[10];
+				int[] var29 = b.eq10;
 				if (var10 == var11)
 				{
 					var10 = 0;
-					var11 = numOfPriority[11];
-					var28 = orderedFaces[11];
-					var29 = eq11;
+					var11 = b.numOfPriority[11];
+					var28 = b.orderedFaces[11];
+					var29 = b.eq11;
 				}
 
 				if (var10 < var11)
@@ -356,12 +344,12 @@ class Model extends Renderable
 					while (var14 == 0 && var9 > var26)
 					{
 						this.rasterFace(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != orderedFaces[11])
+						if (var10 == var11 && var28 != b.orderedFaces[11])
 						{
 							var10 = 0;
-							var11 = numOfPriority[11];
-							var28 = orderedFaces[11];
-							var29 = eq11;
+							var11 = b.numOfPriority[11];
+							var28 = b.orderedFaces[11];
+							var29 = b.eq11;
 						}
 
 						if (var10 < var11)
@@ -377,12 +365,12 @@ class Model extends Renderable
 					while (var14 == 3 && var9 > var7)
 					{
 						this.rasterFace(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != orderedFaces[11])
+						if (var10 == var11 && var28 != b.orderedFaces[11])
 						{
 							var10 = 0;
-							var11 = numOfPriority[11];
-							var28 = orderedFaces[11];
-							var29 = eq11;
+							var11 = b.numOfPriority[11];
+							var28 = b.orderedFaces[11];
+							var29 = b.eq11;
 						}
 
 						if (var10 < var11)
@@ -398,12 +386,12 @@ class Model extends Renderable
 					while (var14 == 5 && var9 > var27)
 					{
 						this.rasterFace(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != orderedFaces[11])
+						if (var10 == var11 && var28 != b.orderedFaces[11])
 						{
 							var10 = 0;
-							var11 = numOfPriority[11];
-							var28 = orderedFaces[11];
-							var29 = eq11;
+							var11 = b.numOfPriority[11];
+							var28 = b.orderedFaces[11];
+							var29 = b.eq11;
 						}
 
 						if (var10 < var11)
@@ -416,8 +404,8 @@ class Model extends Renderable
 						}
 					}
 
-					var15 = numOfPriority[var14];
-					int[] var30 = orderedFaces[var14];
+					var15 = b.numOfPriority[var14];
+					int[] var30 = b.orderedFaces[var14];
 
 					for (var17 = 0; var17 < var15; ++var17)
 					{
@@ -428,12 +416,12 @@ class Model extends Renderable
 				while (var9 != -1000)
 				{
 					this.rasterFace(graphics, var28[var10++]);
-					if (var10 == var11 && var28 != orderedFaces[11])
+					if (var10 == var11 && var28 != b.orderedFaces[11])
 					{
 						var10 = 0;
-						var28 = orderedFaces[11];
-						var11 = numOfPriority[11];
-						var29 = eq11;
+						var28 = b.orderedFaces[11];
+						var11 = b.numOfPriority[11];
+						var29 = b.eq11;
 					}
 
 					if (var10 < var11)
@@ -452,10 +440,11 @@ class Model extends Renderable
 
 	private void rasterFace(Graphics3D graphics, int face)
 	{
+		Buffers b = graphics.getModelBuffers();
 		int var2 = this.indices1[face];
 		int var3 = this.indices2[face];
 		int var4 = this.indices3[face];
-		graphics.rasterClipEnable = faceClipped[face];
+		graphics.rasterClipEnable = b.faceClipped[face];
 		if (this.faceTransparencies == null)
 		{
 			graphics.rasterAlpha = 0;
@@ -486,21 +475,43 @@ class Model extends Renderable
 
 			if (this.faceColors3[face] == -1)
 			{
-				graphics.rasterTextureAffine(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.faceColors1[face], this.faceColors1[face], this.faceColors1[face], modelLocalX[var5], modelLocalX[var6], modelLocalX[var7], modelLocalY[var5], modelLocalY[var6], modelLocalY[var7], modelLocalZ[var5], modelLocalZ[var6], modelLocalZ[var7], this.faceTextures[face]);
+				graphics.rasterTextureAffine(b.modelViewportXs[var2], b.modelViewportXs[var3], b.modelViewportXs[var4], b.modelViewportYs[var2], b.modelViewportYs[var3], b.modelViewportYs[var4], this.faceColors1[face], this.faceColors1[face], this.faceColors1[face], b.modelLocalX[var5], b.modelLocalX[var6], b.modelLocalX[var7], b.modelLocalY[var5], b.modelLocalY[var6], b.modelLocalY[var7], b.modelLocalZ[var5], b.modelLocalZ[var6], b.modelLocalZ[var7], this.faceTextures[face]);
 			}
 			else
 			{
-				graphics.rasterTextureAffine(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face], modelLocalX[var5], modelLocalX[var6], modelLocalX[var7], modelLocalY[var5], modelLocalY[var6], modelLocalY[var7], modelLocalZ[var5], modelLocalZ[var6], modelLocalZ[var7], this.faceTextures[face]);
+				graphics.rasterTextureAffine(b.modelViewportXs[var2], b.modelViewportXs[var3], b.modelViewportXs[var4], b.modelViewportYs[var2], b.modelViewportYs[var3], b.modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face], b.modelLocalX[var5], b.modelLocalX[var6], b.modelLocalX[var7], b.modelLocalY[var5], b.modelLocalY[var6], b.modelLocalY[var7], b.modelLocalZ[var5], b.modelLocalZ[var6], b.modelLocalZ[var7], this.faceTextures[face]);
 			}
 		}
 		else if (this.faceColors3[face] == -1)
 		{
 			int[] field1889 = graphics.colorPalette;
-			graphics.rasterFlat(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], field1889[this.faceColors1[face]]);
+			graphics.rasterFlat(b.modelViewportXs[var2], b.modelViewportXs[var3], b.modelViewportXs[var4], b.modelViewportYs[var2], b.modelViewportYs[var3], b.modelViewportYs[var4], field1889[this.faceColors1[face]]);
 		}
 		else
 		{
-			graphics.rasterGouraud(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face]);
+			graphics.rasterGouraud(b.modelViewportXs[var2], b.modelViewportXs[var3], b.modelViewportXs[var4], b.modelViewportYs[var2], b.modelViewportYs[var3], b.modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face]);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Scratch space for projecting and drawing models, owned by a {@link Graphics3D} so that
+	 * it is allocated once per rasterizer rather than once per model
+	 */
+	static final class Buffers
+	{
+		final boolean[] faceClipped = new boolean[6500];
+		final int[] modelViewportYs = new int[6500];
+		final int[] modelViewportXs = new int[6500];
+		final int[] modelViewportZs = new int[6500];
+		final int[] modelLocalX = new int[6500];
+		final int[] modelLocalY = new int[6500];
+		final int[] modelLocalZ = new int[6500];
+		final int[] distanceFaceCount = new int[6000];
+		final int[][] facesByDistance = new int[6000][512];
+		final int[] numOfPriority = new int[12];
+		final int[][] orderedFaces = new int[12][2000];
+		final int[] eq10 = new int[2000];
+		final int[] eq11 = new int[2000];
+		final int[] lt10 = new int[12];
+	}
+}
@@ -24,12 +24,14 @@
  */
 package net.runelite.cache.util;
 
+import com.google.common.io.ByteStreams;
 import com.sun.jna.Memory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import static net.runelite.cache.util.LibBZip2.BZ_FINISH_OK;
 import static net.runelite.cache.util.LibBZip2.BZ_OK;
@@ -143,4 +145,27 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress headerless bzip2 data directly into an array sized to the decompressed length
+	 *
+	 * @param in compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param out output array, filled entirely
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] in, int off, int len, byte[] out) throws IOException
+	{
+		InputStream data = new SequenceInputStream(new ByteArrayInputStream(BZIP_HEADER), new ByteArrayInputStream(in, off, len));
+
+		try (InputStream is = new BZip2CompressorInputStream(data))
+		{
+			ByteStreams.readFully(is, out);
+			if (is.read() != -1)
+			{
+				throw new IOException("BZip2 data is longer than expected");
+			}
+		}
+	}
 }
@@ -26,6 +26,7 @@ import java.awt.image.WritableRaster;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
@@ -186,6 +187,21 @@ public class BigBufferedImage extends BufferedImage
 		((SimpleRaster) getRaster()).dispose();
 	}
 
+	/**
+	 * Copies one band of a row of pixels straight out of the mapped raster
+	 *
+	 * @param y row
+	 * @param band band, in the order of the color model (red, green, blue, alpha)
+	 * @param dst destination, at least {@link #getWidth()} long
+	 */
+	public void getRow(int y, int band, byte[] dst)
+	{
+		BandedSampleModel sampleModel = (BandedSampleModel) getSampleModel();
+		int bank = sampleModel.getBankIndices()[band];
+		int offset = sampleModel.getBandOffsets()[band] + y * sampleModel.getScanlineStride();
+		((FileDataBuffer) getRaster().getDataBuffer()).get(bank, offset, dst, getWidth());
+	}
+
 	public static void dispose(RenderedImage image)
 	{
 		if (image instanceof BigBufferedImage)
@@ -291,6 +307,14 @@ public class BigBufferedImage extends BufferedImage
 			buffer[bank].put(i, (byte) val);
 		}
 
+		void get(int bank, int i, byte[] dst, int length)
+		{
+			// duplicate so concurrent readers do not share a position
+			ByteBuffer b = buffer[bank].duplicate();
+			b.position(i);
+			b.get(dst, 0, length);
+		}
+
 		@Override
 		protected void finalize() throws Throwable
 		{
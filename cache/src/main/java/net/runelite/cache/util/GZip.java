@@ -27,11 +27,16 @@ package net.runelite.cache.util;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +45,13 @@ public class GZip
 {
 	private static final Logger logger = LoggerFactory.getLogger(GZip.class);
 
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		InputStream is = new ByteArrayInputStream(bytes);
@@ -64,4 +76,111 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress gzip data directly into an array sized to the decompressed length,
+	 * using a per-thread {@link Inflater}
+	 *
+	 * @param in compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param out output array, filled entirely
+	 * @throws IOException
+	 */
+	public static void decompress(byte[] in, int off, int len, byte[] out) throws IOException
+	{
+		int end = off + len;
+		if (len < 18 || (in[off] & 0xFF) != 0x1F || (in[off + 1] & 0xFF) != 0x8B)
+		{
+			throw new ZipException("Not in GZIP format");
+		}
+		if (in[off + 2] != 8)
+		{
+			throw new ZipException("Unsupported compression method");
+		}
+
+		int flags = in[off + 3] & 0xFF;
+		int pos = off + 10; // magic, method, flags, mtime, xfl, os
+		if ((flags & FEXTRA) != 0)
+		{
+			pos += 2 + ((in[pos] & 0xFF) | (in[pos + 1] & 0xFF) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			pos = skipString(in, pos, end);
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			pos = skipString(in, pos, end);
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+		if (pos >= end)
+		{
+			throw new EOFException();
+		}
+
+		Inflater inflater = INFLATER.get();
+		inflater.reset();
+		inflater.setInput(in, pos, end - pos);
+
+		try
+		{
+			int n = 0;
+			while (n < out.length)
+			{
+				int i = inflater.inflate(out, n, out.length - n);
+				if (i == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+				{
+					throw new EOFException("Unexpected end of GZIP stream");
+				}
+				n += i;
+			}
+
+			if (!inflater.finished() && inflater.inflate(new byte[1]) != 0)
+			{
+				throw new ZipException("GZIP data is longer than expected");
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new ZipException(ex.getMessage());
+		}
+
+		// trailer is the crc and size of the uncompressed data
+		int trailer = end - inflater.getRemaining();
+		if (trailer + 8 > end)
+		{
+			throw new EOFException("Unexpected end of GZIP stream");
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(out, 0, out.length);
+		if (readIntLE(in, trailer) != (int) crc.getValue() || readIntLE(in, trailer + 4) != out.length)
+		{
+			throw new ZipException("Corrupt GZIP trailer");
+		}
+	}
+
+	private static int skipString(byte[] in, int pos, int end) throws EOFException
+	{
+		while (pos < end)
+		{
+			if (in[pos++] == 0)
+			{
+				return pos;
+			}
+		}
+		throw new EOFException();
+	}
+
+	private static int readIntLE(byte[] in, int pos)
+	{
+		return (in[pos] & 0xFF)
+			| (in[pos + 1] & 0xFF) << 8
+			| (in[pos + 2] & 0xFF) << 16
+			| (in[pos + 3] & 0xFF) << 24;
+	}
 }
@@ -24,9 +24,6 @@
  */
 package net.runelite.cache.util;
 
-import net.runelite.cache.io.InputStream;
-import net.runelite.cache.io.OutputStream;
-
 public class Xtea
 {
 	private static final int GOLDEN_RATIO = 0x9E3779B9;
@@ -42,13 +39,32 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
+		byte[] out = data.clone();
+		encrypt(out, 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = data.clone();
+		decrypt(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypt data in place. Trailing bytes which do not make up a full block are left as-is.
+	 *
+	 * @param data data to encrypt
+	 * @param off offset of the data
+	 * @param len length of the data
+	 */
+	public void encrypt(byte[] data, int off, int len)
+	{
 		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int block = 0, pos = off; block < numBlocks; ++block, pos += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = readInt(data, pos);
+			int v1 = readInt(data, pos + 4);
 			int sum = 0;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -56,22 +72,25 @@ public class Xtea
 				sum += GOLDEN_RATIO;
 				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			writeInt(data, pos, v0);
+			writeInt(data, pos + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypt data in place. Trailing bytes which do not make up a full block are left as-is.
+	 *
+	 * @param data data to decrypt
+	 * @param off offset of the data
+	 * @param len length of the data
+	 */
+	public void decrypt(byte[] data, int off, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
 		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int block = 0, pos = off; block < numBlocks; ++block, pos += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = readInt(data, pos);
+			int v1 = readInt(data, pos + 4);
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +98,24 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			writeInt(data, pos, v0);
+			writeInt(data, pos + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
+	}
+
+	private static int readInt(byte[] data, int pos)
+	{
+		return ((data[pos] & 0xFF) << 24)
+			| ((data[pos + 1] & 0xFF) << 16)
+			| ((data[pos + 2] & 0xFF) << 8)
+			| (data[pos + 3] & 0xFF);
+	}
+
+	private static void writeInt(byte[] data, int pos, int value)
+	{
+		data[pos] = (byte) (value >> 24);
+		data[pos + 1] = (byte) (value >> 16);
+		data[pos + 2] = (byte) (value >> 8);
+		data[pos + 3] = (byte) value;
 	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.cache.definitions.ClientScript1Instruction;
+import net.runelite.cache.definitions.InterfaceDefinition;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DefinitionSnapshotTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testItems() throws Exception
+	{
+		File dir = folder.newFolder();
+		Archive archive = new Index(2).addArchive(10);
+		archive.setCrc(1234);
+
+		ItemDefinition item = new ItemDefinition(4151);
+		item.name = "Abyssal whip";
+		item.cost = 120001;
+		item.members = true;
+		item.colorFind = new short[]{1, 2};
+		item.colorReplace = new short[]{3, 4};
+		item.options = new String[]{null, null, "Take", null, null};
+		item.params = new HashMap<>();
+		item.params.put(1, 5);
+		item.params.put(2, "string");
+
+		Map<Integer, ItemDefinition> items = new HashMap<>();
+		items.put(item.id, item);
+		items.put(0, new ItemDefinition(0));
+
+		DefinitionSnapshot.of(dir, "items", ItemDefinition.class, archive).write(items);
+		assertEquals(items, DefinitionSnapshot.of(dir, "items", ItemDefinition.class, archive).read());
+
+		// a changed archive invalidates the snapshot
+		archive.setCrc(4321);
+		assertNull(DefinitionSnapshot.of(dir, "items", ItemDefinition.class, archive).read());
+		assertNull(DefinitionSnapshot.of(null, "items", ItemDefinition.class, archive).read());
+	}
+
+	@Test
+	public void testNpcsAndObjects() throws Exception
+	{
+		File dir = folder.newFolder();
+		Archive archive = new Index(2).addArchive(9);
+
+		NpcDefinition npc = new NpcDefinition(1);
+		npc.name = "Man";
+		npc.models = new int[]{1, 2, 3};
+		npc.isInteractable = false;
+
+		DefinitionSnapshot.of(dir, "npcs", NpcDefinition.class, archive).write(Collections.singletonMap(1, npc));
+		assertEquals(Collections.singletonMap(1, npc), DefinitionSnapshot.of(dir, "npcs", NpcDefinition.class, archive).read());
+
+		ObjectDefinition object = new ObjectDefinition();
+		object.setId(2);
+		object.setName("Door");
+		object.setActions(new String[]{"Open", null, null, null, null});
+
+		DefinitionSnapshot.of(dir, "objects", ObjectDefinition.class, archive).write(Collections.singletonMap(2, object));
+		assertEquals(Collections.singletonMap(2, object), DefinitionSnapshot.of(dir, "objects", ObjectDefinition.class, archive).read());
+	}
+
+	@Test
+	public void testInterfaces() throws Exception
+	{
+		File dir = folder.newFolder();
+		Index index = new Index(3);
+		Archive archive = index.addArchive(149);
+
+		InterfaceDefinition iface = new InterfaceDefinition();
+		iface.id = 149 << 16;
+		iface.text = "text";
+		iface.onLoadListener = new Object[]{1, "two", null};
+		ClientScript1Instruction instruction = new ClientScript1Instruction();
+		instruction.opcode = ClientScript1Instruction.Opcode.VARP;
+		instruction.operands = new int[]{5};
+		iface.clientScripts = new ClientScript1Instruction[][]{{instruction, null}, null};
+
+		Map<Integer, InterfaceDefinition> ifaces = Collections.singletonMap(iface.id, iface);
+		DefinitionSnapshot.of(dir, "interfaces", InterfaceDefinition.class, index.getArchives()).write(ifaces);
+		assertEquals(ifaces, DefinitionSnapshot.of(dir, "interfaces", InterfaceDefinition.class, Collections.singletonList(archive)).read());
+	}
+
+	@Test
+	public void testSimilarArchives() throws Exception
+	{
+		File dir = folder.newFolder();
+		Index index = new Index(2);
+		Archive archive = index.addArchive(0);
+		archive.setCrc(31);
+		Archive other = index.addArchive(1);
+
+		Map<Integer, ItemDefinition> items = Collections.singletonMap(1, new ItemDefinition(1));
+		DefinitionSnapshot.of(dir, "items", ItemDefinition.class, archive).write(items);
+		assertEquals(items, DefinitionSnapshot.of(dir, "items", ItemDefinition.class, archive).read());
+
+		// these archives collide under a multiply by 31 hash of their ids and crcs
+		assertNull(DefinitionSnapshot.of(dir, "items", ItemDefinition.class, other).read());
+	}
+}
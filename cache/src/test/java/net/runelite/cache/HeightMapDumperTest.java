@@ -27,8 +27,8 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.PngWriter;
 import org.junit.Rule;
 import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
@@ -58,7 +58,7 @@ public class HeightMapDumperTest
 
 			File imageFile = new File(outDir, "heightmap-0.png");
 
-			ImageIO.write(image, "png", imageFile);
+			PngWriter.write(image, imageFile);
 			logger.info("Wrote image {}", imageFile);
 		}
 	}
@@ -27,11 +27,26 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
+import java.util.Random;
+import net.runelite.cache.definitions.LocationsDefinition;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.Djb2;
+import net.runelite.cache.util.PngWriter;
 import net.runelite.cache.util.XteaKeyManager;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -69,7 +84,7 @@ public class MapImageDumperTest
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
 
-				ImageIO.write(image, "png", imageFile);
+				PngWriter.write(image, imageFile);
 				logger.info("Wrote image {}", imageFile);
 			}
 		}
@@ -100,8 +115,147 @@ public class MapImageDumperTest
 			{
 				File imageFile = new File(outDir, "img-" + z + "-" + region.getRegionID() + ".png");
 				BufferedImage image = dumper.drawRegion(region, z);
-				ImageIO.write(image, "png", imageFile);
+				PngWriter.write(image, imageFile);
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void dumpMapParallel() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.setLowMemory(false);
+			dumper.load();
+
+			BufferedImage serial = dumper.drawMap(0);
+
+			dumper.setParallelism(Runtime.getRuntime().availableProcessors());
+			BufferedImage parallel = dumper.drawMap(0);
+
+			assertImageEquals(serial, parallel);
+
+			dumper.dumpTiles(parallel, outDir, 256);
+			logger.info("Wrote tiles to {}", outDir);
+		}
+	}
+
+	@Test
+	public void testParallelMatchesSerial() throws IOException
+	{
+		try (Store store = new Store(folder.newFolder()))
+		{
+			Index configs = store.addIndex(IndexType.CONFIGS.getNumber());
+			addArchive(store, configs, ConfigType.UNDERLAY.getId(), null,
+				color(0x4A7A2A), color(0x8A6A3A), color(0x2A3A8A));
+			addArchive(store, configs, ConfigType.OVERLAY.getId(), null,
+				color(0x9A9A9A), color(0x6A2A2A));
+			// walls up to 3 tiles long, which can be drawn past the edge of their region
+			addArchive(store, configs, ConfigType.OBJECT.getId(), null,
+				new byte[]{14, 1, 15, 1, 0}, new byte[]{14, 2, 15, 3, 0}, new byte[]{14, 3, 15, 2, 0});
+			addArchive(store, configs, ConfigType.AREA.getId(), null, new byte[]{0});
+			addArchive(store, store.addIndex(IndexType.TEXTURES.getNumber()), 0, null, new byte[6]);
+			// a sprite archive with no sprites
+			addArchive(store, store.addIndex(IndexType.SPRITES.getNumber()), 0, "mapscene", new byte[7]);
+
+			RegionLoader regionLoader = new RegionLoader(store, null);
+			Random random = new Random(42L);
+			// tall enough to be drawn in several bands
+			for (int rx = 50; rx < 52; ++rx)
+			{
+				for (int ry = 50; ry < 60; ++ry)
+				{
+					MapDefinition map = new MapDefinition();
+					for (int z = 0; z < Region.Z; ++z)
+					{
+						for (int x = 0; x < Region.X; ++x)
+						{
+							for (int y = 0; y < Region.Y; ++y)
+							{
+								MapDefinition.Tile tile = new MapDefinition.Tile();
+								tile.height = 0;
+								tile.underlayId = (short) (1 + random.nextInt(3));
+								tile.overlayId = (short) (random.nextInt(8) == 0 ? 1 + random.nextInt(2) : 0);
+								map.getTiles()[z][x][y] = tile;
+							}
+						}
+					}
+
+					LocationsDefinition locs = new LocationsDefinition();
+					for (int i = 0; i < 300; ++i)
+					{
+						int type = random.nextInt(5);
+						locs.getLocations().add(new Location(random.nextInt(3), type == 4 ? 9 : type, random.nextInt(4),
+							new Position(random.nextInt(Region.X), random.nextInt(Region.Y), 0)));
+					}
+
+					regionLoader.loadRegion(rx << 8 | ry, map, locs);
+				}
+			}
+
+			MapImageDumper dumper = new MapImageDumper(store, regionLoader);
+			dumper.setLowMemory(false);
+			dumper.load();
+
+			BufferedImage serial = dumper.drawMap(0);
+
+			dumper.setParallelism(4);
+			BufferedImage parallel = dumper.drawMap(0);
+
+			assertImageEquals(serial, parallel);
+		}
+	}
+
+	/**
+	 * An underlay or overlay with only a color
+	 */
+	private static byte[] color(int color)
+	{
+		return new byte[]{1, (byte) (color >> 16), (byte) (color >> 8), (byte) color, 0};
+	}
+
+	private static void addArchive(Store store, Index index, int id, String name, byte[]... contents) throws IOException
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		FileData[] fileData = new FileData[contents.length];
+		for (int i = 0; i < contents.length; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setContents(contents[i]);
+			files.addFile(file);
+
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+		}
+
+		Archive archive = index.addArchive(id);
+		if (name != null)
+		{
+			archive.setNameHash(Djb2.hash(name));
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(CompressionType.NONE, -1);
+		container.compress(files.saveContents(), null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private static void assertImageEquals(BufferedImage expected, BufferedImage actual)
+	{
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		assertArrayEquals(expected.getRGB(0, 0, expected.getWidth(), expected.getHeight(), null, 0, expected.getWidth()),
+			actual.getRGB(0, 0, actual.getWidth(), actual.getHeight(), null, 0, actual.getWidth()));
+	}
 }
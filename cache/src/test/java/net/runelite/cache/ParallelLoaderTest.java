@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelLoaderTest
+{
+	private ExecutorService executor;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testLoadFiles() throws IOException
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < 1000; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setContents(new byte[]{(byte) i});
+			files.addFile(file);
+		}
+
+		List<Integer> ids = new ArrayList<>();
+		ParallelLoader.loadFiles(executor, files,
+			f -> (int) f.getContents()[0],
+			(f, b) ->
+			{
+				assertEquals((byte) f.getFileId(), (int) b);
+				ids.add(f.getFileId());
+			});
+
+		assertEquals(1000, ids.size());
+		for (int i = 0; i < ids.size(); ++i)
+		{
+			assertEquals(i, (int) ids.get(i));
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testLoadFilesException() throws IOException
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		files.addFile(new FSFile(0));
+
+		ParallelLoader.loadFiles(executor, files,
+			f ->
+			{
+				throw new IllegalStateException();
+			},
+			(f, b) ->
+			{
+			});
+	}
+}
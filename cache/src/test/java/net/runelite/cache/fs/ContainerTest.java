@@ -25,9 +25,13 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +56,58 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressBuffer() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			Container container = new Container(compression, 42);
+			container.compress(data, keys);
+			byte[] compressedData = container.data;
+			byte[] copy = compressedData.clone();
+
+			// the array api must not decrypt the caller's data in place
+			Container res = Container.decompress(compressedData, keys);
+			assertArrayEquals(data, res.data);
+			assertArrayEquals(copy, compressedData);
+			assertEquals(container.crc, res.crc);
+			assertEquals(42, res.revision);
+
+			ByteBuffer buffer = ByteBuffer.allocateDirect(compressedData.length + 3);
+			buffer.put(compressedData);
+			buffer.put(new byte[3]);
+			buffer.flip();
+
+			res = Container.decompress(buffer, keys);
+			assertArrayEquals(data, res.data);
+			assertEquals(container.crc, res.crc);
+			assertEquals(compressedData.length, buffer.position());
+
+			buffer = ByteBuffer.wrap(copy);
+			res = Container.decompress(buffer, keys);
+			assertArrayEquals(data, res.data);
+			assertEquals(container.crc, res.crc);
+			assertEquals(copy.length, buffer.position());
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressInvalidLength() throws IOException
+	{
+		Container container = new Container(GZ, -1);
+		container.compress(new byte[16], null);
+		byte[] compressedData = container.data;
+
+		// decompressed length follows the compression type and compressed length
+		compressedData[5] = (byte) 0x7F;
+		Container.decompress(compressedData, null);
+	}
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class IndexTest
+{
+	@Test
+	public void testGetArchive()
+	{
+		Index index = new Index(0);
+		Archive a0 = index.addArchive(0);
+		Archive a5 = index.addArchive(5);
+
+		assertSame(a0, index.getArchive(0));
+		assertSame(a5, index.getArchive(5));
+		assertNull(index.getArchive(1));
+
+		assertTrue(index.removeArchive(a5));
+		assertFalse(index.removeArchive(a5));
+		assertNull(index.getArchive(5));
+		assertEquals(1, index.getArchives().size());
+	}
+
+	@Test
+	public void testFindArchiveByName()
+	{
+		Index index = new Index(5);
+		Archive m50_50 = index.addArchive(0);
+		m50_50.setNameHash(Djb2.hash("m50_50"));
+		Archive l50_50 = index.addArchive(1);
+		l50_50.setNameHash(Djb2.hash("l50_50"));
+
+		assertSame(m50_50, index.findArchiveByName("m50_50"));
+		assertSame(l50_50, index.findArchiveByName("l50_50"));
+		assertNull(index.findArchiveByName("m50_51"));
+
+		m50_50.setNameHash(Djb2.hash("m50_51"));
+		assertNull(index.findArchiveByName("m50_50"));
+		assertSame(m50_50, index.findArchiveByName("m50_51"));
+
+		index.removeArchive(l50_50);
+		assertNull(index.findArchiveByName("l50_50"));
+	}
+
+	@Test
+	public void testDuplicateNameHash()
+	{
+		Index index = new Index(0);
+		Archive a0 = index.addArchive(0);
+		a0.setNameHash(Djb2.hash("foo"));
+		Archive a1 = index.addArchive(1);
+		a1.setNameHash(Djb2.hash("foo"));
+
+		// the first archive with the name wins, and the second takes over once it is removed
+		assertSame(a0, index.findArchiveByName("foo"));
+		index.removeArchive(a0);
+		assertSame(a1, index.findArchiveByName("foo"));
+	}
+
+	@Test(timeout = 10_000)
+	public void testLoadLargeNamedIndex()
+	{
+		// archives are added unnamed and then named, as when an index is loaded
+		final int count = 200_000;
+		Index index = new Index(0);
+		for (int i = 0; i < count; ++i)
+		{
+			index.addArchive(i).setNameHash(Djb2.hash("archive" + i));
+		}
+
+		for (int i = 0; i < count; i += 997)
+		{
+			Archive archive = index.findArchiveByName("archive" + i);
+			assertEquals(Djb2.hash("archive" + i), archive.getNameHash());
+		}
+		assertNull(index.findArchiveByName(""));
+
+		Archive unnamed = index.addArchive(count);
+		assertSame(unnamed, index.findArchiveByName(""));
+	}
+}
@@ -25,6 +25,7 @@
 package net.runelite.cache.fs.flat;
 
 import java.io.File;
+import java.util.Random;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -100,4 +101,54 @@ public class FlatStorageTest
 			assertEquals(archive2.getRevision(), archive2_2.getRevision());
 		}
 	}
+
+	@Test
+	public void testLazyLoad() throws Exception
+	{
+		File file = folder.newFolder();
+		byte[][] contents = new byte[16][];
+		Random random = new Random(42);
+		try (Store store = new Store(new FlatStorage(file)))
+		{
+			Index index = store.addIndex(2);
+			for (int i = 0; i < contents.length; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+				contents[i] = new byte[random.nextInt(4096)];
+				random.nextBytes(contents[i]);
+				store.getStorage().store(2, i, contents[i]);
+			}
+			store.save();
+		}
+
+		// a cache smaller than most archives, so that archives are both cached and evicted
+		try (Store store = new Store(new FlatStorage(file, true, 4096)))
+		{
+			store.load();
+			Index index = store.findIndex(2);
+			for (int pass = 0; pass < 2; ++pass)
+			{
+				for (int i = 0; i < contents.length; ++i)
+				{
+					assertArrayEquals(contents[i], store.getStorage().loadArchive(index.getArchive(i)));
+				}
+			}
+			assertNull(store.getStorage().load(2, contents.length));
+
+			// saving over the files the contents are read from
+			store.save();
+		}
+
+		try (Store store = new Store(new FlatStorage(file)))
+		{
+			store.load();
+			Index index = store.findIndex(2);
+			assertEquals(contents.length, index.getArchives().size());
+			for (int i = 0; i < contents.length; ++i)
+			{
+				assertArrayEquals(contents[i], store.getStorage().loadArchive(index.getArchive(i)));
+			}
+		}
+	}
 }
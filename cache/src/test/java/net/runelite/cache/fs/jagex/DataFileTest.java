@@ -26,6 +26,7 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Random;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Container;
 import org.junit.Assert;
@@ -167,4 +168,55 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMapped() throws IOException
+	{
+		DataFile df = new DataFile(folder.newFile(), true);
+
+		byte[] b = new byte[2048];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		Container container = new Container(CompressionType.NONE, 0);
+		container.compress("test".getBytes(), null);
+		DataFileWriteResult res = df.write(42, 3, container.data);
+
+		// the second archive is past the mapping and is read through the file
+		Container container2 = new Container(CompressionType.GZ, 0);
+		container2.compress(b, null);
+		DataFileWriteResult res2 = df.write(42, 0x1FFFF, container2.data);
+
+		byte[] compressedData = df.read(42, 3, res.sector, res.compressedLength);
+		Assert.assertEquals("test", new String(Container.decompress(compressedData, null).data));
+
+		compressedData = df.read(42, 0x1FFFF, res2.sector, res2.compressedLength);
+		Assert.assertArrayEquals(b, Container.decompress(compressedData, null).data);
+
+		Assert.assertNull(df.read(42, 4, res.sector, res.compressedLength));
+	}
+
+	@Test
+	public void testMappedRemap() throws IOException
+	{
+		DataFile df = new DataFile(folder.newFile(), true);
+		Random random = new Random(42L);
+
+		// grow the file past the remap threshold so archives are read from both the old and new mappings
+		byte[][] archives = new byte[10][];
+		DataFileWriteResult[] results = new DataFileWriteResult[archives.length];
+		for (int i = 0; i < archives.length; ++i)
+		{
+			archives[i] = new byte[1024 * 1024];
+			random.nextBytes(archives[i]);
+			results[i] = df.write(2, i, archives[i]);
+
+			for (int j = 0; j <= i; ++j)
+			{
+				Assert.assertArrayEquals(archives[j], df.read(2, j, results[j].sector, results[j].compressedLength));
+			}
+		}
+	}
 }
@@ -25,6 +25,11 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -101,4 +106,63 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testParallelMappedLoad() throws Exception
+	{
+		File file = folder.newFolder();
+		DiskStorage storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			for (int i = 0; i < 4; ++i)
+			{
+				Index index = store.addIndex(i);
+				for (int j = 0; j < 64; ++j)
+				{
+					Archive archive = index.addArchive(j);
+					archive.setFileData(new FileData[]{new FileData()});
+
+					Container container = new Container(archive.getCompression(), -1);
+					container.compress((i + "/" + j).getBytes(), null);
+					archive.setCrc(container.crc);
+					storage.saveArchive(archive, container.data);
+				}
+			}
+
+			store.save();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		storage = new DiskStorage(file, true);
+		try (Store store = new Store(storage))
+		{
+			store.load(executor);
+			assertEquals(4, store.getIndexes().size());
+
+			List<Future<?>> futures = new ArrayList<>();
+			for (Index index : store.getIndexes())
+			{
+				assertEquals(64, index.getArchives().size());
+
+				for (Archive archive : index.getArchives())
+				{
+					DiskStorage s = storage;
+					futures.add(executor.submit(() ->
+					{
+						byte[] data = archive.decompress(s.loadArchive(archive));
+						assertArrayEquals((index.getId() + "/" + archive.getArchiveId()).getBytes(), data);
+						return null;
+					}));
+				}
+			}
+
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
 }
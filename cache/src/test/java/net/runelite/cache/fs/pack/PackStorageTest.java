@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.File;
+import java.util.Random;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.StorageUtil;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class PackStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testConvert() throws Exception
+	{
+		File diskDir = folder.newFolder();
+		File packDir = folder.newFolder();
+		File flatDir = folder.newFolder();
+
+		byte[][] contents = new byte[8][];
+		Random random = new Random(42);
+		try (Store store = new Store(new DiskStorage(diskDir)))
+		{
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setRevision(10 + i);
+				for (int j = 0; j < contents.length / 2; ++j)
+				{
+					byte[] data = new byte[random.nextInt(2048)];
+					random.nextBytes(data);
+
+					Archive archive = index.addArchive(j);
+					archive.setNameHash(random.nextInt());
+					archive.setFileData(new FileData[]{new FileData()});
+
+					Container container = new Container(0, j);
+					container.compress(data, null);
+					archive.setRevision(j);
+					archive.setCrc(container.crc);
+					store.getStorage().saveArchive(archive, container.data);
+					contents[i * contents.length / 2 + j] = container.data;
+				}
+			}
+			store.save();
+		}
+
+		try (Store disk = new Store(new DiskStorage(diskDir));
+			Store pack = new Store(new PackStorage(packDir)))
+		{
+			disk.load();
+			StorageUtil.copy(disk, pack);
+		}
+
+		try (Store pack = new Store(new PackStorage(packDir));
+			Store flat = new Store(new FlatStorage(flatDir)))
+		{
+			pack.load();
+			assertEquals(2, pack.getIndexes().size());
+			verify(pack, contents);
+			assertNull(pack.getStorage().load(0, contents.length));
+
+			StorageUtil.copy(pack, flat);
+		}
+
+		try (Store flat = new Store(new FlatStorage(flatDir)))
+		{
+			flat.load();
+			verify(flat, contents);
+		}
+	}
+
+	@Test
+	public void testAppend() throws Exception
+	{
+		File packDir = folder.newFolder();
+		try (Store store = new Store(new PackStorage(packDir)))
+		{
+			Index index = store.addIndex(3);
+			Archive archive = index.addArchive(1);
+			archive.setFileData(new FileData[]{new FileData()});
+			store.getStorage().saveArchive(archive, new byte[]{1, 2, 3});
+			store.save();
+		}
+
+		try (Store store = new Store(new PackStorage(packDir)))
+		{
+			store.load();
+			Index index = store.findIndex(3);
+			assertNotNull(index.getArchive(1));
+
+			// replacing an archive appends it, and the table points at the new copy
+			store.getStorage().saveArchive(index.getArchive(1), new byte[]{4, 5});
+			Archive archive = index.addArchive(2);
+			archive.setFileData(new FileData[]{new FileData()});
+			store.getStorage().saveArchive(archive, new byte[]{6});
+			assertArrayEquals(new byte[]{4, 5}, store.getStorage().loadArchive(index.getArchive(1)));
+			store.save();
+		}
+
+		try (Store store = new Store(new PackStorage(packDir)))
+		{
+			store.load();
+			Index index = store.findIndex(3);
+			assertArrayEquals(new byte[]{4, 5}, store.getStorage().loadArchive(index.getArchive(1)));
+			assertArrayEquals(new byte[]{6}, store.getStorage().loadArchive(index.getArchive(2)));
+		}
+	}
+
+	private static void verify(Store store, byte[][] contents) throws Exception
+	{
+		for (int i = 0; i < 2; ++i)
+		{
+			Index index = store.findIndex(i);
+			assertEquals(10 + i, index.getRevision());
+			assertEquals(contents.length / 2, index.getArchives().size());
+			for (int j = 0; j < contents.length / 2; ++j)
+			{
+				Archive archive = index.getArchive(j);
+				assertEquals(j, archive.getRevision());
+				assertArrayEquals(contents[i * contents.length / 2 + j], store.getStorage().loadArchive(archive));
+			}
+		}
+	}
+}
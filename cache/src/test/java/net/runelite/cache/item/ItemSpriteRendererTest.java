@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class ItemSpriteRendererTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final ItemProvider itemProvider = items::get;
+	private final ModelProvider modelProvider = modelId -> cube();
+	private final SpriteProvider spriteProvider = (spriteId, frameId) -> null;
+	private final TextureProvider textureProvider = () -> new TextureDefinition[0];
+
+	public ItemSpriteRendererTest()
+	{
+		ItemDefinition item = new ItemDefinition(1);
+		item.xan2d = 300;
+		item.yan2d = 200;
+		items.put(1, item);
+
+		ItemDefinition recolored = new ItemDefinition(2);
+		recolored.xan2d = 300;
+		recolored.yan2d = 200;
+		recolored.colorFind = new short[]{1000};
+		recolored.colorReplace = new short[]{20000};
+		items.put(2, recolored);
+
+		ItemDefinition noted = new ItemDefinition(3);
+		noted.notedTemplate = 4;
+		noted.notedID = 1;
+		noted.zoom2d = 1500;
+		items.put(3, noted);
+	}
+
+	@Test
+	public void testMatchesFactory() throws Exception
+	{
+		List<Integer> ids = Arrays.asList(1, 2, 3, 1);
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemProvider, modelProvider, spriteProvider, textureProvider);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try
+		{
+			BufferedImage atlas = renderer.createAtlas(ids, 3, 1, 1, 3153952, executor);
+			assertEquals(3 * ItemSpriteRenderer.SPRITE_WIDTH, atlas.getWidth());
+			assertEquals(2 * ItemSpriteRenderer.SPRITE_HEIGHT, atlas.getHeight());
+
+			for (int i = 0; i < ids.size(); ++i)
+			{
+				BufferedImage expected = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+					ids.get(i), 1, 1, 3153952, false);
+				assertNotNull(expected);
+				assertTrue(Arrays.stream(pixels(expected, 0, 0)).anyMatch(p -> p != 0));
+				assertArrayEquals(pixels(expected, 0, 0), pixels(renderer.createSprite(ids.get(i), 1, 1, 3153952, false), 0, 0));
+				assertArrayEquals(pixels(expected, 0, 0), pixels(atlas,
+					(i % 3) * ItemSpriteRenderer.SPRITE_WIDTH, (i / 3) * ItemSpriteRenderer.SPRITE_HEIGHT));
+			}
+
+			// the recolored item has its own model
+			assertFalse(Arrays.equals(pixels(atlas, 0, 0), pixels(atlas, ItemSpriteRenderer.SPRITE_WIDTH, 0)));
+
+			File dir = folder.newFolder();
+			assertEquals(3, renderer.writeSprites(Arrays.asList(1, 2, 3), 1, 1, 0, dir, executor));
+			assertEquals(3, dir.list().length);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	private static int[] pixels(BufferedImage image, int x, int y)
+	{
+		return image.getRGB(x, y, ItemSpriteRenderer.SPRITE_WIDTH, ItemSpriteRenderer.SPRITE_HEIGHT, null, 0, ItemSpriteRenderer.SPRITE_WIDTH);
+	}
+
+	private static ModelDefinition cube()
+	{
+		ModelDefinition def = new ModelDefinition();
+		def.vertexCount = 8;
+		def.vertexX = new int[]{-50, 50, 50, -50, -50, 50, 50, -50};
+		def.vertexY = new int[]{-50, -50, 50, 50, -50, -50, 50, 50};
+		def.vertexZ = new int[]{-50, -50, -50, -50, 50, 50, 50, 50};
+		def.faceCount = 12;
+		def.faceIndices1 = new int[]{0, 0, 4, 4, 0, 0, 3, 3, 0, 0, 1, 1};
+		def.faceIndices2 = new int[]{2, 3, 5, 6, 1, 5, 7, 6, 4, 7, 5, 6};
+		def.faceIndices3 = new int[]{1, 2, 6, 7, 5, 4, 6, 2, 7, 3, 6, 2};
+		def.faceColors = new short[12];
+		Arrays.fill(def.faceColors, (short) 1000);
+		return def;
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import com.google.common.hash.Hashing;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.InflaterInputStream;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class PngWriterTest
+{
+	@Test
+	public void testRgb() throws IOException
+	{
+		BufferedImage image = testImage(257, 131, BufferedImage.TYPE_INT_RGB);
+		assertImageEquals(image, roundTrip(image, 1024));
+	}
+
+	@Test
+	public void testArgb() throws IOException
+	{
+		BufferedImage image = testImage(100, 67, BufferedImage.TYPE_INT_ARGB);
+		assertImageEquals(image, roundTrip(image, 100));
+	}
+
+	@Test
+	public void testBigBufferedImage() throws IOException
+	{
+		BufferedImage image = BigBufferedImage.create(1100, 1000, BufferedImage.TYPE_INT_RGB);
+		try
+		{
+			Random random = new Random(42);
+			for (int y = 0; y < image.getHeight(); y += 7)
+			{
+				for (int x = 0; x < image.getWidth(); x += 3)
+				{
+					image.setRGB(x, y, random.nextInt() & 0xffffff);
+				}
+			}
+
+			assertImageEquals(image, roundTrip(image, 64 * 1024));
+		}
+		finally
+		{
+			BigBufferedImage.dispose(image);
+		}
+	}
+
+	/**
+	 * {@code net.runelite.client.util.PngWriterTest} checks the same digests, so that the
+	 * client and cache copies of PngWriter are kept in sync. The inflated image data is hashed,
+	 * since the deflated bytes depend on the zlib version.
+	 */
+	@Test
+	public void testGolden() throws IOException
+	{
+		assertEquals("2f5c58743ad5244279ddc547a5e876fe89064358d7a375402c23af820f6d5a9a",
+			inflatedDigest(testImage(257, 131, BufferedImage.TYPE_INT_RGB), 1024));
+		assertEquals("27799b5afec472676a80c4af45d2d5acc438d8c03aae1e816dd18d7094464a8e",
+			inflatedDigest(testImage(100, 67, BufferedImage.TYPE_INT_ARGB), 100));
+	}
+
+	@Test
+	public void testAdler32Combine()
+	{
+		byte[] data = new byte[100_000];
+		new Random(1).nextBytes(data);
+
+		Adler32 whole = new Adler32();
+		whole.update(data);
+
+		Adler32 a = new Adler32();
+		a.update(data, 0, 40_000);
+		Adler32 b = new Adler32();
+		b.update(data, 40_000, 60_000);
+
+		assertEquals(whole.getValue(), PngWriter.adler32Combine(a.getValue(), b.getValue(), 60_000));
+	}
+
+	private static BufferedImage testImage(int width, int height, int type)
+	{
+		BufferedImage image = new BufferedImage(width, height, type);
+		Random random = new Random(width * 31 + height);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				// mix gradients with noise so every filter type gets picked
+				int rgb = (x * 255 / width) << 16 | (y * 255 / height) << 8 | (random.nextInt(4) == 0 ? random.nextInt(256) : 128);
+				int alpha = type == BufferedImage.TYPE_INT_ARGB ? (x + y) & 0xff : 0xff;
+				image.setRGB(x, y, alpha << 24 | rgb);
+			}
+		}
+		return image;
+	}
+
+	private static BufferedImage roundTrip(BufferedImage image, int bandSize) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PngWriter.write(image, out, ForkJoinPool.commonPool(), bandSize);
+		return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+	}
+
+	private static String inflatedDigest(BufferedImage image, int bandSize) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		PngWriter.write(image, out, ForkJoinPool.commonPool(), bandSize);
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+		in.skipBytes(8); // signature
+		ByteArrayOutputStream idat = new ByteArrayOutputStream();
+		while (in.available() > 0)
+		{
+			byte[] type = new byte[4];
+			byte[] data = new byte[in.readInt()];
+			in.readFully(type);
+			in.readFully(data);
+
+			CRC32 crc = new CRC32();
+			crc.update(type);
+			crc.update(data);
+			assertEquals(crc.getValue(), in.readInt() & 0xffffffffL);
+
+			if ("IDAT".equals(new String(type, StandardCharsets.US_ASCII)))
+			{
+				idat.write(data);
+			}
+		}
+
+		// inflating checks the adler32 of the combined bands
+		try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(idat.toByteArray())))
+		{
+			return Hashing.sha256().hashBytes(inflater.readAllBytes()).toString();
+		}
+	}
+
+	private static void assertImageEquals(BufferedImage expected, BufferedImage actual)
+	{
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		for (int y = 0; y < expected.getHeight(); ++y)
+		{
+			for (int x = 0; x < expected.getWidth(); ++x)
+			{
+				assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+			}
+		}
+	}
+}
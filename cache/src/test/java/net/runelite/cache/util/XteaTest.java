@@ -25,6 +25,7 @@
 package net.runelite.cache.util;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import static org.junit.Assert.assertArrayEquals;
 import org.junit.Test;
 
@@ -53,4 +54,24 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testInPlace()
+	{
+		byte[] data = "testtesttest1".getBytes(StandardCharsets.UTF_8);
+		byte[] buffer = new byte[data.length + 2];
+		System.arraycopy(data, 0, buffer, 1, data.length);
+
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+
+		Xtea xtea = new Xtea(key);
+		xtea.encrypt(buffer, 1, data.length);
+		assertArrayEquals(xtea.encrypt(data, data.length), Arrays.copyOfRange(buffer, 1, data.length + 1));
+
+		xtea.decrypt(buffer, 1, data.length);
+		assertArrayEquals(data, Arrays.copyOfRange(buffer, 1, data.length + 1));
+	}
 }
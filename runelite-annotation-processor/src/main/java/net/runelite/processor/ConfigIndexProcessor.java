@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import static net.runelite.processor.Annotations.getAnnotation;
+import static net.runelite.processor.Annotations.getValue;
+
+/**
+ * Writes an index of the config items of every interface annotated with ConfigGroup to the
+ * runelite/config resource, so default configuration can be applied without reflecting over
+ * every config method. Each line is tab separated, containing the interface's binary name,
+ * the item's method name, the item's key name, and 'd' if the method has a default value.
+ */
+@SupportedAnnotationTypes(ConfigIndexProcessor.CONFIG_GROUP)
+public class ConfigIndexProcessor extends AbstractProcessor
+{
+	static final String CONFIG_GROUP = "net.runelite.client.config.ConfigGroup";
+	private static final String CONFIG = "net.runelite.client.config.Config";
+	private static final String CONFIG_ITEM = "net.runelite.client.config.ConfigItem";
+	static final String INDEX = "runelite/config";
+
+	private final Map<String, List<String>> configs = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				if (element.getKind() == ElementKind.INTERFACE && !extendsOtherConfig((TypeElement) element))
+				{
+					TypeElement type = (TypeElement) element;
+					configs.put(processingEnv.getElementUtils().getBinaryName(type).toString(), indexConfig(type));
+				}
+			}
+		}
+
+		if (roundEnv.processingOver() && !configs.isEmpty())
+		{
+			writeIndex();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Interfaces which inherit from anything other than Config are left out of the index, so
+	 * the client reads their items reflectively
+	 */
+	private boolean extendsOtherConfig(TypeElement type)
+	{
+		for (TypeMirror superInterface : type.getInterfaces())
+		{
+			TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(superInterface);
+			if (!element.getQualifiedName().contentEquals(CONFIG))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private List<String> indexConfig(TypeElement type)
+	{
+		final List<String> items = new ArrayList<>();
+
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements()))
+		{
+			final AnnotationMirror item = getAnnotation(method, CONFIG_ITEM);
+
+			// only methods which read configuration (0 args) have defaults
+			if (item == null || !method.getParameters().isEmpty())
+			{
+				continue;
+			}
+
+			items.add(method.getSimpleName() + "\t"
+				+ getValue(processingEnv.getElementUtils(), item, "keyName") + "\t"
+				+ (method.getModifiers().contains(Modifier.DEFAULT) ? "d" : ""));
+		}
+
+		return items;
+	}
+
+	private void writeIndex()
+	{
+		try
+		{
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Writer out = file.openWriter())
+			{
+				for (Map.Entry<String, List<String>> config : configs.entrySet())
+				{
+					for (String item : config.getValue())
+					{
+						out.write(config.getKey());
+						out.write('\t');
+						out.write(item);
+						out.write('\n');
+					}
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write config index: " + ex);
+		}
+	}
+}
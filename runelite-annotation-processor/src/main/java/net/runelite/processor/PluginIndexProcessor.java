@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import static net.runelite.processor.Annotations.getAnnotation;
+import static net.runelite.processor.Annotations.getValue;
+
+/**
+ * Writes an index of every class annotated with PluginDescriptor to the runelite/plugins
+ * resource, so the client can load its core plugins without scanning the classpath or
+ * reflecting over each plugin. Each line is tab separated, containing:
+ * <ul>
+ * <li>the plugin's binary name</li>
+ * <li>flags: 'd' for developer plugins, 'o' for plugins loaded when outdated</li>
+ * <li>comma separated binary names of the plugin's dependencies</li>
+ * <li>comma separated names of the plugin's Schedule methods</li>
+ * </ul>
+ */
+@SupportedAnnotationTypes(PluginIndexProcessor.PLUGIN_DESCRIPTOR)
+public class PluginIndexProcessor extends AbstractProcessor
+{
+	static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	private static final String PLUGIN_DEPENDENCY = "net.runelite.client.plugins.PluginDependency";
+	private static final String PLUGIN_DEPENDENCIES = "net.runelite.client.plugins.PluginDependencies";
+	private static final String SCHEDULE = "net.runelite.client.task.Schedule";
+	static final String INDEX = "runelite/plugins";
+
+	private final Map<String, String> plugins = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				// plugins are always top level classes
+				if (element.getKind() == ElementKind.CLASS && element.getEnclosingElement().getKind() == ElementKind.PACKAGE)
+				{
+					TypeElement type = (TypeElement) element;
+					plugins.put(binaryName(type), indexPlugin(type));
+				}
+			}
+		}
+
+		if (roundEnv.processingOver() && !plugins.isEmpty())
+		{
+			writeIndex();
+		}
+
+		// other processors, such as lombok, may also want these annotations
+		return false;
+	}
+
+	private String indexPlugin(TypeElement type)
+	{
+		final AnnotationMirror descriptor = getAnnotation(type, PLUGIN_DESCRIPTOR);
+		String flags = "";
+		if (Boolean.TRUE.equals(getValue(processingEnv.getElementUtils(), descriptor, "developerPlugin")))
+		{
+			flags += 'd';
+		}
+		if (Boolean.TRUE.equals(getValue(processingEnv.getElementUtils(), descriptor, "loadWhenOutdated")))
+		{
+			flags += 'o';
+		}
+
+		final List<String> dependencies = new ArrayList<>();
+		final AnnotationMirror dependency = getAnnotation(type, PLUGIN_DEPENDENCY);
+		if (dependency != null)
+		{
+			dependencies.add(classValue(dependency));
+		}
+
+		final AnnotationMirror container = getAnnotation(type, PLUGIN_DEPENDENCIES);
+		if (container != null)
+		{
+			for (Object value : (List<?>) getValue(processingEnv.getElementUtils(), container, "value"))
+			{
+				dependencies.add(classValue((AnnotationMirror) ((AnnotationValue) value).getValue()));
+			}
+		}
+
+		final List<String> scheduled = new ArrayList<>();
+		// include methods inherited from supertypes, as the plugin manager's reflective scan does
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)))
+		{
+			// the plugin manager only schedules public methods
+			if (method.getModifiers().contains(Modifier.PUBLIC) && getAnnotation(method, SCHEDULE) != null)
+			{
+				scheduled.add(method.getSimpleName().toString());
+			}
+		}
+
+		return flags + '\t' + String.join(",", dependencies) + '\t' + String.join(",", scheduled);
+	}
+
+	private String binaryName(TypeElement type)
+	{
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private String classValue(AnnotationMirror annotation)
+	{
+		final TypeMirror mirror = (TypeMirror) getValue(processingEnv.getElementUtils(), annotation, "value");
+		return binaryName((TypeElement) processingEnv.getTypeUtils().asElement(mirror));
+	}
+
+	private void writeIndex()
+	{
+		try
+		{
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Writer out = file.openWriter())
+			{
+				for (Map.Entry<String, String> plugin : plugins.entrySet())
+				{
+					out.write(plugin.getKey());
+					out.write('\t');
+					out.write(plugin.getValue());
+					out.write('\n');
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write plugin index: " + ex);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.geometry.RectangleUnion;
+
+/**
+ * A small cache of model clickboxes, and the scratch memory used to compute them.
+ * Instances are not thread safe; {@link Perspective} keeps one per thread.
+ * <p>
+ * Entries are keyed on the model, its bounding box, orientation and position,
+ * along with the camera and viewport state, so a lookup is O(1) while the camera
+ * is still. The client discards a model's cached bounding boxes whenever its
+ * vertices change, so the box identity stands in for the model geometry.
+ */
+final class ClickboxCache
+{
+	private static final int SIZE = 256; // must be a power of two
+
+	private static class Entry
+	{
+		private Model model;
+		private AABB aabb;
+		private boolean clickable;
+		private int orientation;
+		private int x;
+		private int y;
+		private int z;
+		private int cameraX;
+		private int cameraY;
+		private int cameraZ;
+		private int cameraPitch;
+		private int cameraYaw;
+		private int scale;
+		private int viewportX;
+		private int viewportY;
+		private int viewportWidth;
+		private int viewportHeight;
+		private Shape shape;
+	}
+
+	private final Entry[] entries = new Entry[SIZE];
+
+	// scratch memory for projecting models
+	final int[] aabbX = new int[8];
+	final int[] aabbY = new int[8];
+	final int[] aabbZ = new int[8];
+	final int[] aabbX2d = new int[8];
+	final int[] aabbY2d = new int[8];
+	int[] x2d = new int[0];
+	int[] y2d = new int[0];
+	final List<RectangleUnion.Rectangle> rects = new ArrayList<>();
+
+	ClickboxCache()
+	{
+		for (int i = 0; i < SIZE; i++)
+		{
+			entries[i] = new Entry();
+		}
+	}
+
+	/**
+	 * Ensures the vertex scratch buffers can hold a model's projected vertices.
+	 */
+	void ensureVertexCapacity(int vertexCount)
+	{
+		if (x2d.length < vertexCount)
+		{
+			x2d = new int[vertexCount];
+			y2d = new int[vertexCount];
+		}
+	}
+
+	Shape getClickbox(Client client, Model model, int orientation, int x, int y, int z)
+	{
+		final int cameraX = client.getCameraX();
+		final int cameraY = client.getCameraY();
+		final int cameraZ = client.getCameraZ();
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
+		final int scale = client.getScale();
+		final int viewportX = client.getViewportXOffset();
+		final int viewportY = client.getViewportYOffset();
+		final int viewportWidth = client.getViewportWidth();
+		final int viewportHeight = client.getViewportHeight();
+
+		final AABB aabb = model.getAABB(orientation);
+		final boolean clickable = model.isClickable();
+
+		int hash = System.identityHashCode(model);
+		hash = hash * 31 + orientation;
+		hash = hash * 31 + x;
+		hash = hash * 31 + y;
+		hash = hash * 31 + z;
+		hash ^= hash >>> 16;
+
+		final Entry entry = entries[hash & (SIZE - 1)];
+		if (entry.model == model && entry.aabb == aabb && entry.clickable == clickable
+			&& entry.orientation == orientation && entry.x == x && entry.y == y && entry.z == z
+			&& entry.cameraX == cameraX && entry.cameraY == cameraY && entry.cameraZ == cameraZ
+			&& entry.cameraPitch == cameraPitch && entry.cameraYaw == cameraYaw && entry.scale == scale
+			&& entry.viewportX == viewportX && entry.viewportY == viewportY
+			&& entry.viewportWidth == viewportWidth && entry.viewportHeight == viewportHeight)
+		{
+			return entry.shape;
+		}
+
+		final Shape shape = Perspective.calculateClickbox(client, model, aabb, clickable, orientation, x, y, z, this);
+
+		entry.model = model;
+		entry.aabb = aabb;
+		entry.clickable = clickable;
+		entry.orientation = orientation;
+		entry.x = x;
+		entry.y = y;
+		entry.z = z;
+		entry.cameraX = cameraX;
+		entry.cameraY = cameraY;
+		entry.cameraZ = cameraZ;
+		entry.cameraPitch = cameraPitch;
+		entry.cameraYaw = cameraYaw;
+		entry.scale = scale;
+		entry.viewportX = viewportX;
+		entry.viewportY = viewportY;
+		entry.viewportWidth = viewportWidth;
+		entry.viewportHeight = viewportHeight;
+		entry.shape = shape;
+		return shape;
+	}
+}
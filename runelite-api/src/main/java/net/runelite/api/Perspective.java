@@ -30,7 +30,6 @@ import java.awt.Polygon;
 import java.awt.Shape;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -39,7 +38,7 @@ import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.geometry.RectangleUnion;
 import net.runelite.api.geometry.Shapes;
 import net.runelite.api.geometry.SimplePolygon;
-import net.runelite.api.model.Jarvis;
+import net.runelite.api.model.MonotoneChain;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 import org.jetbrains.annotations.ApiStatus;
@@ -61,6 +60,8 @@ public class Perspective
 	public static final int[] SINE = new int[2048]; // sine angles for each of the 2048 units, * 65536 and stored as an int
 	public static final int[] COSINE = new int[2048]; // cosine
 
+	private static final ThreadLocal<ClickboxCache> CLICKBOX_CACHE = ThreadLocal.withInitial(ClickboxCache::new);
+
 	static
 	{
 		for (int i = 0; i < 2048; ++i)
@@ -688,7 +689,8 @@ public class Perspective
 	 * @param orientation the orientation of the model (0-2048, where 0 is north)
 	 * @param x           x coord in local space
 	 * @param z           y coord in local space
-	 * @return the clickable area of the model
+	 * @return the clickable area of the model. The shape is cached until the model
+	 * or camera changes, and must not be modified.
 	 */
 	@Nullable
 	@ApiStatus.Internal
@@ -699,19 +701,25 @@ public class Perspective
 			return null;
 		}
 
-		SimplePolygon bounds = calculateAABB(client, model, orientation, x, y, z);
+		return CLICKBOX_CACHE.get().getClickbox(client, model, orientation, x, y, z);
+	}
+
+	static Shape calculateClickbox(Client client, Model model, AABB aabb, boolean clickable,
+		int orientation, int x, int y, int z, ClickboxCache scratch)
+	{
+		SimplePolygon bounds = calculateAABB(client, aabb, x, y, z, scratch);
 
 		if (bounds == null)
 		{
 			return null;
 		}
 
-		if (model.isClickable())
+		if (clickable)
 		{
 			return bounds;
 		}
 
-		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z);
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z, scratch);
 		if (bounds2d == null)
 		{
 			return null;
@@ -725,10 +733,8 @@ public class Perspective
 		return bounds2d;
 	}
 
-	private static SimplePolygon calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static SimplePolygon calculateAABB(Client client, AABB aabb, int x, int y, int z, ClickboxCache scratch)
 	{
-		AABB aabb = m.getAABB(jauOrient);
-
 		int x1 = aabb.getCenterX();
 		int y1 = aabb.getCenterZ();
 		int z1 = aabb.getCenterY();
@@ -745,31 +751,27 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		int[] xa = new int[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		int[] ya = new int[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		int[] za = new int[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
-
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
-
-		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
-
-		return Jarvis.convexHull(x2d, y2d);
+		final int[] xa = scratch.aabbX;
+		final int[] ya = scratch.aabbY;
+		final int[] za = scratch.aabbZ;
+		for (int i = 0; i < 8; i++)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
+
+		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, scratch.aabbX2d, scratch.aabbY2d);
+
+		return MonotoneChain.convexHull(scratch.aabbX2d, scratch.aabbY2d);
 	}
 
-	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z,
+		ClickboxCache scratch)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		scratch.ensureVertexCapacity(m.getVerticesCount());
+		final int[] x2d = scratch.x2d;
+		final int[] y2d = scratch.y2d;
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvasCpu(client,
@@ -781,20 +783,17 @@ public class Perspective
 
 		final int radius = 5;
 
-		int[][] tris = new int[][]{
-			m.getFaceIndices1(),
-			m.getFaceIndices2(),
-			m.getFaceIndices3()
-		};
+		final int[] indices1 = m.getFaceIndices1();
+		final int[] indices2 = m.getFaceIndices2();
+		final int[] indices3 = m.getFaceIndices3();
 
 		int vpX1 = client.getViewportXOffset();
 		int vpY1 = client.getViewportXOffset();
 		int vpX2 = vpX1 + client.getViewportWidth();
 		int vpY2 = vpY1 + client.getViewportHeight();
 
-		List<RectangleUnion.Rectangle> rects = new ArrayList<>(m.getFaceCount());
+		final List<RectangleUnion.Rectangle> rects = scratch.rects;
 
-		nextTri:
 		for (int tri = 0; tri < m.getFaceCount(); tri++)
 		{
 			if (faceColors3[tri] == -2)
@@ -802,45 +801,24 @@ public class Perspective
 				continue;
 			}
 
-			int
-				minX = Integer.MAX_VALUE,
-				minY = Integer.MAX_VALUE,
-				maxX = Integer.MIN_VALUE,
-				maxY = Integer.MIN_VALUE;
+			final int i1 = indices1[tri];
+			final int i2 = indices2[tri];
+			final int i3 = indices3[tri];
+			final int xs1 = x2d[i1], ys1 = y2d[i1];
+			final int xs2 = x2d[i2], ys2 = y2d[i2];
+			final int xs3 = x2d[i3], ys3 = y2d[i3];
 
-			for (int[] vertex : tris)
+			if (xs1 == Integer.MIN_VALUE || ys1 == Integer.MIN_VALUE
+				|| xs2 == Integer.MIN_VALUE || ys2 == Integer.MIN_VALUE
+				|| xs3 == Integer.MIN_VALUE || ys3 == Integer.MIN_VALUE)
 			{
-				final int idx = vertex[tri];
-				final int xs = x2d[idx];
-				final int ys = y2d[idx];
-
-				if (xs == Integer.MIN_VALUE || ys == Integer.MIN_VALUE)
-				{
-					continue nextTri;
-				}
-
-				if (xs < minX)
-				{
-					minX = xs;
-				}
-				if (xs > maxX)
-				{
-					maxX = xs;
-				}
-				if (ys < minY)
-				{
-					minY = ys;
-				}
-				if (ys > maxY)
-				{
-					maxY = ys;
-				}
+				continue;
 			}
 
-			minX -= radius;
-			minY -= radius;
-			maxX += radius;
-			maxY += radius;
+			int minX = Math.min(xs1, Math.min(xs2, xs3)) - radius;
+			int minY = Math.min(ys1, Math.min(ys2, ys3)) - radius;
+			int maxX = Math.max(xs1, Math.max(xs2, xs3)) + radius;
+			int maxY = Math.max(ys1, Math.max(ys2, ys3)) + radius;
 
 			if (vpX1 > maxX || vpX2 < minX || vpY1 > maxY || vpY2 < minY)
 			{
@@ -852,7 +830,14 @@ public class Perspective
 			rects.add(r);
 		}
 
-		return RectangleUnion.union(rects);
+		try
+		{
+			return RectangleUnion.union(rects);
+		}
+		finally
+		{
+			rects.clear();
+		}
 	}
 
 	/**
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.util.Arrays;
+import net.runelite.api.geometry.SimplePolygon;
+
+/**
+ * Provides a utility method for computing the convex hull of a list of
+ * <em>n</em> points.
+ * <p>
+ * The implementation uses Andrew's monotone chain algorithm and runs in
+ * O(n log n) time regardless of the size of the hull. The hull is the same
+ * as the one computed by {@link Jarvis}, starting at the left most point
+ * and without collinear points.
+ */
+public class MonotoneChain
+{
+	/**
+	 * Computes and returns the convex hull of the passed points.
+	 * <p>
+	 * Points with an x of {@link Integer#MIN_VALUE} are ignored. If less than
+	 * 3 points remain, this method will return null.
+	 *
+	 * @return a shape the points part of the convex hull
+	 */
+	public static SimplePolygon convexHull(int[] xs, int[] ys)
+	{
+		return convexHull(xs, ys, xs.length);
+	}
+
+	/**
+	 * Computes and returns the convex hull of the first {@code length} passed points.
+	 *
+	 * @see #convexHull(int[], int[])
+	 */
+	public static SimplePolygon convexHull(int[] xs, int[] ys, int length)
+	{
+		// sort the points by x, then y, packed so that signed ordering is kept
+		long[] points = new long[length];
+		int count = 0;
+		for (int i = 0; i < length; i++)
+		{
+			if (xs[i] != Integer.MIN_VALUE)
+			{
+				points[count++] = (long) xs[i] << 32 | (ys[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+			}
+		}
+
+		if (count < 3)
+		{
+			return null;
+		}
+
+		Arrays.sort(points, 0, count);
+
+		// drop duplicate points
+		int unique = 1;
+		for (int i = 1; i < count; i++)
+		{
+			if (points[i] != points[unique - 1])
+			{
+				points[unique++] = points[i];
+			}
+		}
+		count = unique;
+
+		int[] hx = new int[count * 2];
+		int[] hy = new int[count * 2];
+		int size = 0;
+
+		// lower hull
+		for (int i = 0; i < count; i++)
+		{
+			int x = (int) (points[i] >> 32);
+			int y = (int) points[i] ^ Integer.MIN_VALUE;
+			while (size >= 2 && crossProduct(hx[size - 2], hy[size - 2], hx[size - 1], hy[size - 1], x, y) <= 0)
+			{
+				size--;
+			}
+			hx[size] = x;
+			hy[size] = y;
+			size++;
+		}
+
+		// upper hull
+		for (int i = count - 2, lower = size + 1; i >= 0; i--)
+		{
+			int x = (int) (points[i] >> 32);
+			int y = (int) points[i] ^ Integer.MIN_VALUE;
+			while (size >= lower && crossProduct(hx[size - 2], hy[size - 2], hx[size - 1], hy[size - 1], x, y) <= 0)
+			{
+				size--;
+			}
+			hx[size] = x;
+			hy[size] = y;
+			size++;
+		}
+
+		// the last point is the first point again, unless there was only one
+		if (size > 1)
+		{
+			size--;
+		}
+
+		// the chain winds the opposite way to Jarvis, so reverse it after the first point
+		for (int i = 1, j = size - 1; i < j; i++, j--)
+		{
+			int x = hx[i];
+			hx[i] = hx[j];
+			hx[j] = x;
+			int y = hy[i];
+			hy[i] = hy[j];
+			hy[j] = y;
+		}
+
+		return new SimplePolygon(hx, hy, size);
+	}
+
+	private static long crossProduct(int ox, int oy, int ax, int ay, int bx, int by)
+	{
+		return (long) (ax - ox) * (by - oy)
+			- (long) (ay - oy) * (bx - ox);
+	}
+}
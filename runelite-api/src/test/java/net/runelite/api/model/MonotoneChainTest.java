@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.Point;
+import net.runelite.api.geometry.SimplePolygon;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MonotoneChainTest
+{
+	@Test
+	public void test()
+	{
+		int[] xs = {0, 1, 2, 4, 0, 1, 3, 3};
+		int[] ys = {3, 1, 2, 4, 0, 2, 1, 3};
+
+		List<Point> result = MonotoneChain.convexHull(xs, ys).toRuneLitePointList();
+		Assert.assertEquals(4, result.size());
+		Assert.assertEquals(new Point(0, 0), result.get(0));
+		Assert.assertEquals(new Point(0, 3), result.get(1));
+		Assert.assertEquals(new Point(4, 4), result.get(2));
+		Assert.assertEquals(new Point(3, 1), result.get(3));
+	}
+
+	@Test
+	public void testInvalidPoints()
+	{
+		int[] xs = {Integer.MIN_VALUE, 0, 4, Integer.MIN_VALUE};
+		int[] ys = {Integer.MIN_VALUE, 0, 4, Integer.MIN_VALUE};
+
+		Assert.assertNull(MonotoneChain.convexHull(xs, ys));
+	}
+
+	@Test
+	public void testMatchesJarvis()
+	{
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++)
+		{
+			int length = 3 + random.nextInt(12);
+			int range = 1 + random.nextInt(i % 2 == 0 ? 8 : 2000);
+			int[] xs = new int[length];
+			int[] ys = new int[length];
+			for (int j = 0; j < length; j++)
+			{
+				xs[j] = random.nextInt(range) - range / 2;
+				ys[j] = random.nextInt(range) - range / 2;
+			}
+
+			SimplePolygon expected = Jarvis.convexHull(xs.clone(), ys.clone());
+			SimplePolygon actual = MonotoneChain.convexHull(xs, ys);
+			Assert.assertEquals(Arrays.toString(xs) + Arrays.toString(ys),
+				expected.toRuneLitePointList(), actual.toRuneLitePointList());
+		}
+	}
+}
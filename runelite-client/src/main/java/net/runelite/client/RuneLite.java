@@ -178,6 +178,7 @@ public class RuneLite
 		parser.accepts("disable-telemetry", "Disable telemetry");
 		parser.accepts("profile", "Configuration profile to use").withRequiredArg();
 		parser.accepts("noupdate", "Skips the launcher update");
+		parser.accepts("profile-events", "Record the latency of each event subscriber and draw callback");
 
 		final ArgumentAcceptingOptionSpec<File> sessionfile = parser.accepts("sessionfile", "Use a specified session file")
 			.withRequiredArg()
@@ -278,7 +279,8 @@ public class RuneLite
 				options.valueOf(sessionfile),
 				(String) options.valueOf("profile"),
 				options.has(insecureWriteCredentials),
-				options.has("noupdate")
+				options.has("noupdate"),
+				options.has("profile-events")
 			));
 
 			injector.getInstance(RuneLite.class).start();
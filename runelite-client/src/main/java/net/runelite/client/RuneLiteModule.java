@@ -53,6 +53,7 @@ import net.runelite.client.config.ChatColorConfig;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.EventProfiler;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
@@ -76,6 +77,7 @@ public class RuneLiteModule extends AbstractModule
 	private final String profile;
 	private final boolean insecureWriteCredentials;
 	private final boolean noupdate;
+	private final boolean profileEvents;
 
 	@Override
 	protected void configure()
@@ -138,8 +140,14 @@ public class RuneLiteModule extends AbstractModule
 
 		bind(Callbacks.class).to(Hooks.class);
 
+		final EventBus eventBus = new EventBus();
+		if (profileEvents)
+		{
+			eventBus.setProfiler(new EventProfiler());
+		}
+
 		bind(EventBus.class)
-			.toInstance(new EventBus());
+			.toInstance(eventBus);
 
 		bind(EventBus.class)
 			.annotatedWith(Names.named("Deferred EventBus"))
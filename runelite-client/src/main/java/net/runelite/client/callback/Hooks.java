@@ -64,6 +64,7 @@ import net.runelite.client.Notifier;
 import net.runelite.client.TelemetryClient;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.EventProfiler;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseManager;
@@ -201,6 +202,20 @@ public class Hooks implements Callbacks
 
 	@Override
 	public void tick()
+	{
+		final EventProfiler profiler = eventBus.getProfiler();
+		if (profiler == null)
+		{
+			processTick();
+			return;
+		}
+
+		final long start = System.nanoTime();
+		processTick();
+		profiler.recordPhase(EventProfiler.PHASE_TICK, System.nanoTime() - start);
+	}
+
+	private void processTick()
 	{
 		if (shouldProcessGameTick)
 		{
@@ -355,6 +370,20 @@ public class Hooks implements Callbacks
 
 	@Override
 	public void draw(MainBufferProvider mainBufferProvider, Graphics graphics, int x, int y)
+	{
+		final EventProfiler profiler = eventBus.getProfiler();
+		if (profiler == null)
+		{
+			drawFrame(mainBufferProvider, graphics);
+			return;
+		}
+
+		final long start = System.nanoTime();
+		drawFrame(mainBufferProvider, graphics);
+		profiler.recordPhase(EventProfiler.PHASE_DRAW, System.nanoTime() - start);
+	}
+
+	private void drawFrame(MainBufferProvider mainBufferProvider, Graphics graphics)
 	{
 		if (graphics == null)
 		{
@@ -477,6 +506,9 @@ public class Hooks implements Callbacks
 	@Override
 	public void drawScene()
 	{
+		final EventProfiler profiler = eventBus.getProfiler();
+		final long start = profiler != null ? System.nanoTime() : 0L;
+
 		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
 		Graphics2D graphics2d = getGraphics(bufferProvider);
 
@@ -488,11 +520,19 @@ public class Hooks implements Callbacks
 		{
 			log.error("Error during overlay rendering", ex);
 		}
+
+		if (profiler != null)
+		{
+			profiler.recordPhase(EventProfiler.PHASE_DRAW_SCENE, System.nanoTime() - start);
+		}
 	}
 
 	@Override
 	public void drawAboveOverheads()
 	{
+		final EventProfiler profiler = eventBus.getProfiler();
+		final long start = profiler != null ? System.nanoTime() : 0L;
+
 		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
 		Graphics2D graphics2d = getGraphics(bufferProvider);
 
@@ -504,6 +544,11 @@ public class Hooks implements Callbacks
 		{
 			log.error("Error during overlay rendering", ex);
 		}
+
+		if (profiler != null)
+		{
+			profiler.recordPhase(EventProfiler.PHASE_DRAW_ABOVE_OVERHEADS, System.nanoTime() - start);
+		}
 	}
 
 	@Subscribe
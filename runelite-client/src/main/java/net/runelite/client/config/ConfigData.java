@@ -24,6 +24,8 @@
  */
 package net.runelite.client.config;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -31,40 +33,60 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 class ConfigData
 {
+	/**
+	 * When enabled, patches are appended to a log next to the config file instead of rewriting the
+	 * whole file, and the log is folded back into the config file once it grows large.
+	 */
+	private static final boolean WAL = Boolean.getBoolean("runelite.config.wal");
+	private static final long MIN_COMPACT_SIZE = 1 << 20;
+	private static final int RECORD_MAGIC = 0x524c4346;
+	private static final int RECORD_HEADER_SIZE = 12;
+
 	private final File configPath;
+	private final boolean wal;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted copy of the property keys, for prefix scans
+	private final ConcurrentSkipListSet<String> sortedKeys = new ConcurrentSkipListSet<>();
 	private Map<String, String> patchChanges = new HashMap<>();
 
 	ConfigData(File configPath)
+	{
+		this(configPath, WAL);
+	}
+
+	ConfigData(File configPath, boolean wal)
 	{
 		this.configPath = configPath;
+		this.wal = wal;
 
-		Properties props = new Properties();
-		try (FileInputStream in = new FileInputStream(configPath);
-			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
-		{
-			props.load(reader);
-		}
-		catch (FileNotFoundException ignored)
+		Properties props;
+		try
 		{
+			props = load(configPath);
 		}
 		catch (Exception ex)
 		{
@@ -73,6 +95,7 @@ class ConfigData
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		sortedKeys.addAll(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +106,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			sortedKeys.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +122,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			sortedKeys.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +132,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		sortedKeys.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +140,46 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get a sorted view of the keys which start with a prefix
+	 */
+	NavigableSet<String> keySet(String prefix)
+	{
+		String end = prefixEnd(prefix);
+		return end == null ? sortedKeys.tailSet(prefix, true) : sortedKeys.subSet(prefix, true, end, false);
+	}
+
+	/**
+	 * Call the consumer with each key starting with a prefix, in key order, and its value
+	 */
+	void forEach(String prefix, BiConsumer<String, String> consumer)
+	{
+		for (String key : keySet(prefix))
+		{
+			String value = properties.get(key);
+			if (value != null)
+			{
+				consumer.accept(key, value);
+			}
+		}
+	}
+
+	/**
+	 * Compute the least string greater than every string starting with prefix, or null if there is none
+	 */
+	static String prefixEnd(String prefix)
+	{
+		for (int i = prefix.length() - 1; i >= 0; --i)
+		{
+			char c = prefix.charAt(i);
+			if (c != Character.MAX_VALUE)
+			{
+				return prefix.substring(0, i) + (char) (c + 1);
+			}
+		}
+		return null;
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
@@ -132,25 +201,38 @@ class ConfigData
 	{
 		// load + patch + store instead of just flushing the in-memory properties to disk so that
 		// multiple clients editing one config data (such as rs profile config) get their data merged
-		// correctly
+		// correctly. In wal mode the patch is appended instead, and merged when the log is replayed.
 
-		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+		File lckFile = lockFile(configPath);
 		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
 			FileChannel lckChannel = lockOut.getChannel())
 		{
 			lckChannel.lock();
 
-			Properties tempProps = new Properties();
-			try (FileInputStream in = new FileInputStream(configPath);
-				InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+			File logPath = logFile(configPath);
+			if (wal)
 			{
-				tempProps.load(reader);
-			}
-			catch (FileNotFoundException e)
-			{
-				log.debug("config file {} does not exist", configPath);
+				if (!configPath.exists() && !logPath.exists())
+				{
+					// first save, or the config was deleted off disk, so flush the entire properties
+					appendLog(logPath, properties);
+				}
+				else if (!patch.isEmpty())
+				{
+					appendLog(logPath, patch);
+				}
+
+				if (logPath.length() > Math.max(MIN_COMPACT_SIZE, configPath.length()))
+				{
+					log.debug("compacting config log {} ({} bytes)", logPath, logPath.length());
+					writeSnapshot(configPath, load(configPath));
+					Files.deleteIfExists(logPath.toPath());
+				}
+				return;
 			}
 
+			Properties tempProps = load(configPath);
+
 			if (tempProps.isEmpty())
 			{
 				// this probably doesn't happen outside of the very first save (when no file exists)
@@ -161,44 +243,266 @@ class ConfigData
 			else
 			{
 				// apply patches
-				for (Map.Entry<String, String> entry : patch.entrySet())
-				{
-					if (entry.getValue() == null)
-					{
-						tempProps.remove(entry.getKey());
-					}
-					else
-					{
-						tempProps.put(entry.getKey(), entry.getValue());
-					}
-				}
+				apply(tempProps, patch);
+			}
+
+			writeSnapshot(configPath, tempProps);
+			// the log, if wal mode was previously used, has been merged into the snapshot
+			Files.deleteIfExists(logPath.toPath());
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to save configuration file", ex);
+		}
+		finally
+		{
+			lckFile.delete();
+		}
+	}
+
+	/**
+	 * Merge any logged patches of a config file into the config file
+	 *
+	 * @param configPath the config file
+	 */
+	static void compact(File configPath)
+	{
+		File logPath = logFile(configPath);
+		if (!logPath.exists())
+		{
+			return;
+		}
+
+		File lckFile = lockFile(configPath);
+		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+			FileChannel lckChannel = lockOut.getChannel())
+		{
+			lckChannel.lock();
+
+			writeSnapshot(configPath, load(configPath));
+			Files.deleteIfExists(logPath.toPath());
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to compact configuration file", ex);
+		}
+		finally
+		{
+			lckFile.delete();
+		}
+	}
+
+	/**
+	 * Delete a config file along with its log, so that none of the logged patches are replayed
+	 * onto a config file which replaces it
+	 *
+	 * @param configPath the config file
+	 */
+	static void delete(File configPath)
+	{
+		File lckFile = lockFile(configPath);
+		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+			FileChannel lckChannel = lockOut.getChannel())
+		{
+			lckChannel.lock();
+
+			Files.deleteIfExists(logFile(configPath).toPath());
+			Files.deleteIfExists(configPath.toPath());
+		}
+		catch (IOException ex)
+		{
+			log.error("unable to delete configuration file", ex);
+		}
+		finally
+		{
+			lckFile.delete();
+		}
+	}
+
+	static File logFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".wal");
+	}
+
+	private static File lockFile(File configPath)
+	{
+		return new File(configPath.getParentFile(), configPath.getName() + ".lck");
+	}
+
+	/**
+	 * Load a config file, and replay its log on top of it
+	 */
+	private static Properties load(File configPath) throws IOException
+	{
+		Properties props = new Properties();
+		try (FileInputStream in = new FileInputStream(configPath);
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			props.load(reader);
+		}
+		catch (FileNotFoundException e)
+		{
+			log.debug("config file {} does not exist", configPath);
+		}
+
+		replayLog(logFile(configPath), props);
+		return props;
+	}
+
+	private static void writeSnapshot(File configPath, Properties props) throws IOException
+	{
+		File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
+		try (FileOutputStream out = new FileOutputStream(tempFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			props.store(writer, "RuneLite configuration");
+			writer.flush();
+			channel.force(true);
+		}
+
+		try
+		{
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			log.debug("atomic move not supported", ex);
+			Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void apply(Properties props, Map<String, String> patch)
+	{
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			if (entry.getValue() == null)
+			{
+				props.remove(entry.getKey());
 			}
+			else
+			{
+				props.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/*
+	 * Each log record is a single patch:
+	 * int magic, int payload length, int payload crc32, then the payload
+	 * payload: int entry count, then per entry: key, boolean set, value if set
+	 * strings are written as an int length followed by the utf-8 bytes
+	 */
 
-			File tempFile = File.createTempFile("runelite_config", null, configPath.getParentFile());
-			try (FileOutputStream out = new FileOutputStream(tempFile);
-				FileChannel channel = out.getChannel();
-				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+	private static void appendLog(File logPath, Map<String, String> patch) throws IOException
+	{
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(payload);
+		out.writeInt(patch.size());
+		for (Map.Entry<String, String> entry : patch.entrySet())
+		{
+			writeString(out, entry.getKey());
+			out.writeBoolean(entry.getValue() != null);
+			if (entry.getValue() != null)
 			{
-				channel.lock();
-				tempProps.store(writer, "RuneLite configuration");
-				writer.flush();
-				channel.force(true);
+				writeString(out, entry.getValue());
 			}
+		}
 
-			try
+		byte[] data = payload.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(data);
+
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + data.length);
+		record.putInt(RECORD_MAGIC);
+		record.putInt(data.length);
+		record.putInt((int) crc.getValue());
+		record.put(data);
+		record.flip();
+
+		try (FileOutputStream fout = new FileOutputStream(logPath, true);
+			FileChannel channel = fout.getChannel())
+		{
+			while (record.hasRemaining())
 			{
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				channel.write(record);
 			}
-			catch (AtomicMoveNotSupportedException ex)
+			channel.force(false);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static String readString(ByteBuffer buf)
+	{
+		int len = buf.getInt();
+		String s = new String(buf.array(), buf.arrayOffset() + buf.position(), len, StandardCharsets.UTF_8);
+		buf.position(buf.position() + len);
+		return s;
+	}
+
+	private static void replayLog(File logPath, Properties props) throws IOException
+	{
+		byte[] data;
+		try
+		{
+			data = Files.readAllBytes(logPath.toPath());
+		}
+		catch (NoSuchFileException e)
+		{
+			return;
+		}
+
+		ByteBuffer buf = ByteBuffer.wrap(data);
+		CRC32 crc = new CRC32();
+		int skipped = 0;
+		while (buf.remaining() >= RECORD_HEADER_SIZE)
+		{
+			int start = buf.position();
+			int magic = buf.getInt();
+			int len = buf.getInt();
+			int checksum = buf.getInt();
+
+			if (magic == RECORD_MAGIC && len >= 0 && len <= buf.remaining())
 			{
-				log.debug("atomic move not supported", ex);
-				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				crc.reset();
+				crc.update(data, buf.position(), len);
+				if ((int) crc.getValue() == checksum)
+				{
+					ByteBuffer payload = ByteBuffer.wrap(data, buf.position(), len).slice();
+					buf.position(buf.position() + len);
+
+					int count = payload.getInt();
+					for (int i = 0; i < count; ++i)
+					{
+						String key = readString(payload);
+						if (payload.get() != 0)
+						{
+							props.put(key, readString(payload));
+						}
+						else
+						{
+							props.remove(key);
+						}
+					}
+					continue;
+				}
 			}
+
+			// torn or corrupt record, from a client which crashed while appending. Resync on the next record.
+			buf.position(start + 1);
+			++skipped;
 		}
-		catch (IOException ex)
+
+		if (skipped > 0 || buf.hasRemaining())
 		{
-			log.error("unable to save configuration file", ex);
+			log.warn("skipped {} bytes of corrupt config log {}", skipped + buf.remaining(), logPath);
 		}
-		lckFile.delete();
 	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.common.base.Splitter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Config items of the client's config interfaces, generated at build time by the config
+ * index annotation processor
+ */
+@Slf4j
+final class ConfigIndex
+{
+	private static final String INDEX = "runelite/config";
+	private static final Splitter TAB = Splitter.on('\t');
+
+	@Value
+	static class Item
+	{
+		private final String method;
+		private final String keyName;
+		private final boolean defaultValue;
+	}
+
+	private static final Map<String, List<Item>> ITEMS = load();
+
+	private ConfigIndex()
+	{
+	}
+
+	/**
+	 * Get the indexed config items of a config interface
+	 *
+	 * @param clazz the config interface
+	 * @return the config items, or null if the interface is not indexed
+	 */
+	@Nullable
+	static List<Item> getItems(Class<?> clazz)
+	{
+		// interfaces from side-loaded plugins are not in the index
+		if (clazz.getClassLoader() != ConfigIndex.class.getClassLoader())
+		{
+			return null;
+		}
+		return ITEMS.get(clazz.getName());
+	}
+
+	private static Map<String, List<Item>> load()
+	{
+		final Map<String, List<Item>> items = new HashMap<>();
+		try
+		{
+			// test and plugin classes may have their own index alongside the client's
+			final Enumeration<URL> indexes = ConfigIndex.class.getClassLoader().getResources(INDEX);
+			while (indexes.hasMoreElements())
+			{
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8)))
+				{
+					String line;
+					while ((line = reader.readLine()) != null)
+					{
+						final List<String> fields = TAB.splitToList(line);
+						if (fields.size() != 4)
+						{
+							throw new IOException("Malformed config index entry: " + line);
+						}
+
+						items.computeIfAbsent(fields.get(0), k -> new ArrayList<>())
+							.add(new Item(fields.get(1), fields.get(2), fields.get(3).equals("d")));
+					}
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to read config index", ex);
+			return Collections.emptyMap();
+		}
+
+		log.debug("Loaded config index of {} interfaces", items.size());
+		return items;
+	}
+}
@@ -24,39 +24,88 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.primitives.Ints;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
+/**
+ * Invocation handler for a single config proxy. Each config item getter has a slot holding its
+ * decoded value, which is cleared when the item's key is changed. Slots are looked up by key, so
+ * changing a key only touches the slots reading it.
+ */
 @Slf4j
 class ConfigInvocationHandler implements InvocationHandler
 {
 	// Special object to represent null values in the cache
 	private static final Object NULL = new Object();
+	// Special object to represent slots which have no cached value
+	private static final Object UNSET = new Object();
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	private final LongAdder hits;
+	private final LongAdder misses;
+	private final ConfigGroup group;
+	private final Map<Method, Integer> slots = new HashMap<>();
+	private final Map<String, int[]> keySlots = new HashMap<>();
+	private final AtomicReferenceArray<Object> values;
+	/**
+	 * incremented on every invalidation, so a value decoded concurrently with an invalidation
+	 * is not left in its slot
+	 */
+	private final AtomicInteger modCount = new AtomicInteger();
 
-	ConfigInvocationHandler(ConfigManager manager)
+	ConfigInvocationHandler(ConfigManager manager, Class<?> iface, LongAdder hits, LongAdder misses)
 	{
 		this.manager = manager;
+		this.hits = hits;
+		this.misses = misses;
+		this.group = iface.getAnnotation(ConfigGroup.class);
+
+		for (Method method : iface.getMethods())
+		{
+			final ConfigItem item = method.getAnnotation(ConfigItem.class);
+			if (item != null && method.getParameterCount() == 0)
+			{
+				final int slot = slots.size();
+				slots.put(method, slot);
+				keySlots.merge(item.keyName(), new int[]{slot}, Ints::concat);
+			}
+		}
+
+		values = new AtomicReferenceArray<>(slots.size());
+		for (int i = 0; i < values.length(); ++i)
+		{
+			values.set(i, UNSET);
+		}
+	}
+
+	/**
+	 * @return the config group of the proxy, or null if it has no @ConfigGroup
+	 */
+	String getGroupName()
+	{
+		return group == null ? null : group.value();
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
 		// Use cached configuration value if available
-		if (args == null)
+		final Integer slot = args == null ? slots.get(method) : null;
+		if (slot != null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
-			if (cachedValue != null)
+			Object cachedValue = values.get(slot);
+			if (cachedValue != UNSET)
 			{
+				hits.increment();
 				return cachedValue == NULL ? null : cachedValue;
 			}
 		}
@@ -78,7 +127,6 @@ class ConfigInvocationHandler implements InvocationHandler
 			return proxy == args[0];
 		}
 
-		ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
 		ConfigItem item = method.getAnnotation(ConfigItem.class);
 
 		if (group == null)
@@ -95,7 +143,9 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			log.trace("cache miss (group: {}, key: {})", group.value(), item.keyName());
+			misses.increment();
+			final int mod = modCount.get();
 
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
@@ -105,11 +155,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					store(slot, mod, defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				store(slot, mod, null);
 				return null;
 			}
 
@@ -117,7 +167,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				store(slot, mod, objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -175,6 +225,21 @@ class ConfigInvocationHandler implements InvocationHandler
 		}
 	}
 
+	private void store(Integer slot, int mod, Object value)
+	{
+		if (slot == null)
+		{
+			return;
+		}
+
+		values.set(slot, value == null ? NULL : value);
+		if (modCount.get() != mod)
+		{
+			// invalidated while the value was being read, so it may be stale
+			values.set(slot, UNSET);
+		}
+	}
+
 	static Object callDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable
 	{
 		Class<?> declaringClass = method.getDeclaringClass();
@@ -184,9 +249,32 @@ class ConfigInvocationHandler implements InvocationHandler
 			.invokeWithArguments(args);
 	}
 
+	/**
+	 * Clear the cached value of a single config key of this proxy's group
+	 */
+	void invalidate(String key)
+	{
+		final int[] keySlots = this.keySlots.get(key);
+		if (keySlots == null)
+		{
+			return;
+		}
+
+		log.trace("cache invalidate {}.{}", group.value(), key);
+		modCount.incrementAndGet();
+		for (int slot : keySlots)
+		{
+			values.set(slot, UNSET);
+		}
+	}
+
 	void invalidate()
 	{
 		log.trace("cache invalidate");
-		cache.invalidateAll();
+		modCount.incrementAndGet();
+		for (int i = 0; i < values.length(); ++i)
+		{
+			values.set(i, UNSET);
+		}
 	}
 }
@@ -49,13 +49,16 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -118,7 +121,10 @@ public class ConfigManager
 	private final ProfileManager profileManager;
 	private final SessionManager sessionManager;
 
-	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
+	// handlers of the config proxies which are still reachable by config group, to invalidate their cached values
+	private final Map<String, Set<ConfigInvocationHandler>> handlers = new HashMap<>();
+	private final LongAdder cacheHits = new LongAdder();
+	private final LongAdder cacheMisses = new LongAdder();
 
 	@Getter
 	private ConfigProfile profile;
@@ -196,10 +202,10 @@ public class ConfigManager
 		ConfigData oldData;
 		synchronized (this)
 		{
-			handler.invalidate();
 			oldData = configProfile;
 			profile = newProfile;
 			configProfile = newData;
+			invalidateAll();
 		}
 
 		allKeys.addAll(oldData.keySet());
@@ -690,8 +696,8 @@ public class ConfigManager
 				}
 
 				File configFile = ProfileManager.profileConfigFile(profile);
-				// remote configuration replaces local
-				configFile.delete();
+				// remote configuration replaces local, including any logged local patches
+				ConfigData.delete(configFile);
 
 				ConfigData configData = new ConfigData(configFile);
 				configData.putAll(remoteConfiguration.getConfig());
@@ -715,19 +721,78 @@ public class ConfigManager
 			throw new RuntimeException("Non-public configuration classes can't have default methods invoked");
 		}
 
+		ConfigInvocationHandler handler = new ConfigInvocationHandler(this, clazz, cacheHits, cacheMisses);
 		T t = (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]
 			{
 				clazz
 			}, handler);
 
+		if (handler.getGroupName() != null)
+		{
+			synchronized (handlers)
+			{
+				handlers.computeIfAbsent(handler.getGroupName(), g -> Collections.newSetFromMap(new WeakHashMap<>()))
+					.add(handler);
+			}
+		}
+
 		return t;
 	}
 
+	/**
+	 * Get the number of config proxy reads which were served from the proxy's cached values
+	 */
+	public long getConfigCacheHits()
+	{
+		return cacheHits.sum();
+	}
+
+	/**
+	 * Get the number of config proxy reads which had to read and decode the configuration value
+	 */
+	public long getConfigCacheMisses()
+	{
+		return cacheMisses.sum();
+	}
+
+	private void invalidate(String groupName, String profile, String key)
+	{
+		// config proxies only read from the non-rs profile
+		if (profile != null)
+		{
+			return;
+		}
+
+		synchronized (handlers)
+		{
+			Set<ConfigInvocationHandler> groupHandlers = handlers.get(groupName);
+			if (groupHandlers != null)
+			{
+				for (ConfigInvocationHandler handler : groupHandlers)
+				{
+					handler.invalidate(key);
+				}
+			}
+		}
+	}
+
+	private void invalidateAll()
+	{
+		synchronized (handlers)
+		{
+			for (Set<ConfigInvocationHandler> groupHandlers : handlers.values())
+			{
+				for (ConfigInvocationHandler handler : groupHandlers)
+				{
+					handler.invalidate();
+				}
+			}
+		}
+	}
+
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return configProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return new ArrayList<>(configProfile.keySet(prefix));
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -740,12 +805,28 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return rsProfileConfigProfile.keySet().stream()
-			.filter(k -> k.startsWith(prefix))
+		return rsProfileConfigProfile.keySet(prefix).stream()
 			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
 			.collect(Collectors.toList());
 	}
 
+	/**
+	 * Get the configuration in a group, or rs profile of a group, whose keys start with a prefix
+	 *
+	 * @param group the config group
+	 * @param profile the rs profile, or null for the non-rs profile configuration
+	 * @param keyPrefix the key prefix, may be empty
+	 * @return a map of key, without the group and profile, to raw value, sorted by key
+	 */
+	public Map<String, String> getConfigurationEntries(String group, @Nullable String profile, String keyPrefix)
+	{
+		ConfigData configData = profile == null ? configProfile : rsProfileConfigProfile;
+		String prefix = getWholeKey(group, profile, "");
+		Map<String, String> entries = new LinkedHashMap<>();
+		configData.forEach(prefix + keyPrefix, (k, v) -> entries.put(k.substring(prefix.length()), v));
+		return entries;
+	}
+
 	public static String getWholeKey(String groupName, String profile, String key)
 	{
 		if (profile == null)
@@ -844,7 +925,7 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		invalidate(groupName, profile, key);
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -935,7 +1016,7 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		invalidate(groupName, profile, key);
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -1042,66 +1123,95 @@ public class ConfigManager
 			return;
 		}
 
-		for (Method method : clazz.getDeclaredMethods())
+		final List<ConfigIndex.Item> items = ConfigIndex.getItems(clazz);
+		if (items == null)
 		{
-			ConfigItem item = method.getAnnotation(ConfigItem.class);
-
-			// only apply default configuration for methods which read configuration (0 args)
-			if (item == null || method.getParameterCount() != 0)
+			for (Method method : clazz.getDeclaredMethods())
 			{
-				continue;
-			}
+				ConfigItem item = method.getAnnotation(ConfigItem.class);
 
-			if (!method.isDefault())
-			{
-				if (override)
+				// only apply default configuration for methods which read configuration (0 args)
+				if (item == null || method.getParameterCount() != 0)
 				{
-					String current = getConfiguration(group.value(), item.keyName());
-					// only unset if already set
-					if (current != null)
-					{
-						unsetConfiguration(group.value(), item.keyName());
-					}
+					continue;
 				}
-				continue;
+
+				setDefaultConfiguration(proxy, group.value(), item.keyName(), method.isDefault() ? method : null, override);
 			}
+			return;
+		}
 
-			if (!override)
+		for (ConfigIndex.Item item : items)
+		{
+			Method method = null;
+			if (item.isDefaultValue())
 			{
-				// This checks if it is set and is also unmarshallable to the correct type; so
-				// we will overwrite invalid config values with the default
-				Object current = getConfiguration(group.value(), item.keyName(), method.getGenericReturnType());
-				if (current != null)
+				try
+				{
+					method = clazz.getDeclaredMethod(item.getMethod());
+				}
+				catch (NoSuchMethodException ex)
 				{
-					continue; // something else is already set
+					log.warn("Indexed config item {}.{} not found", clazz.getSimpleName(), item.getMethod(), ex);
+					continue;
 				}
 			}
 
-			Object defaultValue;
-			try
-			{
-				defaultValue = ConfigInvocationHandler.callDefaultMethod(proxy, method, null);
-			}
-			catch (Throwable ex)
+			setDefaultConfiguration(proxy, group.value(), item.getKeyName(), method, override);
+		}
+	}
+
+	private void setDefaultConfiguration(Config proxy, String group, String keyName, @Nullable Method defaultMethod, boolean override)
+	{
+		if (defaultMethod == null)
+		{
+			if (override)
 			{
-				log.warn(null, ex);
-				continue;
+				String current = getConfiguration(group, keyName);
+				// only unset if already set
+				if (current != null)
+				{
+					unsetConfiguration(group, keyName);
+				}
 			}
+			return;
+		}
 
-			String current = getConfiguration(group.value(), item.keyName());
-			String valueString = objectToString(defaultValue);
-			// null and the empty string are treated identically in sendConfig and treated as an unset
-			// If a config value defaults to "" and the current value is null, it will cause an extra
-			// unset to be sent, so treat them as equal
-			if (Objects.equals(current, valueString) || (Strings.isNullOrEmpty(current) && Strings.isNullOrEmpty(valueString)))
+		if (!override)
+		{
+			// This checks if it is set and is also unmarshallable to the correct type; so
+			// we will overwrite invalid config values with the default
+			Object current = getConfiguration(group, keyName, defaultMethod.getGenericReturnType());
+			if (current != null)
 			{
-				continue; // already set to the default value
+				return; // something else is already set
 			}
+		}
 
-			log.debug("Setting default configuration value for {}.{} to {}", group.value(), item.keyName(), defaultValue);
+		Object defaultValue;
+		try
+		{
+			defaultValue = ConfigInvocationHandler.callDefaultMethod(proxy, defaultMethod, null);
+		}
+		catch (Throwable ex)
+		{
+			log.warn(null, ex);
+			return;
+		}
 
-			setConfiguration(group.value(), item.keyName(), valueString);
+		String current = getConfiguration(group, keyName);
+		String valueString = objectToString(defaultValue);
+		// null and the empty string are treated identically in sendConfig and treated as an unset
+		// If a config value defaults to "" and the current value is null, it will cause an extra
+		// unset to be sent, so treat them as equal
+		if (Objects.equals(current, valueString) || (Strings.isNullOrEmpty(current) && Strings.isNullOrEmpty(valueString)))
+		{
+			return; // already set to the default value
 		}
+
+		log.debug("Setting default configuration value for {}.{} to {}", group, keyName, defaultValue);
+
+		setConfiguration(group, keyName, valueString);
 	}
 
 	Object stringToObject(String str, Type type)
@@ -1371,13 +1481,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (String key : rsProfileConfigProfile.keySet())
+		for (String key : rsProfileConfigProfile.keySet(prefix))
 		{
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
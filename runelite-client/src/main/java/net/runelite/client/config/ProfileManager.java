@@ -199,6 +199,9 @@ public class ProfileManager
 			modified = true;
 			File newFile = profileConfigFile(profile);
 
+			// fold any logged patches into the config file so only the one file has to move
+			ConfigData.compact(oldFile);
+
 			if (!oldFile.exists())
 			{
 				// no config file is valid if the profile hasn't been used yet.
@@ -234,4 +237,13 @@ public class ProfileManager
 	{
 		return new File(PROFILES_DIR, profile.getName() + "-" + profile.getId() + ".properties");
 	}
+
+	/**
+	 * Merge any logged config patches of a profile into its config file, so that the config file
+	 * alone holds the full profile config.
+	 */
+	public static void compactProfileConfig(ConfigProfile profile)
+	{
+		ConfigData.compact(profileConfigFile(profile));
+	}
 }
@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,12 +33,24 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -54,6 +64,11 @@ public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
 
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
+
 	@Value
 	public static class Subscriber
 	{
@@ -76,10 +91,49 @@ public class EventBus
 		}
 	}
 
+	/**
+	 * Dispatch statistics for a single event type
+	 */
+	@Value
+	public static class EventStats
+	{
+		private final Class<?> eventClass;
+		private final int subscribers;
+		private final long dispatches;
+		private final long nanos;
+	}
+
+	/**
+	 * The subscribers of a single event type, and its dispatch statistics
+	 */
+	private static final class EventType
+	{
+		/**
+		 * subscribers sorted by priority then their declaring class' name. The array is
+		 * never modified once published, so posting threads can iterate it without locking.
+		 */
+		private volatile Subscriber[] subscribers = EMPTY;
+		private final LongAdder dispatches = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+	}
+
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	private final Map<Class<?>, EventType> eventTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * event classes each registered object is subscribed to, used to unregister without
+	 * scanning every event type. Guarded by this.
+	 */
+	private final Map<Object, Set<Class<?>>> registrations = new IdentityHashMap<>();
+
+	/**
+	 * when set, the latency of each subscriber call is recorded. Posting without a profiler
+	 * does no additional work.
+	 */
+	@Getter
+	@Setter
+	private volatile EventProfiler profiler;
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +152,8 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final List<Class<?>> classes = new ArrayList<>();
+		final List<Subscriber> subscribers = new ArrayList<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -125,7 +177,7 @@ public class EventBus
 
 				for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
 				{
-					if (subscribers.containsKey(psc))
+					if (hasSubscribers(psc))
 					{
 						throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
 					}
@@ -159,26 +211,23 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				classes.add(parameterClazz);
+				subscribers.add(subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		// only add the subscribers once every method has been validated
+		for (int i = 0; i < subscribers.size(); ++i)
+		{
+			add(classes.get(i), subscribers.get(i));
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
-
-		subscribers = builder.build();
-
+		add(clazz, sub);
 		return sub;
 	}
 
@@ -189,10 +238,16 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		final Set<Class<?>> classes = registrations.remove(object);
+		if (classes == null)
+		{
+			return;
+		}
+
+		for (Class<?> clazz : classes)
+		{
+			remove(clazz, s -> s.getObject() == object);
+		}
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +257,24 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		final Object object = sub.getObject();
+		final Set<Class<?>> classes = registrations.get(object);
+		if (classes == null)
+		{
+			return;
+		}
+
+		classes.removeIf(clazz ->
+		{
+			remove(clazz, s -> s == sub);
+			// the object may have other subscribers to this event
+			return Arrays.stream(eventTypes.get(clazz).subscribers).noneMatch(s -> s.getObject() == object);
+		});
+
+		if (classes.isEmpty())
+		{
+			registrations.remove(object);
+		}
 	}
 
 	/**
@@ -216,8 +285,46 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final EventType type = getEventType(event.getClass());
+		final Subscriber[] subscribers = type.subscribers;
+		final EventProfiler profiler = this.profiler;
+		final long start = System.nanoTime();
+
+		if (profiler == null)
 		{
+			for (int i = 0; i < subscribers.length; ++i)
+			{
+				try
+				{
+					subscribers[i].invoke(event);
+				}
+				catch (Exception e)
+				{
+					exceptionHandler.accept(e);
+				}
+			}
+		}
+		else
+		{
+			postProfiled(profiler, event, subscribers);
+		}
+
+		final long elapsed = System.nanoTime() - start;
+		type.nanos.add(elapsed);
+		type.dispatches.increment();
+
+		if (profiler != null)
+		{
+			profiler.recordEvent(event.getClass(), elapsed);
+		}
+	}
+
+	private void postProfiled(EventProfiler profiler, Object event, Subscriber[] subscribers)
+	{
+		for (int i = 0; i < subscribers.length; ++i)
+		{
+			final Subscriber subscriber = subscribers[i];
+			final long start = System.nanoTime();
 			try
 			{
 				subscriber.invoke(event);
@@ -226,6 +333,82 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+			profiler.recordSubscriber(subscriber, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Get the dispatch statistics of every event type which has been posted or subscribed to
+	 *
+	 * @return event statistics
+	 */
+	public List<EventStats> getEventStats()
+	{
+		final List<EventStats> stats = new ArrayList<>(eventTypes.size());
+		eventTypes.forEach((clazz, type) -> stats.add(new EventStats(clazz, type.subscribers.length, type.dispatches.sum(), type.nanos.sum())));
+		return stats;
+	}
+
+	/**
+	 * Reset the dispatch statistics of every event type
+	 */
+	public void resetEventStats()
+	{
+		for (EventType type : eventTypes.values())
+		{
+			type.dispatches.reset();
+			type.nanos.reset();
+		}
+	}
+
+	private EventType getEventType(Class<?> clazz)
+	{
+		final EventType type = eventTypes.get(clazz);
+		return type != null ? type : eventTypes.computeIfAbsent(clazz, c -> new EventType());
+	}
+
+	private boolean hasSubscribers(Class<?> clazz)
+	{
+		final EventType type = eventTypes.get(clazz);
+		return type != null && type.subscribers.length > 0;
+	}
+
+	private void add(Class<?> clazz, Subscriber subscriber)
+	{
+		final EventType type = getEventType(clazz);
+		final Subscriber[] subscribers = type.subscribers;
+
+		// insert after all subscribers which sort before or equal to it, to keep registration order for ties
+		int idx = 0;
+		while (idx < subscribers.length && SUBSCRIBER_ORDER.compare(subscribers[idx], subscriber) <= 0)
+		{
+			++idx;
+		}
+
+		final Subscriber[] newSubscribers = new Subscriber[subscribers.length + 1];
+		System.arraycopy(subscribers, 0, newSubscribers, 0, idx);
+		newSubscribers[idx] = subscriber;
+		System.arraycopy(subscribers, idx, newSubscribers, idx + 1, subscribers.length - idx);
+		type.subscribers = newSubscribers;
+
+		registrations.computeIfAbsent(subscriber.getObject(), o -> new LinkedHashSet<>()).add(clazz);
+	}
+
+	private void remove(Class<?> clazz, Predicate<Subscriber> filter)
+	{
+		final EventType type = eventTypes.get(clazz);
+		if (type == null)
+		{
+			return;
+		}
+
+		final Subscriber[] subscribers = type.subscribers;
+		final Subscriber[] newSubscribers = Arrays.stream(subscribers)
+			.filter(filter.negate())
+			.toArray(Subscriber[]::new);
+		if (newSubscribers.length != subscribers.length)
+		{
+			type.subscribers = newSubscribers.length == 0 ? EMPTY : newSubscribers;
 		}
 	}
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects latency histograms for each event subscriber, each event class, and any
+ * named phase such as the client's draw callbacks. Profiling is enabled by setting a
+ * profiler on the {@link EventBus}, either with the --profile-events flag or the
+ * ::profileevents developer command.
+ */
+@Slf4j
+@ThreadSafe
+public class EventProfiler
+{
+	public static final String PHASE_TICK = "tick";
+	public static final String PHASE_DRAW = "draw";
+	public static final String PHASE_DRAW_SCENE = "drawScene";
+	public static final String PHASE_DRAW_ABOVE_OVERHEADS = "drawAboveOverheads";
+	public static final String PHASE_OUTLINE_PREPARE = "outlinePrepare";
+	public static final String PHASE_OUTLINE_RASTER = "outlineRaster";
+	public static final String PHASE_OUTLINE_COMPOSITE = "outlineComposite";
+
+	/**
+	 * A summary of a single latency histogram
+	 */
+	@Value
+	public static class Entry
+	{
+		private final String name;
+		private final long count;
+		private final long totalNanos;
+		private final long p50Nanos;
+		private final long p99Nanos;
+		private final long maxNanos;
+	}
+
+	private static final Comparator<Entry> BY_TOTAL = Comparator.comparingLong(Entry::getTotalNanos).reversed();
+
+	private final Map<EventBus.Subscriber, LatencyHistogram> subscribers = new ConcurrentHashMap<>();
+	private final Map<Class<?>, LatencyHistogram> events = new ConcurrentHashMap<>();
+	private final Map<String, LatencyHistogram> phases = new ConcurrentHashMap<>();
+
+	void recordSubscriber(EventBus.Subscriber subscriber, long nanos)
+	{
+		histogram(subscribers, subscriber).record(nanos);
+	}
+
+	void recordEvent(Class<?> eventClass, long nanos)
+	{
+		histogram(events, eventClass).record(nanos);
+	}
+
+	/**
+	 * Record the duration of a named phase
+	 *
+	 * @param phase the phase name
+	 * @param nanos duration, in nanoseconds
+	 */
+	public void recordPhase(String phase, long nanos)
+	{
+		histogram(phases, phase).record(nanos);
+	}
+
+	public List<Entry> getSubscriberStats()
+	{
+		return summarize(subscribers, EventProfiler::subscriberName);
+	}
+
+	public List<Entry> getEventStats()
+	{
+		return summarize(events, Class::getSimpleName);
+	}
+
+	public List<Entry> getPhaseStats()
+	{
+		return summarize(phases, Function.identity());
+	}
+
+	public void reset()
+	{
+		subscribers.clear();
+		events.clear();
+		phases.clear();
+	}
+
+	/**
+	 * Log the slowest subscribers, events, and phases, ordered by their total time
+	 *
+	 * @param limit maximum number of entries of each kind to log
+	 */
+	public void dump(int limit)
+	{
+		dump("Subscribers", getSubscriberStats(), limit);
+		dump("Events", getEventStats(), limit);
+		dump("Phases", getPhaseStats(), limit);
+	}
+
+	private static void dump(String title, List<Entry> entries, int limit)
+	{
+		final StringBuilder sb = new StringBuilder(title).append(':');
+		for (int i = 0; i < Math.min(limit, entries.size()); ++i)
+		{
+			final Entry e = entries.get(i);
+			sb.append(String.format("%n  %-60s n=%-8d total=%8.2fms p50=%8.1fus p99=%8.1fus max=%8.1fus",
+				e.getName(), e.getCount(), e.getTotalNanos() / 1e6,
+				e.getP50Nanos() / 1e3, e.getP99Nanos() / 1e3, e.getMaxNanos() / 1e3));
+		}
+		log.info("{}", sb);
+	}
+
+	private static <K> LatencyHistogram histogram(Map<K, LatencyHistogram> map, K key)
+	{
+		final LatencyHistogram histogram = map.get(key);
+		return histogram != null ? histogram : map.computeIfAbsent(key, k -> new LatencyHistogram());
+	}
+
+	private static <K> List<Entry> summarize(Map<K, LatencyHistogram> map, Function<K, String> name)
+	{
+		final List<Entry> entries = new ArrayList<>(map.size());
+		map.forEach((key, histogram) ->
+		{
+			final LatencyHistogram h = histogram.copy();
+			entries.add(new Entry(name.apply(key), h.getCount(), h.getTotalNanos(),
+				h.getPercentile(.5), h.getPercentile(.99), h.getMaxNanos()));
+		});
+		entries.sort(BY_TOTAL);
+		return entries;
+	}
+
+	private static String subscriberName(EventBus.Subscriber subscriber)
+	{
+		final Class<?> clazz = subscriber.getObject().getClass();
+		return subscriber.getMethod() != null
+			? clazz.getSimpleName() + "." + subscriber.getMethod().getName()
+			: clazz.getName();
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.Arrays;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A log-linear latency histogram backed by a primitive array. Values are bucketed by
+ * their highest set bit and the 4 bits following it, giving a relative error of at
+ * most 1/16th for any recorded value.
+ */
+@ThreadSafe
+public final class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKETS];
+	private long count;
+	private long total;
+	private long max;
+
+	/**
+	 * Record a single sample
+	 *
+	 * @param nanos sample duration, in nanoseconds
+	 */
+	public synchronized void record(long nanos)
+	{
+		if (nanos < 0)
+		{
+			nanos = 0;
+		}
+
+		++counts[bucket(nanos)];
+		++count;
+		total += nanos;
+		if (nanos > max)
+		{
+			max = nanos;
+		}
+	}
+
+	public synchronized long getCount()
+	{
+		return count;
+	}
+
+	public synchronized long getTotalNanos()
+	{
+		return total;
+	}
+
+	public synchronized long getMaxNanos()
+	{
+		return max;
+	}
+
+	/**
+	 * Get the value below which the given fraction of samples fall
+	 *
+	 * @param percentile the fraction, from 0 to 1
+	 * @return the upper bound of the bucket containing the percentile, in nanoseconds
+	 */
+	public synchronized long getPercentile(double percentile)
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		final long target = Math.max(1, (long) Math.ceil(percentile * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			seen += counts[i];
+			if (seen >= target)
+			{
+				return Math.min(upperBound(i), max);
+			}
+		}
+		return max;
+	}
+
+	public synchronized void reset()
+	{
+		Arrays.fill(counts, 0L);
+		count = total = max = 0;
+	}
+
+	/**
+	 * Create a consistent copy of this histogram
+	 *
+	 * @return the copy
+	 */
+	public synchronized LatencyHistogram copy()
+	{
+		final LatencyHistogram copy = new LatencyHistogram();
+		System.arraycopy(counts, 0, copy.counts, 0, BUCKETS);
+		copy.count = count;
+		copy.total = total;
+		copy.max = max;
+		return copy;
+	}
+
+	static int bucket(long value)
+	{
+		if (value < SUB_BUCKETS)
+		{
+			return (int) value;
+		}
+
+		final int exp = 63 - Long.numberOfLeadingZeros(value);
+		final int mantissa = (int) (value >>> (exp - SUB_BUCKET_BITS));
+		return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+	}
+
+	static long upperBound(int bucket)
+	{
+		if (bucket < SUB_BUCKETS)
+		{
+			return bucket;
+		}
+
+		final int exp = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final long mantissa = SUB_BUCKETS + bucket % SUB_BUCKETS;
+		return ((mantissa + 1) << (exp - SUB_BUCKET_BITS)) - 1;
+	}
+}
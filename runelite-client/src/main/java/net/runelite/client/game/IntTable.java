@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table from int keys to their index in a dense key array.
+ */
+final class IntTable
+{
+	private IntTable()
+	{
+	}
+
+	/**
+	 * Builds a table for the first {@code size} keys. Later duplicate keys shadow earlier ones.
+	 *
+	 * @return the table, with each slot holding a key index + 1, or 0 if empty
+	 */
+	static int[] build(int[] keys, int size)
+	{
+		int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+		int[] table = new int[capacity];
+		int mask = capacity - 1;
+		for (int i = 0; i < size; i++)
+		{
+			int slot = hash(keys[i]) & mask;
+			while (table[slot] != 0 && keys[table[slot] - 1] != keys[i])
+			{
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = i + 1;
+		}
+		return table;
+	}
+
+	/**
+	 * @return the index of the key, or -1 if it is not in the table
+	 */
+	static int find(int[] table, int[] keys, int key)
+	{
+		int mask = table.length - 1;
+		int slot = hash(key) & mask;
+		int index;
+		while ((index = table[slot]) != 0)
+		{
+			if (keys[index - 1] == key)
+			{
+				return index - 1;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	static int[] grow(int[] array, int minCapacity)
+	{
+		return array.length >= minCapacity ? array : Arrays.copyOf(array, Math.max(minCapacity, array.length * 2));
+	}
+
+	private static int hash(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -27,15 +27,21 @@ package net.runelite.client.game;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
 import net.runelite.http.api.item.ItemPrice;
 import net.runelite.http.api.item.ItemStats;
 import okhttp3.HttpUrl;
@@ -46,10 +52,17 @@ import okhttp3.Response;
 @Slf4j
 public class ItemClient
 {
+	private static final File PRICES_SNAPSHOT = new File(RuneLite.CACHE_DIR, "item-prices.dat");
+	private static final File STATS_SNAPSHOT = new File(RuneLite.CACHE_DIR, "item-stats.dat");
+
 	private final OkHttpClient client;
 	private final HttpUrl apiBase, staticBase;
 	private final Gson gson;
 
+	// Validators of the prices and stats last loaded, used to make the next fetch conditional
+	private volatile ItemSnapshot.Validators priceValidators;
+	private volatile ItemSnapshot.Validators statsValidators;
+
 	@Inject
 	private ItemClient(OkHttpClient client,
 		@Named("runelite.api.base") HttpUrl apiBase,
@@ -63,7 +76,57 @@ public class ItemClient
 		this.gson = gson;
 	}
 
+	/**
+	 * Load the item prices saved by the last successful fetch. Later fetches will
+	 * only download the prices if they have changed since.
+	 */
+	@Nullable
+	ItemPriceStore loadPriceSnapshot()
+	{
+		ItemSnapshot snapshot = ItemSnapshot.read(PRICES_SNAPSHOT);
+		if (snapshot == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			ItemPriceStore store = ItemPriceStore.read(snapshot.getData());
+			priceValidators = snapshot.getValidators();
+			return store;
+		}
+		catch (RuntimeException ex)
+		{
+			log.debug("unable to read price snapshot", ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Fetch the item prices
+	 *
+	 * @return the prices, or null if they could not be fetched
+	 */
+	@Nullable
 	public ItemPrice[] getPrices() throws IOException
+	{
+		ItemPriceStore store = fetchPrices(null);
+		return store == null ? null : store.toArray();
+	}
+
+	/**
+	 * Fetch the item prices, parsing them straight into a store
+	 *
+	 * @return the prices, or null if they have not changed since the last fetch or snapshot
+	 */
+	@Nullable
+	ItemPriceStore getPriceStore() throws IOException
+	{
+		return fetchPrices(priceValidators);
+	}
+
+	@Nullable
+	private ItemPriceStore fetchPrices(@Nullable ItemSnapshot.Validators ifValidators) throws IOException
 	{
 		HttpUrl.Builder urlBuilder = apiBase.newBuilder()
 			.addPathSegment("item")
@@ -73,12 +136,23 @@ public class ItemClient
 
 		log.debug("Built URI: {}", url);
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
+		Request.Builder request = new Request.Builder()
+			.url(url);
+		if (ifValidators != null)
+		{
+			ifValidators.apply(request);
+		}
 
-		try (Response response = client.newCall(request).execute())
+		final ItemPriceStore store;
+		final ItemSnapshot.Validators validators;
+		try (Response response = client.newCall(request.build()).execute())
 		{
+			if (response.code() == 304)
+			{
+				log.debug("Prices not modified");
+				return null;
+			}
+
 			if (!response.isSuccessful())
 			{
 				log.warn("Error looking up prices: {}", response);
@@ -86,14 +160,52 @@ public class ItemClient
 			}
 
 			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			store = ItemPriceStore.read(new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+			validators = ItemSnapshot.Validators.of(response);
 		}
-		catch (JsonParseException ex)
+		catch (IllegalStateException | NumberFormatException ex)
 		{
 			throw new IOException(ex);
 		}
+
+		priceValidators = validators;
+		saveSnapshot(PRICES_SNAPSHOT, validators, store.toBytes());
+		return store;
+	}
+
+	/**
+	 * Load the item stats saved by the last successful fetch. Later fetches will
+	 * only download the stats if they have changed since.
+	 */
+	@Nullable
+	Map<Integer, ItemStats> loadStatsSnapshot()
+	{
+		ItemSnapshot snapshot = ItemSnapshot.read(STATS_SNAPSHOT);
+		if (snapshot == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			ByteBuffer data = snapshot.getData();
+			Map<Integer, ItemStats> stats = parseStats(data.array(), data.arrayOffset() + data.position(), data.remaining());
+			statsValidators = snapshot.getValidators();
+			return stats;
+		}
+		catch (JsonParseException ex)
+		{
+			log.debug("unable to read stats snapshot", ex);
+			return null;
+		}
 	}
 
+	/**
+	 * Fetch the item stats
+	 *
+	 * @return the stats, or null if they have not changed since the last fetch or snapshot
+	 */
+	@Nullable
 	public Map<Integer, ItemStats> getStats() throws IOException
 	{
 		HttpUrl.Builder urlBuilder = staticBase.newBuilder()
@@ -105,27 +217,65 @@ public class ItemClient
 
 		log.debug("Built URI: {}", url);
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
+		Request.Builder request = new Request.Builder()
+			.url(url);
+		if (statsValidators != null)
+		{
+			statsValidators.apply(request);
+		}
 
-		try (Response response = client.newCall(request).execute())
+		final byte[] body;
+		final ItemSnapshot.Validators validators;
+		try (Response response = client.newCall(request.build()).execute())
 		{
+			if (response.code() == 304)
+			{
+				log.debug("Item stats not modified");
+				return null;
+			}
+
 			if (!response.isSuccessful())
 			{
 				log.warn("Error looking up item stats: {}", response);
 				return null;
 			}
 
-			InputStream in = response.body().byteStream();
-			final Type typeToken = new TypeToken<Map<Integer, ItemStats>>()
-			{
-			}.getType();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), typeToken);
+			body = response.body().bytes();
+			validators = ItemSnapshot.Validators.of(response);
+		}
+
+		final Map<Integer, ItemStats> stats;
+		try
+		{
+			stats = parseStats(body, 0, body.length);
 		}
 		catch (JsonParseException ex)
 		{
 			throw new IOException(ex);
 		}
+
+		statsValidators = validators;
+		saveSnapshot(STATS_SNAPSHOT, validators, body);
+		return stats;
+	}
+
+	private Map<Integer, ItemStats> parseStats(byte[] b, int offset, int length)
+	{
+		final Type typeToken = new TypeToken<Map<Integer, ItemStats>>()
+		{
+		}.getType();
+		return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(b, offset, length), StandardCharsets.UTF_8), typeToken);
+	}
+
+	private static void saveSnapshot(File file, @Nullable ItemSnapshot.Validators validators, byte[] data)
+	{
+		try
+		{
+			ItemSnapshot.write(file, validators, data);
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to save snapshot {}", file, ex);
+		}
 	}
 }
@@ -32,9 +32,7 @@ import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
@@ -93,8 +91,8 @@ public class ItemManager
 	@Named("lowPriceThreshold")
 	private int lowPriceThreshold = 1000;
 
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
-	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
+	private volatile ItemPriceStore itemPrices = ItemPriceStore.EMPTY;
+	private volatile ItemStatsStore itemStats = ItemStatsStore.EMPTY;
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
 
@@ -188,6 +186,7 @@ public class ItemManager
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
 
+		scheduledExecutorService.submit(this::loadSnapshots);
 		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
 		scheduledExecutorService.submit(this::loadStats);
 
@@ -216,19 +215,35 @@ public class ItemManager
 			});
 	}
 
+	/**
+	 * Load the prices and stats saved from the last run, so they are available
+	 * before the first fetch completes, or if it fails.
+	 */
+	private void loadSnapshots()
+	{
+		final ItemPriceStore prices = itemClient.loadPriceSnapshot();
+		if (prices != null && itemPrices == ItemPriceStore.EMPTY)
+		{
+			itemPrices = prices;
+			log.debug("Loaded {} prices from snapshot", prices.size());
+		}
+
+		final Map<Integer, ItemStats> stats = itemClient.loadStatsSnapshot();
+		if (stats != null && itemStats == ItemStatsStore.EMPTY)
+		{
+			itemStats = ItemStatsStore.of(stats);
+			log.debug("Loaded {} stats from snapshot", stats.size());
+		}
+	}
+
 	private void loadPrices()
 	{
 		try
 		{
-			ItemPrice[] prices = itemClient.getPrices();
+			final ItemPriceStore prices = itemClient.getPriceStore();
 			if (prices != null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getId(), price);
-				}
-				itemPrices = map.build();
+				itemPrices = prices;
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -246,7 +261,7 @@ public class ItemManager
 			final Map<Integer, ItemStats> stats = itemClient.getStats();
 			if (stats != null)
 			{
-				itemStats = ImmutableMap.copyOf(stats);
+				itemStats = ItemStatsStore.of(stats);
 			}
 
 			log.debug("Loaded {} stats", itemStats.size());
@@ -299,11 +314,12 @@ public class ItemManager
 
 		if (mappedItems == null)
 		{
-			final ItemPrice ip = itemPrices.get(itemID);
+			final ItemPriceStore prices = itemPrices;
+			final int index = prices.indexOf(itemID);
 
-			if (ip != null)
+			if (index != -1)
 			{
-				price = useWikiPrice ? getWikiPrice(ip) : ip.getPrice();
+				price = useWikiPrice ? getWikiPrice(prices.getPrice(index), prices.getWikiPrice(index)) : prices.getPrice(index);
 			}
 		}
 		else
@@ -324,8 +340,11 @@ public class ItemManager
 	 */
 	public int getWikiPrice(ItemPrice itemPrice)
 	{
-		final int wikiPrice = itemPrice.getWikiPrice();
-		final int jagPrice = itemPrice.getPrice();
+		return getWikiPrice(itemPrice.getPrice(), itemPrice.getWikiPrice());
+	}
+
+	private int getWikiPrice(int jagPrice, int wikiPrice)
+	{
 		if (wikiPrice <= 0)
 		{
 			return jagPrice;
@@ -363,18 +382,7 @@ public class ItemManager
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
-
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+		return itemPrices.search(itemName);
 	}
 
 	/**
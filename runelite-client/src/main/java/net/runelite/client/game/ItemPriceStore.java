@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * An immutable set of item prices, stored in primitive arrays indexed by an
+ * open addressing table of item ids, with a trigram index of the lowercased
+ * item names for searching.
+ */
+final class ItemPriceStore
+{
+	static final ItemPriceStore EMPTY = new Builder().build();
+
+	private final int size;
+	private final int[] ids;
+	private final int[] prices;
+	private final int[] wikiPrices;
+	private final String[] names;
+	private final String[] lowerNames;
+	private final int[] table;
+	// ItemPrices handed out by search and toArray, created on first use
+	private final AtomicReferenceArray<ItemPrice> itemPrices;
+
+	// Sorted distinct trigrams, and for each the range of postings holding the ascending
+	// indexes of the items whose names contain it
+	private final long[] trigrams;
+	private final int[] trigramOffsets;
+	private final int[] postings;
+
+	private ItemPriceStore(int size, int[] ids, int[] prices, int[] wikiPrices, String[] names)
+	{
+		this.size = size;
+		this.ids = ids;
+		this.prices = prices;
+		this.wikiPrices = wikiPrices;
+		this.names = names;
+		this.table = IntTable.build(ids, size);
+		this.itemPrices = new AtomicReferenceArray<>(size);
+
+		lowerNames = new String[size];
+		// Each posting list is built as {length, last item, items...}
+		Map<Long, int[]> index = new HashMap<>();
+		for (int i = 0; i < size; i++)
+		{
+			String name = lowerNames[i] = names[i].toLowerCase();
+			for (int j = 0; j + 3 <= name.length(); j++)
+			{
+				Long key = trigram(name, j);
+				int[] posting = index.get(key);
+				if (posting == null)
+				{
+					posting = new int[]{0, -1, 0, 0};
+				}
+				else if (posting[1] == i)
+				{
+					continue;
+				}
+
+				posting = IntTable.grow(posting, posting[0] + 3);
+				posting[posting[0] + 2] = i;
+				posting[0]++;
+				posting[1] = i;
+				index.put(key, posting);
+			}
+		}
+
+		trigrams = new long[index.size()];
+		int t = 0;
+		int total = 0;
+		for (Map.Entry<Long, int[]> entry : index.entrySet())
+		{
+			trigrams[t++] = entry.getKey();
+			total += entry.getValue()[0];
+		}
+		Arrays.sort(trigrams);
+
+		trigramOffsets = new int[trigrams.length + 1];
+		postings = new int[total];
+		int offset = 0;
+		for (int i = 0; i < trigrams.length; i++)
+		{
+			int[] posting = index.get(trigrams[i]);
+			System.arraycopy(posting, 2, postings, offset, posting[0]);
+			trigramOffsets[i] = offset;
+			offset += posting[0];
+		}
+		trigramOffsets[trigrams.length] = offset;
+	}
+
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @return the index of the item's price, or -1 if it has none
+	 */
+	int indexOf(int itemId)
+	{
+		return IntTable.find(table, ids, itemId);
+	}
+
+	int getPrice(int index)
+	{
+		return prices[index];
+	}
+
+	int getWikiPrice(int index)
+	{
+		return wikiPrices[index];
+	}
+
+	ItemPrice getItemPrice(int index)
+	{
+		ItemPrice itemPrice = itemPrices.get(index);
+		if (itemPrice == null)
+		{
+			itemPrice = new ItemPrice();
+			itemPrice.setId(ids[index]);
+			itemPrice.setName(names[index]);
+			itemPrice.setPrice(prices[index]);
+			itemPrice.setWikiPrice(wikiPrices[index]);
+			if (!itemPrices.compareAndSet(index, null, itemPrice))
+			{
+				itemPrice = itemPrices.get(index);
+			}
+		}
+		return itemPrice;
+	}
+
+	ItemPrice[] toArray()
+	{
+		ItemPrice[] result = new ItemPrice[size];
+		for (int i = 0; i < size; i++)
+		{
+			result[i] = getItemPrice(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Find the items with names containing a string, ignoring case
+	 */
+	List<ItemPrice> search(String itemName)
+	{
+		final String lower = itemName.toLowerCase();
+		final List<ItemPrice> result = new ArrayList<>();
+
+		if (lower.length() < 3)
+		{
+			for (int i = 0; i < size; i++)
+			{
+				if (lowerNames[i].contains(lower))
+				{
+					result.add(getItemPrice(i));
+				}
+			}
+			return result;
+		}
+
+		// Only the items containing the rarest trigram of the query need to be checked
+		int start = 0;
+		int end = Integer.MAX_VALUE;
+		for (int j = 0; j + 3 <= lower.length(); j++)
+		{
+			int t = Arrays.binarySearch(trigrams, trigram(lower, j));
+			if (t < 0)
+			{
+				return result;
+			}
+
+			if (trigramOffsets[t + 1] - trigramOffsets[t] < end - start)
+			{
+				start = trigramOffsets[t];
+				end = trigramOffsets[t + 1];
+			}
+		}
+
+		for (int p = start; p < end; p++)
+		{
+			int i = postings[p];
+			if (lowerNames[i].contains(lower))
+			{
+				result.add(getItemPrice(i));
+			}
+		}
+		return result;
+	}
+
+	private static long trigram(String s, int offset)
+	{
+		return (long) s.charAt(offset) << 32 | (long) s.charAt(offset + 1) << 16 | s.charAt(offset + 2);
+	}
+
+	/**
+	 * Reads a store from a JSON array of item prices, without creating an object per item.
+	 */
+	static ItemPriceStore read(JsonReader reader) throws IOException
+	{
+		Builder builder = new Builder();
+		reader.beginArray();
+		while (reader.hasNext())
+		{
+			int id = 0;
+			String name = "";
+			int price = 0;
+			int wikiPrice = 0;
+
+			reader.beginObject();
+			while (reader.hasNext())
+			{
+				String field = reader.nextName();
+				if (reader.peek() == JsonToken.NULL)
+				{
+					reader.nextNull();
+					continue;
+				}
+
+				switch (field)
+				{
+					case "id":
+						id = reader.nextInt();
+						break;
+					case "name":
+						name = reader.nextString();
+						break;
+					case "price":
+						price = reader.nextInt();
+						break;
+					case "wikiPrice":
+						wikiPrice = reader.nextInt();
+						break;
+					default:
+						reader.skipValue();
+						break;
+				}
+			}
+			reader.endObject();
+
+			builder.add(id, name, price, wikiPrice);
+		}
+		reader.endArray();
+		return builder.build();
+	}
+
+	/**
+	 * Reads a store written by {@link #toBytes()}
+	 */
+	static ItemPriceStore read(ByteBuffer buf)
+	{
+		Builder builder = new Builder();
+		int count = buf.getInt();
+		for (int i = 0; i < count; i++)
+		{
+			int id = buf.getInt();
+			int price = buf.getInt();
+			int wikiPrice = buf.getInt();
+			byte[] name = new byte[buf.getShort() & 0xFFFF];
+			buf.get(name);
+			builder.add(id, new String(name, StandardCharsets.UTF_8), price, wikiPrice);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Writes the store as the item count, followed by the id, price, wiki price and
+	 * length prefixed UTF-8 name of each item.
+	 */
+	byte[] toBytes()
+	{
+		byte[][] encodedNames = new byte[size][];
+		int length = 4;
+		for (int i = 0; i < size; i++)
+		{
+			encodedNames[i] = names[i].getBytes(StandardCharsets.UTF_8);
+			length += 14 + encodedNames[i].length;
+		}
+
+		ByteBuffer buf = ByteBuffer.allocate(length);
+		buf.putInt(size);
+		for (int i = 0; i < size; i++)
+		{
+			buf.putInt(ids[i]);
+			buf.putInt(prices[i]);
+			buf.putInt(wikiPrices[i]);
+			buf.putShort((short) encodedNames[i].length);
+			buf.put(encodedNames[i]);
+		}
+		return buf.array();
+	}
+
+	static class Builder
+	{
+		private int size;
+		private int[] ids = new int[0];
+		private int[] prices = new int[0];
+		private int[] wikiPrices = new int[0];
+		private String[] names = new String[0];
+
+		Builder add(int id, String name, int price, int wikiPrice)
+		{
+			if (size == ids.length)
+			{
+				int capacity = Math.max(16, size * 2);
+				ids = Arrays.copyOf(ids, capacity);
+				prices = Arrays.copyOf(prices, capacity);
+				wikiPrices = Arrays.copyOf(wikiPrices, capacity);
+				names = Arrays.copyOf(names, capacity);
+			}
+
+			ids[size] = id;
+			prices[size] = price;
+			wikiPrices[size] = wikiPrice;
+			names[size] = name;
+			size++;
+			return this;
+		}
+
+		ItemPriceStore build()
+		{
+			// Drop all but the last price of duplicate ids
+			int[] table = IntTable.build(ids, size);
+			boolean[] keep = new boolean[size];
+			for (int i = 0; i < size; i++)
+			{
+				keep[i] = IntTable.find(table, ids, ids[i]) == i;
+			}
+
+			int unique = 0;
+			for (int i = 0; i < size; i++)
+			{
+				if (keep[i])
+				{
+					ids[unique] = ids[i];
+					prices[unique] = prices[i];
+					wikiPrices[unique] = wikiPrices[i];
+					names[unique] = names[i];
+					unique++;
+				}
+			}
+
+			return new ItemPriceStore(unique,
+				Arrays.copyOf(ids, unique),
+				Arrays.copyOf(prices, unique),
+				Arrays.copyOf(wikiPrices, unique),
+				Arrays.copyOf(names, unique));
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * A binary snapshot of the last successful fetch of an item feed, kept along with
+ * the HTTP validators of the response so that it can be refreshed with a conditional request.
+ * <p>
+ * The file is the magic, version, etag, last modified date, payload length, payload and
+ * a CRC32 of the payload.
+ */
+@Value
+@Slf4j
+class ItemSnapshot
+{
+	private static final int MAGIC = 0x524c4953; // RLIS
+	private static final int VERSION = 1;
+	private static final int MAX_SIZE = 64 << 20;
+
+	/**
+	 * The validators of an HTTP response
+	 */
+	@Value
+	static class Validators
+	{
+		@Nullable
+		private final String etag;
+		@Nullable
+		private final String lastModified;
+
+		@Nullable
+		static Validators of(Response response)
+		{
+			String etag = response.header("ETag");
+			String lastModified = response.header("Last-Modified");
+			return etag == null && lastModified == null ? null : new Validators(etag, lastModified);
+		}
+
+		void apply(Request.Builder request)
+		{
+			if (etag != null)
+			{
+				request.header("If-None-Match", etag);
+			}
+			if (lastModified != null)
+			{
+				request.header("If-Modified-Since", lastModified);
+			}
+		}
+	}
+
+	@Nullable
+	private final Validators validators;
+	private final ByteBuffer data;
+
+	/**
+	 * Read a snapshot
+	 *
+	 * @return the snapshot, or null if there is none or it is unreadable
+	 */
+	@Nullable
+	static ItemSnapshot read(File file)
+	{
+		try (FileInputStream in = new FileInputStream(file);
+			FileChannel channel = in.getChannel())
+		{
+			long size = channel.size();
+			if (size > MAX_SIZE)
+			{
+				log.debug("snapshot {} is too large: {}", file, size);
+				return null;
+			}
+
+			ByteBuffer buf = ByteBuffer.allocate((int) size);
+			while (buf.hasRemaining())
+			{
+				if (channel.read(buf) == -1)
+				{
+					throw new EOFException();
+				}
+			}
+			buf.flip();
+
+			if (buf.getInt() != MAGIC || buf.getInt() != VERSION)
+			{
+				log.debug("snapshot {} has an unknown format", file);
+				return null;
+			}
+
+			String etag = readString(buf);
+			String lastModified = readString(buf);
+			int length = buf.getInt();
+			ByteBuffer data = buf.slice();
+			data.limit(length);
+			buf.position(buf.position() + length);
+
+			CRC32 crc = new CRC32();
+			crc.update(data.duplicate());
+			if ((int) crc.getValue() != buf.getInt())
+			{
+				log.debug("snapshot {} is corrupt", file);
+				return null;
+			}
+
+			Validators validators = etag == null && lastModified == null ? null : new Validators(etag, lastModified);
+			return new ItemSnapshot(validators, data);
+		}
+		catch (FileNotFoundException ex)
+		{
+			return null;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.debug("unable to read snapshot {}", file, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Replace a snapshot
+	 */
+	static void write(File file, @Nullable Validators validators, byte[] data) throws IOException
+	{
+		CRC32 crc = new CRC32();
+		crc.update(data);
+
+		byte[] etag = encode(validators != null ? validators.getEtag() : null);
+		byte[] lastModified = encode(validators != null ? validators.getLastModified() : null);
+		ByteBuffer header = ByteBuffer.allocate(20 + (etag != null ? etag.length : 0) + (lastModified != null ? lastModified.length : 0));
+		header.putInt(MAGIC);
+		header.putInt(VERSION);
+		writeString(header, etag);
+		writeString(header, lastModified);
+		header.putInt(data.length);
+		header.flip();
+
+		ByteBuffer trailer = ByteBuffer.allocate(4);
+		trailer.putInt((int) crc.getValue());
+		trailer.flip();
+
+		file.getParentFile().mkdirs();
+		File tempFile = File.createTempFile("runelite_items", null, file.getParentFile());
+		try
+		{
+			try (FileOutputStream out = new FileOutputStream(tempFile);
+				FileChannel channel = out.getChannel())
+			{
+				ByteBuffer[] buffers = {header, ByteBuffer.wrap(data), trailer};
+				while (trailer.hasRemaining())
+				{
+					channel.write(buffers);
+				}
+				channel.force(true);
+			}
+
+			try
+			{
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				log.debug("atomic move not supported", ex);
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally
+		{
+			// only still exists if the write or move failed
+			tempFile.delete();
+		}
+	}
+
+	// strings are length prefixed, with a length of -1 for null
+	@Nullable
+	private static String readString(ByteBuffer buf)
+	{
+		int length = buf.getInt();
+		if (length < 0)
+		{
+			return null;
+		}
+
+		byte[] b = new byte[length];
+		buf.get(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(ByteBuffer buf, @Nullable byte[] s)
+	{
+		if (s == null)
+		{
+			buf.putInt(-1);
+		}
+		else
+		{
+			buf.putInt(s.length);
+			buf.put(s);
+		}
+	}
+
+	@Nullable
+	private static byte[] encode(@Nullable String s)
+	{
+		return s == null ? null : s.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Map;
+import javax.annotation.Nullable;
+import net.runelite.http.api.item.ItemStats;
+
+/**
+ * An immutable map of item ids to their stats, using an open addressing table
+ */
+final class ItemStatsStore
+{
+	static final ItemStatsStore EMPTY = new ItemStatsStore(new int[0], new ItemStats[0]);
+
+	private final int[] ids;
+	private final ItemStats[] stats;
+	private final int[] table;
+
+	private ItemStatsStore(int[] ids, ItemStats[] stats)
+	{
+		this.ids = ids;
+		this.stats = stats;
+		this.table = IntTable.build(ids, ids.length);
+	}
+
+	static ItemStatsStore of(Map<Integer, ItemStats> map)
+	{
+		int[] ids = new int[map.size()];
+		ItemStats[] stats = new ItemStats[map.size()];
+		int i = 0;
+		for (Map.Entry<Integer, ItemStats> entry : map.entrySet())
+		{
+			ids[i] = entry.getKey();
+			stats[i] = entry.getValue();
+			i++;
+		}
+		return new ItemStatsStore(ids, stats);
+	}
+
+	int size()
+	{
+		return ids.length;
+	}
+
+	@Nullable
+	ItemStats get(int itemId)
+	{
+		int index = IntTable.find(table, ids, itemId);
+		return index == -1 ? null : stats[index];
+	}
+}
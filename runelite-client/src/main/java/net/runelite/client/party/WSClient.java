@@ -27,10 +27,16 @@ package net.runelite.client.party;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -41,7 +47,9 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.party.events.UserJoin;
 import net.runelite.client.party.events.UserPart;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.UserSync;
 import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.http.api.RuneLiteAPI;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -54,23 +62,50 @@ import okio.ByteString;
 @Singleton
 public class WSClient extends WebSocketListener implements AutoCloseable
 {
+	/**
+	 * Data type of message batches encoded with {@link WebsocketMessageCodec}. Other data types are
+	 * single json encoded messages.
+	 */
+	private static final String BATCH_TYPE = "$batch";
+	/**
+	 * How long messages are held for before being sent, so that messages sent during the same tick
+	 * are sent together
+	 */
+	private static final long FLUSH_DELAY_MS = 20;
+
 	private final EventBus eventBus;
 	private final OkHttpClient okHttpClient;
 	private final HttpUrl runeliteWs;
+	private final ScheduledExecutorService executor;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final WebsocketMessageCodec codec = new WebsocketMessageCodec(RuneLiteAPI.GSON);
+	private final List<WebsocketMessage> pending = new ArrayList<>();
+	/**
+	 * Held while encoding and sending, so that encoded batches are sent in the order of their sequence numbers
+	 */
+	private final Object sendLock = new Object();
+	/**
+	 * The other party members, and whether each can decode message batches
+	 */
+	private final Map<Long, Boolean> peers = new ConcurrentHashMap<>();
 
 	private volatile Gson gson;
 	@Getter
 	private UUID sessionId;
-	private WebSocket webSocket;
+	private volatile WebSocket webSocket;
+	private volatile long memberId;
 
 	@Inject
-	private WSClient(EventBus eventBus, OkHttpClient okHttpClient, @Named("runelite.ws") HttpUrl runeliteWs)
+	private WSClient(EventBus eventBus, OkHttpClient okHttpClient, @Named("runelite.ws") HttpUrl runeliteWs, ScheduledExecutorService executor)
 	{
 		this.eventBus = eventBus;
 		this.okHttpClient = okHttpClient;
 		this.runeliteWs = runeliteWs;
-		this.gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+		this.executor = executor;
+		for (Class<? extends WebsocketMessage> message : WebsocketGsonFactory.MESSAGES)
+		{
+			codec.register(message);
+		}
 	}
 
 	public boolean sessionExists()
@@ -85,11 +120,8 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			return;
 		}
 
-		if (webSocket != null)
-		{
-			close();
-			webSocket = null;
-		}
+		close();
+		webSocket = null;
 
 		this.sessionId = sessionId;
 
@@ -113,7 +145,12 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			.header("User-Agent", RuneLite.USER_AGENT)
 			.build();
 
-		webSocket = okHttpClient.newWebSocket(request, this);
+		synchronized (sendLock)
+		{
+			codec.reset();
+			peers.clear();
+			webSocket = okHttpClient.newWebSocket(request, this);
+		}
 	}
 
 	boolean isOpen()
@@ -123,20 +160,46 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 	public void registerMessage(final Class<? extends WebsocketMessage> message)
 	{
-		if (messages.add(message))
+		synchronized (messages)
 		{
-			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+			if (messages.add(message))
+			{
+				codec.register(message);
+				// rebuilt on next use
+				gson = null;
+			}
 		}
 	}
 
 	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
-		if (messages.remove(message))
+		synchronized (messages)
 		{
-			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+			if (messages.remove(message))
+			{
+				codec.unregister(message);
+				gson = null;
+			}
 		}
 	}
 
+	private Gson getGson()
+	{
+		Gson gson = this.gson;
+		if (gson == null)
+		{
+			synchronized (messages)
+			{
+				gson = this.gson;
+				if (gson == null)
+				{
+					gson = this.gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+				}
+			}
+		}
+		return gson;
+	}
+
 	void join(long partyId, long memberId)
 	{
 		final Party.Join join = Party.Join.newBuilder()
@@ -146,7 +209,13 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		final Party.C2S c2s = Party.C2S.newBuilder()
 			.setJoin(join)
 			.build();
-		send(c2s);
+		synchronized (sendLock)
+		{
+			flush();
+			this.memberId = memberId;
+			peers.clear();
+			send(c2s);
+		}
 	}
 
 	void part()
@@ -156,40 +225,124 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		final Party.C2S c2s = Party.C2S.newBuilder()
 			.setPart(part)
 			.build();
-		send(c2s);
+		synchronized (sendLock)
+		{
+			flush();
+			peers.clear();
+			send(c2s);
+		}
 	}
 
 	void send(WebsocketMessage message)
 	{
 		log.debug("Sending: {}", message);
-		final String json = gson.toJson(message, WebsocketMessage.class);
-		final Party.Data data = Party.Data.newBuilder()
-			.setType(message.getClass().getSimpleName())
-			.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
-			.build();
-		final Party.C2S c2s = Party.C2S.newBuilder()
-			.setData(data)
-			.build();
-		send(c2s);
+		if (message instanceof UserSync)
+		{
+			((UserSync) message).setBatchMessages(true);
+		}
+
+		synchronized (pending)
+		{
+			pending.add(message);
+			if (pending.size() == 1)
+			{
+				executor.schedule(this::flush, FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+			}
+		}
 	}
 
-	private void send(Party.C2S message)
+	/**
+	 * Send all pending messages, as a single batch if every party member can decode batches
+	 */
+	void flush()
 	{
-		if (webSocket == null)
+		synchronized (sendLock)
 		{
-			log.debug("Reconnecting to server");
-			connect();
+			final List<WebsocketMessage> batch;
+			synchronized (pending)
+			{
+				if (pending.isEmpty())
+				{
+					return;
+				}
+
+				batch = new ArrayList<>(pending);
+				pending.clear();
+			}
+
+			if (webSocket == null)
+			{
+				if (sessionId == null)
+				{
+					log.debug("Dropping {} messages, there is no session", batch.size());
+					return;
+				}
+
+				// reconnect before encoding, connecting resets the codec
+				log.debug("Reconnecting to server");
+				connect();
+			}
+
+			if (peers.containsValue(false))
+			{
+				for (WebsocketMessage message : batch)
+				{
+					final String json = getGson().toJson(message, WebsocketMessage.class);
+					final Party.Data data = Party.Data.newBuilder()
+						.setType(message.getClass().getSimpleName())
+						.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
+						.build();
+					send(Party.C2S.newBuilder()
+						.setData(data)
+						.build());
+				}
+				// nobody has seen these as a batch, so once batching starts the messages must be sent in full
+				codec.resetSent();
+				return;
+			}
+
+			final byte[] payload = codec.encode(batch);
+			final Party.Data data = Party.Data.newBuilder()
+				.setType(BATCH_TYPE)
+				.setData(com.google.protobuf.ByteString.copyFrom(payload))
+				.build();
+			send(Party.C2S.newBuilder()
+				.setData(data)
+				.build());
 		}
+	}
 
-		webSocket.send(ByteString.of(message.toByteArray()));
+	private void send(Party.C2S message)
+	{
+		synchronized (sendLock)
+		{
+			if (webSocket == null)
+			{
+				log.debug("Reconnecting to server");
+				connect();
+			}
+
+			webSocket.send(ByteString.of(message.toByteArray()));
+		}
 	}
 
 	@Override
 	public void close()
 	{
-		if (webSocket != null)
+		synchronized (sendLock)
 		{
-			webSocket.close(1000, null);
+			synchronized (pending)
+			{
+				pending.clear();
+			}
+			codec.reset();
+			peers.clear();
+
+			final WebSocket webSocket = this.webSocket;
+			if (webSocket != null)
+			{
+				webSocket.close(1000, null);
+			}
 		}
 	}
 
@@ -218,22 +371,57 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 			case JOIN:
 				Party.UserJoin join = s2c.getJoin();
 				UserJoin userJoin = new UserJoin(join.getPartyId(), join.getMemberId());
+				// the new member has not seen any of our previous messages, and is assumed not to
+				// decode batches until it says otherwise
+				codec.resetSent();
+				if (join.getMemberId() != memberId)
+				{
+					peers.putIfAbsent(join.getMemberId(), false);
+				}
+				codec.resetReceived(join.getMemberId());
 				log.debug("Got: {}", userJoin);
 				eventBus.post(userJoin);
 				break;
 			case PART:
 				Party.UserPart part = s2c.getPart();
 				UserPart userPart = new UserPart(part.getMemberId());
+				codec.resetReceived(part.getMemberId());
+				peers.remove(part.getMemberId());
 				log.debug("Got: {}", userPart);
 				eventBus.post(userPart);
 				break;
 			case DATA:
 				Party.PartyData data = s2c.getData();
+				if (BATCH_TYPE.equals(data.getType()))
+				{
+					final List<WebsocketMessage> batch;
+					try
+					{
+						batch = codec.decode(data.getMemberId(), data.getData().asReadOnlyByteBuffer());
+					}
+					catch (IllegalArgumentException | JsonParseException e)
+					{
+						log.debug("Failed to deserialize message batch", e);
+						return;
+					}
+
+					if (data.getMemberId() != memberId)
+					{
+						peers.put(data.getMemberId(), true);
+					}
+
+					for (WebsocketMessage message : batch)
+					{
+						post(data.getMemberId(), message);
+					}
+					return;
+				}
+
 				final WebsocketMessage message;
 
 				try
 				{
-					message = gson.fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
+					message = getGson().fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
 				}
 				catch (JsonParseException e)
 				{
@@ -241,14 +429,29 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 					return;
 				}
 
-				if (message instanceof PartyMemberMessage)
-				{
-					((PartyMemberMessage) message).setMemberId(data.getMemberId());
-				}
+				post(data.getMemberId(), message);
+		}
+	}
+
+	private void post(long memberId, WebsocketMessage message)
+	{
+		if (message instanceof PartyMemberMessage)
+		{
+			((PartyMemberMessage) message).setMemberId(memberId);
+		}
 
-				log.debug("Got: {}", message);
-				eventBus.post(message);
+		if (message instanceof UserSync)
+		{
+			// the sync replies must be sent in full
+			codec.resetSent();
+			if (memberId != this.memberId)
+			{
+				peers.put(memberId, ((UserSync) message).isBatchMessages());
+			}
 		}
+
+		log.debug("Got: {}", message);
+		eventBus.post(message);
 	}
 
 	@Override
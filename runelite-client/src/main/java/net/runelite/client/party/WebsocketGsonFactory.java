@@ -37,7 +37,7 @@ import net.runelite.http.api.RuneLiteAPI;
 
 class WebsocketGsonFactory
 {
-	private static final Collection<Class<? extends WebsocketMessage>> MESSAGES;
+	static final Collection<Class<? extends WebsocketMessage>> MESSAGES;
 
 	static
 	{
@@ -0,0 +1,689 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.messages.WebsocketMessage;
+
+/**
+ * Binary codec for batches of websocket messages.
+ * <p>
+ * Each registered message class gets a schema of its serializable fields. A message is encoded as
+ * a presence bitmap followed by the fields whose encoding differs from the last message of the same
+ * class this client has sent, and the receiver fills the omitted fields in from the last message of
+ * that class it has received from the sender. Messages of each class are numbered, and a delta names
+ * the message it is against, so a receiver which missed that message drops the delta instead of
+ * applying it to the wrong base. The sent state is reset whenever a member joins or a sync is
+ * requested, and every {@link #FULL_INTERVAL}th message of a class is sent in full regardless, so
+ * that receivers recover from a mismatch.
+ */
+@Slf4j
+class WebsocketMessageCodec
+{
+	private static final int KIND_BOOLEAN = 0;
+	private static final int KIND_INT = 1;
+	private static final int KIND_LONG = 2;
+	private static final int KIND_FLOAT = 3;
+	private static final int KIND_DOUBLE = 4;
+	private static final int KIND_STRING = 5;
+	private static final int KIND_ENUM = 6;
+	private static final int KIND_COLOR = 7;
+	private static final int KIND_WORLD_POINT = 8;
+	private static final int KIND_JSON = 9;
+
+	/**
+	 * How often a message of a class is sent in full instead of as a delta
+	 */
+	static final int FULL_INTERVAL = 16;
+
+	// allocates messages the same way gson would, including classes without no-arg constructors.
+	// The fields are all set by the codec.
+	private static final Gson ALLOCATOR = new GsonBuilder()
+		.setExclusionStrategies(new ExclusionStrategy()
+		{
+			@Override
+			public boolean shouldSkipField(FieldAttributes f)
+			{
+				return true;
+			}
+
+			@Override
+			public boolean shouldSkipClass(Class<?> clazz)
+			{
+				return false;
+			}
+		})
+		.create();
+
+	private static final class Schema
+	{
+		private final Class<? extends WebsocketMessage> type;
+		private final String name;
+		private final Field[] fields;
+		private final int[] kinds;
+		private final TypeAdapter<? extends WebsocketMessage> adapter;
+
+		private Schema(Class<? extends WebsocketMessage> type)
+		{
+			this.type = type;
+			this.name = type.getSimpleName();
+
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> c = type; c != WebsocketMessage.class && c != Object.class; c = c.getSuperclass())
+			{
+				for (Field field : c.getDeclaredFields())
+				{
+					int mod = field.getModifiers();
+					if (Modifier.isStatic(mod) || Modifier.isTransient(mod) || field.isSynthetic())
+					{
+						continue;
+					}
+
+					field.setAccessible(true);
+					fields.add(field);
+				}
+			}
+			// getDeclaredFields() has no defined order, so sort the fields to agree with other clients
+			fields.sort(Comparator.comparing(Field::getName).thenComparing(f -> f.getDeclaringClass().getName()));
+
+			this.fields = fields.toArray(new Field[0]);
+			this.kinds = new int[this.fields.length];
+			for (int i = 0; i < this.fields.length; ++i)
+			{
+				kinds[i] = kind(this.fields[i].getType());
+			}
+			this.adapter = ALLOCATOR.getAdapter(type);
+		}
+	}
+
+	/**
+	 * The encoded fields of the last message of a class, and its sequence number
+	 */
+	private static final class State
+	{
+		private final int seq;
+		private final byte[][] fields;
+
+		private State(int seq, byte[][] fields)
+		{
+			this.seq = seq;
+			this.fields = fields;
+		}
+	}
+
+	private final Gson gson;
+	private final Map<String, Schema> schemas = new HashMap<>();
+	private final Map<Class<?>, Schema> schemasByType = new HashMap<>();
+	// last message sent, by message type
+	private final Map<String, State> sent = new HashMap<>();
+	// last message received, by member id and then message type
+	private final Map<Long, Map<String, State>> received = new HashMap<>();
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream fieldBuffer = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream messageBuffer = new ByteArrayOutputStream();
+
+	WebsocketMessageCodec(Gson gson)
+	{
+		this.gson = gson;
+	}
+
+	synchronized void register(Class<? extends WebsocketMessage> type)
+	{
+		Schema schema = new Schema(type);
+		schemas.put(schema.name, schema);
+		schemasByType.put(type, schema);
+	}
+
+	synchronized void unregister(Class<? extends WebsocketMessage> type)
+	{
+		Schema schema = schemasByType.remove(type);
+		if (schema != null)
+		{
+			schemas.remove(schema.name);
+			sent.remove(schema.name);
+		}
+	}
+
+	/**
+	 * Forget the last sent messages, so the next message of each class is encoded in full
+	 */
+	synchronized void resetSent()
+	{
+		sent.clear();
+	}
+
+	/**
+	 * Forget the last received messages from a member
+	 */
+	synchronized void resetReceived(long memberId)
+	{
+		received.remove(memberId);
+	}
+
+	synchronized void reset()
+	{
+		sent.clear();
+		received.clear();
+	}
+
+	/*
+	 * A batch is a varint message count followed by the messages. A message is its type name, the
+	 * varint length of the rest of the message, its varint sequence number, the varint sequence number
+	 * of the message it is a delta against or 0 if it is a full message, the varint field count, a
+	 * bitmap of which fields are present, and then each present field as a varint length followed by
+	 * the encoded field.
+	 */
+
+	synchronized byte[] encode(List<? extends WebsocketMessage> messages)
+	{
+		List<Schema> batch = new ArrayList<>(messages.size());
+		for (WebsocketMessage message : messages)
+		{
+			Schema schema = schemasByType.get(message.getClass());
+			if (schema == null)
+			{
+				log.warn("Dropping unregistered message {}", message);
+			}
+			batch.add(schema);
+		}
+
+		buffer.reset();
+		writeVarInt(buffer, (int) batch.stream().filter(Objects::nonNull).count());
+
+		for (int n = 0; n < messages.size(); ++n)
+		{
+			Schema schema = batch.get(n);
+			if (schema == null)
+			{
+				continue;
+			}
+
+			WebsocketMessage message = messages.get(n);
+			int count = schema.fields.length;
+			State last = sent.get(schema.name);
+			// sequence numbers start at 1, leaving 0 to mark full messages
+			int seq = last == null ? 1 : (last.seq % Integer.MAX_VALUE) + 1;
+			byte[][] base = last == null || seq % FULL_INTERVAL == 0 ? null : last.fields;
+			byte[][] fields = new byte[count][];
+			byte[] present = new byte[(count + 7) >> 3];
+
+			messageBuffer.reset();
+			for (int i = 0; i < count; ++i)
+			{
+				fieldBuffer.reset();
+				write(fieldBuffer, schema, i, get(schema, i, message));
+				fields[i] = fieldBuffer.toByteArray();
+				if (base != null && Arrays.equals(fields[i], base[i]))
+				{
+					continue;
+				}
+
+				present[i >> 3] |= 1 << (i & 7);
+				writeVarInt(messageBuffer, fields[i].length);
+				messageBuffer.write(fields[i], 0, fields[i].length);
+			}
+			sent.put(schema.name, new State(seq, fields));
+
+			int baseSeq = base == null ? 0 : last.seq;
+			writeString(buffer, schema.name);
+			writeVarInt(buffer, varIntSize(seq) + varIntSize(baseSeq) + varIntSize(count) + present.length + messageBuffer.size());
+			writeVarInt(buffer, seq);
+			writeVarInt(buffer, baseSeq);
+			writeVarInt(buffer, count);
+			buffer.write(present, 0, present.length);
+			buffer.write(messageBuffer.toByteArray(), 0, messageBuffer.size());
+		}
+
+		return buffer.toByteArray();
+	}
+
+	/**
+	 * Decode a batch of messages from a member
+	 *
+	 * @param memberId the sender
+	 * @param buf the batch
+	 * @return the decoded messages, skipping messages of unregistered classes
+	 * @throws IllegalArgumentException if the batch is malformed
+	 */
+	synchronized List<WebsocketMessage> decode(long memberId, ByteBuffer buf)
+	{
+		try
+		{
+			Map<String, State> memberReceived = received.computeIfAbsent(memberId, k -> new HashMap<>());
+			int count = readVarInt(buf);
+			List<WebsocketMessage> messages = new ArrayList<>(count);
+			for (int n = 0; n < count; ++n)
+			{
+				String name = readString(buf);
+				int len = readVarInt(buf);
+				int end = buf.position() + len;
+
+				int seq = readVarInt(buf);
+				int baseSeq = readVarInt(buf);
+				int fieldCount = readVarInt(buf);
+				if (fieldCount < 0 || fieldCount > len * 8)
+				{
+					throw new IllegalArgumentException("bad field count " + fieldCount);
+				}
+
+				byte[] present = new byte[(fieldCount + 7) >> 3];
+				buf.get(present);
+
+				// the fields are tracked even for unregistered types, so that they can be
+				// decoded if the type is registered later. A delta against a message other than
+				// the last one received has no usable base.
+				State last = memberReceived.get(name);
+				byte[][] base = baseSeq != 0 && last != null && last.seq == baseSeq && last.fields.length == fieldCount
+					? last.fields
+					: null;
+
+				byte[][] fields = new byte[fieldCount][];
+				boolean complete = true;
+				for (int i = 0; i < fieldCount; ++i)
+				{
+					if ((present[i >> 3] & (1 << (i & 7))) != 0)
+					{
+						fields[i] = new byte[readLength(buf)];
+						buf.get(fields[i]);
+					}
+					else if (base != null)
+					{
+						fields[i] = base[i];
+					}
+					complete &= fields[i] != null;
+				}
+
+				if (buf.position() != end)
+				{
+					throw new IllegalArgumentException("message length mismatch for " + name);
+				}
+
+				if (complete)
+				{
+					memberReceived.put(name, new State(seq, fields));
+				}
+				else
+				{
+					// later deltas are against this message, so they can't be decoded either
+					memberReceived.remove(name);
+				}
+
+				Schema schema = schemas.get(name);
+				if (schema == null)
+				{
+					log.debug("Skipping unknown message type {}", name);
+					continue;
+				}
+
+				if (!complete || fieldCount != schema.fields.length)
+				{
+					// a delta against a message we never saw, eg. one sent before the sender saw us join or
+					// one which was lost, or a message from a different version of the class. This recovers
+					// once the sender next sends the class in full.
+					log.debug("Dropping {} from {}, unable to decode", name, memberId);
+					continue;
+				}
+
+				messages.add(create(schema, fields));
+			}
+			return messages;
+		}
+		catch (BufferUnderflowException ex)
+		{
+			throw new IllegalArgumentException("truncated message batch", ex);
+		}
+	}
+
+	private static Object get(Schema schema, int i, WebsocketMessage message)
+	{
+		try
+		{
+			return schema.fields[i].get(message);
+		}
+		catch (IllegalAccessException ex)
+		{
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private WebsocketMessage create(Schema schema, byte[][] fields)
+	{
+		WebsocketMessage message = schema.adapter.fromJsonTree(new JsonObject());
+		for (int i = 0; i < fields.length; ++i)
+		{
+			Field field = schema.fields[i];
+			ByteBuffer buf = ByteBuffer.wrap(fields[i]);
+			Object value = read(buf, schema, i);
+			if (buf.hasRemaining())
+			{
+				throw new IllegalArgumentException("field length mismatch for " + field);
+			}
+
+			if (value == null && field.getType().isPrimitive())
+			{
+				continue;
+			}
+
+			try
+			{
+				field.set(message, value);
+			}
+			catch (IllegalAccessException ex)
+			{
+				throw new IllegalStateException(ex);
+			}
+		}
+		return message;
+	}
+
+	private static int kind(Class<?> type)
+	{
+		if (type == boolean.class || type == Boolean.class)
+		{
+			return KIND_BOOLEAN;
+		}
+		if (type == byte.class || type == Byte.class || type == short.class || type == Short.class
+			|| type == char.class || type == Character.class || type == int.class || type == Integer.class)
+		{
+			return KIND_INT;
+		}
+		if (type == long.class || type == Long.class)
+		{
+			return KIND_LONG;
+		}
+		if (type == float.class || type == Float.class)
+		{
+			return KIND_FLOAT;
+		}
+		if (type == double.class || type == Double.class)
+		{
+			return KIND_DOUBLE;
+		}
+		if (type == String.class)
+		{
+			return KIND_STRING;
+		}
+		if (type.isEnum())
+		{
+			return KIND_ENUM;
+		}
+		if (type == Color.class)
+		{
+			return KIND_COLOR;
+		}
+		if (type == WorldPoint.class)
+		{
+			return KIND_WORLD_POINT;
+		}
+		return KIND_JSON;
+	}
+
+	private void write(ByteArrayOutputStream out, Schema schema, int i, Object value)
+	{
+		Class<?> type = schema.fields[i].getType();
+		if (!type.isPrimitive())
+		{
+			out.write(value != null ? 1 : 0);
+			if (value == null)
+			{
+				return;
+			}
+		}
+
+		switch (schema.kinds[i])
+		{
+			case KIND_BOOLEAN:
+				out.write((Boolean) value ? 1 : 0);
+				break;
+			case KIND_INT:
+				writeVarInt(out, zigzag(value instanceof Character ? (Character) value : ((Number) value).intValue()));
+				break;
+			case KIND_LONG:
+				writeVarLong(out, zigzag((Long) value));
+				break;
+			case KIND_FLOAT:
+				writeInt(out, Float.floatToIntBits((Float) value));
+				break;
+			case KIND_DOUBLE:
+				long bits = Double.doubleToLongBits((Double) value);
+				writeInt(out, (int) (bits >>> 32));
+				writeInt(out, (int) bits);
+				break;
+			case KIND_STRING:
+				writeString(out, (String) value);
+				break;
+			case KIND_JSON:
+				writeString(out, gson.toJson(value, schema.fields[i].getGenericType()));
+				break;
+			case KIND_ENUM:
+				writeString(out, ((Enum<?>) value).name());
+				break;
+			case KIND_COLOR:
+				writeInt(out, ((Color) value).getRGB());
+				break;
+			case KIND_WORLD_POINT:
+				WorldPoint wp = (WorldPoint) value;
+				writeVarInt(out, zigzag(wp.getX()));
+				writeVarInt(out, zigzag(wp.getY()));
+				writeVarInt(out, zigzag(wp.getPlane()));
+				break;
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Object read(ByteBuffer buf, Schema schema, int i)
+	{
+		Class<?> type = schema.fields[i].getType();
+		if (!type.isPrimitive() && buf.get() == 0)
+		{
+			return null;
+		}
+
+		switch (schema.kinds[i])
+		{
+			case KIND_BOOLEAN:
+				return buf.get() != 0;
+			case KIND_INT:
+				int v = unzigzag(readVarInt(buf));
+				if (type == byte.class || type == Byte.class)
+				{
+					return (byte) v;
+				}
+				if (type == short.class || type == Short.class)
+				{
+					return (short) v;
+				}
+				if (type == char.class || type == Character.class)
+				{
+					return (char) v;
+				}
+				return v;
+			case KIND_LONG:
+				return unzigzag(readVarLong(buf));
+			case KIND_FLOAT:
+				return Float.intBitsToFloat(buf.getInt());
+			case KIND_DOUBLE:
+				return Double.longBitsToDouble(buf.getLong());
+			case KIND_STRING:
+				return readString(buf);
+			case KIND_JSON:
+				return gson.fromJson(readString(buf), schema.fields[i].getGenericType());
+			case KIND_ENUM:
+				String name = readString(buf);
+				try
+				{
+					return Enum.valueOf((Class<Enum>) type, name);
+				}
+				catch (IllegalArgumentException ex)
+				{
+					log.debug("Unknown enum value {} for {}", name, schema.fields[i]);
+					return null;
+				}
+			case KIND_COLOR:
+				return new Color(buf.getInt(), true);
+			case KIND_WORLD_POINT:
+				int x = unzigzag(readVarInt(buf));
+				int y = unzigzag(readVarInt(buf));
+				int plane = unzigzag(readVarInt(buf));
+				return new WorldPoint(x, y, plane);
+			default:
+				throw new IllegalStateException();
+		}
+	}
+
+	private static int zigzag(int v)
+	{
+		return (v << 1) ^ (v >> 31);
+	}
+
+	private static long zigzag(long v)
+	{
+		return (v << 1) ^ (v >> 63);
+	}
+
+	private static int unzigzag(int v)
+	{
+		return (v >>> 1) ^ -(v & 1);
+	}
+
+	private static long unzigzag(long v)
+	{
+		return (v >>> 1) ^ -(v & 1);
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int v)
+	{
+		out.write(v >>> 24);
+		out.write(v >>> 16);
+		out.write(v >>> 8);
+		out.write(v);
+	}
+
+	private static void writeVarInt(ByteArrayOutputStream out, int v)
+	{
+		while ((v & ~0x7f) != 0)
+		{
+			out.write((v & 0x7f) | 0x80);
+			v >>>= 7;
+		}
+		out.write(v);
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long v)
+	{
+		while ((v & ~0x7fL) != 0)
+		{
+			out.write((int) (v & 0x7f) | 0x80);
+			v >>>= 7;
+		}
+		out.write((int) v);
+	}
+
+	private static int readVarInt(ByteBuffer buf)
+	{
+		int v = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			byte b = buf.get();
+			v |= (b & 0x7f) << shift;
+			if (b >= 0)
+			{
+				return v;
+			}
+		}
+		throw new IllegalArgumentException("malformed varint");
+	}
+
+	private static long readVarLong(ByteBuffer buf)
+	{
+		long v = 0;
+		for (int shift = 0; shift < 70; shift += 7)
+		{
+			byte b = buf.get();
+			v |= (long) (b & 0x7f) << shift;
+			if (b >= 0)
+			{
+				return v;
+			}
+		}
+		throw new IllegalArgumentException("malformed varint");
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String s)
+	{
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, b.length);
+		out.write(b, 0, b.length);
+	}
+
+	private static int varIntSize(int v)
+	{
+		int size = 1;
+		while ((v & ~0x7f) != 0)
+		{
+			v >>>= 7;
+			++size;
+		}
+		return size;
+	}
+
+	private static int readLength(ByteBuffer buf)
+	{
+		int len = readVarInt(buf);
+		if (len < 0 || len > buf.remaining())
+		{
+			throw new IllegalArgumentException("bad length " + len);
+		}
+		return len;
+	}
+
+	private static String readString(ByteBuffer buf)
+	{
+		byte[] b = new byte[readLength(buf)];
+		buf.get(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+}
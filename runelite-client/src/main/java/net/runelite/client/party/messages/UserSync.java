@@ -24,6 +24,16 @@
  */
 package net.runelite.client.party.messages;
 
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
 public class UserSync extends PartyMemberMessage
 {
+	/**
+	 * Whether the sender can decode message batches. This is absent, and so false, from clients
+	 * which predate batching.
+	 */
+	private boolean batchMessages;
 }
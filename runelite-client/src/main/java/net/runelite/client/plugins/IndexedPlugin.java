@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import com.google.common.base.Splitter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plugin metadata generated at build time by the plugin index annotation processor
+ */
+@Value
+@Slf4j
+class IndexedPlugin
+{
+	private static final Splitter TAB = Splitter.on('\t');
+	private static final Splitter COMMA = Splitter.on(',').omitEmptyStrings();
+
+	private final String className;
+	private final boolean developerPlugin;
+	private final boolean loadWhenOutdated;
+	/**
+	 * null if the plugin's index entry is unusable, and its metadata must be read reflectively
+	 */
+	@Nullable
+	private final List<String> dependencies;
+	@Nullable
+	private final List<String> scheduledMethods;
+
+	boolean isIndexed()
+	{
+		return dependencies != null && scheduledMethods != null;
+	}
+
+	static List<IndexedPlugin> read(InputStream in) throws IOException
+	{
+		final List<IndexedPlugin> plugins = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.isEmpty())
+				{
+					continue;
+				}
+
+				final List<String> fields = TAB.splitToList(line);
+				if (fields.size() != 4)
+				{
+					log.warn("Malformed plugin index entry: {}", line);
+					// still load the plugin, but have its flags and metadata read from the class itself
+					plugins.add(new IndexedPlugin(fields.get(0), false, true, null, null));
+					continue;
+				}
+
+				final String flags = fields.get(1);
+				plugins.add(new IndexedPlugin(
+					fields.get(0),
+					flags.indexOf('d') != -1,
+					flags.indexOf('o') != -1,
+					COMMA.splitToList(fields.get(2)),
+					COMMA.splitToList(fields.get(3))
+				));
+			}
+		}
+		return plugins;
+	}
+}
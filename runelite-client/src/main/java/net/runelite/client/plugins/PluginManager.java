@@ -32,6 +32,7 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.CreationException;
 import com.google.inject.Injector;
@@ -39,6 +40,7 @@ import com.google.inject.Key;
 import com.google.inject.Module;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,15 +48,26 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -88,6 +101,18 @@ public class PluginManager
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
+	/**
+	 * Index of plugin classes, generated at build time by the plugin index annotation processor
+	 */
+	private static final String PLUGIN_INDEX = "runelite/plugins";
+	/**
+	 * Maximum time to occupy the EDT with starting plugins before yielding to other events
+	 */
+	private static final long START_BATCH_NANOS = 50_000_000L;
+	/**
+	 * Shared executor used to load indexed plugin classes and to instantiate plugins
+	 */
+	private static final ExecutorService LOADER_EXECUTOR = createLoaderExecutor();
 
 	private final boolean developerMode;
 	private final boolean safeMode;
@@ -97,6 +122,7 @@ public class PluginManager
 	private final Provider<GameEventManager> sceneTileManager;
 	private final List<Plugin> plugins = new CopyOnWriteArrayList<>();
 	private final List<Plugin> activePlugins = new CopyOnWriteArrayList<>();
+	private final Map<Class<?>, IndexedPlugin> indexedPlugins = new ConcurrentHashMap<>();
 
 	@Setter
 	boolean isOutdated;
@@ -229,22 +255,29 @@ public class PluginManager
 	public void startPlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		int[] loaded = new int[1];
+		while (loaded[0] < scannedPlugins.size())
 		{
 			try
 			{
+				// start as many plugins as fit in a batch per EDT submission, rather than one at a time
 				SwingUtilities.invokeAndWait(() ->
 				{
-					try
-					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
+					final long start = System.nanoTime();
+					do
 					{
-						log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
+						Plugin plugin = scannedPlugins.get(loaded[0]++);
+						try
+						{
+							startPlugin(plugin);
+						}
+						catch (PluginInstantiationException ex)
+						{
+							log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+							plugins.remove(plugin);
+						}
 					}
+					while (loaded[0] < scannedPlugins.size() && System.nanoTime() - start < START_BATCH_NANOS);
 				});
 			}
 			catch (InterruptedException | InvocationTargetException e)
@@ -252,8 +285,7 @@ public class PluginManager
 				throw new RuntimeException(e);
 			}
 
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded[0], scannedPlugins.size(), false);
 		}
 
 		for (Plugin plugin : plugins)
@@ -265,16 +297,104 @@ public class PluginManager
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+		List<Class<?>> plugins = readPluginIndex();
+		if (plugins == null)
+		{
+			log.debug("Plugin index not found, scanning classpath");
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Read the plugin classes from the plugin index
+	 *
+	 * @return the plugin classes, or null if the classpath must be scanned instead
+	 */
+	private List<Class<?>> readPluginIndex() throws IOException
+	{
+		if (developerMode)
+		{
+			// IDE builds may not run the annotation processor, leaving the index missing new plugins
+			log.debug("Developer mode, not using the plugin index");
+			return null;
+		}
+
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<IndexedPlugin> index = new ArrayList<>();
+		// test classes may have their own index alongside the client's
+		final Enumeration<URL> indexes = classLoader.getResources(PLUGIN_INDEX);
+		while (indexes.hasMoreElements())
+		{
+			try (InputStream in = indexes.nextElement().openStream())
+			{
+				index.addAll(IndexedPlugin.read(in));
+			}
+		}
+
+		if (index.isEmpty())
+		{
+			return null;
+		}
+
+		// class loading is independent per plugin, so resolve the indexed classes concurrently
+		final List<IndexedPlugin> toLoad = new ArrayList<>(index.size());
+		final List<Future<Class<?>>> futures = new ArrayList<>(index.size());
+		for (IndexedPlugin indexedPlugin : index)
+		{
+			// skip loading plugin classes which would be filtered out by loadPlugins anyway
+			if (!indexedPlugin.getClassName().startsWith(PLUGIN_PACKAGE + ".")
+				|| (indexedPlugin.isDeveloperPlugin() && !developerMode)
+				|| (!indexedPlugin.isLoadWhenOutdated() && isOutdated))
+			{
+				continue;
+			}
+
+			toLoad.add(indexedPlugin);
+			futures.add(LOADER_EXECUTOR.submit(() -> Class.forName(indexedPlugin.getClassName(), false, classLoader)));
+		}
+
+		final List<Class<?>> plugins = new ArrayList<>(futures.size());
+		boolean stale = false;
+		for (int i = 0; i < futures.size(); ++i)
+		{
+			final IndexedPlugin indexedPlugin = toLoad.get(i);
+			try
+			{
+				Class<?> clazz = futures.get(i).get();
+				if (indexedPlugin.isIndexed())
+				{
+					indexedPlugins.put(clazz, indexedPlugin);
+				}
+				plugins.add(clazz);
+			}
+			catch (ExecutionException ex)
+			{
+				log.warn("Indexed plugin {} not found", indexedPlugin.getClassName(), ex.getCause());
+				stale = true;
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				throw new IOException(ex);
+			}
+		}
+
+		if (stale)
+		{
+			log.warn("Plugin index is out of date, scanning classpath");
+			indexedPlugins.clear();
+			return null;
+		}
+		return plugins;
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -364,13 +484,11 @@ public class PluginManager
 		// Build plugin graph
 		for (Class<? extends Plugin> pluginClazz : graph.nodes())
 		{
-			PluginDependency[] pluginDependencies = pluginClazz.getAnnotationsByType(PluginDependency.class);
-
-			for (PluginDependency pluginDependency : pluginDependencies)
+			for (Class<?> dependency : getDependencies(pluginClazz))
 			{
-				if (graph.nodes().contains(pluginDependency.value()))
+				if (graph.nodes().contains(dependency))
 				{
-					graph.putEdge(pluginDependency.value(), pluginClazz);
+					graph.putEdge((Class<Plugin>) dependency, pluginClazz);
 				}
 			}
 		}
@@ -380,28 +498,47 @@ public class PluginManager
 			throw new PluginInstantiationException("Plugin dependency graph contains a cycle!");
 		}
 
-		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
+		List<List<Class<? extends Plugin>>> layers = topologicalLayers(graph);
+		int total = graph.nodes().size();
 
+		// Plugins within a layer don't depend on each other, so they are instantiated concurrently.
+		// Injectors are thread safe and plugins are not instantiated on the EDT anyway. The workers
+		// only read this.plugins for dependencies from earlier layers; plugins are added to it here,
+		// in layer order, once their layer is done.
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
-		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		for (List<Class<? extends Plugin>> layer : layers)
 		{
-			Plugin plugin;
-			try
+			List<Future<Plugin>> futures = new ArrayList<>(layer.size());
+			for (Class<? extends Plugin> pluginClazz : layer)
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
-				newPlugins.add(plugin);
-				this.plugins.add(plugin);
-			}
-			catch (PluginInstantiationException ex)
-			{
-				log.warn("Error instantiating plugin!", ex);
+				futures.add(LOADER_EXECUTOR.submit(() -> instantiate(this.plugins, (Class<Plugin>) pluginClazz)));
 			}
 
-			loaded++;
-			if (onPluginLoaded != null)
+			for (Future<Plugin> future : futures)
 			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
+				try
+				{
+					Plugin plugin = future.get();
+					newPlugins.add(plugin);
+					this.plugins.add(plugin);
+				}
+				catch (ExecutionException ex)
+				{
+					log.warn("Error instantiating plugin!", ex.getCause());
+				}
+				catch (InterruptedException ex)
+				{
+					futures.forEach(f -> f.cancel(true));
+					Thread.currentThread().interrupt();
+					throw new PluginInstantiationException(ex);
+				}
+
+				loaded++;
+				if (onPluginLoaded != null)
+				{
+					onPluginLoaded.accept(loaded, total);
+				}
 			}
 		}
 
@@ -520,14 +657,13 @@ public class PluginManager
 
 	private Plugin instantiate(List<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
 	{
-		PluginDependency[] pluginDependencies = clazz.getAnnotationsByType(PluginDependency.class);
 		List<Plugin> deps = new ArrayList<>();
-		for (PluginDependency pluginDependency : pluginDependencies)
+		for (Class<?> pluginDependency : getDependencies(clazz))
 		{
-			Optional<Plugin> dependency = scannedPlugins.stream().filter(p -> p.getClass() == pluginDependency.value()).findFirst();
+			Optional<Plugin> dependency = scannedPlugins.stream().filter(p -> p.getClass() == pluginDependency).findFirst();
 			if (!dependency.isPresent())
 			{
-				throw new PluginInstantiationException("Unmet dependency for " + clazz.getSimpleName() + ": " + pluginDependency.value().getSimpleName());
+				throw new PluginInstantiationException("Unmet dependency for " + clazz.getSimpleName() + ": " + pluginDependency.getSimpleName());
 			}
 			deps.add(dependency.get());
 		}
@@ -607,9 +743,57 @@ public class PluginManager
 		return plugins;
 	}
 
+	private List<Class<?>> getDependencies(Class<?> clazz)
+	{
+		final IndexedPlugin indexedPlugin = indexedPlugins.get(clazz);
+		if (indexedPlugin != null)
+		{
+			try
+			{
+				List<Class<?>> dependencies = new ArrayList<>(indexedPlugin.getDependencies().size());
+				for (String dependency : indexedPlugin.getDependencies())
+				{
+					dependencies.add(Class.forName(dependency, false, clazz.getClassLoader()));
+				}
+				return dependencies;
+			}
+			catch (ClassNotFoundException ex)
+			{
+				log.warn("Indexed dependency of {} not found", clazz.getSimpleName(), ex);
+			}
+		}
+
+		return Arrays.stream(clazz.getAnnotationsByType(PluginDependency.class))
+			.map(PluginDependency::value)
+			.collect(Collectors.toList());
+	}
+
+	private Collection<Method> getScheduledMethods(Class<?> clazz)
+	{
+		final IndexedPlugin indexedPlugin = indexedPlugins.get(clazz);
+		if (indexedPlugin != null)
+		{
+			try
+			{
+				List<Method> methods = new ArrayList<>(indexedPlugin.getScheduledMethods().size());
+				for (String method : indexedPlugin.getScheduledMethods())
+				{
+					methods.add(clazz.getMethod(method));
+				}
+				return methods;
+			}
+			catch (NoSuchMethodException ex)
+			{
+				log.warn("Indexed scheduled method of {} not found", clazz.getSimpleName(), ex);
+			}
+		}
+
+		return Arrays.asList(clazz.getMethods());
+	}
+
 	private void schedule(Plugin plugin)
 	{
-		for (Method method : plugin.getClass().getMethods())
+		for (Method method : getScheduledMethods(plugin.getClass()))
 		{
 			Schedule schedule = method.getAnnotation(Schedule.class);
 
@@ -705,6 +889,66 @@ public class PluginManager
 		return l;
 	}
 
+	private static ExecutorService createLoaderExecutor()
+	{
+		final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(),
+			new ThreadFactoryBuilder().setNameFormat("plugin-loader-%d").setDaemon(true).build());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Group the nodes of a graph into layers, where each node's predecessors are all in
+	 * earlier layers. Nodes within a layer are independent of each other.
+	 *
+	 * @param graph - A directed acyclic graph
+	 * @param <T>   - The type of the item contained in the nodes of the graph
+	 * @return - The layers of the graph, in dependency order
+	 */
+	@VisibleForTesting
+	static <T> List<List<T>> topologicalLayers(Graph<T> graph)
+	{
+		Map<T, Integer> inDegree = new HashMap<>();
+		List<T> layer = new ArrayList<>();
+		for (T node : graph.nodes())
+		{
+			int degree = graph.inDegree(node);
+			inDegree.put(node, degree);
+			if (degree == 0)
+			{
+				layer.add(node);
+			}
+		}
+
+		List<List<T>> layers = new ArrayList<>();
+		int sorted = 0;
+		while (!layer.isEmpty())
+		{
+			layers.add(layer);
+			sorted += layer.size();
+
+			List<T> next = new ArrayList<>();
+			for (T n : layer)
+			{
+				for (T m : graph.successors(n))
+				{
+					if (inDegree.merge(m, -1, Integer::sum) == 0)
+					{
+						next.add(m);
+					}
+				}
+			}
+			layer = next;
+		}
+		if (sorted != graph.nodes().size())
+		{
+			throw new RuntimeException("Graph has at least one cycle");
+		}
+		return layers;
+	}
+
 	public List<Plugin> conflictsForPlugin(Plugin plugin)
 	{
 		Set<String> conflicts;
@@ -674,6 +674,7 @@ class ProfilePanel extends PluginPanel
 		{
 			// save config to disk so the export copies the full config
 			configManager.sendConfig();
+			ProfileManager.compactProfileConfig(profile);
 
 			File source = ProfileManager.profileConfigFile(profile);
 			if (!source.exists())
@@ -745,6 +746,7 @@ class ProfilePanel extends PluginPanel
 				reload(lock.getProfiles());
 
 				// copy config if present
+				ProfileManager.compactProfileConfig(profile);
 				File from = ProfileManager.profileConfigFile(profile);
 				File to = ProfileManager.profileConfigFile(clonedProfile);
 
@@ -59,6 +59,7 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.EventProfiler;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -449,6 +450,61 @@ public class DevToolsPlugin extends Plugin
 					.build());
 				break;
 			}
+			case "profileevents":
+			{
+				final String action = args.length < 1 ? "" : args[0];
+				final EventProfiler profiler = eventBus.getProfiler();
+				final String message;
+
+				if (action.equals("dump") || action.equals("reset"))
+				{
+					if (profiler == null)
+					{
+						message = "Event profiling is not enabled";
+					}
+					else if (action.equals("dump"))
+					{
+						int count;
+						try
+						{
+							count = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+						}
+						catch (NumberFormatException ex)
+						{
+							count = 0;
+						}
+
+						if (count < 1)
+						{
+							message = "Usage: ::profileevents dump [entries per table]";
+						}
+						else
+						{
+							profiler.dump(count);
+							message = "Event profile written to the client log";
+						}
+					}
+					else
+					{
+						profiler.reset();
+						message = "Event profile has been reset";
+					}
+				}
+				else if (profiler == null)
+				{
+					eventBus.setProfiler(new EventProfiler());
+					message = "Event profiling has been enabled";
+				}
+				else
+				{
+					eventBus.setProfiler(null);
+					profiler.dump(20);
+					message = "Event profiling has been disabled";
+				}
+
+				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", message, null);
+				break;
+			}
 			case "modicons":
 			{
 				final ChatMessageBuilder builder = new ChatMessageBuilder();
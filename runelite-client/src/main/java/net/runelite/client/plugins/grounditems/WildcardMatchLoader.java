@@ -30,11 +30,12 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
 	private final List<ItemThreshold> itemThresholds;
+	private final WildcardMatcherSet matcher;
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
@@ -42,6 +43,9 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
 			.collect(Collectors.toList());
+		this.matcher = WildcardMatcherSet.compile(itemThresholds.stream()
+			.map(ItemThreshold::getItemName)
+			.collect(Collectors.toList()));
 	}
 
 	@Override
@@ -54,10 +58,9 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 
 		final String filteredName = key.getName().trim();
 
-		for (final ItemThreshold entry : itemThresholds)
+		for (final int idx : matcher.findAll(filteredName))
 		{
-			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
-				&& entry.quantityHolds(key.getQuantity()))
+			if (itemThresholds.get(idx).quantityHolds(key.getQuantity()))
 			{
 				return true;
 			}
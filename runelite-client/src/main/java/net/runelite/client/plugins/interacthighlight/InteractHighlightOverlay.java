@@ -63,6 +63,7 @@ class InteractHighlightOverlay extends Overlay
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		setPriority(OverlayPriority.HIGH);
+		setOutlinesOnly(true);
 	}
 
 	@Override
@@ -472,9 +472,10 @@ public class LootTrackerPlugin extends Plugin
 			int drops = 0;
 			List<ConfigLoot> loots = new ArrayList<>();
 			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			for (Map.Entry<String, String> entry : configManager.getConfigurationEntries(LootTrackerConfig.GROUP, profileKey, "drops_").entrySet())
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+				String key = entry.getKey();
+				String json = entry.getValue();
 				ConfigLoot configLoot;
 
 				try
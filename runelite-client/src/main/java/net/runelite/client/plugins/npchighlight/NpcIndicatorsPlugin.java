@@ -32,6 +32,7 @@ import java.applet.Applet;
 import java.awt.Color;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -75,7 +76,7 @@ import net.runelite.client.ui.components.colorpicker.RuneliteColorPicker;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.Text;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(
 	name = "NPC Indicators",
@@ -157,6 +158,11 @@ public class NpcIndicatorsPlugin extends Plugin
 	 */
 	private List<String> highlights = new ArrayList<>();
 
+	/**
+	 * The highlight strings compiled for matching
+	 */
+	private WildcardMatcherSet highlightMatcher = WildcardMatcherSet.compile(Collections.emptyList());
+
 	/**
 	 * NPC ids marked with the Tag option
 	 */
@@ -276,9 +282,8 @@ public class NpcIndicatorsPlugin extends Plugin
 			final String npcName = npc.getName();
 			final boolean nameMatch = highlights.stream().anyMatch(npcName::equalsIgnoreCase);
 			final boolean idMatch = npcTags.contains(npc.getIndex());
-			final boolean wildcardMatch = highlights.stream()
-				.filter(highlight -> !highlight.equalsIgnoreCase(npcName))
-				.anyMatch(highlight -> WildcardMatcher.matches(highlight, npcName));
+			final boolean wildcardMatch = Arrays.stream(highlightMatcher.findAll(npcName))
+				.anyMatch(i -> !highlights.get(i).equalsIgnoreCase(npcName));
 			int idx = -1;
 
 			client.createMenuEntry(idx--)
@@ -636,6 +641,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	void rebuild()
 	{
 		highlights = getHighlights();
+		highlightMatcher = WildcardMatcherSet.compile(highlights);
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -680,15 +686,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightMatcher.matches(npcName);
 	}
 
 	private void validateSpawnedNpcs()
@@ -63,7 +63,7 @@ import net.runelite.client.plugins.slayer.SlayerPlugin;
 import net.runelite.client.plugins.slayer.SlayerPluginService;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(
 	name = "NPC Aggression Timer",
@@ -138,7 +138,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	private boolean loggingIn;
 	private boolean notifyOnce;
 
-	private List<String> npcNamePatterns;
+	private WildcardMatcherSet npcNamePatterns;
 
 	@Provides
 	NpcAggroAreaConfig provideConfig(ConfigManager configManager)
@@ -151,7 +151,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	{
 		overlayManager.add(overlay);
 		overlayManager.add(notWorkingOverlay);
-		npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+		npcNamePatterns = WildcardMatcherSet.compile(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 		recheckActive();
 	}
 
@@ -286,15 +286,7 @@ public class NpcAggroAreaPlugin extends Plugin
 			}
 		}
 
-		for (String pattern : npcNamePatterns)
-		{
-			if (WildcardMatcher.matches(pattern, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return npcNamePatterns.matches(npcName);
 	}
 
 	private void checkAreaNpcs(final NPC... npcs)
@@ -405,7 +397,7 @@ public class NpcAggroAreaPlugin extends Plugin
 				calculateLinesToDisplay();
 				break;
 			case "npcUnaggroNames":
-				npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+				npcNamePatterns = WildcardMatcherSet.compile(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 				recheckActive();
 				break;
 		}
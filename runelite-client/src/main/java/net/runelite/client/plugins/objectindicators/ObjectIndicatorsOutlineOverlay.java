@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.objectindicators;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import javax.inject.Inject;
+import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_OUTLINE;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayPriority;
+import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+
+/**
+ * Draws the outlines of marked objects. These are kept apart from the other highlights
+ * so that they can be rasterized together.
+ */
+class ObjectIndicatorsOutlineOverlay extends Overlay
+{
+	private final ObjectIndicatorsConfig config;
+	private final ObjectIndicatorsPlugin plugin;
+	private final ModelOutlineRenderer modelOutlineRenderer;
+
+	@Inject
+	private ObjectIndicatorsOutlineOverlay(ObjectIndicatorsConfig config, ObjectIndicatorsPlugin plugin,
+		ModelOutlineRenderer modelOutlineRenderer)
+	{
+		this.config = config;
+		this.plugin = plugin;
+		this.modelOutlineRenderer = modelOutlineRenderer;
+		setPosition(OverlayPosition.DYNAMIC);
+		setPriority(OverlayPriority.LOW);
+		setLayer(OverlayLayer.ABOVE_SCENE);
+		setOutlinesOnly(true);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		var objects = plugin.getObjects();
+		if (objects.isEmpty())
+		{
+			return null;
+		}
+
+		final var defaultFlags = plugin.getDefaultHighlightFlags();
+		for (ColorTileObject obj : objects)
+		{
+			if ((plugin.getHighlightFlags(obj, defaultFlags) & HF_OUTLINE) != 0)
+			{
+				modelOutlineRenderer.drawOutline(obj.getTileObject(), (int) config.borderWidth(), plugin.getHighlightColor(obj), config.outlineFeather());
+			}
+		}
+
+		return null;
+	}
+}
@@ -24,7 +24,6 @@
  */
 package net.runelite.client.plugins.objectindicators;
 
-import com.google.common.base.Strings;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -33,40 +32,31 @@ import java.awt.Polygon;
 import java.awt.Shape;
 import java.awt.Stroke;
 import javax.inject.Inject;
-import net.runelite.api.Client;
 import net.runelite.api.DecorativeObject;
 import net.runelite.api.GameObject;
 import net.runelite.api.GroundObject;
-import net.runelite.api.ObjectComposition;
 import net.runelite.api.TileObject;
 import net.runelite.api.WallObject;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_CLICKBOX;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_HULL;
-import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_OUTLINE;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_TILE;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayPriority;
 import net.runelite.client.ui.overlay.OverlayUtil;
-import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
 import net.runelite.client.util.ColorUtil;
 
 class ObjectIndicatorsOverlay extends Overlay
 {
-	private final Client client;
 	private final ObjectIndicatorsConfig config;
 	private final ObjectIndicatorsPlugin plugin;
-	private final ModelOutlineRenderer modelOutlineRenderer;
 
 	@Inject
-	private ObjectIndicatorsOverlay(Client client, ObjectIndicatorsConfig config, ObjectIndicatorsPlugin plugin,
-		ModelOutlineRenderer modelOutlineRenderer)
+	private ObjectIndicatorsOverlay(ObjectIndicatorsConfig config, ObjectIndicatorsPlugin plugin)
 	{
-		this.client = client;
 		this.config = config;
 		this.plugin = plugin;
-		this.modelOutlineRenderer = modelOutlineRenderer;
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(OverlayPriority.LOW);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -82,53 +72,24 @@ class ObjectIndicatorsOverlay extends Overlay
 		}
 
 		Stroke stroke = new BasicStroke((float) config.borderWidth());
-		final var defaultFlags =
-			(config.highlightHull() ? HF_HULL : 0) |
-			(config.highlightOutline() ? HF_OUTLINE : 0) |
-			(config.highlightClickbox() ? HF_CLICKBOX : 0) |
-			(config.highlightTile() ? HF_TILE : 0);
+		final var defaultFlags = plugin.getDefaultHighlightFlags();
 		for (ColorTileObject obj : objects)
 		{
-			TileObject object = obj.getTileObject();
-			Color color = obj.getColor();
-
-			if (object.getPlane() != client.getPlane())
+			// outlines are drawn by ObjectIndicatorsOutlineOverlay
+			final var flags = plugin.getHighlightFlags(obj, defaultFlags);
+			if ((flags & (HF_HULL | HF_CLICKBOX | HF_TILE)) == 0)
 			{
 				continue;
 			}
 
-			ObjectComposition composition = obj.getComposition();
-			if (composition.getImpostorIds() != null)
-			{
-				// This is a multiloc
-				composition = composition.getImpostor();
-				// Only mark the object if the name still matches
-				if (composition == null
-					|| Strings.isNullOrEmpty(composition.getName())
-					|| "null".equals(composition.getName())
-					|| !composition.getName().equals(obj.getName()))
-				{
-					continue;
-				}
-			}
-
-			if (color == null)
-			{
-				// Fallback to the current config if the object is marked before the addition of multiple colors
-				color = config.markerColor();
-			}
+			TileObject object = obj.getTileObject();
+			Color color = plugin.getHighlightColor(obj);
 
-			final var flags = obj.getHighlightFlags() != 0 ? obj.getHighlightFlags() : defaultFlags;
 			if ((flags & HF_HULL) != 0)
 			{
 				renderConvexHull(graphics, object, color, stroke);
 			}
 
-			if ((flags & HF_OUTLINE) != 0)
-			{
-				modelOutlineRenderer.drawOutline(object, (int)config.borderWidth(), color, config.outlineFeather());
-			}
-
 			if ((flags & HF_CLICKBOX) != 0)
 			{
 				Shape clickbox = object.getClickbox();
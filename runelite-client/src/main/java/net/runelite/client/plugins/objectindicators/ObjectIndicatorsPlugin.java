@@ -113,6 +113,9 @@ public class ObjectIndicatorsPlugin extends Plugin
 	@Inject
 	private ObjectIndicatorsOverlay overlay;
 
+	@Inject
+	private ObjectIndicatorsOutlineOverlay outlineOverlay;
+
 	@Inject
 	private ObjectIndicatorsConfig config;
 
@@ -134,6 +137,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 	@Override
 	protected void startUp()
 	{
+		overlayManager.add(outlineOverlay);
 		overlayManager.add(overlay);
 		clientThread.invokeLater(this::reloadPoints);
 	}
@@ -141,6 +145,7 @@ public class ObjectIndicatorsPlugin extends Plugin
 	@Override
 	protected void shutDown()
 	{
+		overlayManager.remove(outlineOverlay);
 		overlayManager.remove(overlay);
 		points.clear();
 		objects.clear();
@@ -609,6 +614,52 @@ public class ObjectIndicatorsPlugin extends Plugin
 			.collect(Collectors.toSet());
 	}
 
+	int getDefaultHighlightFlags()
+	{
+		return (config.highlightHull() ? HF_HULL : 0) |
+			(config.highlightOutline() ? HF_OUTLINE : 0) |
+			(config.highlightClickbox() ? HF_CLICKBOX : 0) |
+			(config.highlightTile() ? HF_TILE : 0);
+	}
+
+	/**
+	 * Get how a marked object is to be highlighted this frame
+	 *
+	 * @param obj the marked object
+	 * @param defaultFlags the flags of objects marked without any, see {@link #getDefaultHighlightFlags()}
+	 * @return the highlight flags, or 0 if the object is not to be highlighted
+	 */
+	int getHighlightFlags(ColorTileObject obj, int defaultFlags)
+	{
+		if (obj.getTileObject().getPlane() != client.getPlane())
+		{
+			return 0;
+		}
+
+		ObjectComposition composition = obj.getComposition();
+		if (composition.getImpostorIds() != null)
+		{
+			// This is a multiloc
+			composition = composition.getImpostor();
+			// Only mark the object if the name still matches
+			if (composition == null
+				|| Strings.isNullOrEmpty(composition.getName())
+				|| "null".equals(composition.getName())
+				|| !composition.getName().equals(obj.getName()))
+			{
+				return 0;
+			}
+		}
+
+		return obj.getHighlightFlags() != 0 ? obj.getHighlightFlags() : defaultFlags;
+	}
+
+	Color getHighlightColor(ColorTileObject obj)
+	{
+		// Fallback to the current config if the object is marked before the addition of multiple colors
+		return obj.getColor() != null ? obj.getColor() : config.markerColor();
+	}
+
 	@Nullable
 	private ObjectComposition getObjectComposition(int id)
 	{
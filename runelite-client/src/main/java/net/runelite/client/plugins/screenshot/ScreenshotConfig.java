@@ -29,6 +29,9 @@ import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
 import net.runelite.client.config.Keybind;
+import net.runelite.client.config.Range;
+import net.runelite.client.config.Units;
+import net.runelite.client.util.FrameRecorder;
 import net.runelite.client.util.ImageUploadStyle;
 
 @ConfigGroup("screenshot")
@@ -41,6 +44,14 @@ public interface ScreenshotConfig extends Config
 	)
 	String whatSection = "what";
 
+	@ConfigSection(
+		name = "Clips",
+		description = "Options for recording and saving clips of the last few seconds",
+		position = 100,
+		closedByDefault = true
+	)
+	String clipSection = "clips";
+
 	@ConfigItem(
 		keyName = "includeFrame",
 		name = "Include Client Frame",
@@ -311,4 +322,81 @@ public interface ScreenshotConfig extends Config
 	{
 		return true;
 	}
+
+	@ConfigItem(
+		keyName = "recordClips",
+		name = "Record clips",
+		description = "Keep recording the last few seconds of gameplay, so that they can be saved as a clip",
+		position = 0,
+		section = clipSection
+	)
+	default boolean recordClips()
+	{
+		return false;
+	}
+
+	@Range(
+		min = 1,
+		max = 15
+	)
+	@Units(Units.SECONDS)
+	@ConfigItem(
+		keyName = "clipLength",
+		name = "Clip length",
+		description = "How many seconds of gameplay are saved in a clip",
+		position = 1,
+		section = clipSection
+	)
+	default int clipLength()
+	{
+		return 8;
+	}
+
+	@ConfigItem(
+		keyName = "clipFormat",
+		name = "Clip format",
+		description = "Save clips as an animated GIF, or as a compressed archive of the raw frames",
+		position = 2,
+		section = clipSection
+	)
+	default FrameRecorder.Format clipFormat()
+	{
+		return FrameRecorder.Format.GIF;
+	}
+
+	@ConfigItem(
+		keyName = "clipHotkey",
+		name = "Clip hotkey",
+		description = "When you press this key a clip will be saved",
+		position = 3,
+		section = clipSection
+	)
+	default Keybind clipHotkey()
+	{
+		return Keybind.NOT_SET;
+	}
+
+	@ConfigItem(
+		keyName = "clipPlayerDeath",
+		name = "Clip deaths",
+		description = "Save a clip when you die",
+		position = 4,
+		section = clipSection
+	)
+	default boolean clipPlayerDeath()
+	{
+		return true;
+	}
+
+	@ConfigItem(
+		keyName = "clipValuableDrop",
+		name = "Clip valuable drops",
+		description = "Save a clip when you receive a drop over the valuable drop threshold",
+		position = 5,
+		section = clipSection
+	)
+	default boolean clipValuableDrop()
+	{
+		return true;
+	}
 }
@@ -33,6 +33,7 @@ import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.time.LocalDate;
 import java.util.Map;
@@ -78,6 +79,7 @@ import net.runelite.api.widgets.WidgetInfo;
 import static net.runelite.client.RuneLite.SCREENSHOT_DIR;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.PlayerLootReceived;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.input.KeyManager;
@@ -88,6 +90,7 @@ import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.util.FrameRecorder;
 import net.runelite.client.util.HotkeyListener;
 import net.runelite.client.util.ImageCapture;
 import net.runelite.client.util.ImageUtil;
@@ -142,6 +145,11 @@ public class ScreenshotPlugin extends Plugin
 	private static final String SD_DEATHS = "Deaths";
 	private static final String SD_COMBAT_ACHIEVEMENTS = "Combat Achievements";
 	private static final String SD_WILDERNESS_LOOT_CHEST = "Wilderness Loot Chest";
+	private static final String SD_CLIPS = "Clips";
+	private static final int CLIP_FPS = 10;
+	private static final double CLIP_SCALE = 0.5;
+	private static final int CLIP_MAX_WIDTH = 640;
+	private static final int CLIP_MAX_HEIGHT = 360;
 
 	private String clueType;
 	private Integer clueNumber;
@@ -205,6 +213,8 @@ public class ScreenshotPlugin extends Plugin
 
 	private String kickPlayerName;
 
+	private volatile FrameRecorder frameRecorder;
+
 	private final HotkeyListener hotkeyListener = new HotkeyListener(() -> config.hotkey())
 	{
 		@Override
@@ -214,6 +224,15 @@ public class ScreenshotPlugin extends Plugin
 		}
 	};
 
+	private final HotkeyListener clipHotkeyListener = new HotkeyListener(() -> config.clipHotkey())
+	{
+		@Override
+		public void hotkeyPressed()
+		{
+			saveClip("", null);
+		}
+	};
+
 	@Provides
 	ScreenshotConfig getConfig(ConfigManager configManager)
 	{
@@ -226,6 +245,8 @@ public class ScreenshotPlugin extends Plugin
 		overlayManager.add(screenshotOverlay);
 		SCREENSHOT_DIR.mkdirs();
 		keyManager.registerKeyListener(hotkeyListener);
+		keyManager.registerKeyListener(clipHotkeyListener);
+		updateFrameRecorder();
 
 		final BufferedImage iconImage = ImageUtil.loadImageResource(getClass(), "screenshot.png");
 
@@ -254,10 +275,52 @@ public class ScreenshotPlugin extends Plugin
 		overlayManager.remove(screenshotOverlay);
 		clientToolbar.removeNavigation(titleBarButton);
 		keyManager.unregisterKeyListener(hotkeyListener);
+		keyManager.unregisterKeyListener(clipHotkeyListener);
+		stopFrameRecorder();
 		kickPlayerName = null;
 		notificationStarted = false;
 	}
 
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (event.getGroup().equals("screenshot")
+			&& (event.getKey().equals("recordClips") || event.getKey().equals("clipLength")))
+		{
+			stopFrameRecorder();
+			updateFrameRecorder();
+		}
+	}
+
+	private void updateFrameRecorder()
+	{
+		if (!config.recordClips() || frameRecorder != null)
+		{
+			return;
+		}
+
+		try
+		{
+			final FrameRecorder recorder = new FrameRecorder(client, drawManager, executor, config.clipLength(), CLIP_FPS, CLIP_SCALE, CLIP_MAX_WIDTH, CLIP_MAX_HEIGHT);
+			recorder.start();
+			frameRecorder = recorder;
+		}
+		catch (OutOfMemoryError ex)
+		{
+			log.warn("unable to allocate clip buffer", ex);
+		}
+	}
+
+	private void stopFrameRecorder()
+	{
+		final FrameRecorder recorder = frameRecorder;
+		if (recorder != null)
+		{
+			frameRecorder = null;
+			recorder.stop();
+		}
+	}
+
 	@Subscribe
 	public void onGameTick(GameTick event)
 	{
@@ -315,9 +378,16 @@ public class ScreenshotPlugin extends Plugin
 		if (actor instanceof Player)
 		{
 			Player player = (Player) actor;
-			if (player == client.getLocalPlayer() && config.screenshotPlayerDeath())
+			if (player == client.getLocalPlayer())
 			{
-				takeScreenshot("Death", SD_DEATHS);
+				if (config.screenshotPlayerDeath())
+				{
+					takeScreenshot("Death", SD_DEATHS);
+				}
+				if (config.clipPlayerDeath())
+				{
+					saveClip("Death", SD_DEATHS);
+				}
 			}
 			else if (player != client.getLocalPlayer()
 				&& player.getCanvasTilePoly() != null
@@ -474,7 +544,7 @@ public class ScreenshotPlugin extends Plugin
 			}
 		}
 
-		if (config.screenshotValuableDrop())
+		if (config.screenshotValuableDrop() || config.clipValuableDrop())
 		{
 			Matcher m = VALUABLE_DROP_PATTERN.matcher(chatMessage);
 			if (m.matches())
@@ -484,7 +554,14 @@ public class ScreenshotPlugin extends Plugin
 				{
 					String valuableDropName = m.group(1);
 					String fileName = "Valuable drop " + valuableDropName;
-					takeScreenshot(fileName, SD_VALUABLE_DROPS);
+					if (config.screenshotValuableDrop())
+					{
+						takeScreenshot(fileName, SD_VALUABLE_DROPS);
+					}
+					if (config.clipValuableDrop())
+					{
+						saveClip(fileName, SD_VALUABLE_DROPS);
+					}
 				}
 			}
 		}
@@ -897,6 +974,24 @@ public class ScreenshotPlugin extends Plugin
 		}
 	}
 
+	/**
+	 * Saves the last few recorded seconds of gameplay as a clip, if clips are being recorded.
+	 *
+	 * @param fileName Filename to use, without file extension.
+	 * @param subDir   Subdirectory to store the clip in, within the clips folder.
+	 */
+	private void saveClip(String fileName, String subDir)
+	{
+		final FrameRecorder recorder = frameRecorder;
+		if (recorder == null)
+		{
+			return;
+		}
+
+		String clipSubDir = subDir == null ? SD_CLIPS : SD_CLIPS + File.separator + subDir;
+		imageCapture.saveClip(recorder, fileName, clipSubDir, config.clipFormat(), config.notifyWhenTaken());
+	}
+
 	private static int getScaledValue(final double scale, final int value)
 	{
 		return (int) (value * scale + .5);
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.ui;
 
+import com.google.common.base.Suppliers;
 import java.awt.Image;
 import java.util.List;
 import java.util.Queue;
@@ -39,6 +40,7 @@ import lombok.extern.slf4j.Slf4j;
 public class DrawManager
 {
 	private final List<Runnable> everyFrame = new CopyOnWriteArrayList<>();
+	private final List<Consumer<Supplier<Image>>> everyFrameImage = new CopyOnWriteArrayList<>();
 	private final Queue<Consumer<Image>> nextFrame = new ConcurrentLinkedQueue<>();
 
 	public void registerEveryFrameListener(Runnable everyFrameListener)
@@ -54,13 +56,34 @@ public class DrawManager
 		everyFrame.remove(everyFrameListener);
 	}
 
+	/**
+	 * Registers a listener which is given a supplier of every drawn frame. The supplier
+	 * may copy the frame, or read it back from the GPU, so it should only be called when
+	 * the frame is needed, and only from within the listener.
+	 */
+	public void registerEveryFrameImageListener(Consumer<Supplier<Image>> everyFrameImageListener)
+	{
+		if (!everyFrameImage.contains(everyFrameImageListener))
+		{
+			everyFrameImage.add(everyFrameImageListener);
+		}
+	}
+
+	public void unregisterEveryFrameImageListener(Consumer<Supplier<Image>> everyFrameImageListener)
+	{
+		everyFrameImage.remove(everyFrameImageListener);
+	}
+
 	public void requestNextFrameListener(Consumer<Image> nextFrameListener)
 	{
 		nextFrame.add(nextFrameListener);
 	}
 
-	public void processDrawComplete(Supplier<Image> imageSupplier)
+	public void processDrawComplete(Supplier<Image> supplier)
 	{
+		// the frame is only produced once, however many listeners ask for it
+		final Supplier<Image> imageSupplier = Suppliers.memoize(supplier::get);
+
 		for (Runnable everyFrameListener : everyFrame)
 		{
 			try
@@ -73,6 +96,18 @@ public class DrawManager
 			}
 		}
 
+		for (Consumer<Supplier<Image>> everyFrameImageListener : everyFrameImage)
+		{
+			try
+			{
+				everyFrameImageListener.accept(imageSupplier);
+			}
+			catch (Exception e)
+			{
+				log.error("Error in draw consumer", e);
+			}
+		}
+
 		Consumer<Image> nextFrameListener = nextFrame.poll();
 		Image image = null;
 		while (nextFrameListener != null)
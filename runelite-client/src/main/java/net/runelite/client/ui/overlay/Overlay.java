@@ -80,6 +80,13 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether this overlay draws nothing but model outlines. The outlines of consecutive
+	 * overlays which only draw outlines are rasterized together.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private boolean outlinesOnly;
+
 	protected Overlay()
 	{
 		plugin = null;
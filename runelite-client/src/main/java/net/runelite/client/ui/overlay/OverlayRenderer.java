@@ -67,6 +67,7 @@ import net.runelite.client.input.MouseAdapter;
 import net.runelite.client.input.MouseManager;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.JagexColors;
+import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.HotkeyListener;
 import org.slf4j.Marker;
@@ -95,6 +96,7 @@ public class OverlayRenderer extends MouseAdapter
 	private final ClientUI clientUI;
 	private final EventBus eventBus;
 	private final ChatMessageManager chatMessageManager;
+	private final ModelOutlineRenderer modelOutlineRenderer;
 
 	// Overlay movement variables
 	private final Point overlayOffset = new Point();
@@ -126,7 +128,8 @@ public class OverlayRenderer extends MouseAdapter
 		final KeyManager keyManager,
 		final ClientUI clientUI,
 		final EventBus eventBus,
-		final ChatMessageManager chatMessageManager
+		final ChatMessageManager chatMessageManager,
+		final ModelOutlineRenderer modelOutlineRenderer
 	)
 	{
 		this.client = client;
@@ -135,6 +138,7 @@ public class OverlayRenderer extends MouseAdapter
 		this.clientUI = clientUI;
 		this.eventBus = eventBus;
 		this.chatMessageManager = chatMessageManager;
+		this.modelOutlineRenderer = modelOutlineRenderer;
 
 		HotkeyListener hotkeyListener = new HotkeyListener(runeLiteConfig::dragHotkey)
 		{
@@ -325,6 +329,17 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
+			// Outlines of consecutive outline-only overlays are rasterized together, and are drawn
+			// before anything else so the draw order is unchanged
+			if (overlay.isOutlinesOnly())
+			{
+				modelOutlineRenderer.startBatch();
+			}
+			else
+			{
+				modelOutlineRenderer.flushBatch();
+			}
+
 			safeRender(overlay, graphics, location);
 
 			// Adjust snap corner based on where the overlay was drawn
@@ -370,6 +385,7 @@ public class OverlayRenderer extends MouseAdapter
 						boundsColor = MOVING_OVERLAY_COLOR;
 					}
 
+					modelOutlineRenderer.flushBatch();
 					graphics.setColor(boundsColor);
 					graphics.draw(bounds);
 					graphics.setPaint(paint);
@@ -382,6 +398,8 @@ public class OverlayRenderer extends MouseAdapter
 				}
 			}
 		}
+
+		modelOutlineRenderer.flushBatch();
 	}
 
 	@Override
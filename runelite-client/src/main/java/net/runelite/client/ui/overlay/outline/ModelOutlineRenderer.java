@@ -33,9 +33,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.IntStream;
 import lombok.Getter;
+import lombok.Value;
 import net.runelite.api.Client;
 import net.runelite.api.DecorativeObject;
 import net.runelite.api.GameObject;
@@ -53,63 +55,47 @@ import net.runelite.api.RuneLiteObject;
 import net.runelite.api.TileObject;
 import net.runelite.api.WallObject;
 import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.EventProfiler;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ClientShutdown;
+import net.runelite.client.ui.overlay.outline.OutlineRasterizer.PixelDistanceDelta;
+import net.runelite.client.ui.overlay.outline.OutlineRasterizer.PixelDistanceGroupIndex;
 
 @Singleton
 public class ModelOutlineRenderer
 {
-	@AllArgsConstructor
-	private static class PixelDistanceDelta
-	{
-		private final int dx;
-		private final int dy;
-	}
-
-	@AllArgsConstructor
-	private static class PixelDistanceGroupIndex
+	/**
+	 * Outline counts and timings of a single frame
+	 */
+	@Value
+	public static class FrameStats
 	{
-		@Getter(AccessLevel.PRIVATE)
-		private final double distance;
-		private final int distanceGroupIndex;
-		private final double alphaMultiply;
+		private final int outlines;
+		// Projecting models and collecting their triangles, on the client thread
+		private final long prepareNanos;
+		// Rasterizing outlines and computing their distances
+		private final long rasterNanos;
+		// Blending batched outlines into the image
+		private final long compositeNanos;
 	}
 
 	private static final int MAX_OUTLINE_WIDTH = 50;
 	private static final int MAX_FEATHER = 4;
 	private static final int DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD = 10;
 
+	// Batched outlines are composited in bands of rows, which are blended in parallel
+	private static final int COMPOSITE_BAND_HEIGHT = 32;
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
 	private final Client client;
+	private final EventBus eventBus;
 
 	// Vertex positions projected on the screen.
 	private final int[] projectedVerticesX = new int[6500];
 	private final int[] projectedVerticesY = new int[6500];
 
-	// Window boundaries for the ingame world
-	private int clipX1;
-	private int clipY1;
-	private int clipX2;
-	private int clipY2;
-
-	// Boundaries for the outline
-	private int croppedX1;
-	private int croppedY1;
-	private int croppedX2;
-	private int croppedY2;
-	private int croppedWidth;
-	private int croppedHeight;
-
-	// Bitset with pixel positions that would be rendered to within the cropped area by the model.
-	private int[] visited = new int[0];
-
-	// Memory used for queueing the pixels for the outline of the model.
-	// Pixels are grouped by x and y distance to the closest pixel drawn on the model.
-	// A block buffer is used so memory can be reused after a group has been processed
-	// without using the JVM garbage collector.
-	private final IntBlockBuffer outlinePixelsBlockBuffer = new IntBlockBuffer();
-	private int[][] outlinePixelsBlockIndices = new int[0][];
-	private int[] outlinePixelsBlockIndicesLengths = new int[0];
-	private int[] outlinePixelsLastBlockLength;
-	private int outlineArrayWidth;
-
 	// An array of pixel group indices ordered by distance for each outline width and feather.
 	// These are calculated once upon first usage and then stored here to skip reevaluation.
 	private PixelDistanceGroupIndex[][][] precomputedGroupIndices = new PixelDistanceGroupIndex[0][][];
@@ -118,28 +104,63 @@ public class ModelOutlineRenderer
 	// These are calculated once upon first usage and then stored here to skip reevaluation.
 	private PixelDistanceDelta[][][] precomputedDistanceDeltas = new PixelDistanceDelta[0][][];
 
+	// Rasterizer for outlines drawn immediately on the client thread, and one per worker for batches
+	private final OutlineRasterizer rasterizer = new OutlineRasterizer();
+	private final ThreadLocal<OutlineRasterizer> workerRasterizer = ThreadLocal.withInitial(OutlineRasterizer::new);
+	private volatile ForkJoinPool pool;
+	private volatile boolean shutdown;
+
+	// Requests are reused between outlines so their triangle and coverage buffers are kept
+	private final List<OutlineRequest> requests = new ArrayList<>();
+	private int requestCount;
+	private boolean batching;
+
+	private int frameOutlines;
+	private long framePrepareNanos;
+	private long frameRasterNanos;
+	private long frameCompositeNanos;
+
+	/**
+	 * Outline counts and timings of the last completed frame
+	 */
+	@Getter
+	private volatile FrameStats lastFrameStats = new FrameStats(0, 0, 0, 0);
+
 	@Inject
-	private ModelOutlineRenderer(Client client)
+	private ModelOutlineRenderer(Client client, EventBus eventBus)
 	{
 		this.client = client;
+		this.eventBus = eventBus;
+		eventBus.register(this);
 	}
 
-	/**
-	 * Calculate the next power of two of a value.
-	 *
-	 * @param value The value to find the next power of two of.
-	 * @return Returns the next power of two.
-	 */
-	private static int nextPowerOfTwo(int value)
+	@Subscribe
+	public void onBeforeRender(BeforeRender event)
+	{
+		final EventProfiler profiler = eventBus.getProfiler();
+		if (profiler != null && frameOutlines > 0)
+		{
+			profiler.recordPhase(EventProfiler.PHASE_OUTLINE_PREPARE, framePrepareNanos);
+			profiler.recordPhase(EventProfiler.PHASE_OUTLINE_RASTER, frameRasterNanos);
+			profiler.recordPhase(EventProfiler.PHASE_OUTLINE_COMPOSITE, frameCompositeNanos);
+		}
+
+		lastFrameStats = new FrameStats(frameOutlines, framePrepareNanos, frameRasterNanos, frameCompositeNanos);
+		frameOutlines = 0;
+		framePrepareNanos = 0;
+		frameRasterNanos = 0;
+		frameCompositeNanos = 0;
+	}
+
+	@Subscribe
+	public void onClientShutdown(ClientShutdown event)
 	{
-		value--;
-		value |= value >> 1;
-		value |= value >> 2;
-		value |= value >> 4;
-		value |= value >> 8;
-		value |= value >> 16;
-		value++;
-		return value;
+		shutdown = true;
+		final ForkJoinPool pool = this.pool;
+		if (pool != null)
+		{
+			pool.shutdown();
+		}
 	}
 
 	/**
@@ -176,6 +197,7 @@ public class ModelOutlineRenderer
 
 		if (precomputedGroupIndices[outlineWidth][feather] == null)
 		{
+			int outlineArrayWidth = outlineWidth + 2;
 			double fadedDistance = (double) feather / MAX_FEATHER * (outlineWidth - 0.5);
 			List<PixelDistanceGroupIndex> ps = new ArrayList<>();
 			for (int x = 0; x <= outlineWidth; x++)
@@ -252,267 +274,6 @@ public class ModelOutlineRenderer
 		}
 	}
 
-	/**
-	 * Enqueues a pixel for outlining.
-	 *
-	 * @param distanceGroupIndex The group index to enqueue the pixel into.
-	 * @param x The x position of the pixel.
-	 * @param y The y position of the pixel.
-	 */
-	private void enqueueOutlinePixel(int distanceGroupIndex, int x, int y)
-	{
-		if (outlinePixelsLastBlockLength[distanceGroupIndex] == IntBlockBuffer.BLOCK_SIZE)
-		{
-			int minimumBlockIndicesSize = outlinePixelsBlockIndicesLengths[distanceGroupIndex] + 1;
-			if (minimumBlockIndicesSize > outlinePixelsBlockIndices[distanceGroupIndex].length)
-			{
-				outlinePixelsBlockIndices[distanceGroupIndex] = Arrays.copyOf(
-					outlinePixelsBlockIndices[distanceGroupIndex],
-					nextPowerOfTwo(minimumBlockIndicesSize));
-			}
-			outlinePixelsBlockIndices[distanceGroupIndex][outlinePixelsBlockIndicesLengths[distanceGroupIndex]] =
-				outlinePixelsBlockBuffer.useNewBlock();
-			outlinePixelsBlockIndicesLengths[distanceGroupIndex]++;
-			outlinePixelsLastBlockLength[distanceGroupIndex] = 0;
-		}
-
-		int[] memory = outlinePixelsBlockBuffer.getMemory();
-		int block = outlinePixelsBlockIndices[distanceGroupIndex][outlinePixelsBlockIndicesLengths[distanceGroupIndex] - 1];
-		int blockPos = outlinePixelsLastBlockLength[distanceGroupIndex]++;
-		memory[(block << IntBlockBuffer.BLOCK_BITS) + blockPos] = (y << 16) | x;
-	}
-
-	/**
-	 * Checks that the visited bitset is big enough to hold a certain amount of pixels and sets them to 0.
-	 *
-	 * @param pixelAmount The amount of pixels needed.
-	 */
-	private void resetVisited(int pixelAmount)
-	{
-		int size = (pixelAmount >>> 5);
-		if (visited.length < size)
-		{
-			visited = new int[nextPowerOfTwo(size)];
-		}
-		Arrays.fill(visited, 0, size, 0);
-	}
-
-	/**
-	 * Ensures that the outline buffer arrays are large enough to fit the current outline.
-	 */
-	private void initializeOutlineBuffers()
-	{
-		int arraySizes = outlineArrayWidth * outlineArrayWidth;
-		if (outlinePixelsBlockIndicesLengths.length < arraySizes)
-		{
-			outlinePixelsBlockIndices = new int[arraySizes][];
-			outlinePixelsBlockIndicesLengths = new int[arraySizes];
-			outlinePixelsLastBlockLength = new int[arraySizes];
-			for (int i = 0; i < arraySizes; i++)
-			{
-				outlinePixelsBlockIndices[i] = new int[0];
-			}
-		}
-
-		for (int i = 0; i < arraySizes; i++)
-		{
-			outlinePixelsLastBlockLength[i] = IntBlockBuffer.BLOCK_SIZE;
-		}
-	}
-
-	/**
-	 * Frees all blocks currently in use by the outline block buffer.
-	 */
-	private void freeAllBlockMemory()
-	{
-		for (int i = 0; i < outlineArrayWidth * outlineArrayWidth; i++)
-		{
-			while (outlinePixelsBlockIndicesLengths[i] > 0)
-			{
-				outlinePixelsBlockIndicesLengths[i]--;
-				outlinePixelsBlockBuffer.freeBlock(outlinePixelsBlockIndices[i][outlinePixelsBlockIndicesLengths[i]]);
-			}
-			outlinePixelsLastBlockLength[i] = IntBlockBuffer.BLOCK_SIZE;
-		}
-	}
-
-	/**
-	 * Simulates a horizontal line rasterization and marks pixels visited.
-	 *
-	 * @param pixelY The y position of the line
-	 * @param x1 The starting x position
-	 * @param x2 The ending x position
-	 */
-	private void simulateHorizontalLineRasterizationForOutline(int pixelY, int x1, int x2)
-	{
-		if (x2 > clipX2)
-		{
-			x2 = clipX2;
-		}
-		if (x1 < clipX1)
-		{
-			x1 = clipX1;
-		}
-		if (x1 >= x2)
-		{
-			return;
-		}
-
-		int pixelPos1 = (pixelY - croppedY1) * croppedWidth + (x1 - croppedX1);
-		int pixelPos2 = pixelPos1 + x2 - x1;
-		int pixelPosIndex1 = pixelPos1 >> 5;
-		int pixelPosIndex2 = pixelPos2 >> 5;
-		if (pixelPosIndex1 == pixelPosIndex2)
-		{
-			visited[pixelPosIndex1] |= ((1 << (pixelPos2 & 31)) - 1) ^ ((1 << (pixelPos1 & 31)) - 1);
-		}
-		else
-		{
-			visited[pixelPosIndex1] |= -(1 << (pixelPos1 & 31));
-			visited[pixelPosIndex2] |= (1 << (pixelPos2 & 31)) - 1;
-			for (int i = pixelPosIndex1 + 1; i < pixelPosIndex2; i++)
-			{
-				visited[i] = 0xFFFFFFFF;
-			}
-		}
-	}
-
-	/**
-	 * Simulates rasterization of a triangle and marks pixels visited.
-	 *
-	 * @param x1 The x position of the first vertex in the triangle
-	 * @param y1 The y position of the first vertex in the triangle
-	 * @param x2 The x position of the second vertex in the triangle
-	 * @param y2 The y position of the second vertex in the triangle
-	 * @param x3 The x position of the third vertex in the triangle
-	 * @param y3 The y position of the third vertex in the triangle
-	 */
-	private void simulateTriangleRasterizationForOutline(
-		int x1, int y1, int x2, int y2, int x3, int y3)
-	{
-		// Swap vertices so y1 <= y2 <= y3 using bubble sort
-		if (y1 > y2)
-		{
-			int yp = y1;
-			int xp = x1;
-			y1 = y2;
-			y2 = yp;
-			x1 = x2;
-			x2 = xp;
-		}
-		if (y2 > y3)
-		{
-			int yp = y2;
-			int xp = x2;
-			y2 = y3;
-			y3 = yp;
-			x2 = x3;
-			x3 = xp;
-		}
-		if (y1 > y2)
-		{
-			int yp = y1;
-			int xp = x1;
-			y1 = y2;
-			y2 = yp;
-			x1 = x2;
-			x2 = xp;
-		}
-
-		if (y1 > clipY2)
-		{
-			// All points are outside clip boundaries
-			return;
-		}
-
-		int slope1 = 0;
-		if (y1 != y2)
-		{
-			slope1 = (x2 - x1 << 14) / (y2 - y1);
-		}
-
-		int slope2 = 0;
-		if (y3 != y2)
-		{
-			slope2 = (x3 - x2 << 14) / (y3 - y2);
-		}
-
-		int slope3 = 0;
-		if (y1 != y3)
-		{
-			slope3 = (x1 - x3 << 14) / (y1 - y3);
-		}
-
-		if (y2 > clipY2)
-		{
-			y2 = clipY2;
-		}
-		if (y3 > clipY2)
-		{
-			y3 = clipY2;
-		}
-		if (y1 == y3 || y3 < clipY1)
-		{
-			return;
-		}
-
-		x1 <<= 14;
-		x2 <<= 14;
-		x3 = x1;
-
-		if (y1 < clipY1)
-		{
-			x3 -= (y1 - clipY1) * slope3;
-			x1 -= (y1 - clipY1) * slope1;
-			y1 = clipY1;
-		}
-		if (y2 < clipY1)
-		{
-			x2 -= (y2 - clipY1) * slope2;
-			y2 = clipY1;
-		}
-
-		int pixelY = y1;
-		int height1 = y2 - y1;
-		int height2 = y3 - y2;
-		if (y1 != y2 && slope3 < slope1 || y1 == y2 && slope3 > slope2)
-		{
-			while (height1-- > 0)
-			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x1 >> 14);
-				x3 += slope3;
-				x1 += slope1;
-				pixelY++;
-			}
-
-			while (height2-- > 0)
-			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x2 >> 14);
-				x3 += slope3;
-				x2 += slope2;
-				pixelY++;
-			}
-		}
-		else
-		{
-			while (height1-- > 0)
-			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x1 >> 14, x3 >> 14);
-				x1 += slope1;
-				x3 += slope3;
-				pixelY++;
-			}
-
-			while (height2-- > 0)
-			{
-				simulateHorizontalLineRasterizationForOutline(pixelY, x2 >> 14, x3 >> 14);
-				x3 += slope3;
-				x2 += slope2;
-				pixelY++;
-			}
-		}
-	}
-
 	/**
 	 * Translates the vertices 3D points to the screen canvas 2D points.
 	 *
@@ -520,9 +281,11 @@ public class ModelOutlineRenderer
 	 * @param localY The local y position of the vertices.
 	 * @param localZ The local z position of the vertices.
 	 * @param vertexOrientation The orientation of the vertices.
+	 * @param request The request to expand the cropped area of.
 	 * @return Returns true if any of them are inside the clip area, otherwise false.
 	 */
-	private boolean projectVertices(Model model, int localX, int localY, int localZ, final int vertexOrientation)
+	private boolean projectVertices(Model model, int localX, int localY, int localZ, final int vertexOrientation,
+		OutlineRequest request)
 	{
 		final int vertexCount = model.getVerticesCount();
 		Perspective.modelToCanvas(client,
@@ -541,14 +304,14 @@ public class ModelOutlineRenderer
 
 			if (y != Integer.MIN_VALUE)
 			{
-				boolean visibleX = x >= clipX1 && x < clipX2;
-				boolean visibleY = y >= clipY1 && y < clipY2;
+				boolean visibleX = x >= request.clipX1 && x < request.clipX2;
+				boolean visibleY = y >= request.clipY1 && y < request.clipY2;
 				anyVisible |= visibleX && visibleY;
 
-				croppedX1 = Math.min(croppedX1, x);
-				croppedX2 = Math.max(croppedX2, x + 1);
-				croppedY1 = Math.min(croppedY1, y);
-				croppedY2 = Math.max(croppedY2, y + 1);
+				request.croppedX1 = Math.min(request.croppedX1, x);
+				request.croppedX2 = Math.max(request.croppedX2, x + 1);
+				request.croppedY1 = Math.min(request.croppedY1, y);
+				request.croppedY2 = Math.max(request.croppedY2, y + 1);
 			}
 			else
 			{
@@ -561,9 +324,9 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Simulates rendering of the model and marks every pixel visited.
+	 * Collects the visible screen triangles of the model to rasterize.
 	 */
-	private void simulateModelRasterizationForOutline(Model model)
+	private void collectTriangles(Model model, OutlineRequest request)
 	{
 		final int triangleCount = model.getFaceCount();
 		final int[] indices1 = model.getFaceIndices1();
@@ -591,298 +354,163 @@ public class ModelOutlineRenderer
 
 				if (!cullFace(v1x, v1y, v2x, v2y, v3x, v3y))
 				{
-					simulateTriangleRasterizationForOutline(v1x, v1y, v2x, v2y, v3x, v3y);
+					request.addTriangle(v1x, v1y, v2x, v2y, v3x, v3y);
 				}
 			}
 		}
 	}
-
 	/**
-	 * Draws the outline of a pixel according to the distance deltas of an outline.
-	 *
-	 * @param imageData The image data to draw to.
-	 * @param imageWidth The width of the image to draw to.
-	 * @param x The x position of the pixel.
-	 * @param y The y position of the pixel.
-	 * @param distanceDeltas The distance deltas of the outline width.
-	 * @param color The color to draw the outline in.
+	 * Defers outlines drawn after this until {@link #flushBatch()}, so that they
+	 * can be rasterized in parallel. Batched outlines are drawn in the order they
+	 * were requested, but on top of anything else drawn before the batch is flushed,
+	 * so the batch must be flushed before anything other than outlines is drawn.
 	 */
-	private void rasterDistanceDeltas(int[] imageData, int imageWidth, int x, int y,
-		PixelDistanceDelta[] distanceDeltas, int color)
+	public void startBatch()
 	{
-		for (PixelDistanceDelta delta : distanceDeltas)
-		{
-			int cx = x + delta.dx;
-			int cy = y + delta.dy;
-			int visitedPixelPos = (cy - croppedY1) * croppedWidth + (cx - croppedX1);
-			if (cx >= clipX1 && cx < clipX2 && cy >= clipY1 && cy < clipY2 &&
-				(visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) == 0)
-			{
-				imageData[cy * imageWidth + cx] = color;
-			}
-		}
+		batching = true;
 	}
 
 	/**
-	 * Enqueues pixels that are adjacent above or below the model
-	 * or draws them directly to the clients image buffer.
-	 *
-	 * @param directWrite If true the pixels are drawn to the image buffer, otherwise they are enqueued for drawing.
-	 * @param color The color to draw if directWrite == true
-	 * @param outlineWidth The outline width to draw if directWrite == true
+	 * Draws the outlines deferred since {@link #startBatch()}. Each outline is
+	 * rasterized into its own buffer across a worker pool, and the buffers are then
+	 * blended into the client image in parallel bands of rows.
 	 */
-	private void processInitialOutlinePixels(boolean directWrite, Color color, int outlineWidth)
+	public void flushBatch()
 	{
-		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
-		BufferedImage image = (BufferedImage) bufferProvider.getImage();
-		int imageWidth = image.getWidth();
-		int[] imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
-		int colorRGB = color.getRGB();
+		batching = false;
+		if (requestCount == 0)
+		{
+			return;
+		}
 
-		// Up and down
-		for (int x = 0; x < croppedWidth; x += 32)
+		try
 		{
-			int v1 = visited[x >> 5];
-			for (int y = 1; y < croppedHeight; y++)
+			BufferedImage image = getImage();
+			int imageWidth = image.getWidth();
+			int[] imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+
+			final ForkJoinPool pool = requestCount > 1 ? getPool() : null;
+			if (pool == null)
 			{
-				int v2 = visited[(y * croppedWidth + x) >> 5];
-				if (v1 != v2)
+				final long start = System.nanoTime();
+				for (int i = 0; i < requestCount; i++)
 				{
-					if (directWrite)
-					{
-						// Special case handling outlineWidth == 1 gives a
-						// small but noticeable performance improvement.
-						if (outlineWidth == 1)
-						{
-							for (int bit = 0; bit < 32; bit++)
-							{
-								int bv1 = (v1 >>> bit) & 1;
-								int bv2 = (v2 >>> bit) & 1;
-								if (bv1 != bv2)
-								{
-									imageData[(croppedY1 + y - bv2) * imageWidth + (croppedX1 + x + bit)] = colorRGB;
-								}
-							}
-						}
-						else
-						{
-							PixelDistanceDelta[] distancesDown = precomputedDistanceDeltas[outlineWidth][3];
-							PixelDistanceDelta[] distancesUp = precomputedDistanceDeltas[outlineWidth][1];
-							for (int bit = 0; bit < 32; bit++)
-							{
-								int bv1 = (v1 >>> bit) & 1;
-								int bv2 = (v2 >>> bit) & 1;
-								if (bv1 == 1 && bv2 == 0)
-								{
-									rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x + bit, croppedY1 + y - 1,
-										distancesDown, colorRGB);
-								}
-								else if (bv1 == 0 && bv2 == 1)
-								{
-									rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x + bit, croppedY1 + y,
-										distancesUp, colorRGB);
-								}
-							}
-						}
-					}
-					else
-					{
-						for (int bit = 0; bit < 32; bit++)
-						{
-							int bv1 = (v1 >>> bit) & 1;
-							int bv2 = (v2 >>> bit) & 1;
-							if (bv1 != bv2)
-							{
-								enqueueOutlinePixel(outlineArrayWidth, croppedX1 + x + bit, croppedY1 + y - bv2);
-							}
-						}
-					}
+					rasterizer.rasterize(requests.get(i), imageData, imageWidth, 0, 0);
 				}
+				frameRasterNanos += System.nanoTime() - start;
+				return;
+			}
+
+			final int count = requestCount;
 
-				v1 = v2;
+			final long rasterStart = System.nanoTime();
+			pool.submit(() -> IntStream.range(0, count).parallel().forEach(i ->
+			{
+				OutlineRequest request = requests.get(i);
+				workerRasterizer.get().rasterize(request, request.resetCoverage(), request.getCroppedWidth(),
+					request.croppedX1, request.croppedY1);
+			})).join();
+			frameRasterNanos += System.nanoTime() - rasterStart;
+
+			int minY = Integer.MAX_VALUE;
+			int maxY = Integer.MIN_VALUE;
+			for (int i = 0; i < count; i++)
+			{
+				OutlineRequest request = requests.get(i);
+				minY = Math.min(minY, request.croppedY1);
+				maxY = Math.max(maxY, request.croppedY2);
 			}
-		}
 
-		// Left and right
-		for (int y = 0; y < croppedHeight; y++)
-		{
-			int rowPosition = y * croppedWidth;
-			int lastV = 0;
-			for (int x = 0; x < croppedWidth; x += 32)
+			final int y1 = minY;
+			final int y2 = maxY;
+			final int bands = (y2 - y1 + COMPOSITE_BAND_HEIGHT - 1) / COMPOSITE_BAND_HEIGHT;
+
+			final long compositeStart = System.nanoTime();
+			pool.submit(() -> IntStream.range(0, bands).parallel().forEach(band ->
 			{
-				int v = visited[(rowPosition + x) >> 5];
+				int bandY1 = y1 + band * COMPOSITE_BAND_HEIGHT;
+				composite(imageData, imageWidth, count, bandY1, Math.min(bandY1 + COMPOSITE_BAND_HEIGHT, y2));
+			})).join();
+			frameCompositeNanos += System.nanoTime() - compositeStart;
+		}
+		finally
+		{
+			requestCount = 0;
+		}
+	}
 
-				// Test adjacent pixels in the same 32-bit segment
-				if (v != 0 && v != 0xFFFFFFFF)
+	/**
+	 * Blends the coverage of the batched outlines into a band of rows of the image,
+	 * in the order the outlines were requested.
+	 */
+	private void composite(int[] imageData, int imageWidth, int count, int bandY1, int bandY2)
+	{
+		for (int i = 0; i < count; i++)
+		{
+			final OutlineRequest request = requests.get(i);
+			final int[] coverage = request.coverage;
+			final int croppedWidth = request.getCroppedWidth();
+			final int y1 = Math.max(bandY1, request.croppedY1);
+			final int y2 = Math.min(bandY2, request.croppedY2);
+			for (int y = y1; y < y2; y++)
+			{
+				int srcPos = (y - request.croppedY1) * croppedWidth;
+				int dstPos = y * imageWidth + request.croppedX1;
+				for (int x = 0; x < croppedWidth; x++, srcPos++, dstPos++)
 				{
-					int end = Math.min(32, clipX2 - croppedX1 - x);
-					int lastBv = v & 1;
-					if (directWrite)
+					final int src = coverage[srcPos];
+					if (src == 0)
 					{
-						// Special case handling outlineWidth == 1 gives a
-						// small but noticeable performance improvement.
-						if (outlineWidth == 1)
-						{
-							for (int bit = 1; bit < end; bit++)
-							{
-								int bv = (v >>> bit) & 1;
-								if (bv != lastBv)
-								{
-									imageData[(croppedY1 + y) * imageWidth + (croppedX1 + x + bit - bv)] = colorRGB;
-								}
-								lastBv = bv;
-							}
-						}
-						else
-						{
-							PixelDistanceDelta[] distancesRight = precomputedDistanceDeltas[outlineWidth][0];
-							PixelDistanceDelta[] distancesLeft = precomputedDistanceDeltas[outlineWidth][2];
-							for (int bit = 1; bit < end; bit++)
-							{
-								int bv = (v >>> bit) & 1;
-								if (bv == 1 && lastBv == 0)
-								{
-									rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x + bit, croppedY1 + y,
-										distancesLeft, colorRGB);
-								}
-								else if (bv == 0 && lastBv == 1)
-								{
-									rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x + bit - 1, croppedY1 + y,
-										distancesRight, colorRGB);
-								}
-								lastBv = bv;
-							}
-						}
-					}
-					else
-					{
-						for (int bit = 1; bit < end; bit++)
-						{
-							int bv = (v >>> bit) & 1;
-							if (bv != lastBv)
-							{
-								enqueueOutlinePixel(1, croppedX1 + x + bit - bv, croppedY1 + y);
-							}
-							lastBv = bv;
-						}
+						continue;
 					}
-				}
 
-				// Test adjacent pixels in different 32-bit segments
-				if ((lastV >>> 31) != (v & 1) && x > 0)
-				{
-					if (directWrite)
-					{
-						if (outlineWidth == 1)
-						{
-							imageData[(croppedY1 + y) * imageWidth + (croppedX1 + x - (v & 1))] = colorRGB;
-						}
-						else
-						{
-							if ((v & 1) == 1)
-							{
-								PixelDistanceDelta[] distancesLeft = precomputedDistanceDeltas[outlineWidth][2];
-								rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x, croppedY1 + y,
-									distancesLeft, colorRGB);
-							}
-							else
-							{
-								PixelDistanceDelta[] distancesRight = precomputedDistanceDeltas[outlineWidth][0];
-								rasterDistanceDeltas(imageData, imageWidth, croppedX1 + x - 1, croppedY1 + y,
-									distancesRight, colorRGB);
-							}
-						}
-					}
-					else
-					{
-						enqueueOutlinePixel(1, croppedX1 + x - (v & 1), croppedY1 + y);
-					}
+					// The coverage holds the outline drawn over a transparent image, which
+					// gives the same colors as drawing the outline directly onto the image.
+					imageData[dstPos] = OutlineRasterizer.blend(src, imageData[dstPos]);
 				}
-
-				lastV = v;
 			}
 		}
 	}
 
 	/**
-	 * Process the outline queue and draw an outline of the pixels
-	 * in the queue to the client image buffer.
-	 *
-	 * @param outlineWidth The width of the outline.
-	 * @param color The color of the outline.
+	 * Get the pool batched outlines are rasterized on, or null if they must be rasterized
+	 * on the calling thread
 	 */
-	private void processOutlinePixelQueue(int outlineWidth, Color color, int feather)
+	private ForkJoinPool getPool()
 	{
-		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
-		BufferedImage image = (BufferedImage) bufferProvider.getImage();
-		int imageWidth = image.getWidth();
-		int[] imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
-		PixelDistanceGroupIndex[] ps = getPriorityList(outlineWidth, feather);
-
-		for (PixelDistanceGroupIndex p : ps)
+		if (PARALLELISM < 2 || shutdown)
 		{
-			final int[] blockMemory = outlinePixelsBlockBuffer.getMemory();
-
-			final int colorARGB;
-			final int inverseAlpha;
-			{
-				int alpha = (int) Math.round(color.getAlpha() * p.alphaMultiply);
-				inverseAlpha = 256 - alpha;
-				colorARGB = (alpha << 24)
-					| ((color.getRed() * alpha) / 255) << 16
-					| ((color.getGreen() * alpha) / 255) << 8
-					| ((color.getBlue() * alpha) / 255);
-			}
-
-			final int groupIndex = p.distanceGroupIndex;
-			final int nextGroupIndexY = groupIndex + outlineArrayWidth;
-			final int nextGroupIndexX = groupIndex + 1;
+			return null;
+		}
 
-			while (outlinePixelsBlockIndicesLengths[groupIndex] > 0)
+		ForkJoinPool pool = this.pool;
+		if (pool == null)
+		{
+			pool = new ForkJoinPool(PARALLELISM - 1, p ->
 			{
-				final int block = outlinePixelsBlockIndices[groupIndex][outlinePixelsBlockIndicesLengths[groupIndex] - 1];
-				final int blockStart = block << IntBlockBuffer.BLOCK_BITS;
-				final int blockEnd = blockStart + outlinePixelsLastBlockLength[groupIndex];
-				for (int i = blockStart; i < blockEnd; i++)
-				{
-					int x = blockMemory[i] & 0xFFFF;
-					int y = blockMemory[i] >>> 16;
-					int visitedPixelPos = (y - croppedY1) * croppedWidth + (x - croppedX1);
-					if ((visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) != 0)
-					{
-						continue;
-					}
-					visited[visitedPixelPos >> 5] |= 1 << (visitedPixelPos & 31);
-
-					int pixelPos = y * imageWidth + x;
-					int dst = imageData[pixelPos];
-					imageData[pixelPos]
-						= (colorARGB & 0xFF00FF00) + (((dst & 0xFF00FF00) * inverseAlpha) >>> 8) & 0xFF00FF00
-						| (colorARGB & 0x00FF00FF) + (((dst & 0x00FF00FF) * inverseAlpha) >>> 8) & 0x00FF00FF;
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+				thread.setName("outline-raster-" + thread.getPoolIndex());
+				thread.setDaemon(true);
+				return thread;
+			}, null, false);
+			this.pool = pool;
+		}
+		return pool;
+	}
 
-					if (x - 1 >= clipX1)
-					{
-						enqueueOutlinePixel(nextGroupIndexX, x - 1, y);
-					}
-					if (x + 1 < clipX2)
-					{
-						enqueueOutlinePixel(nextGroupIndexX, x + 1, y);
-					}
-					if (y - 1 >= clipY1)
-					{
-						enqueueOutlinePixel(nextGroupIndexY, x, y - 1);
-					}
-					if (y + 1 < clipY2)
-					{
-						enqueueOutlinePixel(nextGroupIndexY, x, y + 1);
-					}
-				}
+	private BufferedImage getImage()
+	{
+		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
+		return (BufferedImage) bufferProvider.getImage();
+	}
 
-				outlinePixelsBlockBuffer.freeBlock(block);
-				outlinePixelsBlockIndicesLengths[groupIndex]--;
-				outlinePixelsLastBlockLength[groupIndex] = IntBlockBuffer.BLOCK_SIZE;
-			}
+	private OutlineRequest nextRequest()
+	{
+		if (requestCount == requests.size())
+		{
+			requests.add(new OutlineRequest());
 		}
+		return requests.get(requestCount);
 	}
 
 	/**
@@ -918,34 +546,38 @@ public class ModelOutlineRenderer
 			feather = MAX_FEATHER;
 		}
 
-		croppedX1 = Integer.MAX_VALUE;
-		croppedX2 = Integer.MIN_VALUE;
-		croppedY1 = Integer.MAX_VALUE;
-		croppedY2 = Integer.MIN_VALUE;
+		final long start = System.nanoTime();
+		final OutlineRequest request = nextRequest();
+
+		request.croppedX1 = Integer.MAX_VALUE;
+		request.croppedX2 = Integer.MIN_VALUE;
+		request.croppedY1 = Integer.MAX_VALUE;
+		request.croppedY2 = Integer.MIN_VALUE;
 
-		clipX1 = client.getViewportXOffset();
-		clipY1 = client.getViewportYOffset();
-		clipX2 = client.getViewportWidth() + clipX1;
-		clipY2 = client.getViewportHeight() + clipY1;
+		final int clipX1 = client.getViewportXOffset();
+		final int clipY1 = client.getViewportYOffset();
+		final int clipX2 = client.getViewportWidth() + clipX1;
+		final int clipY2 = client.getViewportHeight() + clipY1;
+		request.clipX1 = clipX1;
+		request.clipY1 = clipY1;
+		request.clipX2 = clipX2;
+		request.clipY2 = clipY2;
 
-		if (!projectVertices(model, localX, localY, localZ, orientation))
+		if (!projectVertices(model, localX, localY, localZ, orientation, request))
 		{
 			// No vertex of the model is visible on the screen, so we can
 			// assume there are no parts of the model to outline.
 			return;
 		}
 
-		croppedX1 = Math.max(croppedX1 - outlineWidth, clipX1);
-		croppedX2 = Math.min(croppedX2 + outlineWidth, clipX2);
-		croppedX2 += ~(croppedX2 - croppedX1 - 1) & 31; // Increases width to next multiple of 32 so bitset segments align
-		croppedY1 = Math.max(croppedY1 - outlineWidth, clipY1);
-		croppedY2 = Math.min(croppedY2 + outlineWidth, clipY2);
-		croppedWidth = croppedX2 - croppedX1;
-		croppedHeight = croppedY2 - croppedY1;
+		request.croppedX1 = Math.max(request.croppedX1 - outlineWidth, clipX1);
+		request.croppedX2 = Math.min(request.croppedX2 + outlineWidth, clipX2);
+		request.croppedX2 += ~(request.croppedX2 - request.croppedX1 - 1) & 31; // Increases width to next multiple of 32 so bitset segments align
+		request.croppedY1 = Math.max(request.croppedY1 - outlineWidth, clipY1);
+		request.croppedY2 = Math.min(request.croppedY2 + outlineWidth, clipY2);
 
-		resetVisited(croppedWidth * croppedHeight);
-
-		simulateModelRasterizationForOutline(model);
+		request.triangleCount = 0;
+		collectTriangles(model, request);
 
 		// We can improve performance and reduce memory needed when drawing
 		// only a small outline around the model by skipping the pixel queueing
@@ -956,29 +588,35 @@ public class ModelOutlineRenderer
 		boolean directWrite = color.getAlpha() == 255 && outlineWidth <= DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD &&
 			(feather == 0 || outlineWidth == 1); // Feather has no effect on outlineWidth == 1
 
+		request.outlineWidth = outlineWidth;
+		request.color = color;
+		request.directWrite = directWrite;
 		if (directWrite)
 		{
 			ensureDistanceDeltasCreated(outlineWidth);
+			request.distanceDeltas = precomputedDistanceDeltas[outlineWidth];
+			request.priorityList = null;
 		}
 		else
 		{
-			outlineArrayWidth = outlineWidth + 2;
-			initializeOutlineBuffers();
+			request.distanceDeltas = null;
+			request.priorityList = getPriorityList(outlineWidth, feather);
 		}
 
-		try
-		{
-			processInitialOutlinePixels(directWrite, color, outlineWidth);
+		++frameOutlines;
+		framePrepareNanos += System.nanoTime() - start;
 
-			if (!directWrite)
-			{
-				processOutlinePixelQueue(outlineWidth, color, feather);
-			}
-		}
-		finally
+		if (batching)
 		{
-			freeAllBlockMemory();
+			++requestCount;
+			return;
 		}
+
+		final long rasterStart = System.nanoTime();
+		BufferedImage image = getImage();
+		int[] imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		rasterizer.rasterize(request, imageData, image.getWidth(), 0, 0);
+		frameRasterNanos += System.nanoTime() - rasterStart;
 	}
 
 	public void drawOutline(NPC npc, int outlineWidth, Color color, int feather)
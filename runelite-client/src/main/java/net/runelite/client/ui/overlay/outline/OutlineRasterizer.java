@@ -0,0 +1,716 @@
+/*
+ * Copyright (c) 2018-2021, Woox <https://github.com/wooxsolo>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Rasterizes model outlines. Holds the scratch memory for a single outline
+ * at a time, so each thread drawing outlines needs its own instance.
+ */
+class OutlineRasterizer
+{
+	@AllArgsConstructor
+	static class PixelDistanceDelta
+	{
+		final int dx;
+		final int dy;
+	}
+
+	@AllArgsConstructor
+	static class PixelDistanceGroupIndex
+	{
+		@Getter(AccessLevel.PACKAGE)
+		private final double distance;
+		final int distanceGroupIndex;
+		final double alphaMultiply;
+	}
+
+	// Window boundaries for the ingame world
+	private int clipX1;
+	private int clipY1;
+	private int clipX2;
+	private int clipY2;
+
+	// Boundaries for the outline
+	private int croppedX1;
+	private int croppedY1;
+	private int croppedX2;
+	private int croppedY2;
+	private int croppedWidth;
+	private int croppedHeight;
+
+	// Bitset with pixel positions that would be rendered to within the cropped area by the model.
+	private int[] visited = new int[0];
+
+	// Memory used for queueing the pixels for the outline of the model.
+	// Pixels are grouped by x and y distance to the closest pixel drawn on the model.
+	// A block buffer is used so memory can be reused after a group has been processed
+	// without using the JVM garbage collector.
+	private final IntBlockBuffer outlinePixelsBlockBuffer = new IntBlockBuffer();
+	private int[][] outlinePixelsBlockIndices = new int[0][];
+	private int[] outlinePixelsBlockIndicesLengths = new int[0];
+	private int[] outlinePixelsLastBlockLength;
+	private int outlineArrayWidth;
+
+	// Image being drawn to. Pixel (x, y) is at imageOffset + y * imageWidth + x.
+	private int[] imageData;
+	private int imageWidth;
+	private int imageOffset;
+
+	/**
+	 * Blends a premultiplied color over an image pixel.
+	 *
+	 * @param src The premultiplied color.
+	 * @param dst The image pixel.
+	 * @return Returns the blended pixel.
+	 */
+	static int blend(int src, int dst)
+	{
+		final int inverseAlpha = 256 - (src >>> 24);
+		return (src & 0xFF00FF00) + (((dst & 0xFF00FF00) * inverseAlpha) >>> 8) & 0xFF00FF00
+			| (src & 0x00FF00FF) + (((dst & 0x00FF00FF) * inverseAlpha) >>> 8) & 0x00FF00FF;
+	}
+
+	/**
+	 * Calculate the next power of two of a value.
+	 *
+	 * @param value The value to find the next power of two of.
+	 * @return Returns the next power of two.
+	 */
+	static int nextPowerOfTwo(int value)
+	{
+		value--;
+		value |= value >> 1;
+		value |= value >> 2;
+		value |= value >> 4;
+		value |= value >> 8;
+		value |= value >> 16;
+		value++;
+		return value;
+	}
+
+	/**
+	 * Enqueues a pixel for outlining.
+	 *
+	 * @param distanceGroupIndex The group index to enqueue the pixel into.
+	 * @param x The x position of the pixel.
+	 * @param y The y position of the pixel.
+	 */
+	private void enqueueOutlinePixel(int distanceGroupIndex, int x, int y)
+	{
+		if (outlinePixelsLastBlockLength[distanceGroupIndex] == IntBlockBuffer.BLOCK_SIZE)
+		{
+			int minimumBlockIndicesSize = outlinePixelsBlockIndicesLengths[distanceGroupIndex] + 1;
+			if (minimumBlockIndicesSize > outlinePixelsBlockIndices[distanceGroupIndex].length)
+			{
+				outlinePixelsBlockIndices[distanceGroupIndex] = Arrays.copyOf(
+					outlinePixelsBlockIndices[distanceGroupIndex],
+					nextPowerOfTwo(minimumBlockIndicesSize));
+			}
+			outlinePixelsBlockIndices[distanceGroupIndex][outlinePixelsBlockIndicesLengths[distanceGroupIndex]] =
+				outlinePixelsBlockBuffer.useNewBlock();
+			outlinePixelsBlockIndicesLengths[distanceGroupIndex]++;
+			outlinePixelsLastBlockLength[distanceGroupIndex] = 0;
+		}
+
+		int[] memory = outlinePixelsBlockBuffer.getMemory();
+		int block = outlinePixelsBlockIndices[distanceGroupIndex][outlinePixelsBlockIndicesLengths[distanceGroupIndex] - 1];
+		int blockPos = outlinePixelsLastBlockLength[distanceGroupIndex]++;
+		memory[(block << IntBlockBuffer.BLOCK_BITS) + blockPos] = (y << 16) | x;
+	}
+
+	/**
+	 * Checks that the visited bitset is big enough to hold a certain amount of pixels and sets them to 0.
+	 *
+	 * @param pixelAmount The amount of pixels needed.
+	 */
+	private void resetVisited(int pixelAmount)
+	{
+		int size = (pixelAmount >>> 5);
+		if (visited.length < size)
+		{
+			visited = new int[nextPowerOfTwo(size)];
+		}
+		Arrays.fill(visited, 0, size, 0);
+	}
+
+	/**
+	 * Ensures that the outline buffer arrays are large enough to fit the current outline.
+	 */
+	private void initializeOutlineBuffers()
+	{
+		int arraySizes = outlineArrayWidth * outlineArrayWidth;
+		if (outlinePixelsBlockIndicesLengths.length < arraySizes)
+		{
+			outlinePixelsBlockIndices = new int[arraySizes][];
+			outlinePixelsBlockIndicesLengths = new int[arraySizes];
+			outlinePixelsLastBlockLength = new int[arraySizes];
+			for (int i = 0; i < arraySizes; i++)
+			{
+				outlinePixelsBlockIndices[i] = new int[0];
+			}
+		}
+
+		for (int i = 0; i < arraySizes; i++)
+		{
+			outlinePixelsLastBlockLength[i] = IntBlockBuffer.BLOCK_SIZE;
+		}
+	}
+
+	/**
+	 * Frees all blocks currently in use by the outline block buffer.
+	 */
+	private void freeAllBlockMemory()
+	{
+		for (int i = 0; i < outlineArrayWidth * outlineArrayWidth; i++)
+		{
+			while (outlinePixelsBlockIndicesLengths[i] > 0)
+			{
+				outlinePixelsBlockIndicesLengths[i]--;
+				outlinePixelsBlockBuffer.freeBlock(outlinePixelsBlockIndices[i][outlinePixelsBlockIndicesLengths[i]]);
+			}
+			outlinePixelsLastBlockLength[i] = IntBlockBuffer.BLOCK_SIZE;
+		}
+	}
+
+	/**
+	 * Simulates a horizontal line rasterization and marks pixels visited.
+	 *
+	 * @param pixelY The y position of the line
+	 * @param x1 The starting x position
+	 * @param x2 The ending x position
+	 */
+	private void simulateHorizontalLineRasterizationForOutline(int pixelY, int x1, int x2)
+	{
+		if (x2 > clipX2)
+		{
+			x2 = clipX2;
+		}
+		if (x1 < clipX1)
+		{
+			x1 = clipX1;
+		}
+		if (x1 >= x2)
+		{
+			return;
+		}
+
+		int pixelPos1 = (pixelY - croppedY1) * croppedWidth + (x1 - croppedX1);
+		int pixelPos2 = pixelPos1 + x2 - x1;
+		int pixelPosIndex1 = pixelPos1 >> 5;
+		int pixelPosIndex2 = pixelPos2 >> 5;
+		if (pixelPosIndex1 == pixelPosIndex2)
+		{
+			visited[pixelPosIndex1] |= ((1 << (pixelPos2 & 31)) - 1) ^ ((1 << (pixelPos1 & 31)) - 1);
+		}
+		else
+		{
+			visited[pixelPosIndex1] |= -(1 << (pixelPos1 & 31));
+			visited[pixelPosIndex2] |= (1 << (pixelPos2 & 31)) - 1;
+			for (int i = pixelPosIndex1 + 1; i < pixelPosIndex2; i++)
+			{
+				visited[i] = 0xFFFFFFFF;
+			}
+		}
+	}
+
+	/**
+	 * Simulates rasterization of a triangle and marks pixels visited.
+	 *
+	 * @param x1 The x position of the first vertex in the triangle
+	 * @param y1 The y position of the first vertex in the triangle
+	 * @param x2 The x position of the second vertex in the triangle
+	 * @param y2 The y position of the second vertex in the triangle
+	 * @param x3 The x position of the third vertex in the triangle
+	 * @param y3 The y position of the third vertex in the triangle
+	 */
+	private void simulateTriangleRasterizationForOutline(
+		int x1, int y1, int x2, int y2, int x3, int y3)
+	{
+		// Swap vertices so y1 <= y2 <= y3 using bubble sort
+		if (y1 > y2)
+		{
+			int yp = y1;
+			int xp = x1;
+			y1 = y2;
+			y2 = yp;
+			x1 = x2;
+			x2 = xp;
+		}
+		if (y2 > y3)
+		{
+			int yp = y2;
+			int xp = x2;
+			y2 = y3;
+			y3 = yp;
+			x2 = x3;
+			x3 = xp;
+		}
+		if (y1 > y2)
+		{
+			int yp = y1;
+			int xp = x1;
+			y1 = y2;
+			y2 = yp;
+			x1 = x2;
+			x2 = xp;
+		}
+
+		if (y1 > clipY2)
+		{
+			// All points are outside clip boundaries
+			return;
+		}
+
+		int slope1 = 0;
+		if (y1 != y2)
+		{
+			slope1 = (x2 - x1 << 14) / (y2 - y1);
+		}
+
+		int slope2 = 0;
+		if (y3 != y2)
+		{
+			slope2 = (x3 - x2 << 14) / (y3 - y2);
+		}
+
+		int slope3 = 0;
+		if (y1 != y3)
+		{
+			slope3 = (x1 - x3 << 14) / (y1 - y3);
+		}
+
+		if (y2 > clipY2)
+		{
+			y2 = clipY2;
+		}
+		if (y3 > clipY2)
+		{
+			y3 = clipY2;
+		}
+		if (y1 == y3 || y3 < clipY1)
+		{
+			return;
+		}
+
+		x1 <<= 14;
+		x2 <<= 14;
+		x3 = x1;
+
+		if (y1 < clipY1)
+		{
+			x3 -= (y1 - clipY1) * slope3;
+			x1 -= (y1 - clipY1) * slope1;
+			y1 = clipY1;
+		}
+		if (y2 < clipY1)
+		{
+			x2 -= (y2 - clipY1) * slope2;
+			y2 = clipY1;
+		}
+
+		int pixelY = y1;
+		int height1 = y2 - y1;
+		int height2 = y3 - y2;
+		if (y1 != y2 && slope3 < slope1 || y1 == y2 && slope3 > slope2)
+		{
+			while (height1-- > 0)
+			{
+				simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x1 >> 14);
+				x3 += slope3;
+				x1 += slope1;
+				pixelY++;
+			}
+
+			while (height2-- > 0)
+			{
+				simulateHorizontalLineRasterizationForOutline(pixelY, x3 >> 14, x2 >> 14);
+				x3 += slope3;
+				x2 += slope2;
+				pixelY++;
+			}
+		}
+		else
+		{
+			while (height1-- > 0)
+			{
+				simulateHorizontalLineRasterizationForOutline(pixelY, x1 >> 14, x3 >> 14);
+				x1 += slope1;
+				x3 += slope3;
+				pixelY++;
+			}
+
+			while (height2-- > 0)
+			{
+				simulateHorizontalLineRasterizationForOutline(pixelY, x2 >> 14, x3 >> 14);
+				x3 += slope3;
+				x2 += slope2;
+				pixelY++;
+			}
+		}
+	}
+
+	/**
+	 * Draws the outline of a pixel according to the distance deltas of an outline.
+	 *
+	 * @param x The x position of the pixel.
+	 * @param y The y position of the pixel.
+	 * @param distanceDeltas The distance deltas of the outline width.
+	 * @param color The color to draw the outline in.
+	 */
+	private void rasterDistanceDeltas(int x, int y, PixelDistanceDelta[] distanceDeltas, int color)
+	{
+		for (PixelDistanceDelta delta : distanceDeltas)
+		{
+			int cx = x + delta.dx;
+			int cy = y + delta.dy;
+			int visitedPixelPos = (cy - croppedY1) * croppedWidth + (cx - croppedX1);
+			if (cx >= clipX1 && cx < clipX2 && cy >= clipY1 && cy < clipY2 &&
+				(visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) == 0)
+			{
+				imageData[imageOffset + cy * imageWidth + cx] = color;
+			}
+		}
+	}
+
+	/**
+	 * Enqueues pixels that are adjacent above or below the model
+	 * or draws them directly to the image buffer.
+	 *
+	 * @param directWrite If true the pixels are drawn to the image buffer, otherwise they are enqueued for drawing.
+	 * @param color The color to draw if directWrite == true
+	 * @param outlineWidth The outline width to draw if directWrite == true
+	 * @param distanceDeltas The distance deltas of the outline width if directWrite == true
+	 */
+	private void processInitialOutlinePixels(boolean directWrite, Color color, int outlineWidth,
+		PixelDistanceDelta[][] distanceDeltas)
+	{
+		int colorRGB = color.getRGB();
+
+		// Up and down
+		for (int x = 0; x < croppedWidth; x += 32)
+		{
+			int v1 = visited[x >> 5];
+			for (int y = 1; y < croppedHeight; y++)
+			{
+				int v2 = visited[(y * croppedWidth + x) >> 5];
+				if (v1 != v2)
+				{
+					if (directWrite)
+					{
+						// Special case handling outlineWidth == 1 gives a
+						// small but noticeable performance improvement.
+						if (outlineWidth == 1)
+						{
+							for (int bit = 0; bit < 32; bit++)
+							{
+								int bv1 = (v1 >>> bit) & 1;
+								int bv2 = (v2 >>> bit) & 1;
+								if (bv1 != bv2)
+								{
+									imageData[imageOffset + (croppedY1 + y - bv2) * imageWidth + (croppedX1 + x + bit)] = colorRGB;
+								}
+							}
+						}
+						else
+						{
+							PixelDistanceDelta[] distancesDown = distanceDeltas[3];
+							PixelDistanceDelta[] distancesUp = distanceDeltas[1];
+							for (int bit = 0; bit < 32; bit++)
+							{
+								int bv1 = (v1 >>> bit) & 1;
+								int bv2 = (v2 >>> bit) & 1;
+								if (bv1 == 1 && bv2 == 0)
+								{
+									rasterDistanceDeltas(croppedX1 + x + bit, croppedY1 + y - 1,
+										distancesDown, colorRGB);
+								}
+								else if (bv1 == 0 && bv2 == 1)
+								{
+									rasterDistanceDeltas(croppedX1 + x + bit, croppedY1 + y,
+										distancesUp, colorRGB);
+								}
+							}
+						}
+					}
+					else
+					{
+						for (int bit = 0; bit < 32; bit++)
+						{
+							int bv1 = (v1 >>> bit) & 1;
+							int bv2 = (v2 >>> bit) & 1;
+							if (bv1 != bv2)
+							{
+								enqueueOutlinePixel(outlineArrayWidth, croppedX1 + x + bit, croppedY1 + y - bv2);
+							}
+						}
+					}
+				}
+
+				v1 = v2;
+			}
+		}
+
+		// Left and right
+		for (int y = 0; y < croppedHeight; y++)
+		{
+			int rowPosition = y * croppedWidth;
+			int lastV = 0;
+			for (int x = 0; x < croppedWidth; x += 32)
+			{
+				int v = visited[(rowPosition + x) >> 5];
+
+				// Test adjacent pixels in the same 32-bit segment
+				if (v != 0 && v != 0xFFFFFFFF)
+				{
+					int end = Math.min(32, clipX2 - croppedX1 - x);
+					int lastBv = v & 1;
+					if (directWrite)
+					{
+						// Special case handling outlineWidth == 1 gives a
+						// small but noticeable performance improvement.
+						if (outlineWidth == 1)
+						{
+							for (int bit = 1; bit < end; bit++)
+							{
+								int bv = (v >>> bit) & 1;
+								if (bv != lastBv)
+								{
+									imageData[imageOffset + (croppedY1 + y) * imageWidth + (croppedX1 + x + bit - bv)] = colorRGB;
+								}
+								lastBv = bv;
+							}
+						}
+						else
+						{
+							PixelDistanceDelta[] distancesRight = distanceDeltas[0];
+							PixelDistanceDelta[] distancesLeft = distanceDeltas[2];
+							for (int bit = 1; bit < end; bit++)
+							{
+								int bv = (v >>> bit) & 1;
+								if (bv == 1 && lastBv == 0)
+								{
+									rasterDistanceDeltas(croppedX1 + x + bit, croppedY1 + y,
+										distancesLeft, colorRGB);
+								}
+								else if (bv == 0 && lastBv == 1)
+								{
+									rasterDistanceDeltas(croppedX1 + x + bit - 1, croppedY1 + y,
+										distancesRight, colorRGB);
+								}
+								lastBv = bv;
+							}
+						}
+					}
+					else
+					{
+						for (int bit = 1; bit < end; bit++)
+						{
+							int bv = (v >>> bit) & 1;
+							if (bv != lastBv)
+							{
+								enqueueOutlinePixel(1, croppedX1 + x + bit - bv, croppedY1 + y);
+							}
+							lastBv = bv;
+						}
+					}
+				}
+
+				// Test adjacent pixels in different 32-bit segments
+				if ((lastV >>> 31) != (v & 1) && x > 0)
+				{
+					if (directWrite)
+					{
+						if (outlineWidth == 1)
+						{
+							imageData[imageOffset + (croppedY1 + y) * imageWidth + (croppedX1 + x - (v & 1))] = colorRGB;
+						}
+						else
+						{
+							if ((v & 1) == 1)
+							{
+								PixelDistanceDelta[] distancesLeft = distanceDeltas[2];
+								rasterDistanceDeltas(croppedX1 + x, croppedY1 + y,
+									distancesLeft, colorRGB);
+							}
+							else
+							{
+								PixelDistanceDelta[] distancesRight = distanceDeltas[0];
+								rasterDistanceDeltas(croppedX1 + x - 1, croppedY1 + y,
+									distancesRight, colorRGB);
+							}
+						}
+					}
+					else
+					{
+						enqueueOutlinePixel(1, croppedX1 + x - (v & 1), croppedY1 + y);
+					}
+				}
+
+				lastV = v;
+			}
+		}
+	}
+
+	/**
+	 * Process the outline queue and draw an outline of the pixels
+	 * in the queue to the image buffer.
+	 *
+	 * @param color The color of the outline.
+	 * @param ps The pixel groups of the outline ordered by distance.
+	 */
+	private void processOutlinePixelQueue(Color color, PixelDistanceGroupIndex[] ps)
+	{
+
+		for (PixelDistanceGroupIndex p : ps)
+		{
+			final int[] blockMemory = outlinePixelsBlockBuffer.getMemory();
+
+			final int colorARGB;
+			final int inverseAlpha;
+			{
+				int alpha = (int) Math.round(color.getAlpha() * p.alphaMultiply);
+				inverseAlpha = 256 - alpha;
+				colorARGB = (alpha << 24)
+					| ((color.getRed() * alpha) / 255) << 16
+					| ((color.getGreen() * alpha) / 255) << 8
+					| ((color.getBlue() * alpha) / 255);
+			}
+
+			final int groupIndex = p.distanceGroupIndex;
+			final int nextGroupIndexY = groupIndex + outlineArrayWidth;
+			final int nextGroupIndexX = groupIndex + 1;
+
+			while (outlinePixelsBlockIndicesLengths[groupIndex] > 0)
+			{
+				final int block = outlinePixelsBlockIndices[groupIndex][outlinePixelsBlockIndicesLengths[groupIndex] - 1];
+				final int blockStart = block << IntBlockBuffer.BLOCK_BITS;
+				final int blockEnd = blockStart + outlinePixelsLastBlockLength[groupIndex];
+				for (int i = blockStart; i < blockEnd; i++)
+				{
+					int x = blockMemory[i] & 0xFFFF;
+					int y = blockMemory[i] >>> 16;
+					int visitedPixelPos = (y - croppedY1) * croppedWidth + (x - croppedX1);
+					if ((visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) != 0)
+					{
+						continue;
+					}
+					visited[visitedPixelPos >> 5] |= 1 << (visitedPixelPos & 31);
+
+					int pixelPos = imageOffset + y * imageWidth + x;
+					int dst = imageData[pixelPos];
+					imageData[pixelPos]
+						= (colorARGB & 0xFF00FF00) + (((dst & 0xFF00FF00) * inverseAlpha) >>> 8) & 0xFF00FF00
+						| (colorARGB & 0x00FF00FF) + (((dst & 0x00FF00FF) * inverseAlpha) >>> 8) & 0x00FF00FF;
+
+					if (x - 1 >= clipX1)
+					{
+						enqueueOutlinePixel(nextGroupIndexX, x - 1, y);
+					}
+					if (x + 1 < clipX2)
+					{
+						enqueueOutlinePixel(nextGroupIndexX, x + 1, y);
+					}
+					if (y - 1 >= clipY1)
+					{
+						enqueueOutlinePixel(nextGroupIndexY, x, y - 1);
+					}
+					if (y + 1 < clipY2)
+					{
+						enqueueOutlinePixel(nextGroupIndexY, x, y + 1);
+					}
+				}
+
+				outlinePixelsBlockBuffer.freeBlock(block);
+				outlinePixelsBlockIndicesLengths[groupIndex]--;
+				outlinePixelsLastBlockLength[groupIndex] = IntBlockBuffer.BLOCK_SIZE;
+			}
+		}
+	}
+
+	/**
+	 * Draws the outline of a request to an image.
+	 *
+	 * @param request The outline to draw.
+	 * @param imageData The image data to draw to.
+	 * @param imageWidth The width of the image to draw to.
+	 * @param imageX The screen x position of the first pixel of the image.
+	 * @param imageY The screen y position of the first pixel of the image.
+	 */
+	void rasterize(OutlineRequest request, int[] imageData, int imageWidth, int imageX, int imageY)
+	{
+		clipX1 = request.clipX1;
+		clipY1 = request.clipY1;
+		clipX2 = request.clipX2;
+		clipY2 = request.clipY2;
+		croppedX1 = request.croppedX1;
+		croppedY1 = request.croppedY1;
+		croppedX2 = request.croppedX2;
+		croppedY2 = request.croppedY2;
+		croppedWidth = croppedX2 - croppedX1;
+		croppedHeight = croppedY2 - croppedY1;
+
+		resetVisited(croppedWidth * croppedHeight);
+
+		final int[] triangles = request.triangles;
+		for (int i = 0, pos = 0; i < request.triangleCount; i++, pos += 6)
+		{
+			simulateTriangleRasterizationForOutline(
+				triangles[pos], triangles[pos + 1],
+				triangles[pos + 2], triangles[pos + 3],
+				triangles[pos + 4], triangles[pos + 5]);
+		}
+
+		if (!request.directWrite)
+		{
+			outlineArrayWidth = request.outlineWidth + 2;
+			initializeOutlineBuffers();
+		}
+
+		this.imageData = imageData;
+		this.imageWidth = imageWidth;
+		this.imageOffset = -(imageY * imageWidth + imageX);
+
+		try
+		{
+			processInitialOutlinePixels(request.directWrite, request.color, request.outlineWidth, request.distanceDeltas);
+
+			if (!request.directWrite)
+			{
+				processOutlinePixelQueue(request.color, request.priorityList);
+			}
+		}
+		finally
+		{
+			freeAllBlockMemory();
+			this.imageData = null;
+		}
+	}
+}
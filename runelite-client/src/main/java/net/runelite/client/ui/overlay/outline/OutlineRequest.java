@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.util.Arrays;
+
+/**
+ * A single model outline, projected to screen triangles on the client thread
+ * so that it can be rasterized off of it.
+ */
+class OutlineRequest
+{
+	// Window boundaries for the ingame world
+	int clipX1;
+	int clipY1;
+	int clipX2;
+	int clipY2;
+
+	// Boundaries for the outline
+	int croppedX1;
+	int croppedY1;
+	int croppedX2;
+	int croppedY2;
+
+	int outlineWidth;
+	Color color;
+	boolean directWrite;
+
+	// Distance deltas for a direct write outline, or the priority list for a queued one
+	OutlineRasterizer.PixelDistanceDelta[][] distanceDeltas;
+	OutlineRasterizer.PixelDistanceGroupIndex[] priorityList;
+
+	// Visible screen triangles, as x1, y1, x2, y2, x3, y3
+	int[] triangles = new int[6 * 256];
+	int triangleCount;
+
+	// Premultiplied outline pixels over the cropped area, used when batching
+	int[] coverage = new int[0];
+
+	int getCroppedWidth()
+	{
+		return croppedX2 - croppedX1;
+	}
+
+	int getCroppedHeight()
+	{
+		return croppedY2 - croppedY1;
+	}
+
+	void addTriangle(int x1, int y1, int x2, int y2, int x3, int y3)
+	{
+		int pos = triangleCount * 6;
+		if (pos + 6 > triangles.length)
+		{
+			triangles = Arrays.copyOf(triangles, triangles.length * 2);
+		}
+		triangles[pos] = x1;
+		triangles[pos + 1] = y1;
+		triangles[pos + 2] = x2;
+		triangles[pos + 3] = y2;
+		triangles[pos + 4] = x3;
+		triangles[pos + 5] = y3;
+		triangleCount++;
+	}
+
+	/**
+	 * Ensures the coverage buffer is large enough for the cropped area and clears it.
+	 */
+	int[] resetCoverage()
+	{
+		int size = getCroppedWidth() * getCroppedHeight();
+		if (coverage.length < size)
+		{
+			coverage = new int[size];
+		}
+		else
+		{
+			Arrays.fill(coverage, 0, size, 0);
+		}
+		return coverage;
+	}
+}
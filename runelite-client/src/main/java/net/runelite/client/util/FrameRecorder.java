@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import javax.annotation.Nullable;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.BufferProvider;
+import net.runelite.api.Client;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.client.ui.DrawManager;
+
+/**
+ * Continuously records the last few seconds of drawn frames into a fixed size, off-heap
+ * ring buffer, so that they can be saved as a clip after something interesting happens.
+ * <p>
+ * Frames are downscaled into the ring on the client thread at a fixed rate. Without GPU they are
+ * read straight from the client's main buffer, so no full size copy of the frame is made; with GPU
+ * the scene is only in the GL framebuffer, so the drawn frame is read back through the draw manager.
+ * Saving copies the ring out and encodes it on the given executor, so the client thread
+ * never waits on encoding; frames drawn while the ring is being copied out are skipped.
+ */
+@Slf4j
+public class FrameRecorder
+{
+	/**
+	 * Magic of the raw frame archive, "RLFR"
+	 */
+	public static final int RAW_MAGIC = 0x524c4652;
+	public static final int RAW_VERSION = 1;
+
+	@RequiredArgsConstructor
+	@Getter
+	public enum Format
+	{
+		/**
+		 * An animated, looping GIF
+		 */
+		GIF("gif"),
+		/**
+		 * A deflated archive of the raw RGB frames, see {@link #RAW_MAGIC}
+		 */
+		RAW("frames");
+
+		private final String extension;
+	}
+
+	private final Client client;
+	private final DrawManager drawManager;
+	private final Executor executor;
+	private final long frameIntervalNanos;
+	private final double scale;
+	private final int maxWidth;
+	private final int maxHeight;
+	private final int capacity;
+
+	// one slot of maxWidth * maxHeight RGB pixels per frame
+	private final IntBuffer ring;
+	private final int[] widths;
+	private final int[] heights;
+	private final long[] timestamps;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Consumer<Supplier<Image>> frameListener = this::onFrame;
+
+	private int head;
+	private int count;
+	private long lastCapture;
+	private int[] row;
+	private int[] columns;
+
+	@Getter
+	private volatile boolean recording;
+
+	/**
+	 * Allocates the ring buffer for a recorder. The recorder does nothing until it is started.
+	 *
+	 * @param client client to record the frames of
+	 * @param drawManager draw manager to be notified of drawn frames by
+	 * @param executor executor to encode clips on
+	 * @param seconds how many seconds of frames to keep
+	 * @param fps how many frames per second to record
+	 * @param scale how much to scale frames by before recording them
+	 * @param maxWidth the largest width of a recorded frame, frames are scaled down further to fit
+	 * @param maxHeight the largest height of a recorded frame, frames are scaled down further to fit
+	 */
+	public FrameRecorder(Client client, DrawManager drawManager, Executor executor, int seconds, int fps, double scale, int maxWidth, int maxHeight)
+	{
+		if (seconds <= 0 || fps <= 0 || scale <= 0 || maxWidth <= 0 || maxHeight <= 0)
+		{
+			throw new IllegalArgumentException("invalid recorder dimensions");
+		}
+
+		this.client = client;
+		this.drawManager = drawManager;
+		this.executor = executor;
+		this.frameIntervalNanos = TimeUnit.SECONDS.toNanos(1) / fps;
+		this.scale = scale;
+		this.maxWidth = maxWidth;
+		this.maxHeight = maxHeight;
+		this.capacity = seconds * fps;
+
+		long bytes = (long) capacity * maxWidth * maxHeight * Integer.BYTES;
+		if (bytes > Integer.MAX_VALUE)
+		{
+			throw new IllegalArgumentException("recorder buffer is too large: " + bytes + " bytes");
+		}
+
+		this.ring = ByteBuffer.allocateDirect((int) bytes)
+			.order(ByteOrder.nativeOrder())
+			.asIntBuffer();
+		this.widths = new int[capacity];
+		this.heights = new int[capacity];
+		this.timestamps = new long[capacity];
+		this.row = new int[maxWidth];
+		this.columns = new int[maxWidth];
+	}
+
+	public void start()
+	{
+		recording = true;
+		drawManager.registerEveryFrameImageListener(frameListener);
+	}
+
+	public void stop()
+	{
+		recording = false;
+		drawManager.unregisterEveryFrameImageListener(frameListener);
+	}
+
+	private void onFrame(Supplier<Image> imageSupplier)
+	{
+		long now = System.nanoTime();
+		if (now - lastCapture < frameIntervalNanos)
+		{
+			return;
+		}
+
+		lastCapture = now;
+
+		if (client.isGpu())
+		{
+			// the main buffer only holds the interface, read the whole frame back
+			capture(imageSupplier.get());
+			return;
+		}
+
+		// every frame listeners are run before the main buffer is drawn over by the next frame
+		BufferProvider bufferProvider = client.getBufferProvider();
+		if (bufferProvider instanceof MainBufferProvider)
+		{
+			capture(((MainBufferProvider) bufferProvider).getImage());
+		}
+	}
+
+	private void capture(Image image)
+	{
+		if (!(image instanceof BufferedImage))
+		{
+			return;
+		}
+
+		BufferedImage src = (BufferedImage) image;
+		DataBuffer dataBuffer = src.getRaster().getDataBuffer();
+		if (!(dataBuffer instanceof DataBufferInt) || !(src.getSampleModel() instanceof SinglePixelPackedSampleModel)
+			|| src.getRaster().getParent() != null)
+		{
+			log.debug("Unable to record frame of type {}", src.getType());
+			return;
+		}
+
+		if (!recording || !lock.tryLock())
+		{
+			// a clip is being copied out of the ring, drop this frame rather than wait
+			return;
+		}
+
+		try
+		{
+			int srcWidth = src.getWidth();
+			int srcHeight = src.getHeight();
+			int stride = ((SinglePixelPackedSampleModel) src.getSampleModel()).getScanlineStride();
+			int[] pixels = ((DataBufferInt) dataBuffer).getData();
+
+			double s = Math.min(scale, Math.min((double) maxWidth / srcWidth, (double) maxHeight / srcHeight));
+			int width = Math.max(1, Math.min(maxWidth, (int) (srcWidth * s)));
+			int height = Math.max(1, Math.min(maxHeight, (int) (srcHeight * s)));
+
+			for (int x = 0; x < width; ++x)
+			{
+				columns[x] = x * srcWidth / width;
+			}
+
+			int slot = head;
+			int offset = slot * maxWidth * maxHeight;
+			for (int y = 0; y < height; ++y)
+			{
+				int srcOffset = (y * srcHeight / height) * stride;
+				for (int x = 0; x < width; ++x)
+				{
+					row[x] = pixels[srcOffset + columns[x]] & 0xffffff;
+				}
+
+				ring.position(offset + y * width);
+				ring.put(row, 0, width);
+			}
+
+			widths[slot] = width;
+			heights[slot] = height;
+			timestamps[slot] = System.currentTimeMillis();
+			head = (head + 1) % capacity;
+			count = Math.min(count + 1, capacity);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Saves the recorded frames to a file. The frames are copied and encoded on the executor,
+	 * and recording continues while the clip is written.
+	 *
+	 * @param file file to write
+	 * @param format format to encode the clip in
+	 * @param callback called on the executor with the file once it is written, may be null
+	 */
+	public void save(File file, Format format, @Nullable Consumer<File> callback)
+	{
+		executor.execute(() ->
+		{
+			List<Frame> frames = copyFrames();
+			if (frames.isEmpty())
+			{
+				log.debug("No frames recorded, not saving {}", file);
+				return;
+			}
+
+			File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+			try
+			{
+				switch (format)
+				{
+					case GIF:
+						writeGif(tmp, frames, frameIntervalNanos);
+						break;
+					case RAW:
+						writeRaw(tmp, frames);
+						break;
+				}
+
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (IOException ex)
+			{
+				log.warn("error writing clip {}", file, ex);
+				tmp.delete();
+				return;
+			}
+
+			log.debug("Saved {} frames to {}", frames.size(), file);
+
+			if (callback != null)
+			{
+				callback.accept(file);
+			}
+		});
+	}
+
+	private List<Frame> copyFrames()
+	{
+		lock.lock();
+		try
+		{
+			List<Frame> frames = new ArrayList<>(count);
+			for (int i = 0; i < count; ++i)
+			{
+				int slot = (head - count + i + capacity) % capacity;
+				int[] pixels = new int[widths[slot] * heights[slot]];
+				ring.position(slot * maxWidth * maxHeight);
+				ring.get(pixels);
+				frames.add(new Frame(widths[slot], heights[slot], timestamps[slot], pixels));
+			}
+			return frames;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	private static void writeGif(File file, List<Frame> frames, long frameIntervalNanos) throws IOException
+	{
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+		try (ImageOutputStream out = ImageIO.createImageOutputStream(file))
+		{
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			writer.setOutput(out);
+			writer.prepareWriteSequence(null);
+
+			for (int i = 0; i < frames.size(); ++i)
+			{
+				Frame frame = frames.get(i);
+				BufferedImage image = new BufferedImage(frame.width, frame.height, BufferedImage.TYPE_INT_RGB);
+				image.setRGB(0, 0, frame.width, frame.height, frame.pixels, 0, frame.width);
+
+				// delays are in hundredths of a second, the last frame is shown for one frame interval
+				long delayMs = i + 1 < frames.size()
+					? frames.get(i + 1).timestamp - frame.timestamp
+					: TimeUnit.NANOSECONDS.toMillis(frameIntervalNanos);
+
+				IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), param);
+				setGifFrameMetadata(metadata, (int) Math.max(1, Math.min(0xffff, delayMs / 10)), i == 0);
+				writer.writeToSequence(new IIOImage(image, null, metadata), param);
+			}
+
+			writer.endWriteSequence();
+		}
+		finally
+		{
+			writer.dispose();
+		}
+	}
+
+	private static void setGifFrameMetadata(IIOMetadata metadata, int delay, boolean loop) throws IOException
+	{
+		String formatName = metadata.getNativeMetadataFormatName();
+		IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(formatName);
+
+		IIOMetadataNode control = getOrCreateChild(root, "GraphicControlExtension");
+		control.setAttribute("disposalMethod", "none");
+		control.setAttribute("userInputFlag", "FALSE");
+		control.setAttribute("transparentColorFlag", "FALSE");
+		control.setAttribute("delayTime", Integer.toString(delay));
+		control.setAttribute("transparentColorIndex", "0");
+
+		if (loop)
+		{
+			// NETSCAPE2.0 extension with a loop count of 0, repeating forever
+			IIOMetadataNode extension = new IIOMetadataNode("ApplicationExtension");
+			extension.setAttribute("applicationID", "NETSCAPE");
+			extension.setAttribute("authenticationCode", "2.0");
+			extension.setUserObject(new byte[]{1, 0, 0});
+			getOrCreateChild(root, "ApplicationExtensions").appendChild(extension);
+		}
+
+		metadata.setFromTree(formatName, root);
+	}
+
+	private static IIOMetadataNode getOrCreateChild(IIOMetadataNode root, String name)
+	{
+		for (int i = 0; i < root.getLength(); ++i)
+		{
+			if (root.item(i).getNodeName().equalsIgnoreCase(name))
+			{
+				return (IIOMetadataNode) root.item(i);
+			}
+		}
+
+		IIOMetadataNode node = new IIOMetadataNode(name);
+		root.appendChild(node);
+		return node;
+	}
+
+	private static void writeRaw(File file, List<Frame> frames) throws IOException
+	{
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(new FileOutputStream(file), deflater, 1 << 16))))
+		{
+			out.writeInt(RAW_MAGIC);
+			out.writeInt(RAW_VERSION);
+			out.writeInt(frames.size());
+
+			ByteBuffer buffer = null;
+			for (Frame frame : frames)
+			{
+				out.writeLong(frame.timestamp);
+				out.writeInt(frame.width);
+				out.writeInt(frame.height);
+
+				int size = frame.pixels.length * Integer.BYTES;
+				if (buffer == null || buffer.capacity() < size)
+				{
+					buffer = ByteBuffer.allocate(size);
+				}
+				buffer.clear();
+				buffer.asIntBuffer().put(frame.pixels);
+				out.write(buffer.array(), 0, size);
+			}
+		}
+		finally
+		{
+			deflater.end();
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class Frame
+	{
+		private final int width;
+		private final int height;
+		private final long timestamp;
+		private final int[] pixels;
+	}
+}
@@ -43,7 +43,6 @@ import java.text.SimpleDateFormat;
 import java.util.Base64;
 import java.util.Date;
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -112,45 +111,11 @@ public class ImageCapture
 			return;
 		}
 
-		File playerFolder;
-		if (client.getLocalPlayer() != null && client.getLocalPlayer().getName() != null)
-		{
-			String playerDir = client.getLocalPlayer().getName();
-			RuneScapeProfileType profileType = RuneScapeProfileType.getCurrent(client);
-			if (profileType != RuneScapeProfileType.STANDARD)
-			{
-				playerDir += "-" + Text.titleCase(profileType);
-			}
-
-			if (!Strings.isNullOrEmpty(subDir))
-			{
-				playerDir += File.separator + subDir;
-			}
-
-			playerFolder = new File(SCREENSHOT_DIR, playerDir);
-		}
-		else
-		{
-			playerFolder = SCREENSHOT_DIR;
-		}
-
-		playerFolder.mkdirs();
-
-		fileName += (fileName.isEmpty() ? "" : " ") + format(new Date());
+		File screenshotFile = createFile(fileName, subDir, "png");
 
 		try
 		{
-			File screenshotFile = new File(playerFolder, fileName + ".png");
-
-			// To make sure that screenshots don't get overwritten, check if file exists,
-			// and if it does create file with same name and suffix.
-			int i = 1;
-			while (screenshotFile.exists())
-			{
-				screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
-			}
-
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			PngWriter.write(screenshot, screenshotFile);
 
 			if (imageUploadStyle == ImageUploadStyle.IMGUR)
 			{
@@ -192,6 +157,74 @@ public class ImageCapture
 		takeScreenshot(screenshot, fileName, null, notify, imageUploadStyle);
 	}
 
+	/**
+	 * Saves the frames held by a recorder to the screenshot folder as a clip. The clip is
+	 * encoded in the background.
+	 *
+	 * @param recorder FrameRecorder holding the frames to save.
+	 * @param fileName Filename to use, without file extension.
+	 * @param subDir Directory within the player screenshots dir to store the clip to.
+	 * @param format Format to encode the clip in.
+	 * @param notify Send a notification to the system tray when the clip is saved.
+	 */
+	public void saveClip(FrameRecorder recorder, String fileName, @Nullable String subDir, FrameRecorder.Format format, boolean notify)
+	{
+		if (client.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			log.info("Login clip prevented");
+			return;
+		}
+
+		File clipFile = createFile(fileName, subDir, format.getExtension());
+		recorder.save(clipFile, format, f ->
+		{
+			if (notify)
+			{
+				notifier.notify("A clip was saved to " + f, TrayIcon.MessageType.INFO);
+			}
+		});
+	}
+
+	private File createFile(String fileName, @Nullable String subDir, String extension)
+	{
+		File playerFolder;
+		if (client.getLocalPlayer() != null && client.getLocalPlayer().getName() != null)
+		{
+			String playerDir = client.getLocalPlayer().getName();
+			RuneScapeProfileType profileType = RuneScapeProfileType.getCurrent(client);
+			if (profileType != RuneScapeProfileType.STANDARD)
+			{
+				playerDir += "-" + Text.titleCase(profileType);
+			}
+
+			if (!Strings.isNullOrEmpty(subDir))
+			{
+				playerDir += File.separator + subDir;
+			}
+
+			playerFolder = new File(SCREENSHOT_DIR, playerDir);
+		}
+		else
+		{
+			playerFolder = SCREENSHOT_DIR;
+		}
+
+		playerFolder.mkdirs();
+
+		fileName += (fileName.isEmpty() ? "" : " ") + format(new Date());
+
+		File file = new File(playerFolder, fileName + "." + extension);
+
+		// To make sure that screenshots don't get overwritten, check if file exists,
+		// and if it does create file with same name and suffix.
+		int i = 1;
+		while (file.exists())
+		{
+			file = new File(playerFolder, fileName + String.format("(%d)", i++) + "." + extension);
+		}
+		return file;
+	}
+
 	/**
 	 * Uploads a screenshot to the Imgur image-hosting service,
 	 * and copies the image link to the clipboard.
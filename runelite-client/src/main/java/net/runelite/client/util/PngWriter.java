@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes PNG images, deflating bands of rows in parallel.
+ * <p>
+ * Each band is deflated independently and flushed to a byte boundary, primed with the
+ * last 32KB of the band before it, so the concatenated bands form a single zlib stream
+ * (the same approach as pigz). Rows are read from the image as each band is encoded,
+ * and only a bounded number of bands are in flight at once.
+ * <p>
+ * This is a copy of {@code net.runelite.cache.util.PngWriter}, without its support for streaming
+ * BigBufferedImages, as the client doesn't depend on the cache. Keep the two in sync; PngWriterTest
+ * in each checks that they produce the same image data.
+ */
+public class PngWriter
+{
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	private static final int BAND_SIZE = 256 * 1024;
+	private static final int WINDOW_SIZE = 32 * 1024;
+	private static final int ADLER_BASE = 65521;
+	// the same level ImageIO's PNG writer defaults to
+	private static final int COMPRESSION_LEVEL = 4;
+
+	private static final int COLOR_TYPE_RGB = 2;
+	private static final int COLOR_TYPE_RGBA = 6;
+
+	private static final int FILTER_NONE = 0;
+	private static final int FILTER_SUB = 1;
+	private static final int FILTER_UP = 2;
+	private static final int FILTER_AVERAGE = 3;
+	private static final int FILTER_PAETH = 4;
+
+	private PngWriter()
+	{
+	}
+
+	public static void write(BufferedImage image, File file) throws IOException
+	{
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file)))
+		{
+			write(image, out);
+		}
+	}
+
+	public static void write(BufferedImage image, OutputStream out) throws IOException
+	{
+		write(image, out, ForkJoinPool.commonPool());
+	}
+
+	public static void write(BufferedImage image, OutputStream out, ExecutorService executor) throws IOException
+	{
+		write(image, out, executor, BAND_SIZE);
+	}
+
+	@VisibleForTesting
+	static void write(BufferedImage image, OutputStream out, ExecutorService executor, int bandSize) throws IOException
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final boolean alpha = image.getColorModel().hasAlpha();
+		final int bpp = alpha ? 4 : 3;
+		final int rowSize = width * bpp;
+		final int rowsPerBand = Math.max(1, bandSize / (rowSize + 1));
+		final int bands = (height + rowsPerBand - 1) / rowsPerBand;
+		final Supplier<RowReader> readers = rowReaders(image, alpha);
+
+		DataOutputStream dout = new DataOutputStream(out);
+		dout.write(SIGNATURE);
+
+		ByteArrayOutputStream ihdr = new ByteArrayOutputStream(13);
+		DataOutputStream ihdrOut = new DataOutputStream(ihdr);
+		ihdrOut.writeInt(width);
+		ihdrOut.writeInt(height);
+		ihdrOut.writeByte(8); // bit depth
+		ihdrOut.writeByte(alpha ? COLOR_TYPE_RGBA : COLOR_TYPE_RGB);
+		ihdrOut.writeByte(0); // compression
+		ihdrOut.writeByte(0); // filter
+		ihdrOut.writeByte(0); // interlace
+		writeChunk(dout, "IHDR", ihdr.toByteArray(), 0, ihdr.size());
+
+		// zlib header, deflate with a 32KB window and a fast compression level
+		writeChunk(dout, "IDAT", new byte[]{0x78, 0x5e}, 0, 2);
+
+		final int inFlight = Runtime.getRuntime().availableProcessors() * 2;
+		Deque<Future<Band>> pending = new ArrayDeque<>();
+		long adler = 1;
+		int next = 0;
+		try
+		{
+			for (int i = 0; i < bands; ++i)
+			{
+				while (next < bands && pending.size() < inFlight)
+				{
+					final int startY = next * rowsPerBand;
+					final int endY = Math.min(height, startY + rowsPerBand);
+					final boolean last = next == bands - 1;
+					pending.add(executor.submit(() -> encodeBand(readers.get(), rowSize, bpp, startY, endY, last)));
+					++next;
+				}
+
+				Band band = pending.removeFirst().get();
+				writeChunk(dout, "IDAT", band.data, 0, band.length);
+				adler = adler32Combine(adler, band.adler, band.rawLength);
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			throw new IOException(ex.getCause());
+		}
+		finally
+		{
+			for (Future<Band> future : pending)
+			{
+				future.cancel(true);
+			}
+		}
+
+		byte[] trailer = {(byte) (adler >>> 24), (byte) (adler >>> 16), (byte) (adler >>> 8), (byte) adler};
+		writeChunk(dout, "IDAT", trailer, 0, trailer.length);
+		writeChunk(dout, "IEND", new byte[0], 0, 0);
+		dout.flush();
+	}
+
+	private static Band encodeBand(RowReader reader, int rowSize, int bpp, int startY, int endY, boolean last)
+	{
+		// filter the rows ahead of the band too, so the dictionary matches the tail of the previous band
+		int dictRows = startY == 0 ? 0 : Math.min(startY, (WINDOW_SIZE + rowSize) / (rowSize + 1));
+		int firstY = startY - dictRows;
+
+		byte[] raw = new byte[(endY - firstY) * (rowSize + 1)];
+		byte[] prev = new byte[rowSize];
+		byte[] cur = new byte[rowSize];
+		if (firstY > 0)
+		{
+			reader.read(firstY - 1, prev);
+		}
+
+		int pos = 0;
+		for (int y = firstY; y < endY; ++y)
+		{
+			reader.read(y, cur);
+			filterRow(cur, prev, bpp, raw, pos);
+			pos += rowSize + 1;
+
+			byte[] tmp = prev;
+			prev = cur;
+			cur = tmp;
+		}
+
+		int dictLength = Math.min(WINDOW_SIZE, dictRows * (rowSize + 1));
+		int dictEnd = dictRows * (rowSize + 1);
+		int rawLength = raw.length - dictEnd;
+
+		Adler32 adler32 = new Adler32();
+		adler32.update(raw, dictEnd, rawLength);
+
+		Deflater deflater = new Deflater(COMPRESSION_LEVEL, true);
+		try
+		{
+			if (dictLength > 0)
+			{
+				deflater.setDictionary(raw, dictEnd - dictLength, dictLength);
+			}
+			deflater.setInput(raw, dictEnd, rawLength);
+
+			byte[] out = new byte[Math.max(64, rawLength / 2)];
+			int length = 0;
+			if (last)
+			{
+				deflater.finish();
+				while (!deflater.finished())
+				{
+					if (length == out.length)
+					{
+						out = Arrays.copyOf(out, out.length * 2);
+					}
+					length += deflater.deflate(out, length, out.length - length);
+				}
+			}
+			else
+			{
+				// sync flush ends the band on a byte boundary without ending the stream
+				int n;
+				do
+				{
+					if (length == out.length)
+					{
+						out = Arrays.copyOf(out, out.length * 2);
+					}
+					n = deflater.deflate(out, length, out.length - length, Deflater.SYNC_FLUSH);
+					length += n;
+				}
+				while (length == out.length);
+			}
+
+			return new Band(out, length, adler32.getValue(), rawLength);
+		}
+		finally
+		{
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Filters a row with whichever filter gives the smallest sum of absolute differences
+	 */
+	private static void filterRow(byte[] cur, byte[] prev, int bpp, byte[] out, int pos)
+	{
+		long none = 0, sub = 0, up = 0, average = 0, paeth = 0;
+		for (int i = 0; i < cur.length; ++i)
+		{
+			int x = cur[i] & 0xff;
+			int a = i >= bpp ? cur[i - bpp] & 0xff : 0;
+			int b = prev[i] & 0xff;
+			int c = i >= bpp ? prev[i - bpp] & 0xff : 0;
+			none += Math.abs((byte) x);
+			sub += Math.abs((byte) (x - a));
+			up += Math.abs((byte) (x - b));
+			average += Math.abs((byte) (x - ((a + b) >> 1)));
+			paeth += Math.abs((byte) (x - paeth(a, b, c)));
+		}
+
+		int best = FILTER_NONE;
+		long bestSum = none;
+		if (sub < bestSum)
+		{
+			best = FILTER_SUB;
+			bestSum = sub;
+		}
+		if (up < bestSum)
+		{
+			best = FILTER_UP;
+			bestSum = up;
+		}
+		if (average < bestSum)
+		{
+			best = FILTER_AVERAGE;
+			bestSum = average;
+		}
+		if (paeth < bestSum)
+		{
+			best = FILTER_PAETH;
+		}
+
+		out[pos++] = (byte) best;
+		for (int i = 0; i < cur.length; ++i)
+		{
+			int x = cur[i] & 0xff;
+			int a = i >= bpp ? cur[i - bpp] & 0xff : 0;
+			int b = prev[i] & 0xff;
+			switch (best)
+			{
+				case FILTER_SUB:
+					x -= a;
+					break;
+				case FILTER_UP:
+					x -= b;
+					break;
+				case FILTER_AVERAGE:
+					x -= (a + b) >> 1;
+					break;
+				case FILTER_PAETH:
+					x -= paeth(a, b, i >= bpp ? prev[i - bpp] & 0xff : 0);
+					break;
+			}
+			out[pos + i] = (byte) x;
+		}
+	}
+
+	private static int paeth(int a, int b, int c)
+	{
+		int p = a + b - c;
+		int pa = Math.abs(p - a);
+		int pb = Math.abs(p - b);
+		int pc = Math.abs(p - c);
+		return pa <= pb && pa <= pc ? a : pb <= pc ? b : c;
+	}
+
+	@VisibleForTesting
+	static long adler32Combine(long adler1, long adler2, long length2)
+	{
+		long rem = length2 % ADLER_BASE;
+		long sum1 = adler1 & 0xffff;
+		long sum2 = (rem * sum1) % ADLER_BASE;
+		sum1 += (adler2 & 0xffff) + ADLER_BASE - 1;
+		sum2 += ((adler1 >>> 16) & 0xffff) + ((adler2 >>> 16) & 0xffff) + ADLER_BASE - rem;
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum2 >= ((long) ADLER_BASE << 1))
+		{
+			sum2 -= ((long) ADLER_BASE << 1);
+		}
+		if (sum2 >= ADLER_BASE)
+		{
+			sum2 -= ADLER_BASE;
+		}
+		return sum1 | (sum2 << 16);
+	}
+
+	private static void writeChunk(DataOutputStream out, String type, byte[] data, int offset, int length) throws IOException
+	{
+		byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+		CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data, offset, length);
+
+		out.writeInt(length);
+		out.write(typeBytes);
+		out.write(data, offset, length);
+		out.writeInt((int) crc.getValue());
+	}
+
+	private static Supplier<RowReader> rowReaders(BufferedImage image, boolean alpha)
+	{
+		final int width = image.getWidth();
+		if ((image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB)
+			&& image.getRaster().getParent() == null)
+		{
+			final int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+			final int stride = ((SinglePixelPackedSampleModel) image.getSampleModel()).getScanlineStride();
+			return () -> (y, row) -> unpack(pixels, y * stride, width, alpha, row);
+		}
+
+		return () ->
+		{
+			int[] argb = new int[width];
+			return (y, row) ->
+			{
+				image.getRGB(0, y, width, 1, argb, 0, width);
+				unpack(argb, 0, width, alpha, row);
+			};
+		};
+	}
+
+	private static void unpack(int[] argb, int offset, int width, boolean alpha, byte[] row)
+	{
+		int i = 0;
+		for (int x = 0; x < width; ++x)
+		{
+			int pixel = argb[offset + x];
+			row[i++] = (byte) (pixel >> 16);
+			row[i++] = (byte) (pixel >> 8);
+			row[i++] = (byte) pixel;
+			if (alpha)
+			{
+				row[i++] = (byte) (pixel >>> 24);
+			}
+		}
+	}
+
+	private interface RowReader
+	{
+		/**
+		 * Reads a row of 8 bit RGB or RGBA samples
+		 */
+		void read(int y, byte[] row);
+	}
+
+	@RequiredArgsConstructor
+	private static class Band
+	{
+		private final byte[] data;
+		private final int length;
+		private final long adler;
+		private final int rawLength;
+	}
+}
@@ -24,34 +24,49 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 public class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
-
+	/**
+	 * Check if a wildcard pattern matches a string, ignoring case. To check against many patterns,
+	 * use {@link WildcardMatcherSet}.
+	 *
+	 * @param pattern the pattern, where * matches any sequence of characters
+	 * @param text the string to match
+	 * @return true if the pattern matches the whole string
+	 */
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
-
-		buffer.append("(?i)");
-		while (matcher.find())
+		int p = 0, t = 0;
+		// position of the last star seen, and the position in the text it was tried against
+		int star = -1, mark = 0;
+		while (t < text.length())
 		{
-			if (matcher.group(1) != null)
+			if (p < pattern.length() && pattern.charAt(p) == '*')
+			{
+				star = p++;
+				mark = t;
+			}
+			else if (p < pattern.length() && WildcardMatcherSet.fold(pattern.charAt(p)) == WildcardMatcherSet.fold(text.charAt(t)))
 			{
-				matcher.appendReplacement(buffer, ".*");
+				++p;
+				++t;
+			}
+			else if (star != -1)
+			{
+				// backtrack, letting the last star consume one more character
+				p = star + 1;
+				t = ++mark;
 			}
 			else
 			{
-				matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+				return false;
 			}
 		}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
-
-		return text.matches(replaced);
+		while (p < pattern.length() && pattern.charAt(p) == '*')
+		{
+			++p;
+		}
+		return p == pattern.length();
 	}
 }
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list of wildcard patterns compiled into a single matcher, which reports which of the patterns
+ * match a string. Patterns without a wildcard are looked up by name, and the rest are matched
+ * together with a lazily built DFA, so matching costs the same no matter how many patterns there are.
+ * Matching is case insensitive, the same as {@link WildcardMatcher#matches(String, String)}.
+ */
+public class WildcardMatcherSet
+{
+	// limit of cached DFA states, past which transitions are computed without being cached
+	private static final int MAX_STATES = 4096;
+	private static final int[] NONE = new int[0];
+
+	private static final class State
+	{
+		// sorted nfa states, as (pattern << 32) | position in pattern
+		private final long[] nfa;
+		// sorted indexes of the patterns which match when the input ends in this state
+		private final int[] matches;
+		private final State[] ascii = new State[128];
+		private final Map<Character, State> other = new HashMap<>();
+
+		private State(long[] nfa, int[] matches)
+		{
+			this.nfa = nfa;
+			this.matches = matches;
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			return o instanceof State && Arrays.equals(nfa, ((State) o).nfa);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Arrays.hashCode(nfa);
+		}
+	}
+
+	private final Map<String, int[]> exact = new HashMap<>();
+	// folded wildcard patterns, and the index of each in the original list
+	private final char[][] patterns;
+	private final int[] patternIndexes;
+	private final Map<State, State> states = new HashMap<>();
+	private final State start;
+
+	private WildcardMatcherSet(List<String> patterns)
+	{
+		List<char[]> wildcards = new ArrayList<>();
+		List<Integer> wildcardIndexes = new ArrayList<>();
+		for (int i = 0; i < patterns.size(); ++i)
+		{
+			String pattern = fold(patterns.get(i));
+			if (pattern.indexOf('*') == -1)
+			{
+				exact.merge(pattern, new int[]{i}, WildcardMatcherSet::union);
+			}
+			else
+			{
+				wildcards.add(pattern.toCharArray());
+				wildcardIndexes.add(i);
+			}
+		}
+
+		this.patterns = wildcards.toArray(new char[0][]);
+		this.patternIndexes = wildcardIndexes.stream().mapToInt(Integer::intValue).toArray();
+
+		long[] nfa = new long[this.patterns.length];
+		for (int p = 0; p < nfa.length; ++p)
+		{
+			nfa[p] = (long) p << 32;
+		}
+		start = state(closure(nfa, nfa.length), true);
+	}
+
+	/**
+	 * Compile a list of wildcard patterns
+	 *
+	 * @param patterns the patterns, where * matches any sequence of characters
+	 * @return the compiled patterns
+	 */
+	public static WildcardMatcherSet compile(List<String> patterns)
+	{
+		return new WildcardMatcherSet(patterns);
+	}
+
+	/**
+	 * Check if any pattern matches the text
+	 */
+	public boolean matches(String text)
+	{
+		return find(text) != -1;
+	}
+
+	/**
+	 * Find the first pattern matching the text
+	 *
+	 * @return the index of the first pattern which matches, or -1
+	 */
+	public int find(String text)
+	{
+		int[] all = findAll(text);
+		return all.length > 0 ? all[0] : -1;
+	}
+
+	/**
+	 * Find all patterns matching the text
+	 *
+	 * @return the indexes of the matching patterns, in ascending order
+	 */
+	public int[] findAll(String text)
+	{
+		int[] exactMatches = exact.isEmpty() ? null : exact.get(fold(text));
+
+		State state = start;
+		for (int i = 0; i < text.length() && state.nfa.length > 0; ++i)
+		{
+			state = next(state, fold(text.charAt(i)));
+		}
+
+		if (exactMatches == null)
+		{
+			return state.matches;
+		}
+		return state.matches.length == 0 ? exactMatches : union(exactMatches, state.matches);
+	}
+
+	private State next(State state, char c)
+	{
+		State next = c < 128 ? state.ascii[c] : null;
+		if (next != null)
+		{
+			return next;
+		}
+
+		synchronized (this)
+		{
+			if (c < 128)
+			{
+				next = state.ascii[c];
+			}
+			else
+			{
+				next = state.other.get(c);
+			}
+
+			if (next == null)
+			{
+				next = step(state, c);
+			}
+			return next;
+		}
+	}
+
+	private State step(State state, char c)
+	{
+		long[] nfa = new long[state.nfa.length * 2];
+		int size = 0;
+		for (long s : state.nfa)
+		{
+			char[] pattern = patterns[(int) (s >>> 32)];
+			int pos = (int) s;
+			if (pos == pattern.length)
+			{
+				continue;
+			}
+
+			if (pattern[pos] == '*')
+			{
+				// the closure of a star includes the states after it, so staying put is enough
+				nfa[size++] = s;
+			}
+			else if (pattern[pos] == c)
+			{
+				nfa[size++] = s + 1;
+			}
+		}
+
+		boolean cache = states.size() < MAX_STATES;
+		State next = state(closure(nfa, size), cache);
+		if (cache)
+		{
+			if (c < 128)
+			{
+				state.ascii[c] = next;
+			}
+			else
+			{
+				state.other.put(c, next);
+			}
+		}
+		return next;
+	}
+
+	/**
+	 * Add the states following any stars to a set of nfa states, and sort and deduplicate them
+	 */
+	private long[] closure(long[] nfa, int size)
+	{
+		long[] closure = Arrays.copyOf(nfa, size * 2);
+		int n = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			long s = nfa[i];
+			char[] pattern = patterns[(int) (s >>> 32)];
+			for (int pos = (int) s; ; ++pos, ++s)
+			{
+				if (n == closure.length)
+				{
+					closure = Arrays.copyOf(closure, n * 2);
+				}
+				closure[n++] = s;
+
+				if (pos == pattern.length || pattern[pos] != '*')
+				{
+					break;
+				}
+			}
+		}
+
+		Arrays.sort(closure, 0, n);
+		int unique = 0;
+		for (int i = 0; i < n; ++i)
+		{
+			if (unique == 0 || closure[unique - 1] != closure[i])
+			{
+				closure[unique++] = closure[i];
+			}
+		}
+		return Arrays.copyOf(closure, unique);
+	}
+
+	private State state(long[] nfa, boolean intern)
+	{
+		State state = states.get(new State(nfa, NONE));
+		if (state != null)
+		{
+			return state;
+		}
+
+		int[] matches = NONE;
+		for (long s : nfa)
+		{
+			int p = (int) (s >>> 32);
+			if ((int) s == patterns[p].length)
+			{
+				matches = union(matches, new int[]{patternIndexes[p]});
+			}
+		}
+
+		state = new State(nfa, matches);
+		if (intern)
+		{
+			states.put(state, state);
+		}
+		return state;
+	}
+
+	/**
+	 * Union two sorted arrays of indexes
+	 */
+	private static int[] union(int[] a, int[] b)
+	{
+		int[] out = new int[a.length + b.length];
+		int i = 0, j = 0, n = 0;
+		while (i < a.length || j < b.length)
+		{
+			int v;
+			if (j == b.length || (i < a.length && a[i] <= b[j]))
+			{
+				v = a[i++];
+			}
+			else
+			{
+				v = b[j++];
+			}
+
+			if (n == 0 || out[n - 1] != v)
+			{
+				out[n++] = v;
+			}
+		}
+		return n == out.length ? out : Arrays.copyOf(out, n);
+	}
+
+	static char fold(char c)
+	{
+		// the same as regex (?i), which only folds US-ASCII
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	static String fold(String s)
+	{
+		for (int i = 0; i < s.length(); ++i)
+		{
+			if (fold(s.charAt(i)) != s.charAt(i))
+			{
+				char[] chars = s.toCharArray();
+				for (int j = i; j < chars.length; ++j)
+				{
+					chars[j] = fold(chars[j]);
+				}
+				return new String(chars);
+			}
+		}
+		return s;
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigDataTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File configFile;
+	private File logFile;
+
+	@Before
+	public void before()
+	{
+		configFile = new File(folder.getRoot(), "test.properties");
+		logFile = ConfigData.logFile(configFile);
+	}
+
+	@Test
+	public void testLogReplay()
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.setProperty("a", "1");
+		data.setProperty("b", "2");
+		data.patch(data.swapChanges());
+		assertTrue(logFile.exists());
+		assertFalse(configFile.exists());
+
+		data.setProperty("a", "3");
+		data.unset("b");
+		data.patch(data.swapChanges());
+
+		ConfigData loaded = new ConfigData(configFile, true);
+		assertEquals(Collections.singletonMap("a", "3"), loaded.get());
+	}
+
+	@Test
+	public void testMerge()
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+
+		// a second client sharing the same config
+		ConfigData other = new ConfigData(configFile, true);
+		other.setProperty("b", "2");
+		other.patch(other.swapChanges());
+
+		data.setProperty("c", "3");
+		data.patch(data.swapChanges());
+
+		ConfigData loaded = new ConfigData(configFile, true);
+		assertEquals(ImmutableMap.of("a", "1", "b", "2", "c", "3"), loaded.get());
+	}
+
+	@Test
+	public void testCompact()
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("b", "2");
+		data.patch(data.swapChanges());
+
+		ConfigData.compact(configFile);
+		assertTrue(configFile.exists());
+		assertFalse(logFile.exists());
+
+		// the snapshot is readable without the log
+		ConfigData loaded = new ConfigData(configFile, false);
+		assertEquals(ImmutableMap.of("a", "1", "b", "2"), loaded.get());
+	}
+
+	@Test
+	public void testRewriteFoldsLog()
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("b", "2");
+		data.patch(data.swapChanges());
+
+		ConfigData rewrite = new ConfigData(configFile, false);
+		rewrite.setProperty("c", "3");
+		rewrite.patch(rewrite.swapChanges());
+		assertFalse(logFile.exists());
+
+		ConfigData loaded = new ConfigData(configFile, true);
+		assertEquals(ImmutableMap.of("a", "1", "b", "2", "c", "3"), loaded.get());
+	}
+
+	@Test
+	public void testDeleteDropsLog()
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.setProperty("a", "1");
+		data.setProperty("b", "2");
+		data.patch(data.swapChanges());
+		data.unset("a");
+		data.patch(data.swapChanges());
+
+		ConfigData.delete(configFile);
+		assertFalse(configFile.exists());
+		assertFalse(logFile.exists());
+
+		// replace the config, as syncing a remote profile does
+		ConfigData replaced = new ConfigData(configFile, true);
+		replaced.putAll(ImmutableMap.of("c", "3"));
+		replaced.patch(replaced.swapChanges());
+
+		ConfigData loaded = new ConfigData(configFile, true);
+		assertEquals(ImmutableMap.of("c", "3"), loaded.get());
+	}
+
+	@Test
+	public void testTornRecord() throws IOException
+	{
+		ConfigData data = new ConfigData(configFile, true);
+		data.setProperty("a", "1");
+		data.patch(data.swapChanges());
+		data.setProperty("b", "2");
+		data.patch(data.swapChanges());
+
+		// drop the tail of the last record, as if the client died mid-append
+		try (RandomAccessFile raf = new RandomAccessFile(logFile, "rw"))
+		{
+			raf.setLength(raf.length() - 3);
+		}
+
+		Map<String, String> loaded = new ConfigData(configFile, true).get();
+		assertEquals("1", loaded.get("a"));
+		assertNull(loaded.get("b"));
+
+		// records appended after the torn one are still replayed
+		data.setProperty("c", "3");
+		data.patch(data.swapChanges());
+		loaded = new ConfigData(configFile, true).get();
+		assertEquals(ImmutableMap.of("a", "1", "c", "3"), loaded);
+	}
+
+	@Test
+	public void testPrefixKeys()
+	{
+		ConfigData data = new ConfigData(configFile, false);
+		data.setProperty("banktags.item_1", "a");
+		data.setProperty("banktags.item_2", "b");
+		data.setProperty("banktags.icon_1", "c");
+		data.setProperty("banktagsx.item_3", "d");
+		data.setProperty("banktags.item_\uffff", "e");
+		data.unset("banktags.item_2");
+
+		assertEquals(Arrays.asList("banktags.item_1", "banktags.item_\uffff"), new ArrayList<>(data.keySet("banktags.item_")));
+		assertEquals(4, data.keySet("banktags").size());
+		assertEquals(4, data.keySet("").size());
+
+		Map<String, String> entries = new LinkedHashMap<>();
+		data.forEach("banktags.", entries::put);
+		assertEquals(ImmutableMap.of("banktags.icon_1", "c", "banktags.item_1", "a", "banktags.item_\uffff", "e"), entries);
+
+		assertEquals("ab", ConfigData.prefixEnd("aa"));
+		assertEquals("b", ConfigData.prefixEnd("a\uffff"));
+		assertNull(ConfigData.prefixEnd("\uffff"));
+	}
+}
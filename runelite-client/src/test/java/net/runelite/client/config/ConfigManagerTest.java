@@ -145,6 +145,30 @@ public class ConfigManagerTest
 		Assert.assertEquals("new value", conf.key());
 	}
 
+	@Test
+	public void testConfigCache()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+
+		long hits = manager.getConfigCacheHits();
+		long misses = manager.getConfigCacheMisses();
+		Assert.assertEquals("default", conf.key());
+		Assert.assertEquals(hits + 1, manager.getConfigCacheHits());
+		Assert.assertEquals(misses, manager.getConfigCacheMisses());
+
+		// changing the key clears only its cached value
+		Assert.assertNull(conf.nullDefaultKey());
+		manager.setConfiguration("test", "key", "moo");
+		Assert.assertEquals("moo", conf.key());
+		Assert.assertEquals(misses + 2, manager.getConfigCacheMisses());
+		Assert.assertNull(conf.nullDefaultKey());
+		Assert.assertEquals(misses + 2, manager.getConfigCacheMisses());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+	}
+
 	@Test
 	public void testGetConfigDescriptor() throws IOException
 	{
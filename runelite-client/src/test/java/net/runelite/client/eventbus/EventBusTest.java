@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.client.eventbus.EventBus.EventStats;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	public static class TestEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	private final List<String> calls = new ArrayList<>();
+	private final List<Throwable> exceptions = new ArrayList<>();
+	private EventBus eventBus;
+
+	public class Low
+	{
+		@Subscribe(priority = -1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("low");
+		}
+	}
+
+	public class High
+	{
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("high");
+		}
+
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add("high other");
+		}
+	}
+
+	public class Throwing
+	{
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			throw new IllegalStateException();
+		}
+	}
+
+	@Before
+	public void before()
+	{
+		eventBus = new EventBus(exceptions::add);
+	}
+
+	@Test
+	public void testPriority()
+	{
+		eventBus.register(new Low());
+		eventBus.register(new High());
+		eventBus.register(TestEvent.class, e -> calls.add("normal"), 0);
+
+		eventBus.post(new TestEvent());
+		assertEquals(List.of("high", "normal", "low"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		Low low = new Low();
+		High high = new High();
+		eventBus.register(low);
+		eventBus.register(high);
+		EventBus.Subscriber sub = eventBus.register(TestEvent.class, e -> calls.add("normal"), 0);
+
+		eventBus.unregister(high);
+		eventBus.unregister(sub);
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(List.of("low"), calls);
+
+		calls.clear();
+		eventBus.unregister(low);
+		eventBus.post(new TestEvent());
+		assertTrue(calls.isEmpty());
+
+		eventBus.register(high);
+		eventBus.post(new OtherEvent());
+		assertEquals(List.of("high other"), calls);
+	}
+
+	@Test
+	public void testException()
+	{
+		eventBus.register(new Throwing());
+		eventBus.register(new Low());
+
+		eventBus.post(new TestEvent());
+		assertEquals(List.of("low"), calls);
+		assertEquals(1, exceptions.size());
+	}
+
+	@Test
+	public void testEventStats()
+	{
+		eventBus.register(new Low());
+		eventBus.register(new High());
+
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+
+		EventStats stats = eventBus.getEventStats().stream()
+			.filter(s -> s.getEventClass() == TestEvent.class)
+			.findFirst()
+			.get();
+		assertEquals(2, stats.getSubscribers());
+		assertEquals(2, stats.getDispatches());
+
+		eventBus.resetEventStats();
+		for (EventStats s : eventBus.getEventStats())
+		{
+			assertEquals(0, s.getDispatches());
+			assertEquals(0, s.getNanos());
+		}
+	}
+
+	@Test
+	public void testProfiler()
+	{
+		eventBus.register(new Low());
+		eventBus.register(new High());
+		eventBus.post(new TestEvent());
+
+		EventProfiler profiler = new EventProfiler();
+		eventBus.setProfiler(profiler);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(List.of("high", "low", "high", "low", "high", "low", "high other"), calls);
+
+		List<EventProfiler.Entry> subscribers = profiler.getSubscriberStats();
+		assertEquals(3, subscribers.size());
+		assertTrue(subscribers.stream().anyMatch(e -> e.getName().equals("Low.onTestEvent") && e.getCount() == 2));
+		assertTrue(subscribers.stream().anyMatch(e -> e.getName().equals("High.onOtherEvent") && e.getCount() == 1));
+
+		List<EventProfiler.Entry> events = profiler.getEventStats();
+		assertEquals(2, events.size());
+		assertTrue(events.stream().anyMatch(e -> e.getName().equals("TestEvent") && e.getCount() == 2));
+
+		eventBus.setProfiler(null);
+		eventBus.post(new TestEvent());
+		assertEquals(2, profiler.getEventStats().stream()
+			.filter(e -> e.getName().equals("TestEvent"))
+			.findFirst()
+			.get()
+			.getCount());
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import net.runelite.http.api.item.ItemPrice;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ItemPriceStoreTest
+{
+	@Test
+	public void testRead() throws IOException
+	{
+		String json = "[{\"id\":995,\"name\":\"Coins\",\"price\":1,\"wikiPrice\":1}," +
+			"{\"id\":0,\"name\":\"Dwarf remains\",\"price\":0,\"wikiPrice\":null,\"extra\":[1,2]}," +
+			"{\"id\":5315,\"name\":\"Yew seed\",\"price\":47975,\"wikiPrice\":50754}," +
+			"{\"id\":995,\"name\":\"Coins\",\"price\":2,\"wikiPrice\":3}]";
+		ItemPriceStore store = ItemPriceStore.read(new JsonReader(new StringReader(json)));
+
+		assertEquals(3, store.size());
+		assertEquals(-1, store.indexOf(1));
+
+		int index = store.indexOf(5315);
+		assertEquals(47975, store.getPrice(index));
+		assertEquals(50754, store.getWikiPrice(index));
+
+		assertEquals(0, store.getWikiPrice(store.indexOf(0)));
+
+		// the last price of a duplicate wins
+		index = store.indexOf(995);
+		assertEquals(2, store.getPrice(index));
+		assertEquals(3, store.getWikiPrice(index));
+
+		List<ItemPrice> result = store.search("SEED");
+		assertEquals(1, result.size());
+		assertEquals("Yew seed", result.get(0).getName());
+		assertEquals(5315, result.get(0).getId());
+	}
+
+	@Test
+	public void testSearchReusesPrices() throws IOException
+	{
+		String json = "[{\"id\":5315,\"name\":\"Yew seed\",\"price\":47975,\"wikiPrice\":50754}]";
+		ItemPriceStore store = ItemPriceStore.read(new JsonReader(new StringReader(json)));
+
+		ItemPrice itemPrice = store.search("yew").get(0);
+		assertSame(itemPrice, store.search("seed").get(0));
+		assertSame(itemPrice, store.toArray()[0]);
+	}
+
+	@Test
+	public void testSearch()
+	{
+		String[] words = {"rune", "dragon", "bones", "scimitar", "yew", "seed", "potion(4)", "Super", "log", "ore"};
+		Random random = new Random(1);
+		ItemPriceStore.Builder builder = new ItemPriceStore.Builder();
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 2000; i++)
+		{
+			String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+			names.add(name);
+			builder.add(i * 7, name, i, i);
+		}
+		ItemPriceStore store = builder.build();
+
+		for (String query : new String[]{"", "e", "ru", "RUNE", "e sc", "n(4", "ragon bo", "xyz", "super super"})
+		{
+			List<String> expected = names.stream()
+				.filter(n -> n.toLowerCase().contains(query.toLowerCase()))
+				.collect(Collectors.toList());
+			List<String> actual = store.search(query).stream()
+				.map(ItemPrice::getName)
+				.collect(Collectors.toList());
+			assertEquals(query, expected, actual);
+		}
+
+		assertTrue(store.search("xyz").isEmpty());
+	}
+}
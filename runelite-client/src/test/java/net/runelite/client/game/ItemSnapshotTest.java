@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemSnapshotTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReadWrite() throws IOException
+	{
+		File file = new File(folder.getRoot(), "snapshot.dat");
+		byte[] data = "{\"995\":{}}".getBytes(StandardCharsets.UTF_8);
+		ItemSnapshot.write(file, new ItemSnapshot.Validators("\"abc\"", null), data);
+
+		ItemSnapshot snapshot = ItemSnapshot.read(file);
+		assertEquals(new ItemSnapshot.Validators("\"abc\"", null), snapshot.getValidators());
+		assertArrayEquals(data, toArray(snapshot.getData()));
+
+		ItemSnapshot.write(file, null, new byte[0]);
+		snapshot = ItemSnapshot.read(file);
+		assertNull(snapshot.getValidators());
+		assertEquals(0, snapshot.getData().remaining());
+	}
+
+	@Test
+	public void testWriteFailure() throws IOException
+	{
+		// the snapshot can't replace a non-empty directory
+		File file = folder.newFolder("snapshot.dat");
+		assertTrue(new File(file, "child").createNewFile());
+
+		try
+		{
+			ItemSnapshot.write(file, null, new byte[]{1, 2, 3});
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		assertArrayEquals(new String[]{"snapshot.dat"}, folder.getRoot().list());
+	}
+
+	@Test
+	public void testCorrupt() throws IOException
+	{
+		File file = new File(folder.getRoot(), "snapshot.dat");
+		assertNull(ItemSnapshot.read(file));
+
+		ItemSnapshot.write(file, new ItemSnapshot.Validators(null, "Wed, 21 Oct 2015 07:28:00 GMT"), new byte[]{1, 2, 3, 4});
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.seek(raf.length() - 6);
+			raf.write(5);
+		}
+		assertNull(ItemSnapshot.read(file));
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(10);
+		}
+		assertNull(ItemSnapshot.read(file));
+	}
+
+	@Test
+	public void testPrices()
+	{
+		ItemPriceStore store = new ItemPriceStore.Builder()
+			.add(995, "Coins", 1, 1)
+			.add(5315, "Yew seed", 47975, 50754)
+			.build();
+
+		ItemPriceStore read = ItemPriceStore.read(ByteBuffer.wrap(store.toBytes()));
+		assertEquals(2, read.size());
+		assertEquals(50754, read.getWikiPrice(read.indexOf(5315)));
+		assertEquals("Yew seed", read.search("yew").get(0).getName());
+	}
+
+	private static byte[] toArray(ByteBuffer buf)
+	{
+		byte[] b = new byte[buf.remaining()];
+		buf.duplicate().get(b);
+		return b;
+	}
+}
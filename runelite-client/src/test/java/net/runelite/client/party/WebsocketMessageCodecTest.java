@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.gson.Gson;
+import java.awt.Color;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import net.runelite.api.Skill;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.UserSync;
+import net.runelite.client.party.messages.WebsocketMessage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WebsocketMessageCodecTest
+{
+	@Value
+	@AllArgsConstructor
+	@EqualsAndHashCode(callSuper = false)
+	static class TestMessage extends PartyMemberMessage
+	{
+		int i;
+		long l;
+		Integer boxed;
+		String s;
+		boolean b;
+		double d;
+		Skill skill;
+		Color color;
+		WorldPoint point;
+		List<Integer> list;
+	}
+
+	private WebsocketMessageCodec sender;
+	private WebsocketMessageCodec receiver;
+
+	@Before
+	public void before()
+	{
+		sender = new WebsocketMessageCodec(new Gson());
+		sender.register(TestMessage.class);
+		sender.register(UserSync.class);
+		receiver = new WebsocketMessageCodec(new Gson());
+		receiver.register(TestMessage.class);
+		receiver.register(UserSync.class);
+	}
+
+	private List<WebsocketMessage> roundTrip(WebsocketMessage... messages)
+	{
+		return receiver.decode(1L, ByteBuffer.wrap(sender.encode(Arrays.asList(messages))));
+	}
+
+	@Test
+	public void testRoundTrip()
+	{
+		TestMessage msg = new TestMessage(-5, Long.MAX_VALUE, null, "hello", true, 1.5, Skill.PRAYER,
+			new Color(1, 2, 3, 4), new WorldPoint(3200, 3200, 1), Arrays.asList(1, 2, 3));
+		List<WebsocketMessage> decoded = roundTrip(msg, new UserSync());
+		assertEquals(2, decoded.size());
+		assertEquals(msg, decoded.get(0));
+		assertTrue(decoded.get(1) instanceof UserSync);
+	}
+
+	@Test
+	public void testDelta()
+	{
+		TestMessage a = new TestMessage(1, 2, 3, "a", false, 0, Skill.ATTACK, Color.RED, new WorldPoint(1, 2, 0), Collections.emptyList());
+		TestMessage b = new TestMessage(1, 2, 4, "a", false, 0, Skill.ATTACK, Color.RED, new WorldPoint(1, 2, 0), Collections.emptyList());
+
+		byte[] full = sender.encode(Collections.singletonList(a));
+		byte[] delta = sender.encode(Collections.singletonList(b));
+		assertTrue(delta.length < full.length / 2);
+
+		assertEquals(Collections.singletonList(a), receiver.decode(1L, ByteBuffer.wrap(full)));
+		assertEquals(Collections.singletonList(b), receiver.decode(1L, ByteBuffer.wrap(delta)));
+
+		// a second member has no base to apply the delta to
+		assertEquals(Collections.emptyList(), receiver.decode(2L, ByteBuffer.wrap(delta)));
+
+		sender.resetSent();
+		assertEquals(Collections.singletonList(b), roundTrip(b));
+	}
+
+	@Test
+	public void testLostDelta()
+	{
+		List<byte[]> batches = new ArrayList<>();
+		for (int i = 0; i < WebsocketMessageCodec.FULL_INTERVAL; ++i)
+		{
+			TestMessage msg = new TestMessage(i, 2, 3, "a", false, 0, Skill.ATTACK, null, null, null);
+			batches.add(sender.encode(Collections.singletonList(msg)));
+		}
+
+		assertEquals(1, receiver.decode(1L, ByteBuffer.wrap(batches.get(0))).size());
+		// the second message is lost, so the deltas which follow have the wrong base
+		for (int i = 2; i < WebsocketMessageCodec.FULL_INTERVAL - 1; ++i)
+		{
+			assertEquals(Collections.emptyList(), receiver.decode(1L, ByteBuffer.wrap(batches.get(i))));
+		}
+
+		// until the next full message
+		List<WebsocketMessage> decoded = receiver.decode(1L, ByteBuffer.wrap(batches.get(WebsocketMessageCodec.FULL_INTERVAL - 1)));
+		assertEquals(Collections.singletonList(new TestMessage(WebsocketMessageCodec.FULL_INTERVAL - 1, 2, 3, "a", false, 0, Skill.ATTACK, null, null, null)), decoded);
+
+		TestMessage next = new TestMessage(-1, 2, 3, "a", false, 0, Skill.ATTACK, null, null, null);
+		assertEquals(Collections.singletonList(next), roundTrip(next));
+	}
+
+	@Test
+	public void testLateRegistration()
+	{
+		TestMessage a = new TestMessage(1, 2, 3, "a", false, 0, Skill.ATTACK, null, null, null);
+		TestMessage b = new TestMessage(1, 2, 3, "b", false, 0, Skill.ATTACK, null, null, null);
+
+		receiver.unregister(TestMessage.class);
+		assertEquals(Collections.emptyList(), roundTrip(a));
+
+		receiver.register(TestMessage.class);
+		assertEquals(Collections.singletonList(b), roundTrip(b));
+	}
+}
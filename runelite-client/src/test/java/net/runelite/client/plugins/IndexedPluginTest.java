@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class IndexedPluginTest
+{
+	@Test
+	public void testRead() throws IOException
+	{
+		List<IndexedPlugin> plugins = read("net.runelite.client.plugins.a.APlugin\tdo\tnet.runelite.client.plugins.b.BPlugin\ttick,poll\n");
+		assertEquals(1, plugins.size());
+
+		IndexedPlugin plugin = plugins.get(0);
+		assertEquals("net.runelite.client.plugins.a.APlugin", plugin.getClassName());
+		assertTrue(plugin.isDeveloperPlugin());
+		assertTrue(plugin.isLoadWhenOutdated());
+		assertTrue(plugin.isIndexed());
+		assertEquals(ImmutableList.of("net.runelite.client.plugins.b.BPlugin"), plugin.getDependencies());
+		assertEquals(ImmutableList.of("tick", "poll"), plugin.getScheduledMethods());
+	}
+
+	@Test
+	public void testMalformedEntry() throws IOException
+	{
+		List<IndexedPlugin> plugins = read("net.runelite.client.plugins.a.APlugin\td\n"
+			+ "\n"
+			+ "net.runelite.client.plugins.b.BPlugin\t\t\t\n");
+		assertEquals(2, plugins.size());
+
+		// the malformed entry is still loaded, but without its index metadata
+		IndexedPlugin malformed = plugins.get(0);
+		assertEquals("net.runelite.client.plugins.a.APlugin", malformed.getClassName());
+		assertFalse(malformed.isIndexed());
+		assertFalse(malformed.isDeveloperPlugin());
+		assertTrue(malformed.isLoadWhenOutdated());
+
+		IndexedPlugin plugin = plugins.get(1);
+		assertTrue(plugin.isIndexed());
+		assertTrue(plugin.getDependencies().isEmpty());
+		assertTrue(plugin.getScheduledMethods().isEmpty());
+	}
+
+	private static List<IndexedPlugin> read(String index) throws IOException
+	{
+		return IndexedPlugin.read(new ByteArrayInputStream(index.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -108,7 +108,7 @@ public class PluginManagerTest
 		Injector injector = Guice.createInjector(Modules
 			.override(new RuneLiteModule(okHttpClient, () -> null, () -> mock(RuntimeConfig.class), true, false, false,
 				RuneLite.DEFAULT_SESSION_FILE,
-				null, false, false
+				null, false, false, false
 			))
 			.with(BoundFieldModule.of(this)));
 
@@ -245,4 +245,30 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testTopologicalLayers()
+	{
+		MutableGraph<Integer> graph = GraphBuilder
+			.directed()
+			.build();
+
+		graph.addNode(1);
+		graph.addNode(2);
+		graph.addNode(3);
+		graph.addNode(4);
+		graph.addNode(5);
+
+		graph.putEdge(1, 2);
+		graph.putEdge(1, 3);
+		graph.putEdge(2, 4);
+		graph.putEdge(3, 4);
+
+		List<List<Integer>> layers = PluginManager.topologicalLayers(graph);
+
+		assertEquals(3, layers.size());
+		assertEquals(Set.of(1, 5), new HashSet<>(layers.get(0)));
+		assertEquals(Set.of(2, 3), new HashSet<>(layers.get(1)));
+		assertEquals(List.of(4), layers.get(2));
+	}
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ModelOutlineRendererTest
+{
+	private static final int SIZE = 512;
+	private static final int BACKGROUND = 0xFF336699;
+	// Distance of the objects from the camera
+	private static final int DEPTH = 2000;
+
+	@Bind
+	private final Client client = mock(Client.class);
+
+	@Bind
+	private final EventBus eventBus = new EventBus();
+
+	private final BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+	private final int[] imageData = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+
+	private ModelOutlineRenderer modelOutlineRenderer;
+	private List<GameObject> objects;
+
+	@Before
+	public void before()
+	{
+		// the camera looks straight down the y axis from the origin
+		MainBufferProvider bufferProvider = mock(MainBufferProvider.class);
+		when(bufferProvider.getImage()).thenReturn(image);
+		when(client.getBufferProvider()).thenReturn(bufferProvider);
+		when(client.getViewportWidth()).thenReturn(SIZE);
+		when(client.getViewportHeight()).thenReturn(SIZE);
+		when(client.getScale()).thenReturn(SIZE);
+
+		modelOutlineRenderer = Guice.createInjector(BoundFieldModule.of(this)).getInstance(ModelOutlineRenderer.class);
+
+		// a grid of squares facing the camera, with overlapping outlines
+		Model model = square(200);
+		objects = new ArrayList<>();
+		for (int x = -3; x < 3; x++)
+		{
+			for (int z = -3; z < 3; z++)
+			{
+				GameObject object = mock(GameObject.class);
+				when(object.getRenderable()).thenReturn(model);
+				when(object.getX()).thenReturn(x * 260);
+				when(object.getY()).thenReturn(DEPTH);
+				when(object.getZ()).thenReturn(z * 260);
+				objects.add(object);
+			}
+		}
+	}
+
+	@Test
+	public void testBatch()
+	{
+		draw();
+		modelOutlineRenderer.onBeforeRender(new BeforeRender());
+		int[] expected = imageData.clone();
+		assertEquals(objects.size(), modelOutlineRenderer.getLastFrameStats().getOutlines());
+		assertNotEquals(BACKGROUND, expected[SIZE / 2 * SIZE + SIZE / 2 - 27]);
+
+		modelOutlineRenderer.startBatch();
+		draw();
+		modelOutlineRenderer.flushBatch();
+		modelOutlineRenderer.onBeforeRender(new BeforeRender());
+
+		// batched outlines are blended in the order they were drawn, so the image is unchanged
+		assertArrayEquals(expected, imageData);
+		assertEquals(objects.size(), modelOutlineRenderer.getLastFrameStats().getOutlines());
+	}
+
+	private void draw()
+	{
+		Arrays.fill(imageData, BACKGROUND);
+		for (int i = 0; i < objects.size(); i++)
+		{
+			// alternate between translucent feathered outlines and opaque ones, which are written directly
+			if (i % 2 == 0)
+			{
+				modelOutlineRenderer.drawOutline(objects.get(i), 6, new Color(255, 0, 0, 128), 2);
+			}
+			else
+			{
+				modelOutlineRenderer.drawOutline(objects.get(i), 2, new Color(i * 7, 255, 0), 0);
+			}
+		}
+	}
+
+	private static Model square(int size)
+	{
+		int half = size / 2;
+		Model model = mock(Model.class);
+		when(model.getVerticesCount()).thenReturn(4);
+		when(model.getVerticesX()).thenReturn(new int[]{-half, half, half, -half});
+		when(model.getVerticesY()).thenReturn(new int[]{-half, -half, half, half});
+		when(model.getVerticesZ()).thenReturn(new int[]{0, 0, 0, 0});
+		// both windings, so the square is drawn whichever way it faces
+		when(model.getFaceCount()).thenReturn(4);
+		when(model.getFaceIndices1()).thenReturn(new int[]{0, 0, 0, 0});
+		when(model.getFaceIndices2()).thenReturn(new int[]{1, 2, 2, 3});
+		when(model.getFaceIndices3()).thenReturn(new int[]{2, 3, 1, 2});
+		return model;
+	}
+}
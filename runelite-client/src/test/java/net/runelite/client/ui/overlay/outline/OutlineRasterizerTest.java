@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.util.Arrays;
+import net.runelite.client.ui.overlay.outline.OutlineRasterizer.PixelDistanceGroupIndex;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Test;
+
+public class OutlineRasterizerTest
+{
+	private static final int SIZE = 64;
+	private static final int BACKGROUND = 0xFF336699;
+
+	@Test
+	public void testOutline()
+	{
+		OutlineRequest request = square(new Color(255, 0, 0, 128), 2, false);
+		int[] image = rasterize(request);
+
+		// the model itself and pixels away from it are left alone
+		assertEquals(BACKGROUND, image[32 * SIZE + 32]);
+		assertEquals(BACKGROUND, image[4 * SIZE + 4]);
+		// the pixels next to the model are outlined
+		assertNotEquals(BACKGROUND, image[32 * SIZE + 23]);
+		assertNotEquals(BACKGROUND, image[23 * SIZE + 32]);
+
+		for (int y = 0; y < SIZE; y++)
+		{
+			for (int x = 0; x < SIZE; x++)
+			{
+				if (x < request.croppedX1 || x >= request.croppedX2 || y < request.croppedY1 || y >= request.croppedY2)
+				{
+					assertEquals(BACKGROUND, image[y * SIZE + x]);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCoverage()
+	{
+		// batched outlines are drawn into a coverage buffer which is then blended into the image
+		for (OutlineRequest request : new OutlineRequest[]{
+			square(new Color(255, 0, 0, 128), 2, false),
+			square(new Color(10, 200, 30, 200), 1, false),
+			square(Color.GREEN, 1, true),
+		})
+		{
+			int[] expected = rasterize(request);
+
+			int[] coverage = request.resetCoverage();
+			new OutlineRasterizer().rasterize(request, coverage, request.getCroppedWidth(), request.croppedX1, request.croppedY1);
+
+			int[] image = new int[SIZE * SIZE];
+			Arrays.fill(image, BACKGROUND);
+			for (int y = request.croppedY1; y < request.croppedY2; y++)
+			{
+				for (int x = request.croppedX1; x < request.croppedX2; x++)
+				{
+					int src = coverage[(y - request.croppedY1) * request.getCroppedWidth() + (x - request.croppedX1)];
+					if (src != 0)
+					{
+						image[y * SIZE + x] = OutlineRasterizer.blend(src, image[y * SIZE + x]);
+					}
+				}
+			}
+
+			assertArrayEquals(expected, image);
+		}
+	}
+
+	@Test
+	public void testBlend()
+	{
+		assertEquals(0xFFFF0000, OutlineRasterizer.blend(0xFFFF0000, BACKGROUND));
+		assertEquals(0xFF19334C, OutlineRasterizer.blend(0x80000000, BACKGROUND) | 0xFF000000);
+	}
+
+	private static int[] rasterize(OutlineRequest request)
+	{
+		int[] image = new int[SIZE * SIZE];
+		Arrays.fill(image, BACKGROUND);
+		new OutlineRasterizer().rasterize(request, image, SIZE, 0, 0);
+		return image;
+	}
+
+	/**
+	 * An outline around a 16x16 square in the middle of the screen
+	 */
+	private static OutlineRequest square(Color color, int outlineWidth, boolean directWrite)
+	{
+		OutlineRequest request = new OutlineRequest();
+		request.clipX1 = 0;
+		request.clipY1 = 0;
+		request.clipX2 = SIZE;
+		request.clipY2 = SIZE;
+		request.addTriangle(24, 24, 40, 24, 40, 40);
+		request.addTriangle(24, 24, 40, 40, 24, 40);
+
+		request.croppedX1 = 24 - outlineWidth;
+		request.croppedX2 = 40 + outlineWidth;
+		request.croppedX2 += ~(request.croppedX2 - request.croppedX1 - 1) & 31;
+		request.croppedY1 = 24 - outlineWidth;
+		request.croppedY2 = 40 + outlineWidth;
+
+		request.outlineWidth = outlineWidth;
+		request.color = color;
+		request.directWrite = directWrite;
+		if (!directWrite)
+		{
+			// pixels within outlineWidth of the model, nearest first, fading out at the edge
+			int outlineArrayWidth = outlineWidth + 2;
+			request.priorityList = new PixelDistanceGroupIndex[outlineWidth * 2];
+			for (int d = 1; d <= outlineWidth; d++)
+			{
+				double alpha = d == outlineWidth ? 0.5 : 1.0;
+				request.priorityList[(d - 1) * 2] = new PixelDistanceGroupIndex(d, d, alpha);
+				request.priorityList[(d - 1) * 2 + 1] = new PixelDistanceGroupIndex(d, d * outlineArrayWidth, alpha);
+			}
+		}
+		return request;
+	}
+}
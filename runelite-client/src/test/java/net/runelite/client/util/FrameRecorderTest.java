@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.InflaterInputStream;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import net.runelite.api.Client;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.client.ui.DrawManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FrameRecorderTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final DrawManager drawManager = new DrawManager();
+	private final Client client = mock(Client.class);
+	private final MainBufferProvider bufferProvider = mock(MainBufferProvider.class);
+
+	private FrameRecorder record(int frames) throws InterruptedException
+	{
+		FrameRecorder recorder = new FrameRecorder(client, drawManager, Runnable::run, 1, 200, 0.5, 4, 4);
+		when(client.getBufferProvider()).thenReturn(bufferProvider);
+		recorder.start();
+		for (int i = 0; i < frames; ++i)
+		{
+			BufferedImage image = new BufferedImage(16, 8, BufferedImage.TYPE_INT_RGB);
+			for (int y = 0; y < 8; ++y)
+			{
+				for (int x = 0; x < 16; ++x)
+				{
+					image.setRGB(x, y, i << 16 | y << 8 | x);
+				}
+			}
+			when(bufferProvider.getImage()).thenReturn(image);
+			drawManager.processDrawComplete(() -> image);
+			Thread.sleep(10);
+		}
+		recorder.stop();
+		return recorder;
+	}
+
+	@Test
+	public void testSaveRaw() throws Exception
+	{
+		FrameRecorder recorder = record(3);
+		File file = new File(folder.getRoot(), "clip.frames");
+		AtomicReference<File> saved = new AtomicReference<>();
+		recorder.save(file, FrameRecorder.Format.RAW, saved::set);
+		assertEquals(file, saved.get());
+
+		try (DataInputStream in = new DataInputStream(new InflaterInputStream(new FileInputStream(file))))
+		{
+			assertEquals(FrameRecorder.RAW_MAGIC, in.readInt());
+			assertEquals(FrameRecorder.RAW_VERSION, in.readInt());
+			assertEquals(3, in.readInt());
+
+			for (int i = 0; i < 3; ++i)
+			{
+				in.readLong();
+				// 16x8 scaled down to fit within 4x4
+				assertEquals(4, in.readInt());
+				assertEquals(2, in.readInt());
+				for (int y = 0; y < 2; ++y)
+				{
+					for (int x = 0; x < 4; ++x)
+					{
+						assertEquals(i << 16 | (y * 4) << 8 | (x * 4), in.readInt());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSaveGif() throws Exception
+	{
+		FrameRecorder recorder = record(3);
+		File file = new File(folder.getRoot(), "clip.gif");
+		recorder.save(file, FrameRecorder.Format.GIF, null);
+		assertTrue(file.exists());
+
+		ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+		try (ImageInputStream in = ImageIO.createImageInputStream(file))
+		{
+			reader.setInput(in);
+			assertEquals(3, reader.getNumImages(true));
+			assertNotNull(reader.read(0));
+			assertEquals(4, reader.getWidth(0));
+			assertEquals(2, reader.getHeight(0));
+		}
+		finally
+		{
+			reader.dispose();
+		}
+	}
+
+	@Test
+	public void testGpu() throws Exception
+	{
+		// with GPU the main buffer only has the interface, the frame must come from the draw manager
+		when(client.isGpu()).thenReturn(true);
+		when(client.getBufferProvider()).thenReturn(bufferProvider);
+		when(bufferProvider.getImage()).thenReturn(new BufferedImage(16, 8, BufferedImage.TYPE_INT_RGB));
+
+		BufferedImage frame = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+		frame.setRGB(1, 2, 0x123456);
+
+		FrameRecorder recorder = new FrameRecorder(client, drawManager, Runnable::run, 1, 10, 1, 4, 4);
+		recorder.start();
+		drawManager.processDrawComplete(() -> frame);
+		recorder.stop();
+
+		File file = new File(folder.getRoot(), "gpu.frames");
+		recorder.save(file, FrameRecorder.Format.RAW, null);
+
+		try (DataInputStream in = new DataInputStream(new InflaterInputStream(new FileInputStream(file))))
+		{
+			assertEquals(FrameRecorder.RAW_MAGIC, in.readInt());
+			assertEquals(FrameRecorder.RAW_VERSION, in.readInt());
+			assertEquals(1, in.readInt());
+			in.readLong();
+			assertEquals(4, in.readInt());
+			assertEquals(4, in.readInt());
+			for (int i = 0; i < 16; ++i)
+			{
+				assertEquals(i == 2 * 4 + 1 ? 0x123456 : 0, in.readInt());
+			}
+		}
+	}
+
+	@Test
+	public void testSaveEmpty() throws IOException
+	{
+		FrameRecorder recorder = new FrameRecorder(client, drawManager, Runnable::run, 1, 10, 1, 4, 4);
+		File file = new File(folder.getRoot(), "empty.gif");
+		recorder.save(file, FrameRecorder.Format.GIF, f ->
+		{
+			throw new AssertionError();
+		});
+		assertTrue(!file.exists());
+	}
+}
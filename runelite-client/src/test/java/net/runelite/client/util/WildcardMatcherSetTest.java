@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WildcardMatcherSetTest
+{
+	@Test
+	public void testFind()
+	{
+		WildcardMatcherSet set = WildcardMatcherSet.compile(Arrays.asList("rune*", "Abyssal whip", "*pouch", "rune pouch", "*", "a*b*c"));
+		assertArrayEquals(new int[]{0, 2, 3, 4}, set.findAll("Rune pouch"));
+		assertEquals(1, set.find("abyssal WHIP"));
+		assertArrayEquals(new int[]{4, 5}, set.findAll("aXbYc"));
+		assertArrayEquals(new int[]{4}, set.findAll(""));
+
+		WildcardMatcherSet empty = WildcardMatcherSet.compile(Collections.emptyList());
+		assertFalse(empty.matches("goblin"));
+		assertTrue(WildcardMatcherSet.compile(Collections.singletonList("string $ with special character"))
+			.matches("string $ with special character"));
+	}
+
+	@Test
+	public void testMatchesRegex()
+	{
+		Random random = new Random(42);
+		String alphabet = "abAB *";
+		for (int n = 0; n < 200; ++n)
+		{
+			List<String> patterns = Arrays.asList(IntStream.range(0, 8)
+				.mapToObj(i -> randomString(random, alphabet, 6))
+				.toArray(String[]::new));
+			WildcardMatcherSet set = WildcardMatcherSet.compile(patterns);
+
+			for (int t = 0; t < 50; ++t)
+			{
+				String text = randomString(random, "abAB ", 8);
+				int[] expected = IntStream.range(0, patterns.size())
+					.filter(i -> regexMatches(patterns.get(i), text))
+					.toArray();
+				assertArrayEquals(patterns + " " + text, expected, set.findAll(text));
+				for (String pattern : patterns)
+				{
+					assertEquals(pattern + " " + text, regexMatches(pattern, text), WildcardMatcher.matches(pattern, text));
+				}
+			}
+		}
+	}
+
+	private static String randomString(Random random, String alphabet, int maxLength)
+	{
+		StringBuilder sb = new StringBuilder();
+		for (int i = random.nextInt(maxLength + 1); i > 0; --i)
+		{
+			sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return sb.toString();
+	}
+
+	private static boolean regexMatches(String pattern, String text)
+	{
+		StringBuilder regex = new StringBuilder("(?i)");
+		for (String part : pattern.split("\\*", -1))
+		{
+			if (regex.length() > 4)
+			{
+				regex.append(".*");
+			}
+			regex.append(Pattern.quote(part));
+		}
+		return text.matches(regex.toString());
+	}
+}